@@ -2754,6 +2754,8 @@ class AsyncTwitterImpl extends TwitterBaseImpl
     abstract class AsyncTask implements Runnable {
         List<TwitterListener> listeners;
         TwitterMethod method;
+        // the deadline of the thread which made the call
+        final long deadline = Deadline.get();
 
         AsyncTask(TwitterMethod method, List<TwitterListener> listeners) {
             this.method = method;
@@ -2763,6 +2765,7 @@ class AsyncTwitterImpl extends TwitterBaseImpl
         abstract void invoke(List<TwitterListener> listeners) throws TwitterException;
 
         public void run() {
+            Deadline.setAt(deadline);
             try {
                 invoke(listeners);
             } catch (TwitterException te) {
@@ -2774,6 +2777,8 @@ class AsyncTwitterImpl extends TwitterBaseImpl
                         }
                     }
                 }
+            } finally {
+                Deadline.clear();
             }
         }
     }
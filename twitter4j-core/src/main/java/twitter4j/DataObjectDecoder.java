@@ -0,0 +1,316 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Reads statuses, users and direct messages written by DataObjectEncoder.<br>
+ * Lengths read from the stream are checked against the number of bytes left when the length of the stream is known.
+ * Strings are buffered as they are read, so a malformed length doesn't allocate more than the stream holds.<br>
+ * An instance is not thread safe.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @see DataObjectEncoder
+ * @since Twitter4J 2.2.2
+ */
+public final class DataObjectDecoder {
+    private final InputStream in;
+    private final byte[] buf = new byte[8192];
+    private int pos = 0;
+    private int limit = 0;
+    // bytes left in the stream beyond the buffer. Long.MAX_VALUE if unknown
+    private long remaining;
+    private final int version;
+    private final List<String> dictionary = new ArrayList<String>();
+    private char[] chars = new char[128];
+
+    /**
+     * Starts reading a stream, reading its header.
+     *
+     * @param in stream to read from
+     * @throws IOException when the stream has not been written by DataObjectEncoder, or has been written by a newer
+     *                     version of the format
+     */
+    public DataObjectDecoder(InputStream in) throws IOException {
+        this(in, Long.MAX_VALUE);
+    }
+
+    /**
+     * Starts reading a stream of the given length, reading its header.
+     *
+     * @param in     stream to read from
+     * @param length number of bytes to read from the stream
+     * @throws IOException when the stream has not been written by DataObjectEncoder, or has been written by a newer
+     *                     version of the format
+     */
+    /*package*/ DataObjectDecoder(InputStream in, long length) throws IOException {
+        this.in = in;
+        this.remaining = length;
+        for (byte b : DataObjectEncoder.MAGIC) {
+            if (b != readByte()) {
+                throw new StreamCorruptedException("Not a Twitter4J data object stream");
+            }
+        }
+        version = readByte();
+        if (version < 1 || version > DataObjectEncoder.VERSION) {
+            throw new StreamCorruptedException("Unsupported format version: " + version);
+        }
+    }
+
+    /**
+     * @return version of the format the stream has been written in
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads the next object.
+     *
+     * @return a Status, a User or a DirectMessage. null if null has been written, or at the end of the stream
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    public TwitterResponse readObject() throws IOException {
+        if (pos == limit && !fill()) {
+            return null;
+        }
+        int tag = readByte();
+        switch (tag) {
+            case DataObjectEncoder.NULL:
+                return null;
+            case DataObjectEncoder.STATUS:
+                return new StatusJSONImpl(this);
+            case DataObjectEncoder.USER:
+                return new UserJSONImpl(this);
+            case DataObjectEncoder.DIRECT_MESSAGE:
+                return new DirectMessageJSONImpl(this);
+            default:
+                throw new StreamCorruptedException("Unknown tag: " + tag);
+        }
+    }
+
+    /**
+     * @return the next status, or null if null has been written or at the end of the stream
+     * @throws IOException when an I/O error occurs, the stream is malformed or the next object is not a status
+     */
+    public Status readStatus() throws IOException {
+        return read(Status.class);
+    }
+
+    /**
+     * @return the next user, or null if null has been written or at the end of the stream
+     * @throws IOException when an I/O error occurs, the stream is malformed or the next object is not a user
+     */
+    public User readUser() throws IOException {
+        return read(User.class);
+    }
+
+    /**
+     * @return the next direct message, or null if null has been written or at the end of the stream
+     * @throws IOException when an I/O error occurs, the stream is malformed or the next object is not a direct message
+     */
+    public DirectMessage readDirectMessage() throws IOException {
+        return read(DirectMessage.class);
+    }
+
+    private <T> T read(Class<T> type) throws IOException {
+        TwitterResponse object = readObject();
+        if (null != object && !type.isInstance(object)) {
+            throw new StreamCorruptedException("Expected " + type.getSimpleName() + " but found " + object);
+        }
+        return type.cast(object);
+    }
+
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        if (0 == remaining) {
+            return false;
+        }
+        int read = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+        if (read <= 0) {
+            return false;
+        }
+        if (Long.MAX_VALUE != remaining) {
+            remaining -= read;
+        }
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * @param length length read from the stream
+     * @return true if the stream is known to hold fewer bytes than the length
+     */
+    private boolean exceedsStream(long length) {
+        return Long.MAX_VALUE != remaining && length - (limit - pos) > remaining;
+    }
+
+    /**
+     * Reads the length of an array or a collection. Every element takes a byte at least.
+     *
+     * @return the length
+     * @throws IOException when an I/O error occurs or the length is malformed
+     */
+    /*package*/ int readLength() throws IOException {
+        long length = readUnsignedVarLong();
+        if (length > Integer.MAX_VALUE || exceedsStream(length)) {
+            throw new StreamCorruptedException("Malformed length: " + length);
+        }
+        return (int) length;
+    }
+
+    /*package*/ int readByte() throws IOException {
+        if (pos == limit && !fill()) {
+            throw new EOFException();
+        }
+        return buf[pos++] & 0xff;
+    }
+
+    /*package*/ long readUnsignedVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b < 0x80) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    /*package*/ long readVarLong() throws IOException {
+        long value = readUnsignedVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /*package*/ int readVarInt() throws IOException {
+        int value = (int) readUnsignedVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /*package*/ double readDouble() throws IOException {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | readByte();
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /*package*/ Date readDate() throws IOException {
+        return new Date(readVarLong());
+    }
+
+    /**
+     * Reads a string written with DataObjectEncoder.writeString(String).
+     *
+     * @return the string
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/ String readString() throws IOException {
+        long value = readUnsignedVarLong();
+        if (1 == (value & 1)) {
+            long index = value >>> 1;
+            if (index >= dictionary.size()) {
+                throw new StreamCorruptedException("Unknown string: " + index);
+            }
+            return dictionary.get((int) index);
+        }
+        String str = readText(value);
+        if (null != str && str.length() <= DataObjectEncoder.MAX_DICTIONARY_STRING_LENGTH
+                && dictionary.size() < DataObjectEncoder.MAX_DICTIONARY_SIZE) {
+            dictionary.add(str);
+        }
+        return str;
+    }
+
+    /**
+     * Reads a string written with DataObjectEncoder.writeText(String).
+     *
+     * @return the string
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/ String readText() throws IOException {
+        return readText(readUnsignedVarLong());
+    }
+
+    private String readText(long value) throws IOException {
+        if (0 == value) {
+            return null;
+        }
+        long utfLength = (value >>> 1) - 1;
+        if (utfLength > Integer.MAX_VALUE || exceedsStream(utfLength)) {
+            throw new StreamCorruptedException("Malformed string");
+        }
+        int length = 0;
+        // grown as the string is read rather than allocated upfront by the length
+        if (chars.length < Math.min(utfLength, buf.length)) {
+            chars = new char[(int) Math.min(utfLength, buf.length)];
+        }
+        char[] chars = this.chars;
+        // malformed sequences may run two bytes past the end of the string
+        if (limit - pos >= utfLength && buf.length - pos - utfLength >= 2) {
+            // the whole string is in the buffer
+            byte[] buf = this.buf;
+            int pos = this.pos;
+            int end = pos + (int) utfLength;
+            while (pos < end) {
+                int b = buf[pos++];
+                if (b >= 0) {
+                    chars[length++] = (char) b;
+                } else if ((b & 0xe0) == 0xc0) {
+                    chars[length++] = (char) (((b & 0x1f) << 6) | (buf[pos++] & 0x3f));
+                } else {
+                    chars[length++] = (char) (((b & 0x0f) << 12) | ((buf[pos++] & 0x3f) << 6) | (buf[pos++] & 0x3f));
+                }
+            }
+            if (pos > end) {
+                throw new StreamCorruptedException("Malformed string");
+            }
+            this.pos = pos;
+            return new String(chars, 0, length);
+        }
+        for (int remaining = (int) utfLength; remaining > 0; ) {
+            if (length == chars.length) {
+                char[] grown = new char[(int) Math.min(utfLength, 2L * chars.length)];
+                System.arraycopy(chars, 0, grown, 0, length);
+                this.chars = chars = grown;
+            }
+            int b = readByte();
+            if (b < 0x80) {
+                chars[length++] = (char) b;
+                remaining--;
+            } else if (b < 0xe0) {
+                chars[length++] = (char) (((b & 0x1f) << 6) | (readByte() & 0x3f));
+                remaining -= 2;
+            } else {
+                chars[length++] = (char) (((b & 0x0f) << 12) | ((readByte() & 0x3f) << 6) | (readByte() & 0x3f));
+                remaining -= 3;
+            }
+        }
+        return new String(chars, 0, length);
+    }
+}
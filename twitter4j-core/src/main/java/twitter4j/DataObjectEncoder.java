@@ -0,0 +1,225 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes statuses, users and direct messages in a compact binary format, to be read back with DataObjectDecoder.<br>
+ * The stream starts with the magic bytes "T4J" and the format version, followed by the objects, each one introduced
+ * by a tag byte. An object starts with a presence bitmap telling which of its fields follow, and holds the boolean
+ * fields in the bitmap itself. Numbers are zigzag encoded varints, dates are varints of milliseconds since the epoch,
+ * and strings are UTF-8 encoded with each UTF-16 code unit encoded separately as in CESU-8.<br>
+ * Short strings such as screen names, sources or URLs go to a dictionary as they are written, so a string repeated
+ * within the stream is written once and referenced afterwards. The dictionary stops growing at 65536 entries. Start
+ * another stream to begin with an empty dictionary.<br>
+ * An instance is not thread safe.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @see DataObjectDecoder
+ * @since Twitter4J 2.2.2
+ */
+public final class DataObjectEncoder {
+    static final byte[] MAGIC = {'T', '4', 'J'};
+    static final int VERSION = 1;
+
+    static final int NULL = 0;
+    static final int STATUS = 1;
+    static final int USER = 2;
+    static final int DIRECT_MESSAGE = 3;
+
+    // longer strings are unlikely to repeat
+    static final int MAX_DICTIONARY_STRING_LENGTH = 128;
+    static final int MAX_DICTIONARY_SIZE = 65536;
+
+    private final OutputStream out;
+    private final byte[] buf = new byte[8192];
+    private int count = 0;
+    private char[] chars = new char[256];
+    private final Map<String, Integer> dictionary = new HashMap<String, Integer>();
+
+    /**
+     * Starts a stream, writing its header.
+     *
+     * @param out stream to write to
+     * @throws IOException when an I/O error occurs
+     */
+    public DataObjectEncoder(OutputStream out) throws IOException {
+        this.out = out;
+        for (byte b : MAGIC) {
+            writeByte(b);
+        }
+        writeByte(VERSION);
+    }
+
+    public void writeStatus(Status status) throws IOException {
+        if (null == status) {
+            writeByte(NULL);
+        } else {
+            writeByte(STATUS);
+            StatusJSONImpl.write(status, this);
+        }
+    }
+
+    public void writeUser(User user) throws IOException {
+        if (null == user) {
+            writeByte(NULL);
+        } else {
+            writeByte(USER);
+            UserJSONImpl.write(user, this);
+        }
+    }
+
+    public void writeDirectMessage(DirectMessage directMessage) throws IOException {
+        if (null == directMessage) {
+            writeByte(NULL);
+        } else {
+            writeByte(DIRECT_MESSAGE);
+            DirectMessageJSONImpl.write(directMessage, this);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the underlying stream and flushes it.
+     *
+     * @throws IOException when an I/O error occurs
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    public void close() throws IOException {
+        flushBuffer();
+        out.close();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    private void ensure(int length) throws IOException {
+        if (count + length > buf.length) {
+            flushBuffer();
+        }
+    }
+
+    /*package*/ void writeByte(int b) throws IOException {
+        ensure(1);
+        buf[count++] = (byte) b;
+    }
+
+    /*package*/ void writeUnsignedVarLong(long value) throws IOException {
+        ensure(10);
+        while ((value & ~0x7fL) != 0) {
+            buf[count++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        buf[count++] = (byte) value;
+    }
+
+    /*package*/ void writeVarLong(long value) throws IOException {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /*package*/ void writeVarInt(int value) throws IOException {
+        writeUnsignedVarLong(((value << 1) ^ (value >> 31)) & 0xffffffffL);
+    }
+
+    /*package*/ void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToLongBits(value);
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[count++] = (byte) (bits >>> shift);
+        }
+    }
+
+    /*package*/ void writeDate(Date date) throws IOException {
+        writeVarLong(date.getTime());
+    }
+
+    /**
+     * Writes a string which is likely to be repeated in the stream, through the dictionary.<br>
+     * A string is written as a varint: 0 for null, the index in the dictionary shifted left by one with the lowest bit
+     * set for a string in the dictionary, or the UTF-8 length plus one shifted left by one followed by the bytes.
+     *
+     * @param str string
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ void writeString(String str) throws IOException {
+        if (null != str && str.length() <= MAX_DICTIONARY_STRING_LENGTH) {
+            Integer index = dictionary.get(str);
+            if (null != index) {
+                writeUnsignedVarLong(((long) index << 1) | 1);
+                return;
+            }
+            if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+                dictionary.put(str, dictionary.size());
+            }
+        }
+        writeText(str);
+    }
+
+    /**
+     * Writes a string which is unlikely to be repeated, such as the text of a status, bypassing the dictionary.
+     *
+     * @param str string
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ void writeText(String str) throws IOException {
+        if (null == str) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        int length = str.length();
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        char[] chars = this.chars;
+        str.getChars(0, length, chars, 0);
+        int utfLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            utfLength += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+        }
+        writeUnsignedVarLong((utfLength + 1L) << 1);
+        for (int i = 0; i < length; ) {
+            ensure(3);
+            // encode chunks fitting in the buffer
+            int limit = Math.min(length, i + (buf.length - count) / 3);
+            for (; i < limit; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    buf[count++] = (byte) c;
+                } else if (c < 0x800) {
+                    buf[count++] = (byte) (0xc0 | (c >> 6));
+                    buf[count++] = (byte) (0x80 | (c & 0x3f));
+                } else {
+                    buf[count++] = (byte) (0xe0 | (c >> 12));
+                    buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buf[count++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+    }
+}
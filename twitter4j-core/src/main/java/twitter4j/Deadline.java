@@ -0,0 +1,122 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the API calls made by the current thread.<br>
+ * Connecting, waiting between retries and reading the response all stop at the deadline, and calls that can't complete
+ * by then fail fast with a TwitterException caused by a java.net.SocketTimeoutException, as ordinary timeouts do.
+ * <pre>
+ * Deadline.set(3, TimeUnit.SECONDS);
+ * try {
+ *     twitter.getHomeTimeline();
+ * } finally {
+ *     Deadline.clear();
+ * }
+ * </pre>
+ * The deadline is carried over to AsyncTwitter and hedged requests. Calls without a deadline are limited by
+ * http.callTimeout when configured.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class Deadline {
+    /**
+     * Returned by {@link #get()} and {@link #remaining()} when no deadline is set.
+     */
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<Long>();
+
+    private Deadline() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Sets the deadline of the current thread relative to now.
+     *
+     * @param timeout time allowed for the subsequent calls
+     * @param unit    unit of timeout
+     */
+    public static void set(long timeout, TimeUnit unit) {
+        setAt(System.currentTimeMillis() + unit.toMillis(timeout));
+    }
+
+    /**
+     * Sets the deadline of the current thread.
+     *
+     * @param deadline absolute deadline in milliseconds since the epoch, or {@link #NONE}
+     */
+    public static void setAt(long deadline) {
+        if (NONE == deadline) {
+            DEADLINE.remove();
+        } else {
+            DEADLINE.set(deadline);
+        }
+    }
+
+    /**
+     * @return the deadline of the current thread in milliseconds since the epoch, or {@link #NONE}
+     */
+    public static long get() {
+        Long deadline = DEADLINE.get();
+        return null == deadline ? NONE : deadline;
+    }
+
+    /**
+     * @return milliseconds left until the deadline, zero or negative if it has passed, {@link #NONE} if not set
+     */
+    public static long remaining() {
+        long deadline = get();
+        return NONE == deadline ? NONE : deadline - System.currentTimeMillis();
+    }
+
+    /**
+     * Removes the deadline of the current thread.
+     */
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    /**
+     * Shortens a timeout so that it doesn't outlive the deadline of the current thread.
+     *
+     * @param timeout timeout in milliseconds. zero or negative means infinite
+     * @return the timeout to apply. always positive when a deadline is set
+     */
+    public static int cap(int timeout) {
+        long remaining = remaining();
+        if (NONE == remaining) {
+            return timeout;
+        }
+        remaining = Math.max(1, Math.min(remaining, Integer.MAX_VALUE));
+        return 0 < timeout && timeout < remaining ? timeout : (int) remaining;
+    }
+
+    /**
+     * @param what description of the operation, used in the exception message
+     * @throws TwitterException when the deadline of the current thread has passed
+     */
+    public static void ensureRemaining(String what) throws TwitterException {
+        if (remaining() <= 0) {
+            String message = "Deadline exceeded: " + what;
+            throw new TwitterException(message, new SocketTimeoutException(message));
+        }
+    }
+}
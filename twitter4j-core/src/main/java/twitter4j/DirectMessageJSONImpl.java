@@ -19,11 +19,18 @@ package twitter4j;
 import twitter4j.conf.Configuration;
 import twitter4j.internal.http.HttpResponse;
 import twitter4j.internal.json.DataObjectFactoryUtil;
+import twitter4j.internal.json.RawJSON;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.org.json.StringPool;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import static twitter4j.internal.util.ParseUtil.getDate;
 import static twitter4j.internal.util.ParseUtil.getLong;
@@ -47,18 +54,34 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
 
     /*package*/DirectMessageJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            try {
+                if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                    throw x.syntaxError("A JSONObject text must begin with '{'");
+                }
+            } catch (JSONException jsone) {
+                throw new TwitterException(jsone);
+            }
+            init(x, UserCache.getInstance(conf));
+            return;
+        }
         JSONObject json = res.asJSONObject();
         init(json);
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
-            DataObjectFactoryUtil.registerJSONObject(this, json);
-        }
+        DataObjectFactoryUtil.clearThreadLocalMap();
+        DataObjectFactoryUtil.registerJSONObject(this, json);
     }
 
     /*package*/DirectMessageJSONImpl(JSONObject json) throws TwitterException {
         init(json);
     }
 
+    /*package*/DirectMessageJSONImpl(JSONByteTokener x, UserCache userCache) throws TwitterException {
+        init(x, userCache);
+    }
+
     private void init(JSONObject json) throws TwitterException {
         id = getLong("id", json);
         text = getUnescapedString("text", json);
@@ -75,6 +98,119 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         }
     }
 
+    private void init(JSONByteTokener x, UserCache userCache) throws TwitterException {
+        id = -1;
+        senderId = -1;
+        recipientId = -1;
+        int position = x.getPosition();
+        try {
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("id")) {
+                    id = getLong(x);
+                } else if (x.textEquals("text")) {
+                    text = getUnescapedString(x);
+                } else if (x.textEquals("sender_id")) {
+                    senderId = getLong(x);
+                } else if (x.textEquals("recipient_id")) {
+                    recipientId = getLong(x);
+                } else if (x.textEquals("created_at")) {
+                    createdAt = getDate(x, "EEE MMM d HH:mm:ss z yyyy");
+                } else if (x.textEquals("sender_screen_name")) {
+                    senderScreenName = getUnescapedString(x);
+                } else if (x.textEquals("recipient_screen_name")) {
+                    recipientScreenName = getUnescapedString(x);
+                } else if (x.textEquals("sender")) {
+                    if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                        throw x.syntaxError("JSONObject[\"sender\"] is not a JSONObject.");
+                    }
+                    sender = UserJSONImpl.getInstance(x, userCache);
+                } else if (x.textEquals("recipient")) {
+                    if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                        throw x.syntaxError("JSONObject[\"recipient\"] is not a JSONObject.");
+                    }
+                    recipient = UserJSONImpl.getInstance(x, userCache);
+                } else {
+                    x.skipValue();
+                }
+            }
+            if (null == sender || null == recipient) {
+                throw x.syntaxError("sender or recipient not found.");
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+        if (x.isRawCaptureEnabled()) {
+            setRawJSON(RawJSON.getInstance(x, position));
+        }
+    }
+
+    /**
+     * Reads a direct message written by write(DirectMessage, DataObjectEncoder).
+     *
+     * @param in decoder positioned at the presence bitmap of the direct message
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/DirectMessageJSONImpl(DataObjectDecoder in) throws IOException {
+        long bits = in.readUnsignedVarLong();
+        id = in.readVarLong();
+        text = 0 != (bits & 1) ? in.readText() : null;
+        senderId = 0 != (bits & 1 << 1) ? in.readVarLong() : -1;
+        recipientId = 0 != (bits & 1 << 2) ? in.readVarLong() : -1;
+        createdAt = 0 != (bits & 1 << 3) ? in.readDate() : null;
+        senderScreenName = 0 != (bits & 1 << 4) ? in.readString() : null;
+        recipientScreenName = 0 != (bits & 1 << 5) ? in.readString() : null;
+        sender = 0 != (bits & 1 << 6) ? new UserJSONImpl(in) : null;
+        recipient = 0 != (bits & 1 << 7) ? new UserJSONImpl(in) : null;
+    }
+
+    /**
+     * Writes the fields of a direct message in the binary format read by DirectMessageJSONImpl(DataObjectDecoder).
+     *
+     * @param directMessage direct message
+     * @param out           encoder
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ static void write(DirectMessage directMessage, DataObjectEncoder out) throws IOException {
+        long bits = (null != directMessage.getText() ? 1 : 0)
+                | (-1 != directMessage.getSenderId() ? 1 << 1 : 0)
+                | (-1 != directMessage.getRecipientId() ? 1 << 2 : 0)
+                | (null != directMessage.getCreatedAt() ? 1 << 3 : 0)
+                | (null != directMessage.getSenderScreenName() ? 1 << 4 : 0)
+                | (null != directMessage.getRecipientScreenName() ? 1 << 5 : 0)
+                | (null != directMessage.getSender() ? 1 << 6 : 0)
+                | (null != directMessage.getRecipient() ? 1 << 7 : 0);
+        out.writeUnsignedVarLong(bits);
+        out.writeVarLong(directMessage.getId());
+        if (null != directMessage.getText()) {
+            out.writeText(directMessage.getText());
+        }
+        if (-1 != directMessage.getSenderId()) {
+            out.writeVarLong(directMessage.getSenderId());
+        }
+        if (-1 != directMessage.getRecipientId()) {
+            out.writeVarLong(directMessage.getRecipientId());
+        }
+        if (null != directMessage.getCreatedAt()) {
+            out.writeDate(directMessage.getCreatedAt());
+        }
+        if (null != directMessage.getSenderScreenName()) {
+            out.writeString(directMessage.getSenderScreenName());
+        }
+        if (null != directMessage.getRecipientScreenName()) {
+            out.writeString(directMessage.getRecipientScreenName());
+        }
+        if (null != directMessage.getSender()) {
+            UserJSONImpl.write(directMessage.getSender(), out);
+        }
+        if (null != directMessage.getRecipient()) {
+            UserJSONImpl.write(directMessage.getRecipient(), out);
+        }
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return new ExternalizableDataObject(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -144,6 +280,12 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
 
     /*package*/
     static ResponseList<DirectMessage> createDirectMessageList(HttpResponse res, Configuration conf) throws TwitterException {
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            return createDirectMessageList(x, res, UserCache.getInstance(conf));
+        }
         try {
             if (conf.isJSONStoreEnabled()) {
                 DataObjectFactoryUtil.clearThreadLocalMap();
@@ -170,6 +312,31 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         }
     }
 
+    private static ResponseList<DirectMessage> createDirectMessageList(JSONByteTokener x, HttpResponse res,
+                                                                       UserCache userCache) throws TwitterException {
+        try {
+            if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                throw x.syntaxError("A JSONArray text must start with '['");
+            }
+            int position = x.getPosition();
+            List<DirectMessage> list = new ArrayList<DirectMessage>();
+            for (int token = x.nextToken(); JSONByteTokener.END_ARRAY != token; token = x.nextToken()) {
+                if (JSONByteTokener.START_OBJECT != token) {
+                    throw x.syntaxError("JSONArray is not a JSONObject.");
+                }
+                list.add(new DirectMessageJSONImpl(x, userCache));
+            }
+            ResponseListImpl<DirectMessage> directMessages = new ResponseListImpl<DirectMessage>(list.size(), res);
+            directMessages.addAll(list);
+            if (x.isRawCaptureEnabled()) {
+                directMessages.setRawJSON(RawJSON.getInstance(x, position));
+            }
+            return directMessages;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     @Override
     public int hashCode() {
         return (int) id;
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable descriptor of a Twitter API resource, built once per Configuration.<br>
+ * Holds the resolved URL around the path parameters, the static query parameters and the metric key reported to
+ * TwitterAPIMonitor, so that a request only appends the dynamic parts.<br>
+ * Path parameters are written as ":name" in the path. e.g. "statuses/show/:id.json"
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class Endpoint implements java.io.Serializable {
+    private static final long serialVersionUID = 2473018349516248130L;
+    // literal parts of the URL between the path parameters. the last one ends with the static query
+    private final String[] segments;
+    private final int length;
+    private final String metricKey;
+
+    /**
+     * @param baseURL base URL ending with "/"
+     * @param path    resource path relative to the base URL
+     * @param query   static query parameters without leading "?", or null
+     */
+    Endpoint(String baseURL, String path, String query) {
+        metricKey = path.endsWith(".json") ? path.substring(0, path.length() - 5) : path;
+        List<String> segments = new ArrayList<String>();
+        StringBuilder segment = new StringBuilder(baseURL);
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (':' == c) {
+                segments.add(segment.toString());
+                segment.setLength(0);
+                while (i + 1 < path.length() && isNameChar(path.charAt(i + 1))) {
+                    i++;
+                }
+            } else {
+                segment.append(c);
+            }
+        }
+        if (null != query) {
+            segment.append('?').append(query);
+        }
+        segments.add(segment.toString());
+        this.segments = segments.toArray(new String[segments.size()]);
+        int length = 0;
+        for (String str : this.segments) {
+            length += str.length();
+        }
+        this.length = length;
+    }
+
+    private static boolean isNameChar(char c) {
+        return ('a' <= c && c <= 'z') || '_' == c;
+    }
+
+    /**
+     * @return the resource path without the ".json" suffix. e.g. "statuses/show/:id"
+     */
+    String getMetricKey() {
+        return metricKey;
+    }
+
+    String url() {
+        ensureParameterCount(0);
+        return segments[0];
+    }
+
+    String url(Object param) {
+        ensureParameterCount(1);
+        return new StringBuilder(length + 20).append(segments[0]).append(param).append(segments[1]).toString();
+    }
+
+    String url(Object param1, Object param2) {
+        ensureParameterCount(2);
+        return new StringBuilder(length + 40).append(segments[0]).append(param1).append(segments[1])
+                .append(param2).append(segments[2]).toString();
+    }
+
+    String url(Object param1, Object param2, Object param3) {
+        ensureParameterCount(3);
+        return new StringBuilder(length + 60).append(segments[0]).append(param1).append(segments[1])
+                .append(param2).append(segments[2]).append(param3).append(segments[3]).toString();
+    }
+
+    private void ensureParameterCount(int count) {
+        if (segments.length != count + 1) {
+            throw new IllegalArgumentException(metricKey + " takes " + (segments.length - 1) + " path parameter(s)");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Endpoint endpoint = (Endpoint) o;
+
+        return Arrays.equals(segments, endpoint.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(segments);
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint{" +
+                "metricKey='" + metricKey + '\'' +
+                ", segments=" + (segments == null ? null : Arrays.asList(segments)) +
+                '}';
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package twitter4j;
+
+import twitter4j.conf.Configuration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Table of the Twitter API resources called by TwitterImpl, resolved against a Configuration.<br>
+ * The table is immutable and shared by all the instances using the same base URLs and include_entities /
+ * include_rts settings, which are the only settings it depends on. Configurations differing otherwise, like in
+ * their credentials, don't add tables.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class Endpoints implements java.io.Serializable {
+    private static final long serialVersionUID = -5164872349035185523L;
+    private static final ConcurrentMap<String, Endpoints> INSTANCES = new ConcurrentHashMap<String, Endpoints>();
+
+    static Endpoints getInstance(Configuration conf) {
+        String key = conf.getRestBaseURL() + " " + conf.getSearchBaseURL()
+                + " " + conf.isIncludeEntitiesEnabled() + " " + conf.isIncludeRTsEnabled();
+        Endpoints endpoints = INSTANCES.get(key);
+        if (null == endpoints) {
+            endpoints = new Endpoints(conf);
+            Endpoints existing = INSTANCES.putIfAbsent(key, endpoints);
+            if (null != existing) {
+                endpoints = existing;
+            }
+        }
+        return endpoints;
+    }
+
+    final Endpoint search;
+    final Endpoint trends;
+    final Endpoint trendsCurrent;
+    final Endpoint trendsDaily;
+    final Endpoint trendsWeekly;
+    final Endpoint statusesPublicTimeline;
+    final Endpoint statusesHomeTimeline;
+    final Endpoint statusesFriendsTimeline;
+    final Endpoint statusesUserTimeline;
+    final Endpoint statusesMentions;
+    final Endpoint statusesRetweetedByMe;
+    final Endpoint statusesRetweetedToMe;
+    final Endpoint statusesRetweetsOfMe;
+    final Endpoint statusesRetweetedToUser;
+    final Endpoint statusesRetweetedByUser;
+    final Endpoint statusesRetweetedBy;
+    final Endpoint statusesRetweetedByIds;
+    final Endpoint statusesShow;
+    final Endpoint statusesUpdate;
+    final Endpoint statusesDestroy;
+    final Endpoint statusesRetweet;
+    final Endpoint statusesRetweets;
+    final Endpoint usersShow;
+    final Endpoint usersLookup;
+    final Endpoint usersSearch;
+    final Endpoint usersSuggestions;
+    final Endpoint usersSuggestionsCategory;
+    final Endpoint usersSuggestionsCategoryMembers;
+    final Endpoint usersProfileImage;
+    final Endpoint statusesFriends;
+    final Endpoint statusesFollowers;
+    final Endpoint userLists;
+    final Endpoint userList;
+    final Endpoint userListStatuses;
+    final Endpoint userListMemberships;
+    final Endpoint userListSubscriptions;
+    final Endpoint listsAll;
+    final Endpoint userListMembers;
+    final Endpoint userListMembersUpdate;
+    final Endpoint userListMembersCreateAll;
+    final Endpoint userListMember;
+    final Endpoint userListSubscribers;
+    final Endpoint userListSubscribersUpdate;
+    final Endpoint userListSubscriber;
+    final Endpoint directMessages;
+    final Endpoint directMessagesSent;
+    final Endpoint directMessagesNew;
+    final Endpoint directMessagesDestroy;
+    final Endpoint directMessagesShow;
+    final Endpoint friendshipsCreate;
+    final Endpoint friendshipsDestroy;
+    final Endpoint friendshipsExists;
+    final Endpoint friendshipsShow;
+    final Endpoint friendshipsIncoming;
+    final Endpoint friendshipsOutgoing;
+    final Endpoint friendshipsLookup;
+    final Endpoint friendshipsUpdate;
+    final Endpoint friendshipsNoRetweetIds;
+    final Endpoint friendsIds;
+    final Endpoint followersIds;
+    final Endpoint accountRateLimitStatus;
+    final Endpoint accountUpdateProfile;
+    final Endpoint accountTotals;
+    final Endpoint accountSettings;
+    final Endpoint accountUpdateProfileColors;
+    final Endpoint accountUpdateProfileImage;
+    final Endpoint accountUpdateProfileBackgroundImage;
+    final Endpoint favorites;
+    final Endpoint favoritesUser;
+    final Endpoint favoritesCreate;
+    final Endpoint favoritesDestroy;
+    final Endpoint notificationsFollow;
+    final Endpoint notificationsLeave;
+    final Endpoint blocksCreate;
+    final Endpoint blocksDestroy;
+    final Endpoint blocksExists;
+    final Endpoint blocksBlocking;
+    final Endpoint blocksBlockingIds;
+    final Endpoint reportSpam;
+    final Endpoint savedSearches;
+    final Endpoint savedSearchesShow;
+    final Endpoint savedSearchesCreate;
+    final Endpoint savedSearchesDestroy;
+    final Endpoint trendsAvailable;
+    final Endpoint trendsLocation;
+    final Endpoint geoSearch;
+    final Endpoint geoSimilarPlaces;
+    final Endpoint geoReverseGeocode;
+    final Endpoint geoId;
+    final Endpoint geoPlace;
+    final Endpoint legalTos;
+    final Endpoint legalPrivacy;
+    final Endpoint relatedResultsShow;
+    final Endpoint helpTest;
+
+    private Endpoints(Configuration conf) {
+        String rest = conf.getRestBaseURL();
+        String searchBase = conf.getSearchBaseURL();
+        String entities = "include_entities=" + conf.isIncludeEntitiesEnabled();
+        String entitiesAndRTs = entities + "&include_rts=" + conf.isIncludeRTsEnabled();
+
+        search = new Endpoint(searchBase, "search.json", null);
+        trends = new Endpoint(rest, "trends.json", null);
+        trendsCurrent = new Endpoint(rest, "trends/current.json", null);
+        trendsDaily = new Endpoint(rest, "trends/daily.json", null);
+        trendsWeekly = new Endpoint(rest, "trends/weekly.json", null);
+        statusesPublicTimeline = new Endpoint(rest, "statuses/public_timeline.json", entitiesAndRTs);
+        statusesHomeTimeline = new Endpoint(rest, "statuses/home_timeline.json", entities);
+        statusesFriendsTimeline = new Endpoint(rest, "statuses/friends_timeline.json", entitiesAndRTs);
+        statusesUserTimeline = new Endpoint(rest, "statuses/user_timeline.json", entitiesAndRTs);
+        statusesMentions = new Endpoint(rest, "statuses/mentions.json", entitiesAndRTs);
+        statusesRetweetedByMe = new Endpoint(rest, "statuses/retweeted_by_me.json", entities);
+        statusesRetweetedToMe = new Endpoint(rest, "statuses/retweeted_to_me.json", entities);
+        statusesRetweetsOfMe = new Endpoint(rest, "statuses/retweets_of_me.json", entities);
+        statusesRetweetedToUser = new Endpoint(rest, "statuses/retweeted_to_user.json", entities);
+        statusesRetweetedByUser = new Endpoint(rest, "statuses/retweeted_by_user.json", entities);
+        statusesRetweetedBy = new Endpoint(rest, "statuses/:id/retweeted_by.json", entities + "&count=100");
+        statusesRetweetedByIds = new Endpoint(rest, "statuses/:id/retweeted_by/ids.json", entities + "&count=100");
+        statusesShow = new Endpoint(rest, "statuses/show/:id.json", entities);
+        statusesUpdate = new Endpoint(rest, "statuses/update.json", entities);
+        statusesDestroy = new Endpoint(rest, "statuses/destroy/:id.json", entities);
+        statusesRetweet = new Endpoint(rest, "statuses/retweet/:id.json", entities);
+        statusesRetweets = new Endpoint(rest, "statuses/retweets/:id.json", entities + "&count=100");
+        usersShow = new Endpoint(rest, "users/show.json", entities);
+        usersLookup = new Endpoint(rest, "users/lookup.json", entities);
+        usersSearch = new Endpoint(rest, "users/search.json", entities);
+        usersSuggestions = new Endpoint(rest, "users/suggestions.json", null);
+        usersSuggestionsCategory = new Endpoint(rest, "users/suggestions/:slug.json", null);
+        usersSuggestionsCategoryMembers = new Endpoint(rest, "users/suggestions/:slug/members.json", null);
+        usersProfileImage = new Endpoint(rest, "users/profile_image/:screen_name.json", null);
+        statusesFriends = new Endpoint(rest, "statuses/friends.json", entities);
+        statusesFollowers = new Endpoint(rest, "statuses/followers.json", entities);
+        userLists = new Endpoint(rest, ":user/lists.json", null);
+        userList = new Endpoint(rest, ":user/lists/:list_id.json", null);
+        userListStatuses = new Endpoint(rest, ":user/lists/:list_id/statuses.json", entities);
+        userListMemberships = new Endpoint(rest, ":user/lists/memberships.json", null);
+        userListSubscriptions = new Endpoint(rest, ":user/lists/subscriptions.json", null);
+        listsAll = new Endpoint(rest, "lists/all.json", null);
+        userListMembers = new Endpoint(rest, ":user/:list_id/members.json", entities);
+        userListMembersUpdate = new Endpoint(rest, ":user/:list_id/members.json", null);
+        userListMembersCreateAll = new Endpoint(rest, ":user/:list_id/members/create_all.json", null);
+        userListMember = new Endpoint(rest, ":user/:list_id/members/:id.json", entities);
+        userListSubscribers = new Endpoint(rest, ":user/:list_id/subscribers.json", entities);
+        userListSubscribersUpdate = new Endpoint(rest, ":user/:list_id/subscribers.json", null);
+        userListSubscriber = new Endpoint(rest, ":user/:list_id/subscribers/:id.json", entities);
+        directMessages = new Endpoint(rest, "direct_messages.json", entities);
+        directMessagesSent = new Endpoint(rest, "direct_messages/sent.json", entities);
+        directMessagesNew = new Endpoint(rest, "direct_messages/new.json", entities);
+        directMessagesDestroy = new Endpoint(rest, "direct_messages/destroy/:id.json", entities);
+        directMessagesShow = new Endpoint(rest, "direct_messages/show/:id.json", entities);
+        friendshipsCreate = new Endpoint(rest, "friendships/create.json", entities);
+        friendshipsDestroy = new Endpoint(rest, "friendships/destroy.json", entities);
+        friendshipsExists = new Endpoint(rest, "friendships/exists.json", null);
+        friendshipsShow = new Endpoint(rest, "friendships/show.json", null);
+        friendshipsIncoming = new Endpoint(rest, "friendships/incoming.json", null);
+        friendshipsOutgoing = new Endpoint(rest, "friendships/outgoing.json", null);
+        friendshipsLookup = new Endpoint(rest, "friendships/lookup.json", null);
+        friendshipsUpdate = new Endpoint(rest, "friendships/update.json", null);
+        friendshipsNoRetweetIds = new Endpoint(rest, "friendships/no_retweet_ids.json", null);
+        friendsIds = new Endpoint(rest, "friends/ids.json", null);
+        followersIds = new Endpoint(rest, "followers/ids.json", null);
+        accountRateLimitStatus = new Endpoint(rest, "account/rate_limit_status.json", null);
+        accountUpdateProfile = new Endpoint(rest, "account/update_profile.json", null);
+        accountTotals = new Endpoint(rest, "account/totals.json", null);
+        accountSettings = new Endpoint(rest, "account/settings.json", null);
+        accountUpdateProfileColors = new Endpoint(rest, "account/update_profile_colors.json", null);
+        accountUpdateProfileImage = new Endpoint(rest, "account/update_profile_image.json", entities);
+        accountUpdateProfileBackgroundImage = new Endpoint(rest, "account/update_profile_background_image.json", entities);
+        favorites = new Endpoint(rest, "favorites.json", entities);
+        favoritesUser = new Endpoint(rest, "favorites/:id.json", entities);
+        favoritesCreate = new Endpoint(rest, "favorites/create/:id.json", entities);
+        favoritesDestroy = new Endpoint(rest, "favorites/destroy/:id.json", entities);
+        notificationsFollow = new Endpoint(rest, "notifications/follow.json", entities);
+        notificationsLeave = new Endpoint(rest, "notifications/leave.json", entities);
+        blocksCreate = new Endpoint(rest, "blocks/create.json", entities);
+        blocksDestroy = new Endpoint(rest, "blocks/destroy.json", entities);
+        blocksExists = new Endpoint(rest, "blocks/exists.json", null);
+        blocksBlocking = new Endpoint(rest, "blocks/blocking.json", entities);
+        blocksBlockingIds = new Endpoint(rest, "blocks/blocking/ids.json", null);
+        reportSpam = new Endpoint(rest, "report_spam.json", entities);
+        savedSearches = new Endpoint(rest, "saved_searches.json", null);
+        savedSearchesShow = new Endpoint(rest, "saved_searches/show/:id.json", null);
+        savedSearchesCreate = new Endpoint(rest, "saved_searches/create.json", null);
+        savedSearchesDestroy = new Endpoint(rest, "saved_searches/destroy/:id.json", null);
+        trendsAvailable = new Endpoint(rest, "trends/available.json", null);
+        trendsLocation = new Endpoint(rest, "trends/:woeid.json", null);
+        geoSearch = new Endpoint(rest, "geo/search.json", null);
+        geoSimilarPlaces = new Endpoint(rest, "geo/similar_places.json", null);
+        geoReverseGeocode = new Endpoint(rest, "geo/reverse_geocode.json", null);
+        geoId = new Endpoint(rest, "geo/id/:id.json", null);
+        geoPlace = new Endpoint(rest, "geo/place.json", null);
+        legalTos = new Endpoint(rest, "legal/tos.json", null);
+        legalPrivacy = new Endpoint(rest, "legal/privacy.json", null);
+        relatedResultsShow = new Endpoint(rest, "related_results/show/:id.json", null);
+        helpTest = new Endpoint(rest, "help/test.json", null);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Serialized form of statuses, users and direct messages, written in the binary format of DataObjectEncoder instead
+ * of the default serialized form.<br>
+ * Objects serialized in the default form by earlier versions can still be deserialized.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+/*package*/ final class ExternalizableDataObject implements Externalizable {
+    private static final long serialVersionUID = -3089357616745378129L;
+    private TwitterResponse object;
+
+    /**
+     * Used by deserialization.
+     */
+    public ExternalizableDataObject() {
+    }
+
+    ExternalizableDataObject(TwitterResponse object) {
+        this.object = object;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        if (object instanceof Status) {
+            encoder.writeStatus((Status) object);
+        } else if (object instanceof User) {
+            encoder.writeUser((User) object);
+        } else {
+            encoder.writeDirectMessage((DirectMessage) object);
+        }
+        encoder.flush();
+        out.writeInt(bytes.size());
+        out.write(bytes.toByteArray());
+    }
+
+    public void readExternal(ObjectInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new StreamCorruptedException("Malformed length: " + length);
+        }
+        // read by chunks so that a malformed length doesn't allocate more than the stream holds
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, 1024));
+        byte[] chunk = new byte[Math.min(length, 8192)];
+        int remaining = length;
+        while (remaining > 0) {
+            int size = Math.min(remaining, chunk.length);
+            in.readFully(chunk, 0, size);
+            bytes.write(chunk, 0, size);
+            remaining -= size;
+        }
+        object = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()), length).readObject();
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        return object;
+    }
+}
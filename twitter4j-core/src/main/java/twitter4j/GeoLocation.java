@@ -17,6 +17,7 @@
 package twitter4j;
 
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
 import twitter4j.internal.util.T4JInternalStringUtil;
@@ -67,6 +68,48 @@ public class GeoLocation implements java.io.Serializable {
         return null;
     }
 
+    /**
+     * returns a GeoLocation instance from the value of a "geo" element.
+     *
+     * @param x tokener positioned at the value of a "geo" element
+     * @return GeoLocation instance, or null if the value is null
+     * @throws TwitterException when coordinates is not included in geo element (should be an API side issue)
+     */
+    /*package*/
+    static GeoLocation getInstance(JSONByteTokener x) throws TwitterException {
+        try {
+            if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                x.skipChildren();
+                return null;
+            }
+            GeoLocation geoLocation = null;
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (!x.textEquals("coordinates")) {
+                    x.skipValue();
+                } else if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                    x.nextToken();
+                    double latitude = Double.parseDouble(x.getString());
+                    x.nextToken();
+                    double longitude = Double.parseDouble(x.getString());
+                    geoLocation = new GeoLocation(latitude, longitude);
+                    while (JSONByteTokener.END_ARRAY != x.nextToken()) {
+                        x.skipChildren();
+                    }
+                } else {
+                    x.skipChildren();
+                }
+            }
+            if (null == geoLocation) {
+                throw new TwitterException("coordinates not found in geo element" + x);
+            }
+            return geoLocation;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        } catch (NumberFormatException nfe) {
+            throw new TwitterException(nfe);
+        }
+    }
+
     /*package*/
     static GeoLocation[][] coordinatesAsGeoLocationArray(JSONArray coordinates) throws TwitterException {
         try {
@@ -17,8 +17,12 @@
 package twitter4j;
 
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.util.ParseUtil;
+
+import java.io.IOException;
 
 /**
  * A data class representing one single Hashtag entity.
@@ -38,6 +42,28 @@ import twitter4j.internal.org.json.JSONObject;
         init(json);
     }
 
+    /* package */ HashtagEntityJSONImpl(JSONByteTokener x) throws TwitterException {
+        super();
+        init(x);
+    }
+
+    /* package */ HashtagEntityJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        start = in.readVarInt();
+        end = in.readVarInt();
+        text = 0 != (bits & 1) ? in.readString() : null;
+    }
+
+    /* package */ static void write(HashtagEntity entity, DataObjectEncoder out) throws IOException {
+        out.writeUnsignedVarLong(null != entity.getText() ? 1 : 0);
+        out.writeVarInt(entity.getStart());
+        out.writeVarInt(entity.getEnd());
+        if (null != entity.getText()) {
+            out.writeString(entity.getText());
+        }
+    }
+
     private void init(JSONObject json) throws TwitterException {
         try {
             JSONArray indicesArray = json.getJSONArray("indices");
@@ -52,6 +78,36 @@ import twitter4j.internal.org.json.JSONObject;
         }
     }
 
+    private void init(JSONByteTokener x) throws TwitterException {
+        try {
+            boolean hasIndices = false;
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("indices")) {
+                    if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                        throw x.syntaxError("indices is not an array");
+                    }
+                    x.nextToken();
+                    this.start = (int) x.getLong();
+                    x.nextToken();
+                    this.end = (int) x.getLong();
+                    while (JSONByteTokener.END_ARRAY != x.nextToken()) {
+                        x.skipChildren();
+                    }
+                    hasIndices = true;
+                } else if (x.textEquals("text")) {
+                    this.text = ParseUtil.getRawString(x);
+                } else {
+                    x.skipValue();
+                }
+            }
+            if (!hasIndices) {
+                throw x.syntaxError("JSONObject[\"indices\"] not found.");
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
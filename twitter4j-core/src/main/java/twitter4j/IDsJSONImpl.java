@@ -19,11 +19,11 @@ package twitter4j;
 import twitter4j.conf.Configuration;
 import twitter4j.internal.http.HttpResponse;
 import twitter4j.internal.json.DataObjectFactoryUtil;
-import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
-import twitter4j.internal.org.json.JSONObject;
 import twitter4j.internal.util.ParseUtil;
 
+import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 
 /**
@@ -40,12 +40,13 @@ import java.util.Arrays;
 
     /*package*/ IDsJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
-        String json = res.asString();
-        init(json);
-        System.out.println(conf.isJSONStoreEnabled());
         if (conf.isJSONStoreEnabled()) {
+            String json = res.asString();
+            init(json);
             DataObjectFactoryUtil.clearThreadLocalMap();
             DataObjectFactoryUtil.registerJSONObject(this, json);
+        } else {
+            init(res.asJSONByteTokener());
         }
     }
 
@@ -53,39 +54,76 @@ import java.util.Arrays;
         init(json);
     }
 
-    private void init(String jsonStr) throws TwitterException {
+    private void init(String json) throws TwitterException {
+        try {
+            init(new JSONByteTokener(json.getBytes("UTF-8")));
+        } catch (UnsupportedEncodingException uee) {
+            throw new TwitterException(uee);
+        }
+    }
 
-        JSONArray idList;
+    /**
+     * Decodes either a cursored object or a bare array of ids in one pass, straight into a long[].
+     */
+    private void init(JSONByteTokener x) throws TwitterException {
         try {
-            if (jsonStr.startsWith("{")) {
-                JSONObject json = new JSONObject(jsonStr);
-                idList = json.getJSONArray("ids");
-                ids = new long[idList.length()];
-                for (int i = 0; i < idList.length(); i++) {
-                    try {
-                        ids[i] = Long.parseLong(idList.getString(i));
-                    } catch (NumberFormatException nfe) {
-                        throw new TwitterException("Twitter API returned malformed response: " + json, nfe);
+            int token = x.nextToken();
+            if (JSONByteTokener.START_ARRAY == token) {
+                ids = readIds(x);
+            } else if (JSONByteTokener.START_OBJECT == token) {
+                while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                    if (x.textEquals("ids")) {
+                        if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                            throw x.syntaxError("JSONObject[\"ids\"] is not a JSONArray.");
+                        }
+                        ids = readIds(x);
+                    } else if (x.textEquals("previous_cursor")) {
+                        previousCursor = ParseUtil.getLong(x);
+                    } else if (x.textEquals("next_cursor")) {
+                        nextCursor = ParseUtil.getLong(x);
+                    } else {
+                        x.skipValue();
                     }
                 }
-                previousCursor = ParseUtil.getLong("previous_cursor", json);
-                nextCursor = ParseUtil.getLong("next_cursor", json);
-            } else {
-                idList = new JSONArray(jsonStr);
-                ids = new long[idList.length()];
-                for (int i = 0; i < idList.length(); i++) {
-                    try {
-                        ids[i] = Long.parseLong(idList.getString(i));
-                    } catch (NumberFormatException nfe) {
-                        throw new TwitterException("Twitter API returned malformed response: " + idList, nfe);
-                    }
+                if (null == ids) {
+                    throw x.syntaxError("JSONObject[\"ids\"] not found.");
                 }
+            } else {
+                throw x.syntaxError("A JSONObject text must begin with '{'");
             }
         } catch (JSONException jsone) {
             throw new TwitterException(jsone);
         }
+    }
 
-
+    private static long[] readIds(JSONByteTokener x) throws TwitterException, JSONException {
+        // a page holds up to 5000 ids
+        long[] ids = new long[1024];
+        int count = 0;
+        for (int token = x.nextToken(); JSONByteTokener.END_ARRAY != token; token = x.nextToken()) {
+            if (count == ids.length) {
+                long[] newIds = new long[count * 2];
+                System.arraycopy(ids, 0, newIds, 0, count);
+                ids = newIds;
+            }
+            if (JSONByteTokener.NUMBER == token) {
+                ids[count++] = x.getLong();
+            } else if (JSONByteTokener.STRING == token) {
+                try {
+                    ids[count++] = Long.parseLong(x.getString());
+                } catch (NumberFormatException nfe) {
+                    throw new TwitterException("Twitter API returned malformed response: " + x, nfe);
+                }
+            } else {
+                throw new TwitterException("Twitter API returned malformed response: " + x);
+            }
+        }
+        if (count == ids.length) {
+            return ids;
+        }
+        long[] result = new long[count];
+        System.arraycopy(ids, 0, result, 0, count);
+        return result;
     }
 
     /**
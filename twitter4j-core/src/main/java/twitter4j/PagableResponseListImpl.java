@@ -35,6 +35,12 @@ class PagableResponseListImpl<T> extends ResponseListImpl implements PagableResp
         this.nextCursor = ParseUtil.getLong("next_cursor", json);
     }
 
+    PagableResponseListImpl(int size, long previousCursor, long nextCursor, HttpResponse res) {
+        super(size, res);
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,6 +23,7 @@ import twitter4j.internal.org.json.JSONArray;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 import static twitter4j.internal.util.ParseUtil.getRawString;
@@ -125,6 +126,99 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
         }
     }
 
+    /**
+     * Reads a place written by write(Place, DataObjectEncoder).
+     *
+     * @param in decoder positioned at the presence bitmap of the place
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/ PlaceJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        name = 0 != (bits & 1) ? in.readString() : null;
+        streetAddress = 0 != (bits & 1 << 1) ? in.readString() : null;
+        countryCode = 0 != (bits & 1 << 2) ? in.readString() : null;
+        id = 0 != (bits & 1 << 3) ? in.readString() : null;
+        country = 0 != (bits & 1 << 4) ? in.readString() : null;
+        placeType = 0 != (bits & 1 << 5) ? in.readString() : null;
+        url = 0 != (bits & 1 << 6) ? in.readString() : null;
+        fullName = 0 != (bits & 1 << 7) ? in.readString() : null;
+        boundingBoxType = 0 != (bits & 1 << 8) ? in.readString() : null;
+        boundingBoxCoordinates = 0 != (bits & 1 << 9) ? readCoordinates(in) : null;
+        geometryType = 0 != (bits & 1 << 10) ? in.readString() : null;
+        geometryCoordinates = 0 != (bits & 1 << 11) ? readCoordinates(in) : null;
+        if (0 != (bits & 1 << 12)) {
+            containedWithIn = new Place[in.readLength()];
+            for (int i = 0; i < containedWithIn.length; i++) {
+                containedWithIn[i] = new PlaceJSONImpl(in);
+            }
+        }
+    }
+
+    private static GeoLocation[][] readCoordinates(DataObjectDecoder in) throws IOException {
+        GeoLocation[][] coordinates = new GeoLocation[in.readLength()][];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new GeoLocation[in.readLength()];
+            for (int j = 0; j < coordinates[i].length; j++) {
+                coordinates[i][j] = new GeoLocation(in.readDouble(), in.readDouble());
+            }
+        }
+        return coordinates;
+    }
+
+    /**
+     * Writes the fields of a place in the binary format read by PlaceJSONImpl(DataObjectDecoder).
+     *
+     * @param place place
+     * @param out   encoder
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ static void write(Place place, DataObjectEncoder out) throws IOException {
+        String[] strings = {place.getName(), place.getStreetAddress(), place.getCountryCode(), place.getId(),
+                place.getCountry(), place.getPlaceType(), place.getURL(), place.getFullName(),
+                place.getBoundingBoxType()};
+        long bits = 0;
+        for (int i = 0; i < strings.length; i++) {
+            bits |= null != strings[i] ? 1 << i : 0;
+        }
+        bits |= (null != place.getBoundingBoxCoordinates() ? 1 << 9 : 0)
+                | (null != place.getGeometryType() ? 1 << 10 : 0)
+                | (null != place.getGeometryCoordinates() ? 1 << 11 : 0)
+                | (null != place.getContainedWithIn() ? 1 << 12 : 0);
+        out.writeUnsignedVarLong(bits);
+        for (String str : strings) {
+            if (null != str) {
+                out.writeString(str);
+            }
+        }
+        if (null != place.getBoundingBoxCoordinates()) {
+            writeCoordinates(place.getBoundingBoxCoordinates(), out);
+        }
+        if (null != place.getGeometryType()) {
+            out.writeString(place.getGeometryType());
+        }
+        if (null != place.getGeometryCoordinates()) {
+            writeCoordinates(place.getGeometryCoordinates(), out);
+        }
+        if (null != place.getContainedWithIn()) {
+            out.writeUnsignedVarLong(place.getContainedWithIn().length);
+            for (Place containing : place.getContainedWithIn()) {
+                write(containing, out);
+            }
+        }
+    }
+
+    private static void writeCoordinates(GeoLocation[][] coordinates, DataObjectEncoder out) throws IOException {
+        out.writeUnsignedVarLong(coordinates.length);
+        for (GeoLocation[] ring : coordinates) {
+            out.writeUnsignedVarLong(ring.length);
+            for (GeoLocation location : ring) {
+                out.writeDouble(location.getLatitude());
+                out.writeDouble(location.getLongitude());
+            }
+        }
+    }
+
     public int compareTo(Place that) {
         return this.id.compareTo(that.getId());
     }
@@ -17,6 +17,8 @@
 package twitter4j;
 
 import twitter4j.internal.http.HttpResponse;
+import twitter4j.internal.json.RawJSON;
+import twitter4j.internal.json.RawJSONHolder;
 
 import java.util.ArrayList;
 
@@ -24,9 +26,10 @@ import java.util.ArrayList;
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.3
  */
-class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T> {
+class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T>, RawJSONHolder {
     private transient RateLimitStatus rateLimitStatus = null;
     private transient RateLimitStatus featureSpecificRateLimitStatus = null;
+    private transient RawJSON rawJSON = null;
     private static final long serialVersionUID = 5646617841989265312L;
 
     ResponseListImpl(int size, HttpResponse res) {
@@ -48,4 +51,15 @@ class ResponseListImpl<T> extends ArrayList<T> implements ResponseList<T> {
     public RateLimitStatus getFeatureSpecificRateLimitStatus() {
         return featureSpecificRateLimitStatus;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawJSON getRawJSON() {
+        return rawJSON;
+    }
+
+    /*package*/ void setRawJSON(RawJSON rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
@@ -19,13 +19,22 @@ package twitter4j;
 import twitter4j.conf.Configuration;
 import twitter4j.internal.http.HttpResponse;
 import twitter4j.internal.json.DataObjectFactoryUtil;
+import twitter4j.internal.json.RawJSON;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.org.json.StringPool;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static twitter4j.internal.util.ParseUtil.getBoolean;
 import static twitter4j.internal.util.ParseUtil.getDate;
@@ -65,12 +74,24 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
 
     /*package*/StatusJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            try {
+                if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                    throw x.syntaxError("A JSONObject text must begin with '{'");
+                }
+            } catch (JSONException jsone) {
+                throw new TwitterException(jsone);
+            }
+            init(x, UserCache.getInstance(conf));
+            return;
+        }
         JSONObject json = res.asJSONObject();
         init(json);
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
-            DataObjectFactoryUtil.registerJSONObject(this, json);
-        }
+        DataObjectFactoryUtil.clearThreadLocalMap();
+        DataObjectFactoryUtil.registerJSONObject(this, json);
     }
 
     /*package*/ StatusJSONImpl(JSONObject json) throws TwitterException {
@@ -78,6 +99,27 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         init(json);
     }
 
+    /**
+     * Binds the fields of a status directly from the token stream, without building a JSONObject tree.
+     *
+     * @param x tokener positioned right after the START_OBJECT token of the status
+     * @throws TwitterException when the status is malformed
+     */
+    /*package*/ StatusJSONImpl(JSONByteTokener x) throws TwitterException {
+        super();
+        init(x, null);
+    }
+
+    /**
+     * @param x         tokener positioned right after the START_OBJECT token of the status
+     * @param userCache cache to share repeated users through, or null
+     * @throws TwitterException when the status is malformed
+     */
+    /*package*/ StatusJSONImpl(JSONByteTokener x, UserCache userCache) throws TwitterException {
+        super();
+        init(x, userCache);
+    }
+
     private void init(JSONObject json) throws TwitterException {
         id = getLong("id", json);
         text = getUnescapedString("text", json);
@@ -111,7 +153,8 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
             try {
                 retweetedStatus = new StatusJSONImpl(json.getJSONObject("retweeted_status"));
             } catch (JSONException ignore) {
-                ignore.printStackTrace();
+                logger.warn("failed to parse retweeted_status:" + json);
+            } catch (TwitterException ignore) {
                 logger.warn("failed to parse retweeted_status:" + json);
             }
         }
@@ -130,30 +173,54 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
             contributors = null;
         }
         if (!json.isNull("entities")) {
+            // each kind of entities is available if it is present and well-formed
+            JSONObject entities = null;
             try {
-                JSONObject entities = json.getJSONObject("entities");
-
-                JSONArray userMentionsArray = entities.getJSONArray("user_mentions");
-                int len = userMentionsArray.length();
-                userMentionEntities = new UserMentionEntity[len];
-                for (int i = 0; i < len; i++) {
-                    userMentionEntities[i] = new UserMentionEntityJSONImpl(userMentionsArray.getJSONObject(i));
+                entities = json.getJSONObject("entities");
+            } catch (JSONException ignore) {
+                logger.warn("failed to parse entities:" + json);
+            }
+            if (null != entities && !entities.isNull("user_mentions")) {
+                try {
+                    JSONArray userMentionsArray = entities.getJSONArray("user_mentions");
+                    UserMentionEntity[] userMentions = new UserMentionEntity[userMentionsArray.length()];
+                    for (int i = 0; i < userMentions.length; i++) {
+                        userMentions[i] = new UserMentionEntityJSONImpl(userMentionsArray.getJSONObject(i));
+                    }
+                    userMentionEntities = userMentions;
+                } catch (JSONException ignore) {
+                    logger.warn("failed to parse user_mentions:" + entities);
+                } catch (TwitterException ignore) {
+                    logger.warn("failed to parse user_mentions:" + entities);
                 }
-
-                JSONArray urlsArray = entities.getJSONArray("urls");
-                len = urlsArray.length();
-                urlEntities = new URLEntity[len];
-                for (int i = 0; i < len; i++) {
-                    urlEntities[i] = new URLEntityJSONImpl(urlsArray.getJSONObject(i));
+            }
+            if (null != entities && !entities.isNull("urls")) {
+                try {
+                    JSONArray urlsArray = entities.getJSONArray("urls");
+                    URLEntity[] urls = new URLEntity[urlsArray.length()];
+                    for (int i = 0; i < urls.length; i++) {
+                        urls[i] = new URLEntityJSONImpl(urlsArray.getJSONObject(i));
+                    }
+                    urlEntities = urls;
+                } catch (JSONException ignore) {
+                    logger.warn("failed to parse urls:" + entities);
+                } catch (TwitterException ignore) {
+                    logger.warn("failed to parse urls:" + entities);
                 }
-
-                JSONArray hashtagsArray = entities.getJSONArray("hashtags");
-                len = hashtagsArray.length();
-                hashtagEntities = new HashtagEntity[len];
-                for (int i = 0; i < len; i++) {
-                    hashtagEntities[i] = new HashtagEntityJSONImpl(hashtagsArray.getJSONObject(i));
+            }
+            if (null != entities && !entities.isNull("hashtags")) {
+                try {
+                    JSONArray hashtagsArray = entities.getJSONArray("hashtags");
+                    HashtagEntity[] hashtags = new HashtagEntity[hashtagsArray.length()];
+                    for (int i = 0; i < hashtags.length; i++) {
+                        hashtags[i] = new HashtagEntityJSONImpl(hashtagsArray.getJSONObject(i));
+                    }
+                    hashtagEntities = hashtags;
+                } catch (JSONException ignore) {
+                    logger.warn("failed to parse hashtags:" + entities);
+                } catch (TwitterException ignore) {
+                    logger.warn("failed to parse hashtags:" + entities);
                 }
-            } catch (JSONException ignore) {
             }
         }
         if (!json.isNull("annotations")) {
@@ -165,6 +232,173 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         }
     }
 
+    private void init(JSONByteTokener x, UserCache userCache) throws TwitterException {
+        id = -1;
+        inReplyToStatusId = -1;
+        inReplyToUserId = -1;
+        retweetCount = -1;
+        int position = x.getPosition();
+        try {
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("id")) {
+                    id = getLong(x);
+                } else if (x.textEquals("text")) {
+                    text = getUnescapedString(x);
+                } else if (x.textEquals("source")) {
+                    source = getUnescapedString(x);
+                } else if (x.textEquals("created_at")) {
+                    createdAt = getDate(x, "EEE MMM d HH:mm:ss z yyyy");
+                } else if (x.textEquals("truncated")) {
+                    isTruncated = getBoolean(x);
+                } else if (x.textEquals("in_reply_to_status_id")) {
+                    inReplyToStatusId = getLong(x);
+                } else if (x.textEquals("in_reply_to_user_id")) {
+                    inReplyToUserId = getLong(x);
+                } else if (x.textEquals("favorited")) {
+                    isFavorited = getBoolean(x);
+                } else if (x.textEquals("in_reply_to_screen_name")) {
+                    inReplyToScreenName = getUnescapedString(x);
+                } else if (x.textEquals("retweet_count")) {
+                    retweetCount = getLong(x);
+                } else if (x.textEquals("retweeted")) {
+                    wasRetweetedByMe = getBoolean(x);
+                } else if (x.textEquals("user")) {
+                    if (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                        user = UserJSONImpl.getInstance(x, userCache);
+                    } else {
+                        x.skipChildren();
+                    }
+                } else if (x.textEquals("geo")) {
+                    geoLocation = GeoLocation.getInstance(x);
+                } else if (x.textEquals("place")) {
+                    if (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                        // places are rare and deeply nested. bind them through the tree
+                        JSONObject placeJSON = (JSONObject) x.getValue();
+                        try {
+                            place = new PlaceJSONImpl(placeJSON);
+                        } catch (TwitterException te) {
+                            logger.warn("failed to parse place:" + placeJSON);
+                        }
+                    } else {
+                        x.skipChildren();
+                    }
+                } else if (x.textEquals("retweeted_status")) {
+                    if (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                        // same as the JSONObject path: a malformed retweeted status doesn't fail the status
+                        int depth = x.getDepth();
+                        try {
+                            retweetedStatus = new StatusJSONImpl(x, userCache);
+                        } catch (TwitterException te) {
+                            skipMalformed(x, depth);
+                            logger.warn("failed to parse retweeted_status:" + te.getMessage());
+                        }
+                    } else {
+                        x.skipChildren();
+                    }
+                } else if (x.textEquals("contributors")) {
+                    if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                        List<String> list = new ArrayList<String>();
+                        while (JSONByteTokener.END_ARRAY != x.nextToken()) {
+                            list.add(String.valueOf(x.getValue()));
+                        }
+                        contributors = list.toArray(new String[list.size()]);
+                    } else {
+                        x.skipChildren();
+                    }
+                } else if (x.textEquals("entities")) {
+                    if (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                        initEntities(x);
+                    } else {
+                        x.skipChildren();
+                    }
+                } else if (x.textEquals("annotations")) {
+                    if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                        annotations = new Annotations((JSONArray) x.getValue());
+                    } else {
+                        x.skipChildren();
+                    }
+                } else {
+                    x.skipValue();
+                }
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone.getMessage() + x.toString(), jsone);
+        }
+        if (x.isRawCaptureEnabled()) {
+            setRawJSON(RawJSON.getInstance(x, position));
+        }
+    }
+
+    private void initEntities(JSONByteTokener x) throws JSONException {
+        // same as the JSONObject path: each kind of entities is available if it is present and well-formed
+        while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+            if (x.textEquals("user_mentions")) {
+                if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                    int depth = x.getDepth();
+                    try {
+                        List<UserMentionEntity> userMentions = new ArrayList<UserMentionEntity>();
+                        while (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                            userMentions.add(new UserMentionEntityJSONImpl(x));
+                        }
+                        userMentionEntities = userMentions.toArray(new UserMentionEntity[userMentions.size()]);
+                    } catch (TwitterException te) {
+                        skipMalformed(x, depth);
+                        logger.warn("failed to parse user_mentions:" + te.getMessage());
+                    }
+                } else {
+                    x.skipChildren();
+                }
+            } else if (x.textEquals("urls")) {
+                if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                    int depth = x.getDepth();
+                    try {
+                        List<URLEntity> urls = new ArrayList<URLEntity>();
+                        while (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                            urls.add(new URLEntityJSONImpl(x));
+                        }
+                        urlEntities = urls.toArray(new URLEntity[urls.size()]);
+                    } catch (TwitterException te) {
+                        skipMalformed(x, depth);
+                        logger.warn("failed to parse urls:" + te.getMessage());
+                    }
+                } else {
+                    x.skipChildren();
+                }
+            } else if (x.textEquals("hashtags")) {
+                if (JSONByteTokener.START_ARRAY == x.nextToken()) {
+                    int depth = x.getDepth();
+                    try {
+                        List<HashtagEntity> hashtags = new ArrayList<HashtagEntity>();
+                        while (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                            hashtags.add(new HashtagEntityJSONImpl(x));
+                        }
+                        hashtagEntities = hashtags.toArray(new HashtagEntity[hashtags.size()]);
+                    } catch (TwitterException te) {
+                        skipMalformed(x, depth);
+                        logger.warn("failed to parse hashtags:" + te.getMessage());
+                    }
+                } else {
+                    x.skipChildren();
+                }
+            } else {
+                x.skipValue();
+            }
+        }
+    }
+
+    /**
+     * Skips the rest of a value which failed to bind, so that the enclosing object can be read on.
+     *
+     * @param x     tokener
+     * @param depth depth right after the START_OBJECT or START_ARRAY token of the value
+     * @throws JSONException when the value is not terminated
+     */
+    private static void skipMalformed(JSONByteTokener x, int depth) throws JSONException {
+        while (x.getDepth() >= depth) {
+            x.skipToEndOfContainer();
+        }
+    }
+
     public int compareTo(Status that) {
         long delta = this.id - that.getId();
         if (delta < Integer.MIN_VALUE) {
@@ -175,6 +409,187 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         return (int) delta;
     }
 
+    /**
+     * Reads a status written by write(Status, DataObjectEncoder).
+     *
+     * @param in decoder positioned at the presence bitmap of the status
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/ StatusJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        id = in.readVarLong();
+        createdAt = 0 != (bits & 1) ? in.readDate() : null;
+        text = 0 != (bits & 1 << 1) ? in.readText() : null;
+        source = 0 != (bits & 1 << 2) ? in.readString() : null;
+        isTruncated = 0 != (bits & 1 << 3);
+        inReplyToStatusId = 0 != (bits & 1 << 4) ? in.readVarLong() : -1;
+        inReplyToUserId = 0 != (bits & 1 << 5) ? in.readVarLong() : -1;
+        isFavorited = 0 != (bits & 1 << 6);
+        inReplyToScreenName = 0 != (bits & 1 << 7) ? in.readString() : null;
+        if (0 != (bits & 1 << 8)) {
+            geoLocation = new GeoLocation(in.readDouble(), in.readDouble());
+        }
+        if (0 != (bits & 1 << 9)) {
+            place = new PlaceJSONImpl(in);
+        }
+        retweetCount = 0 != (bits & 1 << 10) ? in.readVarLong() : -1;
+        wasRetweetedByMe = 0 != (bits & 1 << 11);
+        if (0 != (bits & 1 << 12)) {
+            contributors = new String[in.readLength()];
+            for (int i = 0; i < contributors.length; i++) {
+                contributors[i] = in.readString();
+            }
+        }
+        if (0 != (bits & 1 << 13)) {
+            int size = in.readLength();
+            List<Annotation> list = new ArrayList<Annotation>(size);
+            for (int i = 0; i < size; i++) {
+                String type = in.readString();
+                int attributeCount = in.readLength();
+                Map<String, String> attributes = new LinkedHashMap<String, String>();
+                for (int j = 0; j < attributeCount; j++) {
+                    attributes.put(in.readString(), in.readText());
+                }
+                list.add(new Annotation(type, attributes));
+            }
+            annotations = new Annotations(list);
+        }
+        if (0 != (bits & 1 << 14)) {
+            retweetedStatus = new StatusJSONImpl(in);
+        }
+        if (0 != (bits & 1 << 15)) {
+            userMentionEntities = new UserMentionEntity[in.readLength()];
+            for (int i = 0; i < userMentionEntities.length; i++) {
+                userMentionEntities[i] = new UserMentionEntityJSONImpl(in);
+            }
+        }
+        if (0 != (bits & 1 << 16)) {
+            urlEntities = new URLEntity[in.readLength()];
+            for (int i = 0; i < urlEntities.length; i++) {
+                urlEntities[i] = new URLEntityJSONImpl(in);
+            }
+        }
+        if (0 != (bits & 1 << 17)) {
+            hashtagEntities = new HashtagEntity[in.readLength()];
+            for (int i = 0; i < hashtagEntities.length; i++) {
+                hashtagEntities[i] = new HashtagEntityJSONImpl(in);
+            }
+        }
+        if (0 != (bits & 1 << 18)) {
+            user = new UserJSONImpl(in);
+        }
+    }
+
+    /**
+     * Writes the fields of a status in the binary format read by StatusJSONImpl(DataObjectDecoder).
+     *
+     * @param status status
+     * @param out    encoder
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ static void write(Status status, DataObjectEncoder out) throws IOException {
+        Annotations annotations = status.getAnnotations();
+        List<Annotation> annotationList = null == annotations ? null : annotations.getAnnotations();
+        long bits = (null != status.getCreatedAt() ? 1 : 0)
+                | (null != status.getText() ? 1 << 1 : 0)
+                | (null != status.getSource() ? 1 << 2 : 0)
+                | (status.isTruncated() ? 1 << 3 : 0)
+                | (-1 != status.getInReplyToStatusId() ? 1 << 4 : 0)
+                | (-1 != status.getInReplyToUserId() ? 1 << 5 : 0)
+                | (status.isFavorited() ? 1 << 6 : 0)
+                | (null != status.getInReplyToScreenName() ? 1 << 7 : 0)
+                | (null != status.getGeoLocation() ? 1 << 8 : 0)
+                | (null != status.getPlace() ? 1 << 9 : 0)
+                | (-1 != status.getRetweetCount() ? 1 << 10 : 0)
+                | (status.isRetweetedByMe() ? 1 << 11 : 0)
+                | (null != status.getContributors() ? 1 << 12 : 0)
+                | (null != annotationList ? 1 << 13 : 0)
+                | (null != status.getRetweetedStatus() ? 1 << 14 : 0)
+                | (null != status.getUserMentionEntities() ? 1 << 15 : 0)
+                | (null != status.getURLEntities() ? 1 << 16 : 0)
+                | (null != status.getHashtagEntities() ? 1 << 17 : 0)
+                | (null != status.getUser() ? 1 << 18 : 0);
+        out.writeUnsignedVarLong(bits);
+        out.writeVarLong(status.getId());
+        if (null != status.getCreatedAt()) {
+            out.writeDate(status.getCreatedAt());
+        }
+        if (null != status.getText()) {
+            out.writeText(status.getText());
+        }
+        if (null != status.getSource()) {
+            out.writeString(status.getSource());
+        }
+        if (-1 != status.getInReplyToStatusId()) {
+            out.writeVarLong(status.getInReplyToStatusId());
+        }
+        if (-1 != status.getInReplyToUserId()) {
+            out.writeVarLong(status.getInReplyToUserId());
+        }
+        if (null != status.getInReplyToScreenName()) {
+            out.writeString(status.getInReplyToScreenName());
+        }
+        if (null != status.getGeoLocation()) {
+            out.writeDouble(status.getGeoLocation().getLatitude());
+            out.writeDouble(status.getGeoLocation().getLongitude());
+        }
+        if (null != status.getPlace()) {
+            PlaceJSONImpl.write(status.getPlace(), out);
+        }
+        if (-1 != status.getRetweetCount()) {
+            out.writeVarLong(status.getRetweetCount());
+        }
+        if (null != status.getContributors()) {
+            out.writeUnsignedVarLong(status.getContributors().length);
+            for (String contributor : status.getContributors()) {
+                out.writeString(contributor);
+            }
+        }
+        if (null != annotationList) {
+            out.writeUnsignedVarLong(annotationList.size());
+            for (Annotation annotation : annotationList) {
+                out.writeString(annotation.getType());
+                Map<String, String> attributes = annotation.getAttributes();
+                out.writeUnsignedVarLong(null == attributes ? 0 : attributes.size());
+                if (null != attributes) {
+                    for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                        out.writeString(attribute.getKey());
+                        out.writeText(attribute.getValue());
+                    }
+                }
+            }
+        }
+        if (null != status.getRetweetedStatus()) {
+            write(status.getRetweetedStatus(), out);
+        }
+        if (null != status.getUserMentionEntities()) {
+            out.writeUnsignedVarLong(status.getUserMentionEntities().length);
+            for (UserMentionEntity entity : status.getUserMentionEntities()) {
+                UserMentionEntityJSONImpl.write(entity, out);
+            }
+        }
+        if (null != status.getURLEntities()) {
+            out.writeUnsignedVarLong(status.getURLEntities().length);
+            for (URLEntity entity : status.getURLEntities()) {
+                URLEntityJSONImpl.write(entity, out);
+            }
+        }
+        if (null != status.getHashtagEntities()) {
+            out.writeUnsignedVarLong(status.getHashtagEntities().length);
+            for (HashtagEntity entity : status.getHashtagEntities()) {
+                HashtagEntityJSONImpl.write(entity, out);
+            }
+        }
+        if (null != status.getUser()) {
+            UserJSONImpl.write(status.getUser(), out);
+        }
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return new ExternalizableDataObject(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -329,6 +744,12 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
 
     /*package*/
     static ResponseList<Status> createStatusList(HttpResponse res, Configuration conf) throws TwitterException {
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            return createStatusList(x, res, UserCache.getInstance(conf));
+        }
         try {
             if (conf.isJSONStoreEnabled()) {
                 DataObjectFactoryUtil.clearThreadLocalMap();
@@ -355,6 +776,61 @@ import static twitter4j.internal.util.ParseUtil.getUnescapedString;
         }
     }
 
+    private static ResponseList<Status> createStatusList(JSONByteTokener x, HttpResponse res, UserCache userCache)
+            throws TwitterException {
+        try {
+            if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                throw x.syntaxError("A JSONArray text must start with '['");
+            }
+            int position = x.getPosition();
+            List<Status> list = new ArrayList<Status>();
+            for (int token = x.nextToken(); JSONByteTokener.END_ARRAY != token; token = x.nextToken()) {
+                if (JSONByteTokener.START_OBJECT != token) {
+                    throw x.syntaxError("JSONArray is not a JSONObject.");
+                }
+                list.add(new StatusJSONImpl(x, userCache));
+            }
+            ResponseListImpl<Status> statuses = new ResponseListImpl<Status>(list.size(), res);
+            statuses.addAll(list);
+            if (x.isRawCaptureEnabled()) {
+                statuses.setRawJSON(RawJSON.getInstance(x, position));
+            }
+            return statuses;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
+    /**
+     * Tells whether the message the tokener is positioned at is a status, scanning the top level fields only.
+     * The tokener needs to be reset before reading the message again.
+     *
+     * @param x tokener positioned at the beginning of a message
+     * @return true if the message is a status
+     * @throws JSONException when the message is malformed
+     */
+    /*package*/ static boolean isStatus(JSONByteTokener x) throws JSONException {
+        if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+            return false;
+        }
+        boolean hasText = false;
+        while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+            if (x.textEquals("sender")) {
+                if (JSONByteTokener.NULL != x.nextToken()) {
+                    // direct message
+                    return false;
+                }
+                x.skipChildren();
+            } else if (x.textEquals("text")) {
+                hasText = JSONByteTokener.NULL != x.nextToken();
+                x.skipChildren();
+            } else {
+                x.skipValue();
+            }
+        }
+        return hasText;
+    }
+
     @Override
     public int hashCode() {
         return (int) id;
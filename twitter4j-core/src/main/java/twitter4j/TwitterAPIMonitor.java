@@ -70,7 +70,8 @@ public class TwitterAPIMonitor {
         try {
 
             MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
-            APIStatistics statsMBean = new APIStatistics(100);
+            // register the instance the calls are recorded to
+            APIStatistics statsMBean = SINGLETON.STATISTICS;
             if (isJDK14orEarlier) {
                 ObjectName oName = new ObjectName("twitter4j.mbean:type=APIStatistics");
                 mbs.registerMBean(statsMBean, oName);
@@ -115,4 +116,12 @@ public class TwitterAPIMonitor {
             STATISTICS.methodCalled(method, elapsedTime, success);
         }
     }
+
+    /**
+     * Records a call to a known resource. The metric key is taken from the endpoint so that the URL doesn't have to be
+     * matched against the pattern.
+     */
+    void methodCalled(Endpoint endpoint, long elapsedTime, boolean success) {
+        STATISTICS.methodCalled(endpoint.getMetricKey(), elapsedTime, success);
+    }
 }
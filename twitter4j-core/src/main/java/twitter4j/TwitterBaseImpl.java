@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static twitter4j.internal.http.HttpResponseCode.ENHANCE_YOUR_CLAIM;
 import static twitter4j.internal.http.HttpResponseCode.SERVICE_UNAVAILABLE;
@@ -50,7 +51,8 @@ abstract class TwitterBaseImpl implements java.io.Serializable, OAuthSupport, Ht
     protected transient long id = 0;
 
     protected transient HttpClientWrapper http;
-    private List<RateLimitStatusListener> rateLimitStatusListeners = new ArrayList<RateLimitStatusListener>(0);
+    // may be iterated by the HttpResponseEvent dispatcher thread while listeners are being added
+    private List<RateLimitStatusListener> rateLimitStatusListeners = new CopyOnWriteArrayList<RateLimitStatusListener>();
 
     protected Authorization auth;
     private static final long serialVersionUID = -3812176145960812140L;
@@ -226,7 +228,7 @@ abstract class TwitterBaseImpl implements java.io.Serializable, OAuthSupport, Ht
             throws IOException, ClassNotFoundException {
         conf = (Configuration) stream.readObject();
         auth = (Authorization) stream.readObject();
-        rateLimitStatusListeners = (List<RateLimitStatusListener>) stream.readObject();
+        rateLimitStatusListeners = new CopyOnWriteArrayList<RateLimitStatusListener>((List<RateLimitStatusListener>) stream.readObject());
         http = new HttpClientWrapper(conf);
         http.setHttpResponseListener(this);
     }
@@ -22,6 +22,7 @@ import twitter4j.auth.AuthorizationFactory;
 import twitter4j.auth.OAuthAuthorization;
 import twitter4j.conf.Configuration;
 import twitter4j.conf.ConfigurationContext;
+import twitter4j.internal.http.HttpClientWrapper;
 
 /**
  * A factory class for Twitter.
@@ -95,4 +96,23 @@ public final class TwitterFactory implements java.io.Serializable {
     public Twitter getInstance(Authorization auth) {
         return new TwitterImpl(conf, auth);
     }
+
+    /**
+     * Resolves the hosts of the REST and Search API and opens connections to them ahead of the first request.<br>
+     * Intended to be called on startup, before the application starts serving.
+     *
+     * @return true if both hosts responded
+     * @since Twitter4J 2.2.2
+     */
+    public boolean warmUp() {
+        HttpClientWrapper http = new HttpClientWrapper(conf);
+        try {
+            boolean restResponded = http.warmUp(conf.getRestBaseURL());
+            boolean searchResponded = http.warmUp(conf.getSearchBaseURL());
+            return restResponded && searchResponded;
+        } finally {
+            // the connections stay in the pool shared with the instances created with the same configuration
+            http.shutdown();
+        }
+    }
 }
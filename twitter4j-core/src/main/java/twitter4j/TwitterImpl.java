@@ -20,6 +20,7 @@ import twitter4j.auth.Authorization;
 import twitter4j.conf.Configuration;
 import twitter4j.internal.http.HttpParameter;
 import twitter4j.internal.http.HttpResponse;
+import twitter4j.internal.http.RequestMethod;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.util.T4JInternalStringUtil;
 
@@ -50,11 +51,11 @@ class TwitterImpl extends TwitterBaseImpl
     TwitterImpl(Configuration conf, Authorization auth) {
         super(conf, auth);
         INCLUDE_ENTITIES = new HttpParameter("include_entities", conf.isIncludeEntitiesEnabled());
-        INCLUDE_RTS = new HttpParameter("include_rts", conf.isIncludeRTsEnabled());
+        endpoints = Endpoints.getInstance(conf);
     }
 
     private final HttpParameter INCLUDE_ENTITIES;
-    private final HttpParameter INCLUDE_RTS;
+    private final Endpoints endpoints;
 
 
     private HttpParameter[] mergeParameters(HttpParameter[] params1, HttpParameter[] params2) {
@@ -96,8 +97,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public QueryResult search(Query query) throws TwitterException {
         try {
-            return new QueryResultJSONImpl(get(conf.getSearchBaseURL()
-                    + "search.json", query.asHttpParameterArray()), conf);
+            return new QueryResultJSONImpl(get(endpoints.search, query.asHttpParameterArray()), conf);
         } catch (TwitterException te) {
             if (404 == te.getStatusCode()) {
                 return new QueryResultJSONImpl(query);
@@ -111,38 +111,45 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public Trends getTrends() throws TwitterException {
-        return new TrendsJSONImpl(get(conf.getRestBaseURL() + "trends.json"), conf);
+        return new TrendsJSONImpl(get(endpoints.trends), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public Trends getCurrentTrends() throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL() + "trends/current.json"), conf.isJSONStoreEnabled()).get(0);
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsCurrent), conf.isJSONStoreEnabled()).get(0);
     }
 
     /**
      * {@inheritDoc}
      */
     public Trends getCurrentTrends(boolean excludeHashTags) throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL() + "trends/current.json"
-                + (excludeHashTags ? "?exclude=hashtags" : "")), conf.isJSONStoreEnabled()).get(0);
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsCurrent, excludeHashTags ? EXCLUDE_HASHTAGS : null)
+                , conf.isJSONStoreEnabled()).get(0);
     }
 
     /**
      * {@inheritDoc}
      */
     public List<Trends> getDailyTrends() throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL() + "trends/daily.json"), conf.isJSONStoreEnabled());
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsDaily), conf.isJSONStoreEnabled());
     }
 
     /**
      * {@inheritDoc}
      */
     public List<Trends> getDailyTrends(Date date, boolean excludeHashTags) throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL()
-                + "trends/daily.json?date=" + toDateStr(date)
-                + (excludeHashTags ? "&exclude=hashtags" : "")), conf.isJSONStoreEnabled());
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsDaily
+                , toTrendsParameters(date, excludeHashTags)), conf.isJSONStoreEnabled());
+    }
+
+    private static final HttpParameter[] EXCLUDE_HASHTAGS = {new HttpParameter("exclude", "hashtags")};
+
+    private HttpParameter[] toTrendsParameters(Date date, boolean excludeHashTags) {
+        HttpParameter dateParameter = new HttpParameter("date", toDateStr(date));
+        return excludeHashTags ? new HttpParameter[]{dateParameter, EXCLUDE_HASHTAGS[0]}
+                : new HttpParameter[]{dateParameter};
     }
 
     private String toDateStr(Date date) {
@@ -157,17 +164,15 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public List<Trends> getWeeklyTrends() throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL()
-                + "trends/weekly.json"), conf.isJSONStoreEnabled());
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsWeekly), conf.isJSONStoreEnabled());
     }
 
     /**
      * {@inheritDoc}
      */
     public List<Trends> getWeeklyTrends(Date date, boolean excludeHashTags) throws TwitterException {
-        return TrendsJSONImpl.createTrendsList(get(conf.getRestBaseURL()
-                + "trends/weekly.json?date=" + toDateStr(date)
-                + (excludeHashTags ? "&exclude=hashtags" : "")), conf.isJSONStoreEnabled());
+        return TrendsJSONImpl.createTrendsList(get(endpoints.trendsWeekly
+                , toTrendsParameters(date, excludeHashTags)), conf.isJSONStoreEnabled());
     }
 
     /* Status Methods */
@@ -177,8 +182,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getPublicTimeline() throws
             TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/public_timeline.json?include_entities=" + conf.isIncludeEntitiesEnabled() + "&include_rts=" + conf.isIncludeRTsEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesPublicTimeline), conf);
     }
 
     /**
@@ -187,7 +191,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<Status> getHomeTimeline() throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() + "statuses/home_timeline.json?include_entities=" + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesHomeTimeline), conf);
     }
 
     /**
@@ -196,8 +200,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<Status> getHomeTimeline(Paging paging) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/home_timeline.json", mergeParameters(paging.asPostParameterArray(), INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesHomeTimeline, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -206,9 +209,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<Status> getFriendsTimeline() throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/friends_timeline.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&include_rts=" + conf.isIncludeRTsEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesFriendsTimeline), conf);
     }
 
     /**
@@ -217,10 +218,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<Status> getFriendsTimeline(Paging paging) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/friends_timeline.json",
-                mergeParameters(new HttpParameter[]{INCLUDE_RTS, INCLUDE_ENTITIES}
-                        , paging.asPostParameterArray())), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesFriendsTimeline, paging.asPostParameterArray()), conf);
 
     }
 
@@ -230,11 +228,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getUserTimeline(String screenName, Paging paging)
             throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/user_timeline.json",
-                mergeParameters(new HttpParameter[]{new HttpParameter("screen_name", screenName)
-                        , INCLUDE_RTS
-                        , INCLUDE_ENTITIES}
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesUserTimeline, mergeParameters(new HttpParameter[]{new HttpParameter("screen_name", screenName)}
                         , paging.asPostParameterArray())), conf);
     }
 
@@ -243,11 +237,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getUserTimeline(long userId, Paging paging)
             throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/user_timeline.json",
-                mergeParameters(new HttpParameter[]{new HttpParameter("user_id", userId)
-                        , INCLUDE_RTS
-                        , INCLUDE_ENTITIES}
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesUserTimeline, mergeParameters(new HttpParameter[]{new HttpParameter("user_id", userId)}
                         , paging.asPostParameterArray())), conf);
     }
 
@@ -279,11 +269,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<Status> getUserTimeline(Paging paging) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/user_timeline.json",
-                mergeParameters(new HttpParameter[]{INCLUDE_RTS
-                        , INCLUDE_ENTITIES}
-                        , paging.asPostParameterArray())), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesUserTimeline, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -291,9 +277,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getMentions() throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/mentions.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&include_rts=" + conf.isIncludeRTsEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesMentions), conf);
     }
 
     /**
@@ -301,11 +285,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getMentions(Paging paging) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/mentions.json",
-                mergeParameters(new HttpParameter[]{INCLUDE_RTS
-                        , INCLUDE_ENTITIES}
-                        , paging.asPostParameterArray())), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesMentions, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -313,8 +293,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetedByMe() throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweeted_by_me.json?include_entities=" + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedByMe), conf);
     }
 
     /**
@@ -322,9 +301,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetedByMe(Paging paging) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweeted_by_me.json", mergeParameters(paging.asPostParameterArray()
-                , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedByMe, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -332,9 +309,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetedToMe() throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweeted_to_me.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedToMe), conf);
     }
 
     /**
@@ -342,9 +317,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetedToMe(Paging paging) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/retweeted_to_me.json", mergeParameters(paging.asPostParameterArray()
-                , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedToMe, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -352,9 +325,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetsOfMe() throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweets_of_me.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetsOfMe), conf);
     }
 
     /**
@@ -362,53 +333,43 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweetsOfMe(Paging paging) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweets_of_me.json", mergeParameters(paging.asPostParameterArray()
-                , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetsOfMe, paging.asPostParameterArray()), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getRetweetedToUser(String screenName, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/retweeted_to_user.json", mergeParameters(paging.asPostParameterArray()
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedToUser, mergeParameters(paging.asPostParameterArray()
                 , new HttpParameter[]{
-                        new HttpParameter("screen_name", screenName)
-                        , INCLUDE_ENTITIES})), conf);
+                        new HttpParameter("screen_name", screenName)})), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getRetweetedToUser(long userId, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/retweeted_to_user.json", mergeParameters(paging.asPostParameterArray()
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedToUser, mergeParameters(paging.asPostParameterArray()
                 , new HttpParameter[]{
-                        new HttpParameter("user_id", userId)
-                        , INCLUDE_ENTITIES})), conf);
+                        new HttpParameter("user_id", userId)})), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getRetweetedByUser(String screenName, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/retweeted_by_user.json", mergeParameters(paging.asPostParameterArray()
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedByUser, mergeParameters(paging.asPostParameterArray()
                 , new HttpParameter[]{
-                        new HttpParameter("screen_name", screenName)
-                        , INCLUDE_ENTITIES})), conf);
+                        new HttpParameter("screen_name", screenName)})), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getRetweetedByUser(long userId, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() +
-                "statuses/retweeted_by_user.json", mergeParameters(paging.asPostParameterArray()
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweetedByUser, mergeParameters(paging.asPostParameterArray()
                 , new HttpParameter[]{
-                        new HttpParameter("user_id", userId)
-                        , INCLUDE_ENTITIES})), conf);
+                        new HttpParameter("user_id", userId)})), conf);
     }
 
     /**
@@ -416,9 +377,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<User> getRetweetedBy(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL()
-                + "statuses/" + statusId + "/retweeted_by.json?count=100&include_entities"
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return UserJSONImpl.createUserList(get(endpoints.statusesRetweetedBy, statusId), conf);
     }
 
     /**
@@ -426,17 +385,14 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public IDs getRetweetedByIDs(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new IDsJSONImpl(get(conf.getRestBaseURL()
-                + "statuses/" + statusId + "/retweeted_by/ids.json?count=100&include_entities"
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new IDsJSONImpl(get(endpoints.statusesRetweetedByIds, statusId), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public Status showStatus(long id) throws TwitterException {
-        return new StatusJSONImpl(get(conf.getRestBaseURL() + "statuses/show/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new StatusJSONImpl(get(endpoints.statusesShow, id), conf);
     }
 
     /**
@@ -444,9 +400,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status updateStatus(String status) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL() + "statuses/update.json",
-                new HttpParameter[]{new HttpParameter("status", status)
-                        , INCLUDE_ENTITIES}), conf);
+        return new StatusJSONImpl(post(endpoints.statusesUpdate, new HttpParameter[]{new HttpParameter("status", status)}), conf);
     }
 
     /**
@@ -454,10 +408,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status updateStatus(StatusUpdate latestStatus) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL()
-                + "statuses/update.json",
-                mergeParameters(latestStatus.asHttpParameterArray(),
-                        INCLUDE_ENTITIES)), conf);
+        return new StatusJSONImpl(post(endpoints.statusesUpdate, latestStatus.asHttpParameterArray()), conf);
     }
 
     /**
@@ -465,9 +416,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status destroyStatus(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL()
-                + "statuses/destroy/" + statusId + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new StatusJSONImpl(post(endpoints.statusesDestroy, statusId), conf);
     }
 
     /**
@@ -475,9 +424,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status retweetStatus(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL()
-                + "statuses/retweet/" + statusId + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new StatusJSONImpl(post(endpoints.statusesRetweet, statusId), conf);
     }
 
     /**
@@ -485,9 +432,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getRetweets(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "statuses/retweets/" + statusId + ".json?count=100&include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.statusesRetweets, statusId), conf);
     }
 
     /* User Methods */
@@ -496,16 +441,14 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public User showUser(String screenName) throws TwitterException {
-        return new UserJSONImpl(get(conf.getRestBaseURL() + "users/show.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(get(endpoints.usersShow, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public User showUser(long userId) throws TwitterException {
-        return new UserJSONImpl(get(conf.getRestBaseURL() + "users/show.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(get(endpoints.usersShow, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -513,10 +456,8 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<User> lookupUsers(String[] screenNames) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL() +
-                "users/lookup.json", new HttpParameter[]{
-                new HttpParameter("screen_name", T4JInternalStringUtil.join(screenNames))
-                , INCLUDE_ENTITIES}), conf);
+        return UserJSONImpl.createUserList(get(endpoints.usersLookup, new HttpParameter[]{
+                new HttpParameter("screen_name", T4JInternalStringUtil.join(screenNames))}), conf);
     }
 
     /**
@@ -524,10 +465,8 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<User> lookupUsers(long[] ids) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL() +
-                "users/lookup.json", new HttpParameter[]{
-                new HttpParameter("user_id", T4JInternalStringUtil.join(ids))
-                , INCLUDE_ENTITIES}), conf);
+        return UserJSONImpl.createUserList(get(endpoints.usersLookup, new HttpParameter[]{
+                new HttpParameter("user_id", T4JInternalStringUtil.join(ids))}), conf);
     }
 
     /**
@@ -535,28 +474,24 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<User> searchUsers(String query, int page) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL() +
-                "users/search.json", new HttpParameter[]{
+        return UserJSONImpl.createUserList(get(endpoints.usersSearch, new HttpParameter[]{
                 new HttpParameter("q", query),
                 new HttpParameter("per_page", 20),
-                new HttpParameter("page", page)
-                , INCLUDE_ENTITIES}), conf);
+                new HttpParameter("page", page)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Category> getSuggestedUserCategories() throws TwitterException {
-        return CategoryJSONImpl.createCategoriesList(get(conf.getRestBaseURL() +
-                "users/suggestions.json"), conf);
+        return CategoryJSONImpl.createCategoriesList(get(endpoints.usersSuggestions), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<User> getUserSuggestions(String categorySlug) throws TwitterException {
-        HttpResponse res = get(conf.getRestBaseURL() + "users/suggestions/"
-                + categorySlug + ".json");
+        HttpResponse res = get(endpoints.usersSuggestionsCategory, categorySlug);
         try {
             return UserJSONImpl.createUserList(res.asJSONObject().getJSONArray("users"), res, conf);
         } catch (JSONException jsone) {
@@ -568,8 +503,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public ResponseList<User> getMemberSuggestions(String categorySlug) throws TwitterException {
-        HttpResponse res = get(conf.getRestBaseURL() + "users/suggestions/"
-                + categorySlug + "/members.json");
+        HttpResponse res = get(endpoints.usersSuggestionsCategoryMembers, categorySlug);
         return UserJSONImpl.createUserList(res.asJSONArray(), res, conf);
     }
 
@@ -577,64 +511,49 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public ProfileImage getProfileImage(String screenName, ProfileImage.ImageSize size) throws TwitterException {
-        return new ProfileImageImpl(get(conf.getRestBaseURL() + "users/profile_image/"
-                + screenName + ".json?size=" + size.getName()));
+        return new ProfileImageImpl(get(endpoints.usersProfileImage, screenName, new HttpParameter[]{new HttpParameter("size", size.getName())}));
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFriendsStatuses(long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/friends.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFriends, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFriendsStatuses(String screenName, long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/friends.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName + "&cursor="
-                + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFriends, new HttpParameter[]{new HttpParameter("screen_name", screenName), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFriendsStatuses(long userId, long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/friends.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId
-                + "&cursor=" + cursor, null), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFriends, new HttpParameter[]{new HttpParameter("user_id", userId), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFollowersStatuses(long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/followers.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFollowers, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFollowersStatuses(String screenName, long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/followers.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFollowers, new HttpParameter[]{new HttpParameter("screen_name", screenName), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public PagableResponseList<User> getFollowersStatuses(long userId, long cursor) throws TwitterException {
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL()
-                + "statuses/followers.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.statusesFollowers, new HttpParameter[]{new HttpParameter("user_id", userId), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /*List Methods*/
@@ -650,9 +569,7 @@ class TwitterImpl extends TwitterBaseImpl
         if (description != null) {
             httpParams.add(new HttpParameter("description", description));
         }
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + getScreenName() +
-                "/lists.json",
-                httpParams.toArray(new HttpParameter[httpParams.size()])), conf);
+        return new UserListJSONImpl(post(endpoints.userLists, getScreenName(), httpParams.toArray(new HttpParameter[httpParams.size()])), conf);
     }
 
     /**
@@ -668,8 +585,7 @@ class TwitterImpl extends TwitterBaseImpl
         if (newDescription != null) {
             httpParams.add(new HttpParameter("description", newDescription));
         }
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + getScreenName() + "/lists/"
-                + listId + ".json", httpParams.toArray(new HttpParameter[httpParams.size()])), conf);
+        return new UserListJSONImpl(post(endpoints.userList, getScreenName(), listId, httpParams.toArray(new HttpParameter[httpParams.size()])), conf);
     }
 
     /**
@@ -677,8 +593,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public PagableResponseList<UserList> getUserLists(String listOwnerScreenName, long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserListJSONImpl.createPagableUserListList(get(conf.getRestBaseURL() +
-                listOwnerScreenName + "/lists.json?cursor=" + cursor), conf);
+        return UserListJSONImpl.createPagableUserListList(get(endpoints.userLists, listOwnerScreenName, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -686,8 +601,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList showUserList(String listOwnerScreenName, int id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(get(conf.getRestBaseURL() + listOwnerScreenName + "/lists/"
-                + id + ".json"), conf);
+        return new UserListJSONImpl(get(endpoints.userList, listOwnerScreenName, id), conf);
     }
 
     /**
@@ -695,26 +609,21 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList destroyUserList(int listId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(delete(conf.getRestBaseURL() + getScreenName() +
-                "/lists/" + listId + ".json"), conf);
+        return new UserListJSONImpl(delete(endpoints.userList, getScreenName(), listId), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getUserListStatuses(String listOwnerScreenName, int id, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() + listOwnerScreenName +
-                "/lists/" + id + "/statuses.json", mergeParameters(paging.asPostParameterArray(Paging.SMCP, Paging.PER_PAGE)
-                , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.userListStatuses, listOwnerScreenName, id, paging.asPostParameterArray(Paging.SMCP, Paging.PER_PAGE)), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Status> getUserListStatuses(long listOwnerId, int id, Paging paging) throws TwitterException {
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() + listOwnerId +
-                "/lists/" + id + "/statuses.json", mergeParameters(paging.asPostParameterArray(Paging.SMCP, Paging.PER_PAGE)
-                , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.userListStatuses, listOwnerId, id, paging.asPostParameterArray(Paging.SMCP, Paging.PER_PAGE)), conf);
     }
 
     /**
@@ -722,8 +631,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public PagableResponseList<UserList> getUserListMemberships(String listMemberScreenName, long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserListJSONImpl.createPagableUserListList(get(conf.getRestBaseURL() +
-                listMemberScreenName + "/lists/memberships.json?cursor=" + cursor), conf);
+        return UserListJSONImpl.createPagableUserListList(get(endpoints.userListMemberships, listMemberScreenName, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -731,8 +639,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public PagableResponseList<UserList> getUserListSubscriptions(String listOwnerScreenName, long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserListJSONImpl.createPagableUserListList(get(conf.getRestBaseURL() +
-                listOwnerScreenName + "/lists/subscriptions.json?cursor=" + cursor), conf);
+        return UserListJSONImpl.createPagableUserListList(get(endpoints.userListSubscriptions, listOwnerScreenName, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -740,8 +647,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<UserList> getAllUserLists(String screenName)
             throws TwitterException {
-        return UserListJSONImpl.createUserListList(get(conf.getRestBaseURL()
-                + "lists/all.json?screen_name=" + screenName), conf);
+        return UserListJSONImpl.createUserListList(get(endpoints.listsAll, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -749,8 +655,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<UserList> getAllUserLists(long userId)
             throws TwitterException {
-        return UserListJSONImpl.createUserListList(get(conf.getRestBaseURL()
-                + "lists/all.json?user_id=" + userId), conf);
+        return UserListJSONImpl.createUserListList(get(endpoints.listsAll, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /*List Members Methods*/
@@ -761,9 +666,7 @@ class TwitterImpl extends TwitterBaseImpl
     public PagableResponseList<User> getUserListMembers(String listOwnerScreenName, int listId
             , long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL() +
-                listOwnerScreenName + "/" + listId + "/members.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.userListMembers, listOwnerScreenName, listId, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -772,9 +675,7 @@ class TwitterImpl extends TwitterBaseImpl
     public PagableResponseList<User> getUserListMembers(long listOwnerId, int listId
             , long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL() +
-                listOwnerId + "/" + listId + "/members.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.userListMembers, listOwnerId, listId, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -782,8 +683,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList addUserListMember(int listId, long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + getScreenName() +
-                "/" + listId + "/members.json?id=" + userId), conf);
+        return new UserListJSONImpl(post(endpoints.userListMembersUpdate, getScreenName(), listId, new HttpParameter[]{new HttpParameter("id", userId)}), conf);
     }
 
     /**
@@ -791,8 +691,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList addUserListMembers(int listId, long[] userIds) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + getScreenName() +
-                "/" + listId + "/members/create_all.json?user_id=" + T4JInternalStringUtil.join(userIds)), conf);
+        return new UserListJSONImpl(post(endpoints.userListMembersCreateAll, getScreenName(), listId, new HttpParameter[]{new HttpParameter("user_id", T4JInternalStringUtil.join(userIds))}), conf);
     }
 
     /**
@@ -800,8 +699,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList addUserListMembers(int listId, String[] screenNames) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + getScreenName() +
-                "/" + listId + "/members/create_all.json?screen_name=" + T4JInternalStringUtil.join(screenNames)), conf);
+        return new UserListJSONImpl(post(endpoints.userListMembersCreateAll, getScreenName(), listId, new HttpParameter[]{new HttpParameter("screen_name", T4JInternalStringUtil.join(screenNames))}), conf);
     }
 
     /**
@@ -809,8 +707,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList deleteUserListMember(int listId, long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(delete(conf.getRestBaseURL() + getScreenName() +
-                "/" + listId + "/members.json?id=" + userId), conf);
+        return new UserListJSONImpl(delete(endpoints.userListMembersUpdate, getScreenName(), listId, new HttpParameter[]{new HttpParameter("id", userId)}), conf);
     }
 
     /**
@@ -818,9 +715,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User checkUserListMembership(String listOwnerScreenName, int listId, long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(get(conf.getRestBaseURL() + listOwnerScreenName + "/" + listId
-                + "/members/" + userId + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new UserJSONImpl(get(endpoints.userListMember, listOwnerScreenName, listId, userId), conf);
     }
 
     /*List Subscribers Methods*/
@@ -831,9 +726,7 @@ class TwitterImpl extends TwitterBaseImpl
     public PagableResponseList<User> getUserListSubscribers(String listOwnerScreenName
             , int listId, long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createPagableUserList(get(conf.getRestBaseURL() +
-                listOwnerScreenName + "/" + listId + "/subscribers.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&cursor=" + cursor), conf);
+        return UserJSONImpl.createPagableUserList(get(endpoints.userListSubscribers, listOwnerScreenName, listId, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -841,8 +734,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList subscribeUserList(String listOwnerScreenName, int listId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(post(conf.getRestBaseURL() + listOwnerScreenName +
-                "/" + listId + "/subscribers.json"), conf);
+        return new UserListJSONImpl(post(endpoints.userListSubscribersUpdate, listOwnerScreenName, listId), conf);
     }
 
     /**
@@ -850,8 +742,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public UserList unsubscribeUserList(String listOwnerScreenName, int listId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserListJSONImpl(delete(conf.getRestBaseURL() + listOwnerScreenName +
-                "/" + listId + "/subscribers.json?id=" + getId()), conf);
+        return new UserListJSONImpl(delete(endpoints.userListSubscribersUpdate, listOwnerScreenName, listId, new HttpParameter[]{new HttpParameter("id", getId())}), conf);
     }
 
     /**
@@ -859,9 +750,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User checkUserListSubscription(String listOwnerScreenName, int listId, long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(get(conf.getRestBaseURL() + listOwnerScreenName + "/" + listId
-                + "/subscribers/" + userId + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new UserJSONImpl(get(endpoints.userListSubscriber, listOwnerScreenName, listId, userId), conf);
     }
 
     /*Direct Message Methods */
@@ -871,9 +760,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<DirectMessage> getDirectMessages() throws TwitterException {
         ensureAuthorizationEnabled();
-        return DirectMessageJSONImpl.createDirectMessageList(get(conf.getRestBaseURL()
-                + "direct_messages.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return DirectMessageJSONImpl.createDirectMessageList(get(endpoints.directMessages), conf);
     }
 
     /**
@@ -881,9 +768,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<DirectMessage> getDirectMessages(Paging paging) throws TwitterException {
         ensureAuthorizationEnabled();
-        return DirectMessageJSONImpl.createDirectMessageList(get(conf.getRestBaseURL()
-                + "direct_messages.json", mergeParameters(paging.asPostParameterArray()
-                , INCLUDE_ENTITIES)), conf);
+        return DirectMessageJSONImpl.createDirectMessageList(get(endpoints.directMessages, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -892,9 +777,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<DirectMessage> getSentDirectMessages() throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return DirectMessageJSONImpl.createDirectMessageList(get(conf.getRestBaseURL() +
-                "direct_messages/sent.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return DirectMessageJSONImpl.createDirectMessageList(get(endpoints.directMessagesSent), conf);
     }
 
     /**
@@ -903,9 +786,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<DirectMessage> getSentDirectMessages(Paging paging) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return DirectMessageJSONImpl.createDirectMessageList(get(conf.getRestBaseURL() +
-                "direct_messages/sent.json", mergeParameters(paging.asPostParameterArray()
-                , INCLUDE_ENTITIES)), conf);
+        return DirectMessageJSONImpl.createDirectMessageList(get(endpoints.directMessagesSent, paging.asPostParameterArray()), conf);
     }
 
     /**
@@ -913,10 +794,8 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public DirectMessage sendDirectMessage(String screenName, String text) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new DirectMessageJSONImpl(post(conf.getRestBaseURL() + "direct_messages/new.json",
-                new HttpParameter[]{new HttpParameter("screen_name", screenName)
-                        , new HttpParameter("text", text)
-                        , INCLUDE_ENTITIES}), conf);
+        return new DirectMessageJSONImpl(post(endpoints.directMessagesNew, new HttpParameter[]{new HttpParameter("screen_name", screenName)
+                        , new HttpParameter("text", text)}), conf);
     }
 
     /**
@@ -925,10 +804,8 @@ class TwitterImpl extends TwitterBaseImpl
     public DirectMessage sendDirectMessage(long userId, String text)
             throws TwitterException {
         ensureAuthorizationEnabled();
-        return new DirectMessageJSONImpl(post(conf.getRestBaseURL() + "direct_messages/new.json",
-                new HttpParameter[]{new HttpParameter("user_id", userId),
-                        new HttpParameter("text", text)
-                        , INCLUDE_ENTITIES}), conf);
+        return new DirectMessageJSONImpl(post(endpoints.directMessagesNew, new HttpParameter[]{new HttpParameter("user_id", userId),
+                        new HttpParameter("text", text)}), conf);
     }
 
     /**
@@ -937,9 +814,7 @@ class TwitterImpl extends TwitterBaseImpl
     public DirectMessage destroyDirectMessage(long id) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return new DirectMessageJSONImpl(post(conf.getRestBaseURL() +
-                "direct_messages/destroy/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new DirectMessageJSONImpl(post(endpoints.directMessagesDestroy, id), conf);
     }
 
     /**
@@ -947,9 +822,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public DirectMessage showDirectMessage(long id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new DirectMessageJSONImpl(get(conf.getRestBaseURL()
-                + "direct_messages/show/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new DirectMessageJSONImpl(get(endpoints.directMessagesShow, id), conf);
     }
 
     /**
@@ -957,8 +830,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createFriendship(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsCreate, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -966,8 +838,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createFriendship(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsCreate, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -975,8 +846,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createFriendship(String screenName, boolean follow) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName + "&follow=" + follow), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsCreate, new HttpParameter[]{new HttpParameter("screen_name", screenName), new HttpParameter("follow", follow)}), conf);
     }
 
     /**
@@ -984,8 +854,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createFriendship(long userId, boolean follow) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId + "&follow=" + follow), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsCreate, new HttpParameter[]{new HttpParameter("user_id", userId), new HttpParameter("follow", follow)}), conf);
     }
 
     /**
@@ -993,8 +862,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User destroyFriendship(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/destroy.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsDestroy, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -1002,16 +870,14 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User destroyFriendship(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "friendships/destroy.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.friendshipsDestroy, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public boolean existsFriendship(String userA, String userB) throws TwitterException {
-        return -1 != get(conf.getRestBaseURL() + "friendships/exists.json",
-                getParameterArray("user_a", userA, "user_b", userB)).
+        return -1 != get(endpoints.friendshipsExists, getParameterArray("user_a", userA, "user_b", userB)).
                 asString().indexOf("true");
     }
 
@@ -1019,8 +885,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public Relationship showFriendship(String sourceScreenName, String targetScreenName) throws TwitterException {
-        return new RelationshipJSONImpl(get(conf.getRestBaseURL() + "friendships/show.json",
-                getParameterArray("source_screen_name", sourceScreenName,
+        return new RelationshipJSONImpl(get(endpoints.friendshipsShow, getParameterArray("source_screen_name", sourceScreenName,
                         "target_screen_name", targetScreenName)), conf);
     }
 
@@ -1028,8 +893,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public Relationship showFriendship(long sourceId, long targetId) throws TwitterException {
-        return new RelationshipJSONImpl(get(conf.getRestBaseURL() + "friendships/show.json",
-                new HttpParameter[]{
+        return new RelationshipJSONImpl(get(endpoints.friendshipsShow, new HttpParameter[]{
                         new HttpParameter("source_id", sourceId),
                         new HttpParameter("target_id", targetId)}), conf);
     }
@@ -1039,7 +903,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public IDs getIncomingFriendships(long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friendships/incoming.json?cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.friendshipsIncoming, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -1047,7 +911,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public IDs getOutgoingFriendships(long cursor) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friendships/outgoing.json?cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.friendshipsOutgoing, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -1055,7 +919,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Friendship> lookupFriendships(String[] screenNames) throws TwitterException {
         ensureAuthorizationEnabled();
-        return FriendshipJSONImpl.createFriendshipList(get(conf.getRestBaseURL() + "friendships/lookup.json?screen_name=" + T4JInternalStringUtil.join(screenNames)), conf);
+        return FriendshipJSONImpl.createFriendshipList(get(endpoints.friendshipsLookup, new HttpParameter[]{new HttpParameter("screen_name", T4JInternalStringUtil.join(screenNames))}), conf);
     }
 
     /**
@@ -1063,7 +927,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Friendship> lookupFriendships(long[] ids) throws TwitterException {
         ensureAuthorizationEnabled();
-        return FriendshipJSONImpl.createFriendshipList(get(conf.getRestBaseURL() + "friendships/lookup.json?user_id=" + T4JInternalStringUtil.join(ids)), conf);
+        return FriendshipJSONImpl.createFriendshipList(get(endpoints.friendshipsLookup, new HttpParameter[]{new HttpParameter("user_id", T4JInternalStringUtil.join(ids))}), conf);
     }
 
     /**
@@ -1072,8 +936,7 @@ class TwitterImpl extends TwitterBaseImpl
     public Relationship updateFriendship(String screenName, boolean enableDeviceNotification
             , boolean retweets) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new RelationshipJSONImpl(post(conf.getRestBaseURL() + "friendships/update.json",
-                new HttpParameter[]{
+        return new RelationshipJSONImpl(post(endpoints.friendshipsUpdate, new HttpParameter[]{
                         new HttpParameter("screen_name", screenName),
                         new HttpParameter("device", enableDeviceNotification),
                         new HttpParameter("retweets", enableDeviceNotification)
@@ -1086,8 +949,7 @@ class TwitterImpl extends TwitterBaseImpl
     public Relationship updateFriendship(long userId, boolean enableDeviceNotification
             , boolean retweets) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new RelationshipJSONImpl(post(conf.getRestBaseURL() + "friendships/update.json",
-                new HttpParameter[]{
+        return new RelationshipJSONImpl(post(endpoints.friendshipsUpdate, new HttpParameter[]{
                         new HttpParameter("user_id", userId),
                         new HttpParameter("device", enableDeviceNotification),
                         new HttpParameter("retweets", enableDeviceNotification)
@@ -1099,7 +961,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public IDs getNoRetweetIds() throws TwitterException {
         ensureAuthorizationEnabled();
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friendships/no_retweet_ids.json"), conf);
+        return new IDsJSONImpl(get(endpoints.friendshipsNoRetweetIds), conf);
     }
 
     /* Social Graph Methods */
@@ -1108,47 +970,42 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public IDs getFriendsIDs(long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friends/ids.json?cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.friendsIds, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public IDs getFriendsIDs(long userId, long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friends/ids.json?user_id=" + userId +
-                "&cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.friendsIds, new HttpParameter[]{new HttpParameter("user_id", userId), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public IDs getFriendsIDs(String screenName, long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "friends/ids.json?screen_name=" + screenName
-                + "&cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.friendsIds, new HttpParameter[]{new HttpParameter("screen_name", screenName), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public IDs getFollowersIDs(long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "followers/ids.json?cursor=" + cursor
-        ), conf);
+        return new IDsJSONImpl(get(endpoints.followersIds, new HttpParameter[]{new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public IDs getFollowersIDs(long userId, long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "followers/ids.json?user_id=" + userId
-                + "&cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.followersIds, new HttpParameter[]{new HttpParameter("user_id", userId), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public IDs getFollowersIDs(String screenName, long cursor) throws TwitterException {
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "followers/ids.json?screen_name="
-                + screenName + "&cursor=" + cursor), conf);
+        return new IDsJSONImpl(get(endpoints.followersIds, new HttpParameter[]{new HttpParameter("screen_name", screenName), new HttpParameter("cursor", cursor)}), conf);
     }
 
     /**
@@ -1162,7 +1019,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public RateLimitStatus getRateLimitStatus() throws TwitterException {
-        return new RateLimitStatusJSONImpl(get(conf.getRestBaseURL() + "account/rate_limit_status.json"), conf);
+        return new RateLimitStatusJSONImpl(get(endpoints.accountRateLimitStatus), conf);
     }
 
     /**
@@ -1177,8 +1034,7 @@ class TwitterImpl extends TwitterBaseImpl
         addParameterToList(profile, "location", location);
         addParameterToList(profile, "description", description);
         profile.add(INCLUDE_ENTITIES);
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "account/update_profile.json"
-                , profile.toArray(new HttpParameter[profile.size()])), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfile, profile.toArray(new HttpParameter[profile.size()])), conf);
     }
 
     /**
@@ -1186,7 +1042,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public AccountTotals getAccountTotals() throws TwitterException {
         ensureAuthorizationEnabled();
-        return new AccountTotalsJSONImpl(get(conf.getRestBaseURL() + "account/totals.json"), conf);
+        return new AccountTotalsJSONImpl(get(endpoints.accountTotals), conf);
     }
 
     /**
@@ -1194,7 +1050,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public AccountSettings getAccountSettings() throws TwitterException {
         ensureAuthorizationEnabled();
-        return new AccountSettingsJSONImpl(get(conf.getRestBaseURL() + "account/settings.json"), conf);
+        return new AccountSettingsJSONImpl(get(endpoints.accountSettings), conf);
     }
 
     /**
@@ -1220,9 +1076,7 @@ class TwitterImpl extends TwitterBaseImpl
         addParameterToList(colors, "profile_sidebar_border_color"
                 , profileSidebarBorderColor);
         colors.add(INCLUDE_ENTITIES);
-        return new UserJSONImpl(post(conf.getRestBaseURL() +
-                "account/update_profile_colors.json",
-                colors.toArray(new HttpParameter[colors.size()])), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfileColors, colors.toArray(new HttpParameter[colors.size()])), conf);
     }
 
     private void addParameterToList(List<HttpParameter> colors,
@@ -1238,10 +1092,7 @@ class TwitterImpl extends TwitterBaseImpl
     public User updateProfileImage(File image) throws TwitterException {
         checkFileValidity(image);
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL()
-                + "account/update_profile_image.json"
-                , new HttpParameter[]{new HttpParameter("image", image)
-                        , INCLUDE_ENTITIES}), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfileImage, new HttpParameter[]{new HttpParameter("image", image)}), conf);
     }
 
     /**
@@ -1249,10 +1100,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User updateProfileImage(InputStream image) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL()
-                + "account/update_profile_image.json"
-                , new HttpParameter[]{new HttpParameter("image", "image", image)
-                        , INCLUDE_ENTITIES}), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfileImage, new HttpParameter[]{new HttpParameter("image", "image", image)}), conf);
     }
 
     /**
@@ -1262,11 +1110,8 @@ class TwitterImpl extends TwitterBaseImpl
             throws TwitterException {
         ensureAuthorizationEnabled();
         checkFileValidity(image);
-        return new UserJSONImpl(post(conf.getRestBaseURL()
-                + "account/update_profile_background_image.json",
-                new HttpParameter[]{new HttpParameter("image", image)
-                        , new HttpParameter("tile", tile)
-                        , INCLUDE_ENTITIES}), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfileBackgroundImage, new HttpParameter[]{new HttpParameter("image", image)
+                        , new HttpParameter("tile", tile)}), conf);
     }
 
     /**
@@ -1275,11 +1120,8 @@ class TwitterImpl extends TwitterBaseImpl
     public User updateProfileBackgroundImage(InputStream image, boolean tile)
             throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL()
-                + "account/update_profile_background_image.json",
-                new HttpParameter[]{new HttpParameter("image", "image", image)
-                        , new HttpParameter("tile", tile)
-                        , INCLUDE_ENTITIES}), conf);
+        return new UserJSONImpl(post(endpoints.accountUpdateProfileBackgroundImage, new HttpParameter[]{new HttpParameter("image", "image", image)
+                        , new HttpParameter("tile", tile)}), conf);
     }
 
     /**
@@ -1305,9 +1147,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getFavorites() throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "favorites.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.favorites), conf);
     }
 
     /**
@@ -1315,9 +1155,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getFavorites(int page) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() + "favorites.json"
-                , new HttpParameter[]{new HttpParameter("page", page)
-                        , INCLUDE_ENTITIES}), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.favorites, new HttpParameter[]{new HttpParameter("page", page)}), conf);
     }
 
     /**
@@ -1325,9 +1163,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getFavorites(String id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL()
-                + "favorites/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.favoritesUser, id), conf);
     }
 
     /**
@@ -1335,9 +1171,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Status> getFavorites(String id, int page) throws TwitterException {
         ensureAuthorizationEnabled();
-        return StatusJSONImpl.createStatusList(get(conf.getRestBaseURL() + "favorites/" + id + ".json",
-                mergeParameters(getParameterArray("page", page)
-                        , INCLUDE_ENTITIES)), conf);
+        return StatusJSONImpl.createStatusList(get(endpoints.favoritesUser, id, getParameterArray("page", page)), conf);
     }
 
     /**
@@ -1345,8 +1179,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status createFavorite(long id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL() + "favorites/create/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new StatusJSONImpl(post(endpoints.favoritesCreate, id), conf);
     }
 
     /**
@@ -1354,8 +1187,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public Status destroyFavorite(long id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new StatusJSONImpl(post(conf.getRestBaseURL() + "favorites/destroy/" + id + ".json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return new StatusJSONImpl(post(endpoints.favoritesDestroy, id), conf);
     }
 
     /**
@@ -1363,8 +1195,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User enableNotification(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "notifications/follow.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.notificationsFollow, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -1372,8 +1203,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User enableNotification(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "notifications/follow.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.notificationsFollow, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -1381,8 +1211,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User disableNotification(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "notifications/leave.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.notificationsLeave, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -1390,8 +1219,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User disableNotification(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "notifications/leave.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.notificationsLeave, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /* Block Methods */
@@ -1401,8 +1229,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createBlock(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "blocks/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.blocksCreate, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /**
@@ -1410,8 +1237,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User createBlock(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "blocks/create.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.blocksCreate, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -1419,8 +1245,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User destroyBlock(String screen_name) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "blocks/destroy.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screen_name), conf);
+        return new UserJSONImpl(post(endpoints.blocksDestroy, new HttpParameter[]{new HttpParameter("screen_name", screen_name)}), conf);
     }
 
     /**
@@ -1428,8 +1253,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User destroyBlock(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "blocks/destroy.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.blocksDestroy, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -1438,7 +1262,7 @@ class TwitterImpl extends TwitterBaseImpl
     public boolean existsBlock(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return -1 == get(conf.getRestBaseURL() + "blocks/exists.json?screen_name=" + screenName).
+            return -1 == get(endpoints.blocksExists, new HttpParameter[]{new HttpParameter("screen_name", screenName)}).
                     asString().indexOf("You are not blocking this user.");
         } catch (TwitterException te) {
             if (te.getStatusCode() == 404) {
@@ -1454,7 +1278,7 @@ class TwitterImpl extends TwitterBaseImpl
     public boolean existsBlock(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return -1 == get(conf.getRestBaseURL() + "blocks/exists.json?user_id=" + userId).
+            return -1 == get(endpoints.blocksExists, new HttpParameter[]{new HttpParameter("user_id", userId)}).
                     asString().indexOf("<error>You are not blocking this user.</error>");
         } catch (TwitterException te) {
             if (te.getStatusCode() == 404) {
@@ -1470,9 +1294,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<User> getBlockingUsers() throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL() +
-                "blocks/blocking.json?include_entities="
-                + conf.isIncludeEntitiesEnabled()), conf);
+        return UserJSONImpl.createUserList(get(endpoints.blocksBlocking), conf);
     }
 
     /**
@@ -1481,9 +1303,7 @@ class TwitterImpl extends TwitterBaseImpl
     public ResponseList<User> getBlockingUsers(int page) throws
             TwitterException {
         ensureAuthorizationEnabled();
-        return UserJSONImpl.createUserList(get(conf.getRestBaseURL() +
-                "blocks/blocking.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&page=" + page), conf);
+        return UserJSONImpl.createUserList(get(endpoints.blocksBlocking, new HttpParameter[]{new HttpParameter("page", page)}), conf);
     }
 
     /**
@@ -1491,7 +1311,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public IDs getBlockingUsersIDs() throws TwitterException {
         ensureAuthorizationEnabled();
-        return new IDsJSONImpl(get(conf.getRestBaseURL() + "blocks/blocking/ids.json"), conf);
+        return new IDsJSONImpl(get(endpoints.blocksBlockingIds), conf);
     }
 
     /* Spam Reporting Methods */
@@ -1501,8 +1321,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User reportSpam(long userId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "report_spam.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&user_id=" + userId), conf);
+        return new UserJSONImpl(post(endpoints.reportSpam, new HttpParameter[]{new HttpParameter("user_id", userId)}), conf);
     }
 
     /**
@@ -1510,8 +1329,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public User reportSpam(String screenName) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new UserJSONImpl(post(conf.getRestBaseURL() + "report_spam.json?include_entities="
-                + conf.isIncludeEntitiesEnabled() + "&screen_name=" + screenName), conf);
+        return new UserJSONImpl(post(endpoints.reportSpam, new HttpParameter[]{new HttpParameter("screen_name", screenName)}), conf);
     }
 
     /* Saved Searches Methods */
@@ -1521,7 +1339,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public List<SavedSearch> getSavedSearches() throws TwitterException {
         ensureAuthorizationEnabled();
-        return SavedSearchJSONImpl.createSavedSearchList(get(conf.getRestBaseURL() + "saved_searches.json"), conf);
+        return SavedSearchJSONImpl.createSavedSearchList(get(endpoints.savedSearches), conf);
     }
 
     /**
@@ -1529,8 +1347,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public SavedSearch showSavedSearch(int id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new SavedSearchJSONImpl(get(conf.getRestBaseURL() + "saved_searches/show/" + id
-                + ".json"), conf);
+        return new SavedSearchJSONImpl(get(endpoints.savedSearchesShow, id), conf);
     }
 
     /**
@@ -1538,8 +1355,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public SavedSearch createSavedSearch(String query) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new SavedSearchJSONImpl(post(conf.getRestBaseURL() + "saved_searches/create.json"
-                , new HttpParameter[]{new HttpParameter("query", query)}), conf);
+        return new SavedSearchJSONImpl(post(endpoints.savedSearchesCreate, new HttpParameter[]{new HttpParameter("query", query)}), conf);
     }
 
     /**
@@ -1547,8 +1363,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public SavedSearch destroySavedSearch(int id) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new SavedSearchJSONImpl(post(conf.getRestBaseURL()
-                + "saved_searches/destroy/" + id + ".json"), conf);
+        return new SavedSearchJSONImpl(post(endpoints.savedSearchesDestroy, id), conf);
     }
     /* Local Trends Methods */
 
@@ -1556,17 +1371,14 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public ResponseList<Location> getAvailableTrends() throws TwitterException {
-        return LocationJSONImpl.createLocationList(get(conf.getRestBaseURL()
-                + "trends/available.json"), conf);
+        return LocationJSONImpl.createLocationList(get(endpoints.trendsAvailable), conf);
     }
 
     /**
      * {@inheritDoc}
      */
     public ResponseList<Location> getAvailableTrends(GeoLocation location) throws TwitterException {
-        return LocationJSONImpl.createLocationList(get(conf.getRestBaseURL()
-                + "trends/available.json",
-                new HttpParameter[]{new HttpParameter("lat", location.getLatitude())
+        return LocationJSONImpl.createLocationList(get(endpoints.trendsAvailable, new HttpParameter[]{new HttpParameter("lat", location.getLatitude())
                         , new HttpParameter("long", location.getLongitude())
                 }), conf);
     }
@@ -1575,8 +1387,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public Trends getLocationTrends(int woeid) throws TwitterException {
-        return new TrendsJSONImpl(get(conf.getRestBaseURL()
-                + "trends/" + woeid + ".json"), conf);
+        return new TrendsJSONImpl(get(endpoints.trendsLocation, woeid), conf);
     }
 
     /* Geo Methods */
@@ -1586,8 +1397,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Place> searchPlaces(GeoQuery query) throws TwitterException {
         try {
-            return PlaceJSONImpl.createPlaceList(get(conf.getRestBaseURL()
-                    + "geo/search.json", query.asHttpParameterArray()), conf);
+            return PlaceJSONImpl.createPlaceList(get(endpoints.geoSearch, query.asHttpParameterArray()), conf);
         } catch (TwitterException te) {
             if (te.getStatusCode() == 404) {
                 return new ResponseListImpl<Place>(0, null);
@@ -1611,8 +1421,7 @@ class TwitterImpl extends TwitterBaseImpl
         if (null != streetAddress) {
             params.add(new HttpParameter("attribute:street_address", streetAddress));
         }
-        return SimilarPlacesImpl.createSimilarPlaces(get(conf.getRestBaseURL()
-                + "geo/similar_places.json", params.toArray(new HttpParameter[params.size()])), conf);
+        return SimilarPlacesImpl.createSimilarPlaces(get(endpoints.geoSimilarPlaces, params.toArray(new HttpParameter[params.size()])), conf);
     }
 
     /**
@@ -1620,8 +1429,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public ResponseList<Place> reverseGeoCode(GeoQuery query) throws TwitterException {
         try {
-            return PlaceJSONImpl.createPlaceList(get(conf.getRestBaseURL()
-                    + "geo/reverse_geocode.json", query.asHttpParameterArray()), conf);
+            return PlaceJSONImpl.createPlaceList(get(endpoints.geoReverseGeocode, query.asHttpParameterArray()), conf);
         } catch (TwitterException te) {
             if (te.getStatusCode() == 404) {
                 return new ResponseListImpl<Place>(0, null);
@@ -1635,8 +1443,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public Place getGeoDetails(String id) throws TwitterException {
-        return new PlaceJSONImpl(get(conf.getRestBaseURL() + "geo/id/" + id
-                + ".json"), conf);
+        return new PlaceJSONImpl(get(endpoints.geoId, id), conf);
     }
 
     /**
@@ -1653,8 +1460,7 @@ class TwitterImpl extends TwitterBaseImpl
         if (null != streetAddress) {
             params.add(new HttpParameter("attribute:street_address", streetAddress));
         }
-        return new PlaceJSONImpl(post(conf.getRestBaseURL() + "geo/place.json"
-                , params.toArray(new HttpParameter[params.size()])), conf);
+        return new PlaceJSONImpl(post(endpoints.geoPlace, params.toArray(new HttpParameter[params.size()])), conf);
     }
 
     /* Legal Resources */
@@ -1664,7 +1470,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public String getTermsOfService() throws TwitterException {
         try {
-            return get(conf.getRestBaseURL() + "legal/tos.json").asJSONObject().getString("tos");
+            return get(endpoints.legalTos).asJSONObject().getString("tos");
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -1675,7 +1481,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public String getPrivacyPolicy() throws TwitterException {
         try {
-            return get(conf.getRestBaseURL() + "legal/privacy.json").asJSONObject().getString("privacy");
+            return get(endpoints.legalPrivacy).asJSONObject().getString("privacy");
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -1688,8 +1494,7 @@ class TwitterImpl extends TwitterBaseImpl
      */
     public RelatedResults getRelatedResults(long statusId) throws TwitterException {
         ensureAuthorizationEnabled();
-        return new RelatedResultsJSONImpl(get(conf.getRestBaseURL() + "related_results/show/"
-                + Long.toString(statusId) + ".json"), conf);
+        return new RelatedResultsJSONImpl(get(endpoints.relatedResultsShow, Long.toString(statusId)), conf);
     }
 
     /* Help Methods */
@@ -1698,7 +1503,7 @@ class TwitterImpl extends TwitterBaseImpl
      * {@inheritDoc}
      */
     public boolean test() throws TwitterException {
-        return -1 != get(conf.getRestBaseURL() + "help/test.json").
+        return -1 != get(endpoints.helpTest).
                 asString().indexOf("ok");
     }
 
@@ -1711,93 +1516,91 @@ class TwitterImpl extends TwitterBaseImpl
         TwitterImpl twitter = (TwitterImpl) o;
 
         if (!INCLUDE_ENTITIES.equals(twitter.INCLUDE_ENTITIES)) return false;
-        if (!INCLUDE_RTS.equals(twitter.INCLUDE_RTS)) return false;
 
         return true;
     }
 
-    private HttpResponse get(String url) throws TwitterException {
-        if (!conf.isMBeanEnabled()) {
-            return http.get(url, auth);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.get(url, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
-            }
-            return response;
-        }
+    private HttpResponse get(Endpoint endpoint) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(), null);
     }
 
-    private HttpResponse get(String url, HttpParameter[] parameters) throws TwitterException {
-        if (!conf.isMBeanEnabled()) {
-            return http.get(url, parameters, auth);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.get(url, parameters, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
-            }
-            return response;
-        }
+    private HttpResponse get(Endpoint endpoint, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(), parameters);
     }
 
-    private HttpResponse post(String url) throws TwitterException {
-        if (!conf.isMBeanEnabled()) {
-            return http.post(url, auth);
-        } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.post(url, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
-            }
-            return response;
-        }
+    private HttpResponse get(Endpoint endpoint, Object param) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(param), null);
+    }
+
+    private HttpResponse get(Endpoint endpoint, Object param, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(param), parameters);
+    }
+
+    private HttpResponse get(Endpoint endpoint, Object param1, Object param2) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(param1, param2), null);
+    }
+
+    private HttpResponse get(Endpoint endpoint, Object param1, Object param2, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(param1, param2), parameters);
+    }
+
+    private HttpResponse get(Endpoint endpoint, Object param1, Object param2, Object param3) throws TwitterException {
+        return request(RequestMethod.GET, endpoint, endpoint.url(param1, param2, param3), null);
     }
 
-    private HttpResponse post(String url, HttpParameter[] parameters) throws TwitterException {
+    private HttpResponse post(Endpoint endpoint, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.POST, endpoint, endpoint.url(), parameters);
+    }
+
+    private HttpResponse post(Endpoint endpoint, Object param) throws TwitterException {
+        return request(RequestMethod.POST, endpoint, endpoint.url(param), null);
+    }
+
+    private HttpResponse post(Endpoint endpoint, Object param, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.POST, endpoint, endpoint.url(param), parameters);
+    }
+
+    private HttpResponse post(Endpoint endpoint, Object param1, Object param2) throws TwitterException {
+        return request(RequestMethod.POST, endpoint, endpoint.url(param1, param2), null);
+    }
+
+    private HttpResponse post(Endpoint endpoint, Object param1, Object param2, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.POST, endpoint, endpoint.url(param1, param2), parameters);
+    }
+
+    private HttpResponse delete(Endpoint endpoint, Object param1, Object param2) throws TwitterException {
+        return request(RequestMethod.DELETE, endpoint, endpoint.url(param1, param2), null);
+    }
+
+    private HttpResponse delete(Endpoint endpoint, Object param1, Object param2, HttpParameter[] parameters) throws TwitterException {
+        return request(RequestMethod.DELETE, endpoint, endpoint.url(param1, param2), parameters);
+    }
+
+    private HttpResponse request(RequestMethod method, Endpoint endpoint, String url, HttpParameter[] parameters)
+            throws TwitterException {
         if (!conf.isMBeanEnabled()) {
-            return http.post(url, parameters, auth);
+            return send(method, url, parameters);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
             long start = System.currentTimeMillis();
             try {
-                response = http.post(url, parameters, auth);
+                response = send(method, url, parameters);
             } finally {
                 long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                TwitterAPIMonitor.getInstance().methodCalled(endpoint, elapsedTime, isOk(response));
             }
             return response;
         }
     }
 
-    private HttpResponse delete(String url) throws TwitterException {
-        if (!conf.isMBeanEnabled()) {
-            return http.delete(url, auth);
+    private HttpResponse send(RequestMethod method, String url, HttpParameter[] parameters) throws TwitterException {
+        if (RequestMethod.POST == method) {
+            return http.post(url, parameters, auth);
+        } else if (RequestMethod.DELETE == method) {
+            return http.delete(url, parameters, auth);
         } else {
-            // intercept HTTP call for monitoring purposes
-            HttpResponse response = null;
-            long start = System.currentTimeMillis();
-            try {
-                response = http.delete(url, auth);
-            } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
-            }
-            return response;
+            return http.get(url, parameters, auth);
         }
     }
 
@@ -1809,7 +1612,6 @@ class TwitterImpl extends TwitterBaseImpl
     public int hashCode() {
         int result = super.hashCode();
         result = 31 * result + INCLUDE_ENTITIES.hashCode();
-        result = 31 * result + INCLUDE_RTS.hashCode();
         return result;
     }
 
@@ -1817,7 +1619,7 @@ class TwitterImpl extends TwitterBaseImpl
     public String toString() {
         return "TwitterImpl{" +
                 "INCLUDE_ENTITIES=" + INCLUDE_ENTITIES +
-                ", INCLUDE_RTS=" + INCLUDE_RTS +
+                ", endpoints=" + endpoints +
                 '}';
     }
 }
@@ -17,6 +17,8 @@
 package twitter4j;
 
 import twitter4j.internal.http.HttpResponse;
+import twitter4j.internal.json.RawJSON;
+import twitter4j.internal.json.RawJSONHolder;
 
 
 /**
@@ -27,9 +29,10 @@ import twitter4j.internal.http.HttpResponse;
  * @see twitter4j.Status
  * @see twitter4j.User
  */
-/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, java.io.Serializable {
+/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, RawJSONHolder, java.io.Serializable {
 
     private transient RateLimitStatus rateLimitStatus = null;
+    private transient RawJSON rawJSON = null;
     private static final long serialVersionUID = -7284708239736552059L;
 
     public TwitterResponseImpl() {
@@ -45,4 +48,15 @@ import twitter4j.internal.http.HttpResponse;
     public RateLimitStatus getRateLimitStatus() {
         return rateLimitStatus;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawJSON getRawJSON() {
+        return rawJSON;
+    }
+
+    /*package*/ void setRawJSON(RawJSON rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
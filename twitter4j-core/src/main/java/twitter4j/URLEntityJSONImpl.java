@@ -17,9 +17,12 @@
 package twitter4j;
 
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.util.ParseUtil;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 
@@ -44,6 +47,37 @@ import java.net.URL;
         init(json);
     }
 
+    /* package */ URLEntityJSONImpl(JSONByteTokener x) throws TwitterException {
+        super();
+        init(x);
+    }
+
+    /* package */ URLEntityJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        start = in.readVarInt();
+        end = in.readVarInt();
+        url = 0 != (bits & 1) ? new URL(in.readString()) : null;
+        expandedURL = 0 != (bits & 1 << 1) ? new URL(in.readString()) : null;
+        displayURL = 0 != (bits & 1 << 2) ? in.readString() : null;
+    }
+
+    /* package */ static void write(URLEntity entity, DataObjectEncoder out) throws IOException {
+        out.writeUnsignedVarLong((null != entity.getURL() ? 1 : 0) | (null != entity.getExpandedURL() ? 1 << 1 : 0)
+                | (null != entity.getDisplayURL() ? 1 << 2 : 0));
+        out.writeVarInt(entity.getStart());
+        out.writeVarInt(entity.getEnd());
+        if (null != entity.getURL()) {
+            out.writeString(entity.getURL().toString());
+        }
+        if (null != entity.getExpandedURL()) {
+            out.writeString(entity.getExpandedURL().toString());
+        }
+        if (null != entity.getDisplayURL()) {
+            out.writeString(entity.getDisplayURL());
+        }
+    }
+
     private void init(JSONObject json) throws TwitterException {
         try {
             JSONArray indicesArray = json.getJSONArray("indices");
@@ -69,6 +103,51 @@ import java.net.URL;
         }
     }
 
+    private void init(JSONByteTokener x) throws TwitterException {
+        try {
+            boolean hasIndices = false;
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("indices")) {
+                    if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                        throw x.syntaxError("indices is not an array");
+                    }
+                    x.nextToken();
+                    this.start = (int) x.getLong();
+                    x.nextToken();
+                    this.end = (int) x.getLong();
+                    while (JSONByteTokener.END_ARRAY != x.nextToken()) {
+                        x.skipChildren();
+                    }
+                    hasIndices = true;
+                } else if (x.textEquals("url")) {
+                    this.url = toURL(ParseUtil.getRawString(x));
+                } else if (x.textEquals("expanded_url")) {
+                    this.expandedURL = toURL(ParseUtil.getRawString(x));
+                } else if (x.textEquals("display_url")) {
+                    this.displayURL = ParseUtil.getRawString(x);
+                } else {
+                    x.skipValue();
+                }
+            }
+            if (!hasIndices) {
+                throw x.syntaxError("JSONObject[\"indices\"] not found.");
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
+    private static URL toURL(String url) {
+        if (null == url) {
+            return null;
+        }
+        try {
+            return new URL(url);
+        } catch (MalformedURLException ignore) {
+            return null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
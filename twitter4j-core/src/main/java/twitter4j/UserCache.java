@@ -0,0 +1,210 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.conf.Configuration;
+import twitter4j.internal.json.RawJSON;
+import twitter4j.internal.logging.Logger;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONException;
+import twitter4j.management.UserCacheStatistics;
+import twitter4j.management.UserCacheStatisticsMBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded cache letting the same author appearing many times in a timeline or a stream share one User instance.<br>
+ * Users are keyed by id and carry the hash of the payload they have been parsed from, so a user whose profile or
+ * counts have changed since is parsed again. A hit costs a scan of the user object without decoding its strings.<br>
+ * Enabled with user.cacheSize. As a hit requires the very same payload, the caches are shared JVM wide by all the
+ * configurations with the same size, and the number of caches doesn't grow with the number of configurations. Users
+ * carrying their raw JSON are kept in caches of their own, with the raw JSON copied out of the response.<br>
+ * As a cache is shared by all the tenants and stream threads, it is split into stripes, each guarded by its own lock,
+ * the same way as StringPool. Each id hashes to a set of two slots within a stripe. A hit moves the user to the first
+ * slot and a new user replaces the less recently used of the two, so the cache never holds more than user.cacheSize
+ * users, rounded up to a power of two.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class UserCache {
+    private static final Logger logger = Logger.getLogger(UserCache.class);
+    private static final ConcurrentMap<Integer, UserCache> INSTANCES = new ConcurrentHashMap<Integer, UserCache>();
+    private static final ConcurrentMap<Integer, UserCache> RAW_INSTANCES = new ConcurrentHashMap<Integer, UserCache>();
+    private static final UserCacheStatistics STATISTICS = new UserCacheStatistics();
+
+    static {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            mbs.registerMBean(STATISTICS, new ObjectName("twitter4j.mbean:type=UserCacheStatistics"));
+        } catch (Exception e) {
+            logger.warn("Failed to register UserCacheStatistics MBean: ", e.getMessage());
+        }
+    }
+
+    /**
+     * @return the cache for the configuration, or null if the cache is disabled
+     */
+    static UserCache getInstance(Configuration conf) {
+        if (conf.getUserCacheSize() <= 0) {
+            return null;
+        }
+        ConcurrentMap<Integer, UserCache> instances = conf.isJSONStoreRawEnabled() ? RAW_INSTANCES : INSTANCES;
+        Integer size = conf.getUserCacheSize();
+        UserCache cache = instances.get(size);
+        if (null == cache) {
+            cache = new UserCache(size);
+            UserCache existing = instances.putIfAbsent(size, cache);
+            if (null != existing) {
+                cache = existing;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * @return JVM wide statistics of the user caches
+     */
+    static UserCacheStatisticsMBean getStatistics() {
+        return STATISTICS;
+    }
+
+    private static final int STRIPES = 16;
+
+    private final CachedUser[][] stripes;
+    private final int slotMask;
+
+    UserCache(int size) {
+        int slots = 2;
+        while (slots * STRIPES < size) {
+            slots <<= 1;
+        }
+        stripes = new CachedUser[STRIPES][slots];
+        slotMask = slots - 2;
+    }
+
+    private static final class CachedUser {
+        final long id;
+        final long version;
+        final User user;
+
+        CachedUser(long id, long version, User user) {
+            this.id = id;
+            this.version = version;
+            this.user = user;
+        }
+    }
+
+    /**
+     * Reads a user object, reusing the cached instance when the payload is the same as last time.
+     *
+     * @param x tokener positioned right after the START_OBJECT token of the user
+     * @return the user
+     * @throws TwitterException when the user object is malformed
+     */
+    User getUser(JSONByteTokener x) throws TwitterException {
+        int position = x.getPosition();
+        long id = -1;
+        try {
+            // look for the id, then jump to the end of the user object
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (!x.textEquals("id")) {
+                    x.skipValue();
+                } else {
+                    if (JSONByteTokener.NUMBER == x.nextToken()) {
+                        id = x.getLong();
+                    }
+                    x.skipChildren();
+                    x.skipToEndOfContainer();
+                    break;
+                }
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+        long version = x.hash(position);
+        int hash = (int) (id ^ (id >>> 32));
+        hash ^= hash >>> 16;
+        CachedUser[] stripe = stripes[hash & (STRIPES - 1)];
+        int slot = (hash >>> 4) & slotMask;
+        CachedUser entry;
+        synchronized (stripe) {
+            entry = stripe[slot];
+            if (null == entry || entry.id != id) {
+                entry = stripe[slot + 1];
+                if (null != entry && entry.id == id) {
+                    // the most recently used user goes first
+                    stripe[slot + 1] = stripe[slot];
+                    stripe[slot] = entry;
+                } else {
+                    entry = null;
+                }
+            }
+        }
+        if (null != entry && entry.version == version) {
+            STATISTICS.hit();
+            return entry.user;
+        }
+        if (null == entry) {
+            STATISTICS.missed();
+        } else {
+            STATISTICS.stale();
+        }
+        x.rewind(position);
+        UserJSONImpl user = new UserJSONImpl(x);
+        if (-1 != id) {
+            RawJSON rawJSON = user.getRawJSON();
+            if (null != rawJSON) {
+                // a slice would keep the whole response reachable for as long as the user is cached
+                user.setRawJSON(new RawJSON(rawJSON.toByteArray(), 0, rawJSON.length()));
+            }
+            CachedUser cached = new CachedUser(id, version, user);
+            synchronized (stripe) {
+                if (null != stripe[slot] && stripe[slot].id == id) {
+                    stripe[slot] = cached;
+                } else {
+                    if (null != stripe[slot + 1] && stripe[slot + 1].id != id) {
+                        STATISTICS.evicted();
+                    }
+                    stripe[slot + 1] = stripe[slot];
+                    stripe[slot] = cached;
+                }
+            }
+        }
+        return user;
+    }
+
+    /**
+     * @return number of cached users
+     */
+    int size() {
+        int size = 0;
+        for (CachedUser[] stripe : stripes) {
+            synchronized (stripe) {
+                for (CachedUser user : stripe) {
+                    if (null != user) {
+                        size++;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+}
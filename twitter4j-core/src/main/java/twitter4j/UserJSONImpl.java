@@ -19,13 +19,20 @@ package twitter4j;
 import twitter4j.conf.Configuration;
 import twitter4j.internal.http.HttpResponse;
 import twitter4j.internal.json.DataObjectFactoryUtil;
+import twitter4j.internal.json.RawJSON;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.org.json.StringPool;
 
+import java.io.IOException;
+import java.io.ObjectStreamException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import static twitter4j.internal.util.ParseUtil.getBoolean;
 import static twitter4j.internal.util.ParseUtil.getDate;
@@ -79,14 +86,24 @@ import static twitter4j.internal.util.ParseUtil.getRawString;
 
     /*package*/UserJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            try {
+                if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                    throw x.syntaxError("A JSONObject text must begin with '{'");
+                }
+            } catch (JSONException jsone) {
+                throw new TwitterException(jsone);
+            }
+            init(x);
+            return;
         }
+        DataObjectFactoryUtil.clearThreadLocalMap();
         JSONObject json = res.asJSONObject();
         init(json);
-        if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.registerJSONObject(this, json);
-        }
+        DataObjectFactoryUtil.registerJSONObject(this, json);
     }
 
     /*package*/UserJSONImpl(JSONObject json) throws TwitterException {
@@ -94,6 +111,27 @@ import static twitter4j.internal.util.ParseUtil.getRawString;
         init(json);
     }
 
+    /**
+     * Binds the fields of a user object directly from the token stream.
+     *
+     * @param x tokener positioned right after the START_OBJECT token of the user
+     * @throws TwitterException when the user object is malformed
+     */
+    /*package*/UserJSONImpl(JSONByteTokener x) throws TwitterException {
+        super();
+        init(x);
+    }
+
+    /**
+     * @param x         tokener positioned right after the START_OBJECT token of the user
+     * @param userCache cache to share repeated users through, or null
+     * @return the user
+     * @throws TwitterException when the user object is malformed
+     */
+    /*package*/ static User getInstance(JSONByteTokener x, UserCache userCache) throws TwitterException {
+        return null == userCache ? new UserJSONImpl(x) : userCache.getUser(x);
+    }
+
     private void init(JSONObject json) throws TwitterException {
         try {
             id = getLong("id", json);
@@ -137,10 +175,267 @@ import static twitter4j.internal.util.ParseUtil.getRawString;
         }
     }
 
+    private void init(JSONByteTokener x) throws TwitterException {
+        id = -1;
+        followersCount = -1;
+        friendsCount = -1;
+        favouritesCount = -1;
+        utcOffset = -1;
+        statusesCount = -1;
+        listedCount = -1;
+        int position = x.getPosition();
+        try {
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("id")) {
+                    id = getLong(x);
+                } else if (x.textEquals("name")) {
+                    name = getRawString(x);
+                } else if (x.textEquals("screen_name")) {
+                    screenName = getRawString(x);
+                } else if (x.textEquals("location")) {
+                    location = getRawString(x);
+                } else if (x.textEquals("description")) {
+                    description = getRawString(x);
+                } else if (x.textEquals("contributors_enabled")) {
+                    isContributorsEnabled = getBoolean(x);
+                } else if (x.textEquals("profile_image_url")) {
+                    profileImageUrl = getRawString(x);
+                } else if (x.textEquals("url")) {
+                    url = getRawString(x);
+                } else if (x.textEquals("protected")) {
+                    isProtected = getBoolean(x);
+                } else if (x.textEquals("geo_enabled")) {
+                    isGeoEnabled = getBoolean(x);
+                } else if (x.textEquals("verified")) {
+                    isVerified = getBoolean(x);
+                } else if (x.textEquals("is_translator")) {
+                    translator = getBoolean(x);
+                } else if (x.textEquals("followers_count")) {
+                    followersCount = getInt(x);
+                } else if (x.textEquals("profile_background_color")) {
+                    profileBackgroundColor = getRawString(x);
+                } else if (x.textEquals("profile_text_color")) {
+                    profileTextColor = getRawString(x);
+                } else if (x.textEquals("profile_link_color")) {
+                    profileLinkColor = getRawString(x);
+                } else if (x.textEquals("profile_sidebar_fill_color")) {
+                    profileSidebarFillColor = getRawString(x);
+                } else if (x.textEquals("profile_sidebar_border_color")) {
+                    profileSidebarBorderColor = getRawString(x);
+                } else if (x.textEquals("profile_use_background_image")) {
+                    profileUseBackgroundImage = getBoolean(x);
+                } else if (x.textEquals("show_all_inline_media")) {
+                    showAllInlineMedia = getBoolean(x);
+                } else if (x.textEquals("friends_count")) {
+                    friendsCount = getInt(x);
+                } else if (x.textEquals("created_at")) {
+                    createdAt = getDate(x, "EEE MMM dd HH:mm:ss z yyyy");
+                } else if (x.textEquals("favourites_count")) {
+                    favouritesCount = getInt(x);
+                } else if (x.textEquals("utc_offset")) {
+                    utcOffset = getInt(x);
+                } else if (x.textEquals("time_zone")) {
+                    timeZone = getRawString(x);
+                } else if (x.textEquals("profile_background_image_url")) {
+                    profileBackgroundImageUrl = getRawString(x);
+                } else if (x.textEquals("profile_background_tile")) {
+                    profileBackgroundTiled = getBoolean(x);
+                } else if (x.textEquals("lang")) {
+                    lang = getRawString(x);
+                } else if (x.textEquals("statuses_count")) {
+                    statusesCount = getInt(x);
+                } else if (x.textEquals("listed_count")) {
+                    listedCount = getInt(x);
+                } else if (x.textEquals("follow_request_sent")) {
+                    isFollowRequestSent = getBoolean(x);
+                } else if (x.textEquals("status")) {
+                    if (JSONByteTokener.START_OBJECT == x.nextToken()) {
+                        status = new StatusJSONImpl(x);
+                    } else {
+                        x.skipChildren();
+                    }
+                } else {
+                    x.skipValue();
+                }
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone.getMessage() + x.toString(), jsone);
+        }
+        if (x.isRawCaptureEnabled()) {
+            setRawJSON(RawJSON.getInstance(x, position));
+        }
+    }
+
     public int compareTo(User that) {
         return (int) (this.id - that.getId());
     }
 
+    /**
+     * Reads a user written by write(User, DataObjectEncoder).
+     *
+     * @param in decoder positioned at the presence bitmap of the user
+     * @throws IOException when an I/O error occurs or the stream is malformed
+     */
+    /*package*/ UserJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        id = in.readVarLong();
+        name = 0 != (bits & 1) ? in.readString() : null;
+        screenName = 0 != (bits & 1 << 1) ? in.readString() : null;
+        location = 0 != (bits & 1 << 2) ? in.readString() : null;
+        description = 0 != (bits & 1 << 3) ? in.readText() : null;
+        isContributorsEnabled = 0 != (bits & 1 << 4);
+        profileImageUrl = 0 != (bits & 1 << 5) ? in.readString() : null;
+        url = 0 != (bits & 1 << 6) ? in.readString() : null;
+        isProtected = 0 != (bits & 1 << 7);
+        followersCount = 0 != (bits & 1 << 8) ? in.readVarInt() : -1;
+        status = 0 != (bits & 1 << 9) ? new StatusJSONImpl(in) : null;
+        profileBackgroundColor = 0 != (bits & 1 << 10) ? in.readString() : null;
+        profileTextColor = 0 != (bits & 1 << 11) ? in.readString() : null;
+        profileLinkColor = 0 != (bits & 1 << 12) ? in.readString() : null;
+        profileSidebarFillColor = 0 != (bits & 1 << 13) ? in.readString() : null;
+        profileSidebarBorderColor = 0 != (bits & 1 << 14) ? in.readString() : null;
+        profileUseBackgroundImage = 0 != (bits & 1 << 15);
+        showAllInlineMedia = 0 != (bits & 1 << 16);
+        friendsCount = 0 != (bits & 1 << 17) ? in.readVarInt() : -1;
+        createdAt = 0 != (bits & 1 << 18) ? in.readDate() : null;
+        favouritesCount = 0 != (bits & 1 << 19) ? in.readVarInt() : -1;
+        utcOffset = 0 != (bits & 1 << 20) ? in.readVarInt() : -1;
+        timeZone = 0 != (bits & 1 << 21) ? in.readString() : null;
+        profileBackgroundImageUrl = 0 != (bits & 1 << 22) ? in.readString() : null;
+        profileBackgroundTiled = 0 != (bits & 1 << 23);
+        lang = 0 != (bits & 1 << 24) ? in.readString() : null;
+        statusesCount = 0 != (bits & 1 << 25) ? in.readVarInt() : -1;
+        isGeoEnabled = 0 != (bits & 1 << 26);
+        isVerified = 0 != (bits & 1 << 27);
+        translator = 0 != (bits & 1 << 28);
+        listedCount = 0 != (bits & 1 << 29) ? in.readVarInt() : -1;
+        isFollowRequestSent = 0 != (bits & 1 << 30);
+    }
+
+    /**
+     * Writes the fields of a user in the binary format read by UserJSONImpl(DataObjectDecoder).
+     *
+     * @param user user
+     * @param out  encoder
+     * @throws IOException when an I/O error occurs
+     */
+    /*package*/ static void write(User user, DataObjectEncoder out) throws IOException {
+        String profileImageUrl;
+        String url;
+        if (user instanceof UserJSONImpl) {
+            // keep the values which aren't valid URLs as well
+            profileImageUrl = ((UserJSONImpl) user).profileImageUrl;
+            url = ((UserJSONImpl) user).url;
+        } else {
+            profileImageUrl = null == user.getProfileImageURL() ? null : user.getProfileImageURL().toString();
+            url = null == user.getURL() ? null : user.getURL().toString();
+        }
+        long bits = (null != user.getName() ? 1 : 0)
+                | (null != user.getScreenName() ? 1 << 1 : 0)
+                | (null != user.getLocation() ? 1 << 2 : 0)
+                | (null != user.getDescription() ? 1 << 3 : 0)
+                | (user.isContributorsEnabled() ? 1 << 4 : 0)
+                | (null != profileImageUrl ? 1 << 5 : 0)
+                | (null != url ? 1 << 6 : 0)
+                | (user.isProtected() ? 1 << 7 : 0)
+                | (-1 != user.getFollowersCount() ? 1 << 8 : 0)
+                | (null != user.getStatus() ? 1 << 9 : 0)
+                | (null != user.getProfileBackgroundColor() ? 1 << 10 : 0)
+                | (null != user.getProfileTextColor() ? 1 << 11 : 0)
+                | (null != user.getProfileLinkColor() ? 1 << 12 : 0)
+                | (null != user.getProfileSidebarFillColor() ? 1 << 13 : 0)
+                | (null != user.getProfileSidebarBorderColor() ? 1 << 14 : 0)
+                | (user.isProfileUseBackgroundImage() ? 1 << 15 : 0)
+                | (user.isShowAllInlineMedia() ? 1 << 16 : 0)
+                | (-1 != user.getFriendsCount() ? 1 << 17 : 0)
+                | (null != user.getCreatedAt() ? 1 << 18 : 0)
+                | (-1 != user.getFavouritesCount() ? 1 << 19 : 0)
+                | (-1 != user.getUtcOffset() ? 1 << 20 : 0)
+                | (null != user.getTimeZone() ? 1 << 21 : 0)
+                | (null != user.getProfileBackgroundImageUrl() ? 1 << 22 : 0)
+                | (user.isProfileBackgroundTiled() ? 1 << 23 : 0)
+                | (null != user.getLang() ? 1 << 24 : 0)
+                | (-1 != user.getStatusesCount() ? 1 << 25 : 0)
+                | (user.isGeoEnabled() ? 1 << 26 : 0)
+                | (user.isVerified() ? 1 << 27 : 0)
+                | (user.isTranslator() ? 1 << 28 : 0)
+                | (-1 != user.getListedCount() ? 1 << 29 : 0)
+                | (user.isFollowRequestSent() ? 1 << 30 : 0);
+        out.writeUnsignedVarLong(bits);
+        out.writeVarLong(user.getId());
+        if (null != user.getName()) {
+            out.writeString(user.getName());
+        }
+        if (null != user.getScreenName()) {
+            out.writeString(user.getScreenName());
+        }
+        if (null != user.getLocation()) {
+            out.writeString(user.getLocation());
+        }
+        if (null != user.getDescription()) {
+            out.writeText(user.getDescription());
+        }
+        if (null != profileImageUrl) {
+            out.writeString(profileImageUrl);
+        }
+        if (null != url) {
+            out.writeString(url);
+        }
+        if (-1 != user.getFollowersCount()) {
+            out.writeVarInt(user.getFollowersCount());
+        }
+        if (null != user.getStatus()) {
+            StatusJSONImpl.write(user.getStatus(), out);
+        }
+        if (null != user.getProfileBackgroundColor()) {
+            out.writeString(user.getProfileBackgroundColor());
+        }
+        if (null != user.getProfileTextColor()) {
+            out.writeString(user.getProfileTextColor());
+        }
+        if (null != user.getProfileLinkColor()) {
+            out.writeString(user.getProfileLinkColor());
+        }
+        if (null != user.getProfileSidebarFillColor()) {
+            out.writeString(user.getProfileSidebarFillColor());
+        }
+        if (null != user.getProfileSidebarBorderColor()) {
+            out.writeString(user.getProfileSidebarBorderColor());
+        }
+        if (-1 != user.getFriendsCount()) {
+            out.writeVarInt(user.getFriendsCount());
+        }
+        if (null != user.getCreatedAt()) {
+            out.writeDate(user.getCreatedAt());
+        }
+        if (-1 != user.getFavouritesCount()) {
+            out.writeVarInt(user.getFavouritesCount());
+        }
+        if (-1 != user.getUtcOffset()) {
+            out.writeVarInt(user.getUtcOffset());
+        }
+        if (null != user.getTimeZone()) {
+            out.writeString(user.getTimeZone());
+        }
+        if (null != user.getProfileBackgroundImageUrl()) {
+            out.writeString(user.getProfileBackgroundImageUrl());
+        }
+        if (null != user.getLang()) {
+            out.writeString(user.getLang());
+        }
+        if (-1 != user.getStatusesCount()) {
+            out.writeVarInt(user.getStatusesCount());
+        }
+        if (-1 != user.getListedCount()) {
+            out.writeVarInt(user.getListedCount());
+        }
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return new ExternalizableDataObject(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -373,6 +668,12 @@ import static twitter4j.internal.util.ParseUtil.getRawString;
 
     /*package*/
     static PagableResponseList<User> createPagableUserList(HttpResponse res, Configuration conf) throws TwitterException {
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            return createPagableUserList(x, res, UserCache.getInstance(conf));
+        }
         try {
             if (conf.isJSONStoreEnabled()) {
                 DataObjectFactoryUtil.clearThreadLocalMap();
@@ -401,11 +702,95 @@ import static twitter4j.internal.util.ParseUtil.getRawString;
         }
     }
 
+    private static PagableResponseList<User> createPagableUserList(JSONByteTokener x, HttpResponse res,
+                                                                   UserCache userCache) throws TwitterException {
+        try {
+            if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                throw x.syntaxError("A JSONObject text must begin with '{'");
+            }
+            int position = x.getPosition();
+            List<User> list = null;
+            long previousCursor = -1;
+            long nextCursor = -1;
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("users")) {
+                    list = readUsers(x, userCache);
+                } else if (x.textEquals("previous_cursor")) {
+                    previousCursor = getLong(x);
+                } else if (x.textEquals("next_cursor")) {
+                    nextCursor = getLong(x);
+                } else {
+                    x.skipValue();
+                }
+            }
+            if (null == list) {
+                throw x.syntaxError("JSONObject[\"users\"] not found.");
+            }
+            PagableResponseListImpl<User> users =
+                    new PagableResponseListImpl<User>(list.size(), previousCursor, nextCursor, res);
+            users.addAll(list);
+            if (x.isRawCaptureEnabled()) {
+                users.setRawJSON(RawJSON.getInstance(x, position));
+            }
+            return users;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     /*package*/
     static ResponseList<User> createUserList(HttpResponse res, Configuration conf) throws TwitterException {
+        if (!conf.isJSONStoreEnabled() || conf.isJSONStoreRawEnabled()) {
+            JSONByteTokener x = res.asJSONByteTokener();
+            x.setStringPool(StringPool.getInstance(conf));
+            x.setRawCaptureEnabled(conf.isJSONStoreRawEnabled());
+            try {
+                if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                    throw x.syntaxError("A JSONArray text must start with '['");
+                }
+                int position = x.getPosition();
+                List<User> list = readUserArray(x, UserCache.getInstance(conf));
+                ResponseListImpl<User> users = new ResponseListImpl<User>(list.size(), res);
+                users.addAll(list);
+                if (x.isRawCaptureEnabled()) {
+                    users.setRawJSON(RawJSON.getInstance(x, position));
+                }
+                return users;
+            } catch (JSONException jsone) {
+                throw new TwitterException(jsone);
+            }
+        }
         return createUserList(res.asJSONArray(), res, conf);
     }
 
+    /**
+     * Reads an array of users following a FIELD_NAME token, or at the beginning of the input.
+     *
+     * @return users, or null if the value is not an array
+     */
+    private static List<User> readUsers(JSONByteTokener x, UserCache userCache) throws TwitterException, JSONException {
+        if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+            x.skipChildren();
+            return null;
+        }
+        return readUserArray(x, userCache);
+    }
+
+    /**
+     * Reads the users of an array following its START_ARRAY token.
+     */
+    private static List<User> readUserArray(JSONByteTokener x, UserCache userCache)
+            throws TwitterException, JSONException {
+        List<User> users = new ArrayList<User>();
+        for (int token = x.nextToken(); JSONByteTokener.END_ARRAY != token; token = x.nextToken()) {
+            if (JSONByteTokener.START_OBJECT != token) {
+                throw x.syntaxError("JSONArray is not a JSONObject.");
+            }
+            users.add(getInstance(x, userCache));
+        }
+        return users;
+    }
+
     /*package*/
     static ResponseList<User> createUserList(JSONArray list, HttpResponse res, Configuration conf) throws TwitterException {
         try {
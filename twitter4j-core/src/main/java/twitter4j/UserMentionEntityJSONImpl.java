@@ -17,10 +17,13 @@
 package twitter4j;
 
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
 import twitter4j.internal.util.ParseUtil;
 
+import java.io.IOException;
+
 /**
  * A data interface representing one single user mention entity.
  *
@@ -40,6 +43,34 @@ import twitter4j.internal.util.ParseUtil;
         init(json);
     }
 
+    /* package */ UserMentionEntityJSONImpl(JSONByteTokener x) throws TwitterException {
+        super();
+        init(x);
+    }
+
+    /* package */ UserMentionEntityJSONImpl(DataObjectDecoder in) throws IOException {
+        super();
+        long bits = in.readUnsignedVarLong();
+        start = in.readVarInt();
+        end = in.readVarInt();
+        id = in.readVarLong();
+        name = 0 != (bits & 1) ? in.readString() : null;
+        screenName = 0 != (bits & 1 << 1) ? in.readString() : null;
+    }
+
+    /* package */ static void write(UserMentionEntity entity, DataObjectEncoder out) throws IOException {
+        out.writeUnsignedVarLong((null != entity.getName() ? 1 : 0) | (null != entity.getScreenName() ? 1 << 1 : 0));
+        out.writeVarInt(entity.getStart());
+        out.writeVarInt(entity.getEnd());
+        out.writeVarLong(entity.getId());
+        if (null != entity.getName()) {
+            out.writeString(entity.getName());
+        }
+        if (null != entity.getScreenName()) {
+            out.writeString(entity.getScreenName());
+        }
+    }
+
     private void init(JSONObject json) throws TwitterException {
         try {
             JSONArray indicesArray = json.getJSONArray("indices");
@@ -58,6 +89,40 @@ import twitter4j.internal.util.ParseUtil;
         }
     }
 
+    private void init(JSONByteTokener x) throws TwitterException {
+        try {
+            boolean hasIndices = false;
+            while (JSONByteTokener.FIELD_NAME == x.nextToken()) {
+                if (x.textEquals("indices")) {
+                    if (JSONByteTokener.START_ARRAY != x.nextToken()) {
+                        throw x.syntaxError("indices is not an array");
+                    }
+                    x.nextToken();
+                    this.start = (int) x.getLong();
+                    x.nextToken();
+                    this.end = (int) x.getLong();
+                    while (JSONByteTokener.END_ARRAY != x.nextToken()) {
+                        x.skipChildren();
+                    }
+                    hasIndices = true;
+                } else if (x.textEquals("name")) {
+                    this.name = ParseUtil.getRawString(x);
+                } else if (x.textEquals("screen_name")) {
+                    this.screenName = ParseUtil.getRawString(x);
+                } else if (x.textEquals("id")) {
+                    this.id = ParseUtil.getLong(x);
+                } else {
+                    x.skipValue();
+                }
+            }
+            if (!hasIndices) {
+                throw x.syntaxError("JSONObject[\"indices\"] not found.");
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,6 +68,46 @@ public interface Configuration extends HttpClientConfiguration
 
     int getHttpDefaultMaxPerRoute();
 
+    int getHttpRetryMaxIntervalSeconds();
+
+    int getHttpRetryBudgetPercent();
+
+    String getHttpRetryPolicyImpl();
+
+    boolean isHttpHedgingEnabled();
+
+    int getHttpHedgingPercentile();
+
+    int getHttpHedgingMaxPercent();
+
+    boolean isHttpResponseCacheEnabled();
+
+    String getHttpResponseCacheImpl();
+
+    int getHttpResponseCacheSize();
+
+    String getHttpResponseCacheTTLs();
+
+    boolean isHttpResponseCacheParsedJSONEnabled();
+
+    int getHttpDNSCacheTTLSeconds();
+
+    boolean isHttpAsyncResponseListenerEnabled();
+
+    int getHttpResponseEventBufferSize();
+
+    String getHttpResponseEventDropPolicy();
+
+    String getHttpSSLProtocol();
+
+    int getHttpSSLSessionCacheSize();
+
+    int getHttpSSLSessionTimeoutSeconds();
+
+    String getHttpClientImpl();
+
+    int getHttpCallTimeout();
+
     // oauth related setter/getters
 
     String getOAuthConsumerKey();
@@ -106,6 +146,8 @@ public interface Configuration extends HttpClientConfiguration
 
     boolean isJSONStoreEnabled();
 
+    boolean isJSONStoreRawEnabled();
+
     boolean isMBeanEnabled();
 
     boolean isUserStreamRepliesAllEnabled();
@@ -116,6 +158,12 @@ public interface Configuration extends HttpClientConfiguration
 
     Properties getMediaProviderParameters();
 
+    int getUserCacheSize();
+
+    int getStringPoolSize();
+
+    String getStringPoolFields();
+
     int getAsyncNumThreads();
 
     String getDispatcherImpl();
@@ -17,6 +17,7 @@
 package twitter4j.conf;
 
 import twitter4j.Version;
+import twitter4j.internal.http.ConfigurationFingerprint;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,7 +28,7 @@ import java.util.Properties;
  *
  * @author Yusuke Yamamoto - yusuke at mac.com
  */
-class ConfigurationBase implements Configuration, java.io.Serializable {
+class ConfigurationBase implements Configuration, ConfigurationFingerprint.Holder, java.io.Serializable {
 
     private boolean debug;
     private String userAgent;
@@ -48,6 +49,26 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
     private int httpRetryIntervalSeconds;
     private int maxTotalConnections;
     private int defaultMaxPerRoute;
+    private int httpRetryMaxIntervalSeconds;
+    private int httpRetryBudgetPercent;
+    private String httpRetryPolicyImpl;
+    private boolean httpHedgingEnabled;
+    private int httpHedgingPercentile;
+    private int httpHedgingMaxPercent;
+    private boolean httpResponseCacheEnabled;
+    private String httpResponseCacheImpl;
+    private int httpResponseCacheSize;
+    private String httpResponseCacheTTLs;
+    private boolean httpResponseCacheParsedJSONEnabled;
+    private int httpDNSCacheTTLSeconds;
+    private boolean httpAsyncResponseListenerEnabled;
+    private int httpResponseEventBufferSize;
+    private String httpResponseEventDropPolicy;
+    private String httpSSLProtocol;
+    private int httpSSLSessionCacheSize;
+    private int httpSSLSessionTimeoutSeconds;
+    private String httpClientImpl;
+    private int httpCallTimeout;
     private String oAuthConsumerKey;
     private String oAuthConsumerSecret;
     private String oAuthAccessToken;
@@ -83,6 +104,10 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
     private String mediaProviderAPIKey;
 
     private Properties mediaProviderParameters;
+    private int userCacheSize;
+    private int stringPoolSize;
+    private String stringPoolFields;
+    private boolean jsonStoreRawEnabled;
     // hidden portion
     private String clientVersion;
     private String clientURL;
@@ -135,6 +160,26 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         setHttpRetryIntervalSeconds(5);
         setHttpMaxTotalConnections(20);
         setHttpDefaultMaxPerRoute(2);
+        setHttpRetryMaxIntervalSeconds(60);
+        setHttpRetryBudgetPercent(20);
+        setHttpRetryPolicyImpl("twitter4j.internal.http.DefaultRetryPolicy");
+        setHttpHedgingEnabled(false);
+        setHttpHedgingPercentile(95);
+        setHttpHedgingMaxPercent(5);
+        setHttpResponseCacheEnabled(false);
+        setHttpResponseCacheImpl("twitter4j.internal.http.LRUResponseCache");
+        setHttpResponseCacheSize(100);
+        setHttpResponseCacheTTLs("trends.json=300&trends/=300&trends/available.json=3600&users/show.json=60&saved_searches.json=60&saved_searches/show/=60");
+        setHttpResponseCacheParsedJSONEnabled(false);
+        setHttpDNSCacheTTLSeconds(-1);
+        setHttpAsyncResponseListenerEnabled(false);
+        setHttpResponseEventBufferSize(1024);
+        setHttpResponseEventDropPolicy("DISCARD");
+        setHttpSSLProtocol("TLS");
+        setHttpSSLSessionCacheSize(-1);
+        setHttpSSLSessionTimeoutSeconds(-1);
+        setHttpClientImpl(null);
+        setHttpCallTimeout(-1);
         setOAuthConsumerKey(null);
         setOAuthConsumerSecret(null);
         setOAuthAccessToken(null);
@@ -180,6 +225,10 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         }
         IS_DALVIK = Boolean.valueOf(isDalvik);
 
+        setUserCacheSize(0);
+        setStringPoolSize(0);
+        setStringPoolFields("screen_name,source,lang,time_zone,location,profile_image_url,full_name");
+        setJSONStoreRawEnabled(false);
         setMediaProvider("YFROG");
         setMediaProviderAPIKey(null);
         setMediaProviderParameters(null);
@@ -358,6 +407,178 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         this.defaultMaxPerRoute = defaultMaxPerRoute;
     }
 
+    public final int getHttpRetryMaxIntervalSeconds() {
+        return httpRetryMaxIntervalSeconds;
+    }
+
+    protected final void setHttpRetryMaxIntervalSeconds(int httpRetryMaxIntervalSeconds) {
+        this.httpRetryMaxIntervalSeconds = httpRetryMaxIntervalSeconds;
+    }
+
+    public final int getHttpRetryBudgetPercent() {
+        return httpRetryBudgetPercent;
+    }
+
+    protected final void setHttpRetryBudgetPercent(int httpRetryBudgetPercent) {
+        this.httpRetryBudgetPercent = httpRetryBudgetPercent;
+    }
+
+    public final String getHttpRetryPolicyImpl() {
+        return httpRetryPolicyImpl;
+    }
+
+    protected final void setHttpRetryPolicyImpl(String httpRetryPolicyImpl) {
+        this.httpRetryPolicyImpl = httpRetryPolicyImpl;
+    }
+
+    public final boolean isHttpHedgingEnabled() {
+        return httpHedgingEnabled;
+    }
+
+    protected final void setHttpHedgingEnabled(boolean httpHedgingEnabled) {
+        this.httpHedgingEnabled = httpHedgingEnabled;
+    }
+
+    public final int getHttpHedgingPercentile() {
+        return httpHedgingPercentile;
+    }
+
+    protected final void setHttpHedgingPercentile(int httpHedgingPercentile) {
+        this.httpHedgingPercentile = httpHedgingPercentile;
+    }
+
+    public final int getHttpHedgingMaxPercent() {
+        return httpHedgingMaxPercent;
+    }
+
+    protected final void setHttpHedgingMaxPercent(int httpHedgingMaxPercent) {
+        this.httpHedgingMaxPercent = httpHedgingMaxPercent;
+    }
+
+    public final boolean isHttpResponseCacheEnabled() {
+        return httpResponseCacheEnabled;
+    }
+
+    protected final void setHttpResponseCacheEnabled(boolean httpResponseCacheEnabled) {
+        this.httpResponseCacheEnabled = httpResponseCacheEnabled;
+    }
+
+    public final String getHttpResponseCacheImpl() {
+        return httpResponseCacheImpl;
+    }
+
+    protected final void setHttpResponseCacheImpl(String httpResponseCacheImpl) {
+        this.httpResponseCacheImpl = httpResponseCacheImpl;
+    }
+
+    public final int getHttpResponseCacheSize() {
+        return httpResponseCacheSize;
+    }
+
+    protected final void setHttpResponseCacheSize(int httpResponseCacheSize) {
+        this.httpResponseCacheSize = httpResponseCacheSize;
+    }
+
+    public final String getHttpResponseCacheTTLs() {
+        return httpResponseCacheTTLs;
+    }
+
+    protected final void setHttpResponseCacheTTLs(String httpResponseCacheTTLs) {
+        this.httpResponseCacheTTLs = httpResponseCacheTTLs;
+    }
+
+    public final boolean isHttpResponseCacheParsedJSONEnabled() {
+        return httpResponseCacheParsedJSONEnabled;
+    }
+
+    protected final void setHttpResponseCacheParsedJSONEnabled(boolean httpResponseCacheParsedJSONEnabled) {
+        this.httpResponseCacheParsedJSONEnabled = httpResponseCacheParsedJSONEnabled;
+    }
+
+    public final int getHttpDNSCacheTTLSeconds() {
+        return httpDNSCacheTTLSeconds;
+    }
+
+    protected final void setHttpDNSCacheTTLSeconds(int httpDNSCacheTTLSeconds) {
+        this.httpDNSCacheTTLSeconds = httpDNSCacheTTLSeconds;
+    }
+
+    public final boolean isHttpAsyncResponseListenerEnabled() {
+        return httpAsyncResponseListenerEnabled;
+    }
+
+    protected final void setHttpAsyncResponseListenerEnabled(boolean httpAsyncResponseListenerEnabled) {
+        this.httpAsyncResponseListenerEnabled = httpAsyncResponseListenerEnabled;
+    }
+
+    public final int getHttpResponseEventBufferSize() {
+        return httpResponseEventBufferSize;
+    }
+
+    protected final void setHttpResponseEventBufferSize(int httpResponseEventBufferSize) {
+        this.httpResponseEventBufferSize = httpResponseEventBufferSize;
+    }
+
+    public final String getHttpResponseEventDropPolicy() {
+        return httpResponseEventDropPolicy;
+    }
+
+    protected final void setHttpResponseEventDropPolicy(String httpResponseEventDropPolicy) {
+        this.httpResponseEventDropPolicy = httpResponseEventDropPolicy;
+    }
+
+    public final String getHttpSSLProtocol() {
+        return httpSSLProtocol;
+    }
+
+    protected final void setHttpSSLProtocol(String httpSSLProtocol) {
+        this.httpSSLProtocol = httpSSLProtocol;
+    }
+
+    public final int getHttpSSLSessionCacheSize() {
+        return httpSSLSessionCacheSize;
+    }
+
+    protected final void setHttpSSLSessionCacheSize(int httpSSLSessionCacheSize) {
+        this.httpSSLSessionCacheSize = httpSSLSessionCacheSize;
+    }
+
+    public final int getHttpSSLSessionTimeoutSeconds() {
+        return httpSSLSessionTimeoutSeconds;
+    }
+
+    protected final void setHttpSSLSessionTimeoutSeconds(int httpSSLSessionTimeoutSeconds) {
+        this.httpSSLSessionTimeoutSeconds = httpSSLSessionTimeoutSeconds;
+    }
+
+    public final String getHttpClientImpl() {
+        return httpClientImpl;
+    }
+
+    protected final void setHttpClientImpl(String httpClientImpl) {
+        this.httpClientImpl = httpClientImpl;
+    }
+
+    // computed on first use, once the configuration has been built
+    private transient volatile ConfigurationFingerprint httpClientFingerprint = null;
+
+    public ConfigurationFingerprint getHttpClientFingerprint() {
+        ConfigurationFingerprint fingerprint = httpClientFingerprint;
+        if (null == fingerprint) {
+            fingerprint = new ConfigurationFingerprint(this);
+            httpClientFingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    public final int getHttpCallTimeout() {
+        return httpCallTimeout;
+    }
+
+    protected final void setHttpCallTimeout(int httpCallTimeout) {
+        this.httpCallTimeout = httpCallTimeout;
+    }
+
     // oauth related setter/getters
 
     public final String getOAuthConsumerKey() {
@@ -587,6 +808,38 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         this.mediaProviderParameters = props;
     }
 
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    protected final void setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
+
+    public int getStringPoolSize() {
+        return stringPoolSize;
+    }
+
+    protected final void setStringPoolSize(int stringPoolSize) {
+        this.stringPoolSize = stringPoolSize;
+    }
+
+    public String getStringPoolFields() {
+        return stringPoolFields;
+    }
+
+    protected final void setStringPoolFields(String stringPoolFields) {
+        this.stringPoolFields = stringPoolFields;
+    }
+
+    public boolean isJSONStoreRawEnabled() {
+        return jsonStoreRawEnabled;
+    }
+
+    protected final void setJSONStoreRawEnabled(boolean jsonStoreRawEnabled) {
+        this.jsonStoreRawEnabled = jsonStoreRawEnabled;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -613,6 +866,37 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         if (useSSL != that.useSSL) return false;
         if (userStreamRepliesAllEnabled != that.userStreamRepliesAllEnabled)
             return false;
+        if (httpRetryMaxIntervalSeconds != that.httpRetryMaxIntervalSeconds) return false;
+        if (httpRetryBudgetPercent != that.httpRetryBudgetPercent) return false;
+        if (httpRetryPolicyImpl != null ? !httpRetryPolicyImpl.equals(that.httpRetryPolicyImpl) : that.httpRetryPolicyImpl != null)
+            return false;
+        if (httpHedgingEnabled != that.httpHedgingEnabled) return false;
+        if (httpHedgingPercentile != that.httpHedgingPercentile) return false;
+        if (httpHedgingMaxPercent != that.httpHedgingMaxPercent) return false;
+        if (httpResponseCacheEnabled != that.httpResponseCacheEnabled) return false;
+        if (httpResponseCacheImpl != null ? !httpResponseCacheImpl.equals(that.httpResponseCacheImpl) : that.httpResponseCacheImpl != null)
+            return false;
+        if (httpResponseCacheSize != that.httpResponseCacheSize) return false;
+        if (httpResponseCacheTTLs != null ? !httpResponseCacheTTLs.equals(that.httpResponseCacheTTLs) : that.httpResponseCacheTTLs != null)
+            return false;
+        if (httpResponseCacheParsedJSONEnabled != that.httpResponseCacheParsedJSONEnabled) return false;
+        if (httpDNSCacheTTLSeconds != that.httpDNSCacheTTLSeconds) return false;
+        if (httpAsyncResponseListenerEnabled != that.httpAsyncResponseListenerEnabled) return false;
+        if (httpResponseEventBufferSize != that.httpResponseEventBufferSize) return false;
+        if (httpResponseEventDropPolicy != null ? !httpResponseEventDropPolicy.equals(that.httpResponseEventDropPolicy) : that.httpResponseEventDropPolicy != null)
+            return false;
+        if (httpSSLProtocol != null ? !httpSSLProtocol.equals(that.httpSSLProtocol) : that.httpSSLProtocol != null)
+            return false;
+        if (httpSSLSessionCacheSize != that.httpSSLSessionCacheSize) return false;
+        if (httpSSLSessionTimeoutSeconds != that.httpSSLSessionTimeoutSeconds) return false;
+        if (httpClientImpl != null ? !httpClientImpl.equals(that.httpClientImpl) : that.httpClientImpl != null)
+            return false;
+        if (httpCallTimeout != that.httpCallTimeout) return false;
+        if (userCacheSize != that.userCacheSize) return false;
+        if (stringPoolSize != that.stringPoolSize) return false;
+        if (stringPoolFields != null ? !stringPoolFields.equals(that.stringPoolFields) : that.stringPoolFields != null)
+            return false;
+        if (jsonStoreRawEnabled != that.jsonStoreRawEnabled) return false;
         if (clientURL != null ? !clientURL.equals(that.clientURL) : that.clientURL != null)
             return false;
         if (clientVersion != null ? !clientVersion.equals(that.clientVersion) : that.clientVersion != null)
@@ -712,6 +996,30 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         result = 31 * result + (mediaProvider != null ? mediaProvider.hashCode() : 0);
         result = 31 * result + (mediaProviderAPIKey != null ? mediaProviderAPIKey.hashCode() : 0);
         result = 31 * result + (mediaProviderParameters != null ? mediaProviderParameters.hashCode() : 0);
+        result = 31 * result + httpRetryMaxIntervalSeconds;
+        result = 31 * result + httpRetryBudgetPercent;
+        result = 31 * result + (httpRetryPolicyImpl != null ? httpRetryPolicyImpl.hashCode() : 0);
+        result = 31 * result + (httpHedgingEnabled ? 1 : 0);
+        result = 31 * result + httpHedgingPercentile;
+        result = 31 * result + httpHedgingMaxPercent;
+        result = 31 * result + (httpResponseCacheEnabled ? 1 : 0);
+        result = 31 * result + (httpResponseCacheImpl != null ? httpResponseCacheImpl.hashCode() : 0);
+        result = 31 * result + httpResponseCacheSize;
+        result = 31 * result + (httpResponseCacheTTLs != null ? httpResponseCacheTTLs.hashCode() : 0);
+        result = 31 * result + (httpResponseCacheParsedJSONEnabled ? 1 : 0);
+        result = 31 * result + httpDNSCacheTTLSeconds;
+        result = 31 * result + (httpAsyncResponseListenerEnabled ? 1 : 0);
+        result = 31 * result + httpResponseEventBufferSize;
+        result = 31 * result + (httpResponseEventDropPolicy != null ? httpResponseEventDropPolicy.hashCode() : 0);
+        result = 31 * result + (httpSSLProtocol != null ? httpSSLProtocol.hashCode() : 0);
+        result = 31 * result + httpSSLSessionCacheSize;
+        result = 31 * result + httpSSLSessionTimeoutSeconds;
+        result = 31 * result + (httpClientImpl != null ? httpClientImpl.hashCode() : 0);
+        result = 31 * result + httpCallTimeout;
+        result = 31 * result + userCacheSize;
+        result = 31 * result + stringPoolSize;
+        result = 31 * result + (stringPoolFields != null ? stringPoolFields.hashCode() : 0);
+        result = 31 * result + (jsonStoreRawEnabled ? 1 : 0);
         return result;
     }
 
@@ -759,6 +1067,30 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
                 ", mediaProvider=" + mediaProvider +
                 ", mediaProviderAPIKey=" + mediaProviderAPIKey +
                 ", mediaProviderParameters=" + mediaProviderParameters +
+                ", httpRetryMaxIntervalSeconds=" + httpRetryMaxIntervalSeconds +
+                ", httpRetryBudgetPercent=" + httpRetryBudgetPercent +
+                ", httpRetryPolicyImpl='" + httpRetryPolicyImpl + '\'' +
+                ", httpHedgingEnabled=" + httpHedgingEnabled +
+                ", httpHedgingPercentile=" + httpHedgingPercentile +
+                ", httpHedgingMaxPercent=" + httpHedgingMaxPercent +
+                ", httpResponseCacheEnabled=" + httpResponseCacheEnabled +
+                ", httpResponseCacheImpl='" + httpResponseCacheImpl + '\'' +
+                ", httpResponseCacheSize=" + httpResponseCacheSize +
+                ", httpResponseCacheTTLs='" + httpResponseCacheTTLs + '\'' +
+                ", httpResponseCacheParsedJSONEnabled=" + httpResponseCacheParsedJSONEnabled +
+                ", httpDNSCacheTTLSeconds=" + httpDNSCacheTTLSeconds +
+                ", httpAsyncResponseListenerEnabled=" + httpAsyncResponseListenerEnabled +
+                ", httpResponseEventBufferSize=" + httpResponseEventBufferSize +
+                ", httpResponseEventDropPolicy='" + httpResponseEventDropPolicy + '\'' +
+                ", httpSSLProtocol='" + httpSSLProtocol + '\'' +
+                ", httpSSLSessionCacheSize=" + httpSSLSessionCacheSize +
+                ", httpSSLSessionTimeoutSeconds=" + httpSSLSessionTimeoutSeconds +
+                ", httpClientImpl='" + httpClientImpl + '\'' +
+                ", httpCallTimeout=" + httpCallTimeout +
+                ", userCacheSize=" + userCacheSize +
+                ", stringPoolSize=" + stringPoolSize +
+                ", stringPoolFields='" + stringPoolFields + '\'' +
+                ", jsonStoreRawEnabled=" + jsonStoreRawEnabled +
                 '}';
     }
 
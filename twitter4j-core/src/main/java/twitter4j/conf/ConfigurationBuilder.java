@@ -133,6 +133,126 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setHttpRetryMaxIntervalSeconds(int httpRetryMaxIntervalSeconds) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryMaxIntervalSeconds(httpRetryMaxIntervalSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryBudgetPercent(int httpRetryBudgetPercent) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryBudgetPercent(httpRetryBudgetPercent);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryPolicyImpl(String httpRetryPolicyImpl) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryPolicyImpl(httpRetryPolicyImpl);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpHedgingEnabled(boolean httpHedgingEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpHedgingEnabled(httpHedgingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpHedgingPercentile(int httpHedgingPercentile) {
+        checkNotBuilt();
+        configurationBean.setHttpHedgingPercentile(httpHedgingPercentile);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpHedgingMaxPercent(int httpHedgingMaxPercent) {
+        checkNotBuilt();
+        configurationBean.setHttpHedgingMaxPercent(httpHedgingMaxPercent);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheEnabled(boolean httpResponseCacheEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheEnabled(httpResponseCacheEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheImpl(String httpResponseCacheImpl) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheImpl(httpResponseCacheImpl);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheSize(int httpResponseCacheSize) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheSize(httpResponseCacheSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheTTLs(String httpResponseCacheTTLs) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheTTLs(httpResponseCacheTTLs);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheParsedJSONEnabled(boolean httpResponseCacheParsedJSONEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheParsedJSONEnabled(httpResponseCacheParsedJSONEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpDNSCacheTTLSeconds(int httpDNSCacheTTLSeconds) {
+        checkNotBuilt();
+        configurationBean.setHttpDNSCacheTTLSeconds(httpDNSCacheTTLSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpAsyncResponseListenerEnabled(boolean httpAsyncResponseListenerEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpAsyncResponseListenerEnabled(httpAsyncResponseListenerEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseEventBufferSize(int httpResponseEventBufferSize) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseEventBufferSize(httpResponseEventBufferSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseEventDropPolicy(String httpResponseEventDropPolicy) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseEventDropPolicy(httpResponseEventDropPolicy);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpSSLProtocol(String httpSSLProtocol) {
+        checkNotBuilt();
+        configurationBean.setHttpSSLProtocol(httpSSLProtocol);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpSSLSessionCacheSize(int httpSSLSessionCacheSize) {
+        checkNotBuilt();
+        configurationBean.setHttpSSLSessionCacheSize(httpSSLSessionCacheSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpSSLSessionTimeoutSeconds(int httpSSLSessionTimeoutSeconds) {
+        checkNotBuilt();
+        configurationBean.setHttpSSLSessionTimeoutSeconds(httpSSLSessionTimeoutSeconds);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpClientImpl(String httpClientImpl) {
+        checkNotBuilt();
+        configurationBean.setHttpClientImpl(httpClientImpl);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpCallTimeout(int httpCallTimeout) {
+        checkNotBuilt();
+        configurationBean.setHttpCallTimeout(httpCallTimeout);
+        return this;
+    }
+
     public ConfigurationBuilder setOAuthConsumerKey(String oAuthConsumerKey) {
         checkNotBuilt();
         configurationBean.setOAuthConsumerKey(oAuthConsumerKey);
@@ -253,6 +373,12 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setJSONStoreRawEnabled(boolean jsonStoreRawEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStoreRawEnabled(jsonStoreRawEnabled);
+        return this;
+    }
+
     public ConfigurationBuilder setMBeanEnabled(boolean enabled) {
         checkNotBuilt();
         configurationBean.setMBeanEnabled(enabled);
@@ -283,6 +409,24 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setUserCacheSize(int userCacheSize) {
+        checkNotBuilt();
+        configurationBean.setUserCacheSize(userCacheSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setStringPoolSize(int stringPoolSize) {
+        checkNotBuilt();
+        configurationBean.setStringPoolSize(stringPoolSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setStringPoolFields(String stringPoolFields) {
+        checkNotBuilt();
+        configurationBean.setStringPoolFields(stringPoolFields);
+        return this;
+    }
+
     public Configuration build() {
         checkNotBuilt();
         try {
@@ -56,6 +56,27 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
     public static final String HTTP_MAX_TOTAL_CONNECTIONS = "http.maxTotalConnections";
     public static final String HTTP_DEFAULT_MAX_PER_ROUTE = "http.defaultMaxPerRoute";
 
+    public static final String HTTP_RETRY_MAX_INTERVAL_SECS = "http.retryMaxIntervalSecs";
+    public static final String HTTP_RETRY_BUDGET_PERCENT = "http.retryBudgetPercent";
+    public static final String HTTP_RETRY_POLICY_IMPL = "http.retryPolicyImpl";
+    public static final String HTTP_HEDGING = "http.hedging";
+    public static final String HTTP_HEDGING_PERCENTILE = "http.hedgingPercentile";
+    public static final String HTTP_HEDGING_MAX_PERCENT = "http.hedgingMaxPercent";
+    public static final String HTTP_RESPONSE_CACHE = "http.responseCache";
+    public static final String HTTP_RESPONSE_CACHE_IMPL = "http.responseCacheImpl";
+    public static final String HTTP_RESPONSE_CACHE_SIZE = "http.responseCacheSize";
+    public static final String HTTP_RESPONSE_CACHE_TTLS = "http.responseCacheTTLs";
+    public static final String HTTP_RESPONSE_CACHE_PARSED_JSON = "http.responseCacheParsedJSON";
+    public static final String HTTP_DNS_CACHE_TTL_SECS = "http.dnsCacheTTLSecs";
+    public static final String HTTP_ASYNC_RESPONSE_LISTENER = "http.asyncResponseListener";
+    public static final String HTTP_RESPONSE_EVENT_BUFFER_SIZE = "http.responseEventBufferSize";
+    public static final String HTTP_RESPONSE_EVENT_DROP_POLICY = "http.responseEventDropPolicy";
+    public static final String HTTP_SSL_PROTOCOL = "http.sslProtocol";
+    public static final String HTTP_SSL_SESSION_CACHE_SIZE = "http.sslSessionCacheSize";
+    public static final String HTTP_SSL_SESSION_TIMEOUT_SECS = "http.sslSessionTimeoutSecs";
+    public static final String HTTP_CLIENT_IMPL = "http.clientImpl";
+    public static final String HTTP_CALL_TIMEOUT = "http.callTimeout";
+
     public static final String OAUTH_CONSUMER_KEY = "oauth.consumerKey";
     public static final String OAUTH_CONSUMER_SECRET = "oauth.consumerSecret";
     public static final String OAUTH_ACCESS_TOKEN = "oauth.accessToken";
@@ -79,6 +100,7 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
     public static final String INCLUDE_RTS = "includeRTs";
     public static final String INCLUDE_ENTITIES = "includeEntities";
     public static final String JSON_STORE_ENABLED = "jsonStoreEnabled";
+    public static final String JSON_STORE_RAW = "jsonStore.raw";
     public static final String MBEAN_ENABLED = "mbeanEnabled";
     public static final String STREAM_USER_REPLIES_ALL = "stream.user.repliesAll";
 
@@ -86,6 +108,11 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
     public static final String MEDIA_PROVIDER_API_KEY = "media.providerAPIKey";
     public static final String MEDIA_PROVIDER_PARAMETERS = "media.providerParameters";
 
+    public static final String USER_CACHE_SIZE = "user.cacheSize";
+
+    public static final String STRING_POOL_SIZE = "stringPool.size";
+    public static final String STRING_POOL_FIELDS = "stringPool.fields";
+
     // hidden portion
     public static final String CLIENT_VERSION = "clientVersion";
     public static final String CLIENT_URL = "clientURL";
@@ -276,6 +303,66 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
         if (notNull(props, prefix, HTTP_DEFAULT_MAX_PER_ROUTE)) {
             setHttpDefaultMaxPerRoute(getIntProperty(props, prefix, HTTP_DEFAULT_MAX_PER_ROUTE));
         }
+        if (notNull(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS)) {
+            setHttpRetryMaxIntervalSeconds(getIntProperty(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_BUDGET_PERCENT)) {
+            setHttpRetryBudgetPercent(getIntProperty(props, prefix, HTTP_RETRY_BUDGET_PERCENT));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_POLICY_IMPL)) {
+            setHttpRetryPolicyImpl(getString(props, prefix, HTTP_RETRY_POLICY_IMPL));
+        }
+        if (notNull(props, prefix, HTTP_HEDGING)) {
+            setHttpHedgingEnabled(getBoolean(props, prefix, HTTP_HEDGING));
+        }
+        if (notNull(props, prefix, HTTP_HEDGING_PERCENTILE)) {
+            setHttpHedgingPercentile(getIntProperty(props, prefix, HTTP_HEDGING_PERCENTILE));
+        }
+        if (notNull(props, prefix, HTTP_HEDGING_MAX_PERCENT)) {
+            setHttpHedgingMaxPercent(getIntProperty(props, prefix, HTTP_HEDGING_MAX_PERCENT));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE)) {
+            setHttpResponseCacheEnabled(getBoolean(props, prefix, HTTP_RESPONSE_CACHE));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_IMPL)) {
+            setHttpResponseCacheImpl(getString(props, prefix, HTTP_RESPONSE_CACHE_IMPL));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_SIZE)) {
+            setHttpResponseCacheSize(getIntProperty(props, prefix, HTTP_RESPONSE_CACHE_SIZE));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_TTLS)) {
+            setHttpResponseCacheTTLs(getString(props, prefix, HTTP_RESPONSE_CACHE_TTLS));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_PARSED_JSON)) {
+            setHttpResponseCacheParsedJSONEnabled(getBoolean(props, prefix, HTTP_RESPONSE_CACHE_PARSED_JSON));
+        }
+        if (notNull(props, prefix, HTTP_DNS_CACHE_TTL_SECS)) {
+            setHttpDNSCacheTTLSeconds(getIntProperty(props, prefix, HTTP_DNS_CACHE_TTL_SECS));
+        }
+        if (notNull(props, prefix, HTTP_ASYNC_RESPONSE_LISTENER)) {
+            setHttpAsyncResponseListenerEnabled(getBoolean(props, prefix, HTTP_ASYNC_RESPONSE_LISTENER));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_EVENT_BUFFER_SIZE)) {
+            setHttpResponseEventBufferSize(getIntProperty(props, prefix, HTTP_RESPONSE_EVENT_BUFFER_SIZE));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_EVENT_DROP_POLICY)) {
+            setHttpResponseEventDropPolicy(getString(props, prefix, HTTP_RESPONSE_EVENT_DROP_POLICY));
+        }
+        if (notNull(props, prefix, HTTP_SSL_PROTOCOL)) {
+            setHttpSSLProtocol(getString(props, prefix, HTTP_SSL_PROTOCOL));
+        }
+        if (notNull(props, prefix, HTTP_SSL_SESSION_CACHE_SIZE)) {
+            setHttpSSLSessionCacheSize(getIntProperty(props, prefix, HTTP_SSL_SESSION_CACHE_SIZE));
+        }
+        if (notNull(props, prefix, HTTP_SSL_SESSION_TIMEOUT_SECS)) {
+            setHttpSSLSessionTimeoutSeconds(getIntProperty(props, prefix, HTTP_SSL_SESSION_TIMEOUT_SECS));
+        }
+        if (notNull(props, prefix, HTTP_CLIENT_IMPL)) {
+            setHttpClientImpl(getString(props, prefix, HTTP_CLIENT_IMPL));
+        }
+        if (notNull(props, prefix, HTTP_CALL_TIMEOUT)) {
+            setHttpCallTimeout(getIntProperty(props, prefix, HTTP_CALL_TIMEOUT));
+        }
         if (notNull(props, prefix, OAUTH_CONSUMER_KEY)) {
             setOAuthConsumerKey(getString(props, prefix, OAUTH_CONSUMER_KEY));
         }
@@ -346,12 +433,24 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
         if (notNull(props, prefix, JSON_STORE_ENABLED)) {
             setJSONStoreEnabled(getBoolean(props, prefix, JSON_STORE_ENABLED));
         }
+        if (notNull(props, prefix, JSON_STORE_RAW)) {
+            setJSONStoreRawEnabled(getBoolean(props, prefix, JSON_STORE_RAW));
+        }
         if (notNull(props, prefix, MBEAN_ENABLED)) {
             setMBeanEnabled(getBoolean(props, prefix, MBEAN_ENABLED));
         }
         if (notNull(props, prefix, STREAM_USER_REPLIES_ALL)) {
             setUserStreamRepliesAllEnabled(getBoolean(props, prefix, STREAM_USER_REPLIES_ALL));
         }
+        if (notNull(props, prefix, USER_CACHE_SIZE)) {
+            setUserCacheSize(getIntProperty(props, prefix, USER_CACHE_SIZE));
+        }
+        if (notNull(props, prefix, STRING_POOL_SIZE)) {
+            setStringPoolSize(getIntProperty(props, prefix, STRING_POOL_SIZE));
+        }
+        if (notNull(props, prefix, STRING_POOL_FIELDS)) {
+            setStringPoolFields(getString(props, prefix, STRING_POOL_FIELDS));
+        }
         if (notNull(props, prefix, MEDIA_PROVIDER)) {
             setMediaProvider(getString(props, prefix, MEDIA_PROVIDER));
         }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import java.io.IOException;
+
+/**
+ * Lets a request running on one thread be aborted from another.<br>
+ * HedgingHttpClient runs the primary leg of a hedged request on the calling thread, and aborts it once the hedge leg
+ * has responded first. HttpClient implementations register how to abort the connection in progress with
+ * setAborter(), and stop retrying once aborted. Requests of implementations which don't are simply waited for.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class AbortHook {
+    private static final ThreadLocal<AbortHook> CURRENT = new ThreadLocal<AbortHook>();
+
+    private Runnable aborter = null;
+    private boolean aborted = false;
+
+    AbortHook() {
+    }
+
+    /**
+     * @return the hook of the request running on the current thread, or null if the request can't be aborted
+     */
+    public static AbortHook current() {
+        return CURRENT.get();
+    }
+
+    /*package*/ static void install(AbortHook hook) {
+        CURRENT.set(hook);
+    }
+
+    /*package*/ static void uninstall() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @param aborter aborts the connection in progress, making the request fail with an IOException
+     * @throws IOException when the request has already been aborted
+     */
+    public void setAborter(Runnable aborter) throws IOException {
+        synchronized (this) {
+            if (!aborted) {
+                this.aborter = aborter;
+                return;
+            }
+        }
+        throw new IOException("Request aborted");
+    }
+
+    /**
+     * @return true if the request has been aborted
+     */
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    /*package*/ void abort() {
+        Runnable aborter;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            aborter = this.aborter;
+        }
+        if (null != aborter) {
+            aborter.run();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HttpResponse served from ResponseCache without accessing the network.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class CachedHttpResponse extends HttpResponse {
+    private final CachedResponse cached;
+
+    CachedHttpResponse(CachedResponse cached, HttpClientConfiguration conf) {
+        super(conf);
+        this.cached = cached;
+        this.statusCode = HttpResponseCode.OK;
+        this.responseAsString = cached.getBody();
+        this.json = cached.getJSONObject();
+        this.jsonArray = cached.getJSONArray();
+        if (null != responseAsString) {
+            try {
+                this.is = new ByteArrayInputStream(responseAsString.getBytes("UTF-8"));
+            } catch (UnsupportedEncodingException uee) {
+                throw new AssertionError(uee);
+            }
+        }
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        if ("ETag".equalsIgnoreCase(name)) {
+            return cached.getETag();
+        } else if ("Last-Modified".equalsIgnoreCase(name)) {
+            return cached.getLastModified();
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        Map<String, List<String>> fields = new HashMap<String, List<String>>();
+        if (null != cached.getETag()) {
+            List<String> values = new ArrayList<String>(1);
+            values.add(cached.getETag());
+            fields.put("ETag", values);
+        }
+        if (null != cached.getLastModified()) {
+            List<String> values = new ArrayList<String>(1);
+            values.add(cached.getLastModified());
+            fields.put("Last-Modified", values);
+        }
+        return fields;
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+    }
+}
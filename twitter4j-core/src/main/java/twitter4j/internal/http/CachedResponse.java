@@ -0,0 +1,118 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONException;
+import twitter4j.internal.org.json.JSONObject;
+
+/**
+ * A response body stored in ResponseCache, with the validators needed to revalidate it.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class CachedResponse implements java.io.Serializable {
+    private static final long serialVersionUID = -1781420944713046522L;
+    private final String body;
+    private final String eTag;
+    private final String lastModified;
+    private volatile long expiresAt;
+    private transient JSONObject json;
+    private transient JSONArray jsonArray;
+
+    CachedResponse(String body, String eTag, String lastModified, long expiresAt) {
+        this.body = body;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * @return value of the ETag response header, or null
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * @return value of the Last-Modified response header, or null
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    /**
+     * @return true if the response can be revalidated with a conditional GET
+     */
+    boolean isRevalidatable() {
+        return null != eTag || null != lastModified;
+    }
+
+    /**
+     * Parses the body once so that subsequent hits don't need to parse it again.<br>
+     * The parsed object is shared among the hits and must not be modified.
+     */
+    void parse() {
+        if (null == body) {
+            return;
+        }
+        String trimmed = body.trim();
+        try {
+            if (trimmed.startsWith("{")) {
+                json = new JSONObject(trimmed);
+            } else if (trimmed.startsWith("[")) {
+                jsonArray = new JSONArray(trimmed);
+            }
+        } catch (JSONException ignore) {
+            // will be reported when the caller parses the body
+        }
+    }
+
+    JSONObject getJSONObject() {
+        return json;
+    }
+
+    JSONArray getJSONArray() {
+        return jsonArray;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedResponse{" +
+                "eTag='" + eTag + '\'' +
+                ", lastModified='" + lastModified + '\'' +
+                ", expiresAt=" + expiresAt +
+                ", body='" + body + '\'' +
+                '}';
+    }
+}
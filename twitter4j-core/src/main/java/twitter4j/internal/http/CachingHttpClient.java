@@ -0,0 +1,196 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.TwitterException;
+import twitter4j.internal.logging.Logger;
+import twitter4j.internal.util.T4JInternalStringUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HttpClient decorator which serves GET requests to slowly changing resources from ResponseCache.<br>
+ * Resources and their time to live are specified by http.responseCacheTTLs as "resource=seconds" pairs separated by
+ * '&amp;'. A resource ending with '/' matches every resource under that path, otherwise the resource must match the end
+ * of the request path. The longest matching resource wins.<br>
+ * Expired responses carrying ETag or Last-Modified are revalidated with a conditional GET and served from the cache
+ * when the server responds 304 Not Modified.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class CachingHttpClient implements HttpClient, java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(CachingHttpClient.class);
+    private static final long serialVersionUID = -5370528306245216813L;
+
+    private final HttpClient http;
+    private final ResponseCache cache;
+    private final HttpClientConfiguration conf;
+    private final boolean parsedJSONEnabled;
+    private final String[] resources;
+    private final long[] ttls;
+
+    CachingHttpClient(HttpClient http, HttpClientWrapperConfiguration conf) {
+        this(http, ResponseCacheFactory.getInstance(conf), conf);
+    }
+
+    CachingHttpClient(HttpClient http, ResponseCache cache, HttpClientWrapperConfiguration conf) {
+        this.http = http;
+        this.cache = cache;
+        this.conf = conf;
+        this.parsedJSONEnabled = conf.isHttpResponseCacheParsedJSONEnabled();
+        List<String> resourceList = new ArrayList<String>();
+        List<Long> ttlList = new ArrayList<Long>();
+        if (null != conf.getHttpResponseCacheTTLs()) {
+            for (String pair : T4JInternalStringUtil.split(conf.getHttpResponseCacheTTLs(), "&")) {
+                int index = pair.lastIndexOf('=');
+                if (index <= 0) {
+                    logger.warn("Ignoring malformed http.responseCacheTTLs entry: ", pair);
+                    continue;
+                }
+                String resource = pair.substring(0, index).trim();
+                try {
+                    ttlList.add(Long.parseLong(pair.substring(index + 1).trim()) * 1000);
+                    resourceList.add(resource.startsWith("/") ? resource : "/" + resource);
+                } catch (NumberFormatException nfe) {
+                    logger.warn("Ignoring malformed http.responseCacheTTLs entry: ", pair);
+                }
+            }
+        }
+        resources = resourceList.toArray(new String[resourceList.size()]);
+        ttls = new long[ttlList.size()];
+        for (int i = 0; i < ttls.length; i++) {
+            ttls[i] = ttlList.get(i);
+        }
+    }
+
+    public HttpResponse request(HttpRequest req) throws TwitterException {
+        if (RequestMethod.GET != req.getMethod()) {
+            return http.request(req);
+        }
+        long ttl = getTTL(req.getURL());
+        if (ttl <= 0) {
+            return http.request(req);
+        }
+        CachedResponse cached = cache.get(req);
+        if (null != cached) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                logger.debug("Serving from the cache: ", req.getURL());
+                return new CachedHttpResponse(cached, conf);
+            }
+            if (cached.isRevalidatable()) {
+                HttpResponse res;
+                try {
+                    res = http.request(toConditionalRequest(req, cached));
+                } catch (TwitterException te) {
+                    if (HttpResponseCode.NOT_MODIFIED != te.getStatusCode()) {
+                        throw te;
+                    }
+                    logger.debug("Not modified: ", req.getURL());
+                    cached.setExpiresAt(System.currentTimeMillis() + ttl);
+                    // let caches storing a copy of the response know the new expiration
+                    cache.put(req, cached);
+                    return new CachedHttpResponse(cached, conf);
+                }
+                return store(req, res, ttl);
+            }
+        }
+        return store(req, http.request(req), ttl);
+    }
+
+    private HttpResponse store(HttpRequest req, HttpResponse res, long ttl) throws TwitterException {
+        CachedResponse cached = new CachedResponse(res.asString(), res.getResponseHeader("ETag")
+                , res.getResponseHeader("Last-Modified"), System.currentTimeMillis() + ttl);
+        if (parsedJSONEnabled) {
+            cached.parse();
+            res.json = cached.getJSONObject();
+            res.jsonArray = cached.getJSONArray();
+        }
+        cache.put(req, cached);
+        return res;
+    }
+
+    private static HttpRequest toConditionalRequest(HttpRequest req, CachedResponse cached) {
+        Map<String, String> headers = new HashMap<String, String>();
+        if (null != req.getRequestHeaders()) {
+            headers.putAll(req.getRequestHeaders());
+        }
+        if (null != cached.getETag()) {
+            headers.put("If-None-Match", cached.getETag());
+        }
+        if (null != cached.getLastModified()) {
+            headers.put("If-Modified-Since", cached.getLastModified());
+        }
+        return new HttpRequest(req.getMethod(), req.getURL(), null, req.getAuthorization(), headers);
+    }
+
+    /**
+     * @param url request url
+     * @return time to live in milliseconds. 0 if the resource is not to be cached.
+     */
+    /*package*/ long getTTL(String url) {
+        int index = url.indexOf('?');
+        String path = -1 == index ? url : url.substring(0, index);
+        long ttl = 0;
+        int matchedLength = 0;
+        for (int i = 0; i < resources.length; i++) {
+            String resource = resources[i];
+            if (resource.length() > matchedLength
+                    && (resource.endsWith("/") ? path.contains(resource) : path.endsWith(resource))) {
+                ttl = ttls[i];
+                matchedLength = resource.length();
+            }
+        }
+        return ttl;
+    }
+
+    public void shutdown() {
+        cache.clear();
+        http.shutdown();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CachingHttpClient that = (CachingHttpClient) o;
+
+        if (!cache.equals(that.cache)) return false;
+        if (!http.equals(that.http)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = http.hashCode();
+        result = 31 * result + cache.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CachingHttpClient{" +
+                "http=" + http +
+                ", cache=" + cache +
+                ", parsedJSONEnabled=" + parsedJSONEnabled +
+                '}';
+    }
+}
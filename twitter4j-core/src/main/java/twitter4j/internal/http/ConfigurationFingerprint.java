@@ -0,0 +1,166 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+/**
+ * Identity of HttpClientConfiguration as far as HttpClient is concerned.<br>
+ * Holds only the settings HttpClient implementations depend on and computes the hash code once, so that looking up a
+ * shared HttpClient doesn't need to hash and compare the whole configuration.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class ConfigurationFingerprint implements java.io.Serializable {
+    /**
+     * Implemented by configurations which compute their fingerprint once and keep it.
+     */
+    public interface Holder {
+        ConfigurationFingerprint getHttpClientFingerprint();
+    }
+
+    private static final long serialVersionUID = 3960261513725914582L;
+    private final String httpProxyHost;
+    private final int httpProxyPort;
+    private final String httpProxyUser;
+    private final String httpProxyPassword;
+    private final int httpConnectionTimeout;
+    private final int httpReadTimeout;
+    private final int httpRetryCount;
+    private final int httpRetryIntervalSeconds;
+    private final int httpMaxTotalConnections;
+    private final int httpDefaultMaxPerRoute;
+    private final int httpRetryMaxIntervalSeconds;
+    private final int httpRetryBudgetPercent;
+    private final String httpRetryPolicyImpl;
+    private final int httpDNSCacheTTLSeconds;
+    private final String httpSSLProtocol;
+    private final int httpSSLSessionCacheSize;
+    private final int httpSSLSessionTimeoutSeconds;
+    private final boolean prettyDebug;
+    private final boolean gzipEnabled;
+    private final String httpClientImpl;
+    private final int hashCode;
+
+    public ConfigurationFingerprint(HttpClientConfiguration conf) {
+        httpProxyHost = conf.getHttpProxyHost();
+        httpProxyPort = conf.getHttpProxyPort();
+        httpProxyUser = conf.getHttpProxyUser();
+        httpProxyPassword = conf.getHttpProxyPassword();
+        httpConnectionTimeout = conf.getHttpConnectionTimeout();
+        httpReadTimeout = conf.getHttpReadTimeout();
+        httpRetryCount = conf.getHttpRetryCount();
+        httpRetryIntervalSeconds = conf.getHttpRetryIntervalSeconds();
+        httpMaxTotalConnections = conf.getHttpMaxTotalConnections();
+        httpDefaultMaxPerRoute = conf.getHttpDefaultMaxPerRoute();
+        httpRetryMaxIntervalSeconds = conf.getHttpRetryMaxIntervalSeconds();
+        httpRetryBudgetPercent = conf.getHttpRetryBudgetPercent();
+        httpRetryPolicyImpl = conf.getHttpRetryPolicyImpl();
+        httpDNSCacheTTLSeconds = conf.getHttpDNSCacheTTLSeconds();
+        httpSSLProtocol = conf.getHttpSSLProtocol();
+        httpSSLSessionCacheSize = conf.getHttpSSLSessionCacheSize();
+        httpSSLSessionTimeoutSeconds = conf.getHttpSSLSessionTimeoutSeconds();
+        httpClientImpl = conf.getHttpClientImpl();
+        prettyDebug = conf.isPrettyDebugEnabled();
+        gzipEnabled = conf.isGZIPEnabled();
+
+        int result = httpProxyHost != null ? httpProxyHost.hashCode() : 0;
+        result = 31 * result + httpProxyPort;
+        result = 31 * result + (httpProxyUser != null ? httpProxyUser.hashCode() : 0);
+        result = 31 * result + (httpProxyPassword != null ? httpProxyPassword.hashCode() : 0);
+        result = 31 * result + httpConnectionTimeout;
+        result = 31 * result + httpReadTimeout;
+        result = 31 * result + httpRetryCount;
+        result = 31 * result + httpRetryIntervalSeconds;
+        result = 31 * result + httpMaxTotalConnections;
+        result = 31 * result + httpDefaultMaxPerRoute;
+        result = 31 * result + httpRetryMaxIntervalSeconds;
+        result = 31 * result + httpRetryBudgetPercent;
+        result = 31 * result + (httpRetryPolicyImpl != null ? httpRetryPolicyImpl.hashCode() : 0);
+        result = 31 * result + httpDNSCacheTTLSeconds;
+        result = 31 * result + (httpSSLProtocol != null ? httpSSLProtocol.hashCode() : 0);
+        result = 31 * result + httpSSLSessionCacheSize;
+        result = 31 * result + httpSSLSessionTimeoutSeconds;
+        result = 31 * result + (httpClientImpl != null ? httpClientImpl.hashCode() : 0);
+        result = 31 * result + (prettyDebug ? 1 : 0);
+        result = 31 * result + (gzipEnabled ? 1 : 0);
+        hashCode = result;
+    }
+
+    int getHttpMaxTotalConnections() {
+        return httpMaxTotalConnections;
+    }
+
+    int getHttpDefaultMaxPerRoute() {
+        return httpDefaultMaxPerRoute;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ConfigurationFingerprint that = (ConfigurationFingerprint) o;
+
+        if (hashCode != that.hashCode) return false;
+        if (httpProxyPort != that.httpProxyPort) return false;
+        if (httpConnectionTimeout != that.httpConnectionTimeout) return false;
+        if (httpReadTimeout != that.httpReadTimeout) return false;
+        if (httpRetryCount != that.httpRetryCount) return false;
+        if (httpRetryIntervalSeconds != that.httpRetryIntervalSeconds) return false;
+        if (httpMaxTotalConnections != that.httpMaxTotalConnections) return false;
+        if (httpDefaultMaxPerRoute != that.httpDefaultMaxPerRoute) return false;
+        if (httpRetryMaxIntervalSeconds != that.httpRetryMaxIntervalSeconds) return false;
+        if (httpRetryBudgetPercent != that.httpRetryBudgetPercent) return false;
+        if (httpDNSCacheTTLSeconds != that.httpDNSCacheTTLSeconds) return false;
+        if (httpSSLSessionCacheSize != that.httpSSLSessionCacheSize) return false;
+        if (httpSSLSessionTimeoutSeconds != that.httpSSLSessionTimeoutSeconds) return false;
+        if (prettyDebug != that.prettyDebug) return false;
+        if (gzipEnabled != that.gzipEnabled) return false;
+        if (httpProxyHost != null ? !httpProxyHost.equals(that.httpProxyHost) : that.httpProxyHost != null)
+            return false;
+        if (httpProxyUser != null ? !httpProxyUser.equals(that.httpProxyUser) : that.httpProxyUser != null)
+            return false;
+        if (httpProxyPassword != null ? !httpProxyPassword.equals(that.httpProxyPassword) : that.httpProxyPassword != null)
+            return false;
+        if (httpRetryPolicyImpl != null ? !httpRetryPolicyImpl.equals(that.httpRetryPolicyImpl) : that.httpRetryPolicyImpl != null)
+            return false;
+        if (httpSSLProtocol != null ? !httpSSLProtocol.equals(that.httpSSLProtocol) : that.httpSSLProtocol != null)
+            return false;
+        if (httpClientImpl != null ? !httpClientImpl.equals(that.httpClientImpl) : that.httpClientImpl != null)
+            return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationFingerprint{" +
+                "httpClientImpl='" + httpClientImpl + '\'' +
+                ", httpProxyHost='" + httpProxyHost + '\'' +
+                ", httpProxyPort=" + httpProxyPort +
+                ", httpConnectionTimeout=" + httpConnectionTimeout +
+                ", httpReadTimeout=" + httpReadTimeout +
+                ", httpMaxTotalConnections=" + httpMaxTotalConnections +
+                ", httpDefaultMaxPerRoute=" + httpDefaultMaxPerRoute +
+                ", hashCode=" + hashCode +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+
+/**
+ * Response stream which stops reading at the deadline of the call.<br>
+ * The read timeout only bounds a single read, so a slowly trickling response would otherwise outlive the deadline.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class DeadlineInputStream extends FilterInputStream {
+    private final long deadline;
+
+    DeadlineInputStream(InputStream in, long deadline) {
+        super(in);
+        this.deadline = deadline;
+    }
+
+    private void ensureRemaining() throws IOException {
+        if (deadline <= System.currentTimeMillis()) {
+            throw new SocketTimeoutException("Deadline exceeded while reading the response");
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureRemaining();
+        return super.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureRemaining();
+        return super.read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ensureRemaining();
+        return super.skip(n);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.Deadline;
+import twitter4j.internal.logging.Logger;
+
+import java.io.IOException;
+
+/**
+ * RetryPolicy decorator which gives up as soon as the next attempt can't start before the deadline of the call.<br>
+ * Sleeping until a retry that is bound to miss the deadline only ties up the calling thread.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class DeadlineRetryPolicy implements RetryPolicy, java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(DeadlineRetryPolicy.class);
+    private static final long serialVersionUID = -3046296371958425312L;
+    private final RetryPolicy policy;
+
+    DeadlineRetryPolicy(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    public void requestStarted(HttpRequest req) {
+        policy.requestStarted(req);
+    }
+
+    public long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, IOException ioe) {
+        long retryDelay = policy.getRetryDelay(req, retriedCount, res, ioe);
+        if (NO_RETRY != retryDelay && Deadline.remaining() <= retryDelay) {
+            logger.debug("Not retrying. The deadline passes within " + retryDelay + " milliseconds: ", req.getURL());
+            return NO_RETRY;
+        }
+        return retryDelay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DeadlineRetryPolicy that = (DeadlineRetryPolicy) o;
+
+        return policy.equals(that.policy);
+    }
+
+    @Override
+    public int hashCode() {
+        return policy.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DeadlineRetryPolicy{" +
+                "policy=" + policy +
+                '}';
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import twitter4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default RetryPolicy implementation.<br>
+ * Retries 5xx responses and IOExceptions up to http.retryCount times with exponential backoff and jitter, starting
+ * from http.retryIntervalSecs and capped at http.retryMaxIntervalSecs. A Retry-After header returned by the server
+ * takes precedence over the computed interval.<br>
+ * Only idempotent requests are retried. POST requests are not retried unless the resource is known to be idempotent,
+ * see {@link #isIdempotent(HttpRequest)}.<br>
+ * The number of retries is limited to http.retryBudgetPercent percent of the requests issued through the client
+ * within a sliding window, so that retries do not multiply the load on Twitter during an outage.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class DefaultRetryPolicy implements RetryPolicy, java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(DefaultRetryPolicy.class);
+    private static final long serialVersionUID = 4375064227934316585L;
+
+    private static final long BUDGET_WINDOW_MILLIS = 10 * 1000;
+    // retries always allowed within a window regardless of the ratio, so that a quiet client can still retry
+    private static final int MIN_RETRIES_PER_WINDOW = 10;
+
+    // POST resources which can safely be retried
+    private static final String[] IDEMPOTENT_POST_RESOURCES = {
+            "account/update_profile.json",
+            "account/update_profile_colors.json",
+            "account/update_delivery_device.json",
+            "oauth/request_token"
+    };
+
+    private final int retryCount;
+    private final long retryIntervalMillis;
+    private final long retryMaxIntervalMillis;
+    private final int retryBudgetPercent;
+
+    private final Random random = new Random();
+    private volatile long windowStart = System.currentTimeMillis();
+    private final AtomicInteger requestsInWindow = new AtomicInteger(0);
+    private final AtomicInteger retriesInWindow = new AtomicInteger(0);
+
+    public DefaultRetryPolicy(HttpClientConfiguration conf) {
+        this.retryCount = conf.getHttpRetryCount();
+        this.retryIntervalMillis = conf.getHttpRetryIntervalSeconds() * 1000L;
+        this.retryMaxIntervalMillis = Math.max(retryIntervalMillis, conf.getHttpRetryMaxIntervalSeconds() * 1000L);
+        this.retryBudgetPercent = conf.getHttpRetryBudgetPercent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void requestStarted(HttpRequest req) {
+        rollWindow();
+        requestsInWindow.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, IOException ioe) {
+        if (retriedCount >= retryCount) {
+            return NO_RETRY;
+        }
+        if (null != res && res.getStatusCode() < HttpResponseCode.INTERNAL_SERVER_ERROR) {
+            return NO_RETRY;
+        }
+        if (!isIdempotent(req)) {
+            logger.debug("Not retrying non-idempotent request: ", req.getURL());
+            return NO_RETRY;
+        }
+        long delay = computeBackoff(retriedCount);
+        if (null != res) {
+            long retryAfter = parseRetryAfter(res.getResponseHeader("Retry-After"));
+            if (retryAfter > retryMaxIntervalMillis) {
+                logger.debug("Retry-After exceeds http.retryMaxIntervalSecs. Giving up.");
+                return NO_RETRY;
+            }
+            if (retryAfter >= 0) {
+                delay = retryAfter;
+            }
+        }
+        if (!acquireRetryBudget()) {
+            logger.warn("Retry budget exhausted. Giving up retrying: ", req.getURL());
+            return NO_RETRY;
+        }
+        return delay;
+    }
+
+    /**
+     * Returns true if the request can be sent more than once without side effects.<br>
+     * Override this method to change the per-resource rules.
+     *
+     * @param req the request
+     * @return true if the request can be retried
+     */
+    protected boolean isIdempotent(HttpRequest req) {
+        if (RequestMethod.POST != req.getMethod()) {
+            return true;
+        }
+        String url = req.getURL();
+        for (String resource : IDEMPOTENT_POST_RESOURCES) {
+            if (url.endsWith(resource)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*package*/ long computeBackoff(int retriedCount) {
+        if (0 >= retryIntervalMillis) {
+            return 0;
+        }
+        long interval = retryIntervalMillis << Math.min(retriedCount, 20);
+        if (interval > retryMaxIntervalMillis || interval <= 0) {
+            interval = retryMaxIntervalMillis;
+        }
+        // "equal jitter": half of the interval is fixed, the other half is random
+        long half = interval / 2;
+        long jitter;
+        synchronized (random) {
+            jitter = (long) (random.nextDouble() * (interval - half + 1));
+        }
+        return half + jitter;
+    }
+
+    private boolean acquireRetryBudget() {
+        if (0 >= retryBudgetPercent) {
+            return true;
+        }
+        rollWindow();
+        int allowed = Math.max(MIN_RETRIES_PER_WINDOW, requestsInWindow.get() * retryBudgetPercent / 100);
+        if (retriesInWindow.incrementAndGet() > allowed) {
+            retriesInWindow.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void rollWindow() {
+        long now = System.currentTimeMillis();
+        if (now - windowStart > BUDGET_WINDOW_MILLIS) {
+            synchronized (this) {
+                if (now - windowStart > BUDGET_WINDOW_MILLIS) {
+                    requestsInWindow.set(0);
+                    retriesInWindow.set(0);
+                    windowStart = now;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param value value of the Retry-After header, either delta-seconds or an HTTP-date
+     * @return Retry-After in milliseconds, or -1 if not present or unparseable
+     */
+    /*package*/
+    static long parseRetryAfter(String value) {
+        if (null == value) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException nfe) {
+            try {
+                long date = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.ENGLISH)
+                        .parse(value).getTime();
+                return Math.max(0, date - System.currentTimeMillis());
+            } catch (ParseException pe) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultRetryPolicy{" +
+                "retryCount=" + retryCount +
+                ", retryIntervalMillis=" + retryIntervalMillis +
+                ", retryMaxIntervalMillis=" + retryMaxIntervalMillis +
+                ", retryBudgetPercent=" + retryBudgetPercent +
+                '}';
+    }
+}
@@ -40,42 +40,82 @@ public final class HTMLEntity {
         }
     }
 
+    /**
+     * Decodes the entities in the string in a single pass.<br>
+     * Strings without '&amp;', which is most of the texts, are returned as is without copying.
+     *
+     * @param original string to be unescaped
+     * @return unescaped string
+     */
     public static String unescape(String original) {
-        String returnValue = null;
-        if (null != original) {
-            StringBuffer buf = new StringBuffer(original);
-            unescape(buf);
-            returnValue = buf.toString();
+        if (null == original) {
+            return null;
         }
-        return returnValue;
+        int index = original.indexOf('&');
+        if (-1 == index) {
+            return original;
+        }
+        int length = original.length();
+        // decoded text is never longer than the original
+        char[] buf = new char[length];
+        original.getChars(0, index, buf, 0);
+        int count = index;
+        while (index < length) {
+            char c = original.charAt(index);
+            if ('&' == c) {
+                int limit = Math.min(length, index + maxEntityLength);
+                for (int semicolon = index + 1; semicolon < limit; semicolon++) {
+                    if (';' == original.charAt(semicolon)) {
+                        c = lookup(original, index, semicolon + 1);
+                        if (0 != c) {
+                            index = semicolon;
+                        } else {
+                            c = '&';
+                        }
+                        break;
+                    }
+                }
+            }
+            buf[count++] = c;
+            index++;
+        }
+        return new String(buf, 0, count);
     }
 
     public static void unescape(StringBuffer original) {
-        int index = 0;
-        int semicolonIndex;
-        String escaped;
-        String entity;
-        while (index < original.length()) {
-            index = original.indexOf("&", index);
-            if (-1 == index) {
-                break;
-            }
-            semicolonIndex = original.indexOf(";", index);
-            if (-1 != semicolonIndex) {
-                escaped = original.substring(index, semicolonIndex + 1);
-                entity = escapeEntityMap.get(escaped);
-                if (null != entity) {
-                    original.replace(index, semicolonIndex + 1, entity);
-                }
-                index++;
-            } else {
-                break;
+        String unescaped = unescape(original.toString());
+        if (unescaped.length() != original.length()) {
+            original.setLength(0);
+            original.append(unescaped);
+        }
+    }
+
+    /**
+     * @return the character the entity in the region stands for, or 0 if the region is not a known entity
+     */
+    private static char lookup(String str, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + str.charAt(i);
+        }
+        int mask = entityNames.length - 1;
+        h = (h ^ (h >>> 16)) & mask;
+        String name;
+        int length = end - start;
+        while (null != (name = entityNames[h])) {
+            if (name.length() == length && str.regionMatches(start, name, 0, length)) {
+                return entityChars[h];
             }
+            h = (h + 1) & mask;
         }
+        return 0;
     }
 
     private static Map<String, String> entityEscapeMap = new HashMap<String, String>();
-    private static Map<String, String> escapeEntityMap = new HashMap<String, String>();
+    // open addressing table of the named and numeric entities, including '&' and ';'
+    private static final String[] entityNames = new String[1024];
+    private static final char[] entityChars = new char[entityNames.length];
+    private static int maxEntityLength = 0;
 
     static {
         String[][] entities =
@@ -360,9 +400,21 @@ public final class HTMLEntity {
                         , {"&euro;", "&#8364;" /* euro sign */, "\u20AC"}};
         for (String[] entity : entities) {
             entityEscapeMap.put(entity[2], entity[0]);
-            escapeEntityMap.put(entity[0], entity[2]);
-            escapeEntityMap.put(entity[1], entity[2]);
+            putEntity(entity[0], entity[2].charAt(0));
+            putEntity(entity[1], entity[2].charAt(0));
+        }
+    }
+
+    private static void putEntity(String name, char c) {
+        int h = name.hashCode();
+        int mask = entityNames.length - 1;
+        h = (h ^ (h >>> 16)) & mask;
+        while (null != entityNames[h]) {
+            h = (h + 1) & mask;
         }
+        entityNames[h] = name;
+        entityChars[h] = c;
+        maxEntityLength = Math.max(maxEntityLength, name.length());
     }
 
 }
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import twitter4j.Deadline;
+import twitter4j.TwitterException;
+import twitter4j.internal.logging.Logger;
+import twitter4j.management.HedgingStatistics;
+import twitter4j.management.HedgingStatisticsMBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HttpClient decorator which hedges GET requests.<br>
+ * When no response has arrived within the http.hedgingPercentile latency of recent requests, an identical request is
+ * sent and the first response wins. The primary request runs on the calling thread and is aborted when the hedge
+ * request wins. The hedge request runs on a bounded pool, and is abandoned and disconnected when it loses.<br>
+ * At most http.hedgingMaxPercent percent of the requests are hedged so that the rate limit is not exhausted.<br>
+ * Latency samples and the hedge budget are kept JVM wide per host, so that short lived Twitter instances hedge too.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class HedgingHttpClient implements HttpClient, java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(HedgingHttpClient.class);
+    private static final long serialVersionUID = 2983472650391740287L;
+
+    private static final HedgingStatistics STATISTICS = new HedgingStatistics();
+    private static final ConcurrentMap<String, Latencies> LATENCIES = new ConcurrentHashMap<String, Latencies>();
+    // hedges are few, capped by http.hedgingMaxPercent. a hedge not finding a thread is not sent
+    private static final int MAX_HEDGE_THREADS = 16;
+    private static final ThreadPoolExecutor HEDGE_EXECUTOR = new ThreadPoolExecutor(0, MAX_HEDGE_THREADS
+            , 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactory() {
+        private int count = 0;
+
+        public synchronized Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Twitter4J Hedging Request[" + (count++) + "]");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Twitter4J Hedging Timer");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    static {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            mbs.registerMBean(STATISTICS, new ObjectName("twitter4j.mbean:type=HedgingStatistics"));
+        } catch (Exception e) {
+            logger.warn("Failed to register HedgingStatistics MBean: ", e.getMessage());
+        }
+    }
+
+    // hedging starts once this number of latency samples has been collected
+    private static final int MIN_SAMPLES = 20;
+    private static final int SAMPLE_SIZE = 256;
+
+    private final HttpClient http;
+    private final int percentile;
+    private final int maxHedgePercent;
+
+    HedgingHttpClient(HttpClient http, HttpClientWrapperConfiguration conf) {
+        this.http = http;
+        this.percentile = Math.max(1, Math.min(conf.getHttpHedgingPercentile(), 100));
+        this.maxHedgePercent = conf.getHttpHedgingMaxPercent();
+    }
+
+    /**
+     * @return JVM wide statistics of hedged requests
+     */
+    static HedgingStatisticsMBean getStatistics() {
+        return STATISTICS;
+    }
+
+    public HttpResponse request(HttpRequest req) throws TwitterException {
+        if (RequestMethod.GET != req.getMethod()) {
+            return http.request(req);
+        }
+        STATISTICS.requested();
+        Latencies latencies = getLatencies(req.getURL());
+        latencies.requestCount.incrementAndGet();
+        long delay = latencies.getHedgeDelay();
+        long start = System.currentTimeMillis();
+        if (delay < 0) {
+            // not enough samples yet
+            HttpResponse res = http.request(req);
+            latencies.record(System.currentTimeMillis() - start);
+            return res;
+        }
+
+        HedgedRequest hedged = new HedgedRequest(req, latencies);
+        ScheduledFuture<?> timer = TIMER.schedule(hedged, delay, TimeUnit.MILLISECONDS);
+        HttpResponse res = null;
+        TwitterException exception = null;
+        AbortHook.install(hedged.primaryHook);
+        try {
+            res = http.request(req);
+        } catch (TwitterException te) {
+            exception = te;
+        } finally {
+            AbortHook.uninstall();
+            timer.cancel(false);
+        }
+        res = hedged.primaryDone(res, exception);
+        // end to end, as the hedge leg started late
+        latencies.record(System.currentTimeMillis() - start);
+        return res;
+    }
+
+    private Latencies getLatencies(String url) {
+        int hostStart = url.indexOf("://");
+        hostStart = hostStart < 0 ? 0 : hostStart + 3;
+        int hostEnd = url.indexOf('/', hostStart);
+        String key = (hostEnd < 0 ? url.substring(hostStart) : url.substring(hostStart, hostEnd))
+                + " " + percentile + " " + maxHedgePercent;
+        Latencies latencies = LATENCIES.get(key);
+        if (null == latencies) {
+            latencies = new Latencies(percentile, maxHedgePercent);
+            Latencies existing = LATENCIES.putIfAbsent(key, latencies);
+            if (null != existing) {
+                latencies = existing;
+            }
+        }
+        return latencies;
+    }
+
+    /*package*/ void recordLatency(String url, long elapsedTime) {
+        getLatencies(url).record(elapsedTime);
+    }
+
+    public void shutdown() {
+        http.shutdown();
+    }
+
+    /**
+     * Latency samples and the hedge budget of the requests to a host.
+     */
+    private static final class Latencies {
+        private final int percentile;
+        private final int maxHedgePercent;
+        private final long[] samples = new long[SAMPLE_SIZE];
+        private int sampleCount = 0;
+        private long hedgeDelay = -1;
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong hedgedCount = new AtomicLong();
+
+        Latencies(int percentile, int maxHedgePercent) {
+            this.percentile = percentile;
+            this.maxHedgePercent = maxHedgePercent;
+        }
+
+        boolean acquireHedge() {
+            long hedged;
+            do {
+                hedged = hedgedCount.get();
+                if ((hedged + 1) * 100 > requestCount.get() * maxHedgePercent) {
+                    return false;
+                }
+            } while (!hedgedCount.compareAndSet(hedged, hedged + 1));
+            return true;
+        }
+
+        void releaseHedge() {
+            hedgedCount.decrementAndGet();
+        }
+
+        synchronized long getHedgeDelay() {
+            return hedgeDelay;
+        }
+
+        synchronized void record(long elapsedTime) {
+            samples[sampleCount % SAMPLE_SIZE] = elapsedTime;
+            sampleCount++;
+            // re-computing the percentile on every request is wasteful
+            if (sampleCount >= MIN_SAMPLES && (sampleCount < SAMPLE_SIZE || 0 == sampleCount % 16)) {
+                int size = Math.min(sampleCount, SAMPLE_SIZE);
+                long[] sorted = new long[size];
+                System.arraycopy(samples, 0, sorted, 0, size);
+                Arrays.sort(sorted);
+                hedgeDelay = sorted[Math.min(size - 1, (size * percentile + 99) / 100 - 1)];
+            }
+        }
+    }
+
+    /**
+     * A GET request whose primary leg runs on the calling thread, and whose hedge leg is started by the timer.
+     */
+    private final class HedgedRequest implements Runnable {
+        private final HttpRequest req;
+        private final Latencies latencies;
+        // the hedge leg runs on a pooled thread. carry over the deadline of the calling thread
+        private final long deadline = Deadline.get();
+        private final AbortHook primaryHook = new AbortHook();
+        private final AbortHook hedgeHook = new AbortHook();
+        // guarded by this
+        private boolean primaryDone = false;
+        private boolean hedgeStarted = false;
+        private boolean hedgeDone = false;
+        private boolean hedgeAbandoned = false;
+        private HttpResponse hedgeResponse = null;
+
+        HedgedRequest(HttpRequest req, Latencies latencies) {
+            this.req = req;
+            this.latencies = latencies;
+        }
+
+        /**
+         * Starts the hedge leg. Runs on the timer thread once no response has arrived within the hedge delay.
+         */
+        public void run() {
+            synchronized (this) {
+                if (primaryDone || !latencies.acquireHedge()) {
+                    return;
+                }
+                hedgeStarted = true;
+            }
+            try {
+                HEDGE_EXECUTOR.execute(new Runnable() {
+                    public void run() {
+                        runHedge();
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                // as many hedges in flight as threads
+                latencies.releaseHedge();
+                synchronized (this) {
+                    hedgeStarted = false;
+                    notifyAll();
+                }
+                return;
+            }
+            logger.debug("No response within the hedge delay. Hedging ", req.getURL());
+            STATISTICS.hedged();
+        }
+
+        private void runHedge() {
+            Deadline.setAt(deadline);
+            AbortHook.install(hedgeHook);
+            HttpResponse res = null;
+            try {
+                res = http.request(req);
+            } catch (TwitterException ignore) {
+                // the primary leg reports its own failure
+            } finally {
+                AbortHook.uninstall();
+                Deadline.clear();
+            }
+            boolean won;
+            boolean abandoned;
+            synchronized (this) {
+                hedgeDone = true;
+                hedgeResponse = res;
+                abandoned = hedgeAbandoned;
+                won = !abandoned && !primaryDone && null != res;
+                notifyAll();
+            }
+            if (won) {
+                primaryHook.abort();
+            } else if (abandoned) {
+                disconnect(res);
+            }
+        }
+
+        /**
+         * Picks the response once the primary leg has returned on the calling thread.
+         *
+         * @param res       response of the primary leg, or null if it failed
+         * @param exception failure of the primary leg
+         * @return the response of the leg which responded first
+         * @throws TwitterException when both legs failed
+         */
+        HttpResponse primaryDone(HttpResponse res, TwitterException exception) throws TwitterException {
+            HttpResponse hedgeRes;
+            synchronized (this) {
+                primaryDone = true;
+                if (null == res) {
+                    // the primary leg failed. wait for the other one
+                    try {
+                        while (hedgeStarted && !hedgeDone) {
+                            wait();
+                        }
+                    } catch (InterruptedException ie) {
+                        hedgeAbandoned = true;
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                hedgeRes = hedgeResponse;
+                if (null == hedgeRes && hedgeStarted && !hedgeDone) {
+                    hedgeAbandoned = true;
+                }
+            }
+            if (null != hedgeRes) {
+                STATISTICS.hedgeWon();
+                disconnect(res);
+                return hedgeRes;
+            }
+            hedgeHook.abort();
+            if (null != exception) {
+                throw exception;
+            }
+            return res;
+        }
+
+        private void disconnect(HttpResponse res) {
+            if (null != res) {
+                try {
+                    res.disconnect();
+                } catch (Exception ignore) {
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HedgingHttpClient that = (HedgingHttpClient) o;
+
+        if (maxHedgePercent != that.maxHedgePercent) return false;
+        if (percentile != that.percentile) return false;
+        if (!http.equals(that.http)) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = http.hashCode();
+        result = 31 * result + percentile;
+        result = 31 * result + maxHedgePercent;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingHttpClient{" +
+                "http=" + http +
+                ", percentile=" + percentile +
+                ", maxHedgePercent=" + maxHedgePercent +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.internal.logging.Logger;
+
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.security.Security;
+
+/**
+ * Resolves hosts ahead of the first request, and applies http.dnsCacheTTLSecs.<br>
+ * Answers are cached by the JVM wide InetAddress cache, not by this class. Its time to live, networkaddress.cache.ttl,
+ * is a JVM wide security property the JVM reads once, on the first name lookup. So http.dnsCacheTTLSecs is a one-time
+ * setting: it is applied by the first HttpClient created with a non-negative value, takes effect only if no name has
+ * been looked up in the JVM yet, and a different value in a later configuration is ignored with a warning. To be sure
+ * it applies, set networkaddress.cache.ttl in the java.security file or at startup instead.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class HostResolver {
+    private static final Logger logger = Logger.getLogger(HostResolver.class);
+    private static int appliedTTL = -1;
+
+    private HostResolver() {
+        throw new AssertionError();
+    }
+
+    static synchronized void configure(HttpClientConfiguration conf) {
+        int ttl = conf.getHttpDNSCacheTTLSeconds();
+        if (ttl < 0 || ttl == appliedTTL) {
+            return;
+        }
+        if (-1 != appliedTTL) {
+            logger.warn("networkaddress.cache.ttl is a JVM wide setting, already set to " + appliedTTL
+                    + ". Ignoring http.dnsCacheTTLSecs=", String.valueOf(ttl));
+            return;
+        }
+        try {
+            Security.setProperty("networkaddress.cache.ttl", String.valueOf(ttl));
+            appliedTTL = ttl;
+            logger.debug("networkaddress.cache.ttl set to ", String.valueOf(ttl));
+        } catch (SecurityException se) {
+            logger.warn("Failed to set networkaddress.cache.ttl: ", se.getMessage());
+        }
+    }
+
+    /**
+     * @return the time to live applied, or -1 if none has been applied
+     */
+    static synchronized int getAppliedTTL() {
+        return appliedTTL;
+    }
+
+    /**
+     * Resolves the host of the url, so that the answer is in the JVM wide name lookup cache by the first request.
+     *
+     * @param url url
+     * @return addresses of the host
+     * @throws UnknownHostException  when the host cannot be resolved
+     * @throws MalformedURLException when the url is malformed
+     */
+    public static InetAddress[] resolve(String url) throws UnknownHostException, MalformedURLException {
+        return InetAddress.getAllByName(new URL(url).getHost());
+    }
+}
@@ -41,6 +41,22 @@ public interface HttpClientConfiguration {
 
     int getHttpDefaultMaxPerRoute();
 
+    int getHttpRetryMaxIntervalSeconds();
+
+    int getHttpRetryBudgetPercent();
+
+    String getHttpRetryPolicyImpl();
+
+    int getHttpDNSCacheTTLSeconds();
+
+    String getHttpSSLProtocol();
+
+    int getHttpSSLSessionCacheSize();
+
+    int getHttpSSLSessionTimeoutSeconds();
+
+    String getHttpClientImpl();
+
     boolean isPrettyDebugEnabled();
 
     boolean isGZIPEnabled();
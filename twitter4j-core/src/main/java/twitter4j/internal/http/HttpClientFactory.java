@@ -20,17 +20,28 @@ import twitter4j.internal.logging.Logger;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Hands out HttpClient instances shared among the callers with equivalent HttpClientConfiguration so that they share
+ * a connection pool.<br>
+ * The shared instance is shut down once every caller has called shutdown() of the returned HttpClient. Its pool keeps
+ * the size of http.maxTotalConnections and http.defaultMaxPerRoute however many callers share it, and callers wait
+ * for a connection to be released once it is exhausted.<br>
+ * Callers holding connections for long, like streams, should get an instance of their own with getUnsharedInstance().
+ *
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.2
  */
 public final class HttpClientFactory {
-    private static final Constructor HTTP_CLIENT_CONSTRUCTOR;
+    private static final Constructor<?> HTTP_CLIENT_CONSTRUCTOR;
     private static final Logger logger = Logger.getLogger(HttpClientFactory.class);
+    private static final ConcurrentMap<ConfigurationFingerprint, Entry> CLIENTS
+            = new ConcurrentHashMap<ConfigurationFingerprint, Entry>();
 
     static {
-        Class clazz = null;
+        Class<?> clazz = null;
         try {
             clazz = Class.forName("twitter4j.internal.http.alternative.HttpClientImpl");
         } catch (ClassNotFoundException ignore) {
@@ -51,14 +62,104 @@ public final class HttpClientFactory {
     }
 
     public static HttpClient getInstance(HttpClientConfiguration conf) {
+        ConfigurationFingerprint fingerprint = conf instanceof ConfigurationFingerprint.Holder
+                ? ((ConfigurationFingerprint.Holder) conf).getHttpClientFingerprint()
+                : new ConfigurationFingerprint(conf);
+        while (true) {
+            Entry entry = CLIENTS.get(fingerprint);
+            if (null == entry) {
+                // creating a client twice would end up with duplicate connection pools
+                synchronized (CLIENTS) {
+                    entry = CLIENTS.get(fingerprint);
+                    if (null == entry) {
+                        HostResolver.configure(conf);
+                        entry = new Entry(fingerprint, newInstance(conf));
+                        CLIENTS.put(fingerprint, entry);
+                    }
+                }
+            }
+            if (entry.acquire()) {
+                return new SharedHttpClient(entry);
+            }
+            // the client has just been shut down
+        }
+    }
+
+    /**
+     * @param conf configuration
+     * @return an HttpClient of its own, which is not shared with any other caller
+     */
+    public static HttpClient getUnsharedInstance(HttpClientConfiguration conf) {
+        HostResolver.configure(conf);
+        return newInstance(conf);
+    }
+
+    /**
+     * @return number of HttpClient instances currently shared
+     */
+    static int getSharedClientCount() {
+        return CLIENTS.size();
+    }
+
+    private static HttpClient newInstance(HttpClientConfiguration conf) {
         try {
-            return (HttpClient) HTTP_CLIENT_CONSTRUCTOR.newInstance(conf);
+            Constructor<?> constructor = HTTP_CLIENT_CONSTRUCTOR;
+            if (null != conf.getHttpClientImpl()) {
+                // explicitly specified by http.clientImpl
+                constructor = Class.forName(conf.getHttpClientImpl()).getConstructor(HttpClientConfiguration.class);
+            }
+            return (HttpClient) constructor.newInstance(conf);
         } catch (InstantiationException e) {
             throw new AssertionError(e);
         } catch (IllegalAccessException e) {
             throw new AssertionError(e);
         } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                // the implementation rejected the configuration
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AssertionError(e);
+        } catch (ClassNotFoundException e) {
             throw new AssertionError(e);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static final class Entry implements java.io.Serializable {
+        private static final long serialVersionUID = 7394818432751329470L;
+        private final ConfigurationFingerprint fingerprint;
+        private final HttpClient client;
+        private int references = 0;
+        private boolean shutdown = false;
+
+        Entry(ConfigurationFingerprint fingerprint, HttpClient client) {
+            this.fingerprint = fingerprint;
+            this.client = client;
+        }
+
+        HttpClient getClient() {
+            return client;
+        }
+
+        synchronized boolean acquire() {
+            if (shutdown) {
+                return false;
+            }
+            references++;
+            return true;
+        }
+
+        void release() {
+            synchronized (this) {
+                if (--references > 0) {
+                    return;
+                }
+                shutdown = true;
+            }
+            CLIENTS.remove(fingerprint, this);
+            logger.debug("Shutting down ", client.toString());
+            client.shutdown();
         }
     }
 }
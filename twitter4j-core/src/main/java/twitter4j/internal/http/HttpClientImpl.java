@@ -16,11 +16,14 @@
 
 package twitter4j.internal.http;
 
+import twitter4j.Deadline;
 import twitter4j.TwitterException;
 import twitter4j.conf.ConfigurationContext;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.util.T4JInternalStringUtil;
 
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
 import java.io.BufferedInputStream;
 import java.io.DataOutputStream;
 import java.io.FileInputStream;
@@ -33,7 +36,6 @@ import java.net.PasswordAuthentication;
 import java.net.Proxy;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +50,8 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
 
     private static boolean isJDK14orEarlier = false;
     private final HttpClientConfiguration CONF;
+    private final RetryPolicy retryPolicy;
+    private transient SSLSocketFactory sslSocketFactory;
 
     private static final long serialVersionUID = -8819171414069621503L;
 
@@ -70,10 +74,12 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
 
     public HttpClientImpl() {
         this.CONF = ConfigurationContext.getInstance();
+        this.retryPolicy = RetryPolicyFactory.getInstance(CONF);
     }
 
     public HttpClientImpl(HttpClientConfiguration conf) {
         this.CONF = conf;
+        this.retryPolicy = RetryPolicyFactory.getInstance(conf);
         if (isProxyConfigured() && isJDK14orEarlier) {
             logger.warn("HTTP Proxy is not supported on JDK1.4 or earlier. Try twitter4j-httpclient-supoprt artifact");
         }
@@ -82,15 +88,8 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
     public void shutdown() {
     }
 
-    private static final Map<HttpClientConfiguration, HttpClient> instanceMap = new HashMap<HttpClientConfiguration, HttpClient>(1);
-
     public static HttpClient getInstance(HttpClientConfiguration conf) {
-        HttpClient client = instanceMap.get(conf);
-        if (null == client) {
-            client = new HttpClientImpl(conf);
-            instanceMap.put(conf, client);
-        }
-        return client;
+        return HttpClientFactory.getInstance(conf);
     }
 
     public HttpResponse get(String url) throws TwitterException {
@@ -103,15 +102,25 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
 
     public HttpResponse request(HttpRequest req) throws TwitterException {
         int retriedCount;
-        int retry = CONF.getHttpRetryCount() + 1;
         HttpResponse res = null;
-        for (retriedCount = 0; retriedCount < retry; retriedCount++) {
+        AbortHook hook = AbortHook.current();
+        retryPolicy.requestStarted(req);
+        for (retriedCount = 0; ; retriedCount++) {
             int responseCode = -1;
+            long retryDelay;
             try {
                 HttpURLConnection con;
                 OutputStream os = null;
                 try {
                     con = getConnection(req.getURL());
+                    if (null != hook) {
+                        final HttpURLConnection connection = con;
+                        hook.setAborter(new Runnable() {
+                            public void run() {
+                                connection.disconnect();
+                            }
+                        });
+                    }
                     con.setDoInput(true);
                     setHeaders(req, con);
                     con.setRequestMethod(req.getMethod().name());
@@ -182,13 +191,11 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
                         }
                     }
                     if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                        if (responseCode == ENHANCE_YOUR_CLAIM ||
-                                responseCode == BAD_REQUEST ||
-                                responseCode < INTERNAL_SERVER_ERROR ||
-                                retriedCount == CONF.getHttpRetryCount()) {
+                        retryDelay = retryPolicy.getRetryDelay(req, retriedCount, res, null);
+                        if (RetryPolicy.NO_RETRY == retryDelay) {
                             throw new TwitterException(res.asString(), res);
                         }
-                        // will retry if the status code is INTERNAL_SERVER_ERROR
+                        // will retry if the status code is INTERNAL_SERVER_ERROR or greater
                     } else {
                         break;
                     }
@@ -199,17 +206,27 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
                     }
                 }
             } catch (IOException ioe) {
+                if (null != hook && hook.isAborted()) {
+                    throw new TwitterException(ioe.getMessage(), ioe, responseCode);
+                }
                 // connection timeout or read timeout
-                if (retriedCount == CONF.getHttpRetryCount()) {
+                retryDelay = retryPolicy.getRetryDelay(req, retriedCount, null, ioe);
+                if (RetryPolicy.NO_RETRY == retryDelay) {
                     throw new TwitterException(ioe.getMessage(), ioe, responseCode);
                 }
+            } catch (RuntimeException re) {
+                if (null != hook && hook.isAborted()) {
+                    // disconnecting while reading the response may fail with an unexpected exception
+                    throw new TwitterException(re.getMessage(), re, responseCode);
+                }
+                throw re;
             }
             try {
                 if (logger.isDebugEnabled() && null != res) {
                     res.asString();
                 }
-                logger.debug("Sleeping " + CONF.getHttpRetryIntervalSeconds() + " seconds until the next retry.");
-                Thread.sleep(CONF.getHttpRetryIntervalSeconds() * 1000);
+                logger.debug("Sleeping " + retryDelay + " milliseconds until the next retry.");
+                Thread.sleep(retryDelay);
             } catch (InterruptedException ignore) {
                 //nothing to do
             }
@@ -288,16 +305,32 @@ public class HttpClientImpl implements HttpClient, HttpResponseCode, java.io.Ser
         } else {
             con = (HttpURLConnection) new URL(url).openConnection();
         }
-        if (CONF.getHttpConnectionTimeout() > 0 && !isJDK14orEarlier) {
-            con.setConnectTimeout(CONF.getHttpConnectionTimeout());
+        if (con instanceof HttpsURLConnection) {
+            SSLSocketFactory factory = getSSLSocketFactory();
+            if (null != factory) {
+                ((HttpsURLConnection) con).setSSLSocketFactory(factory);
+            }
+        }
+        // never wait beyond the deadline of the call
+        int connectionTimeout = Deadline.cap(CONF.getHttpConnectionTimeout());
+        if (connectionTimeout > 0 && !isJDK14orEarlier) {
+            con.setConnectTimeout(connectionTimeout);
         }
-        if (CONF.getHttpReadTimeout() > 0 && !isJDK14orEarlier) {
-            con.setReadTimeout(CONF.getHttpReadTimeout());
+        int readTimeout = Deadline.cap(CONF.getHttpReadTimeout());
+        if (readTimeout > 0 && !isJDK14orEarlier) {
+            con.setReadTimeout(readTimeout);
         }
         con.setInstanceFollowRedirects(false);
         return con;
     }
 
+    private SSLSocketFactory getSSLSocketFactory() {
+        if (null == sslSocketFactory) {
+            sslSocketFactory = SharedSSLContext.getSocketFactory(CONF);
+        }
+        return sslSocketFactory;
+    }
+
     private boolean isProxyConfigured() {
         return CONF.getHttpProxyHost() != null && !CONF.getHttpProxyHost().equals("");
     }
@@ -16,12 +16,20 @@
 
 package twitter4j.internal.http;
 
+import twitter4j.Deadline;
 import twitter4j.TwitterException;
 import twitter4j.auth.Authorization;
 import twitter4j.conf.ConfigurationContext;
+import twitter4j.internal.logging.Logger;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static twitter4j.internal.http.RequestMethod.DELETE;
 import static twitter4j.internal.http.RequestMethod.GET;
@@ -35,47 +43,188 @@ import static twitter4j.internal.http.RequestMethod.PUT;
  * @author Yusuke Yamamoto - yusuke at mac.com
  */
 public final class HttpClientWrapper implements java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(HttpClientWrapper.class);
     private final HttpClientWrapperConfiguration wrapperConf;
     private HttpClient http;
 
     private final Map<String, String> requestHeaders;
     private static final long serialVersionUID = -6511977105603119379L;
     private HttpResponseListener httpResponseListener;
+    private transient HttpResponseEventBus eventBus;
 
     public HttpClientWrapper(HttpClientWrapperConfiguration wrapperConf) {
+        this(wrapperConf, true);
+    }
+
+    /**
+     * @param wrapperConf configuration
+     * @param shared      false to get an HttpClient of its own rather than one shared with the wrappers created with
+     *                    an equivalent configuration. Streams hold a connection for as long as they run and shouldn't
+     *                    take connections from a shared pool
+     * @since Twitter4J 2.2.2
+     */
+    public HttpClientWrapper(HttpClientWrapperConfiguration wrapperConf, boolean shared) {
         this.wrapperConf = wrapperConf;
         requestHeaders = wrapperConf.getRequestHeaders();
-        http = HttpClientFactory.getInstance(wrapperConf);
+        http = getHttpClient(wrapperConf, shared);
+        eventBus = getEventBus(wrapperConf);
     }
 
     // never used with this project. Just for handiness for those using this class.
     public HttpClientWrapper() {
         this.wrapperConf = ConfigurationContext.getInstance();
         requestHeaders = wrapperConf.getRequestHeaders();
-        http = HttpClientFactory.getInstance(wrapperConf);
+        http = getHttpClient(wrapperConf, true);
+        eventBus = getEventBus(wrapperConf);
+    }
+
+    private static HttpClient getHttpClient(HttpClientWrapperConfiguration wrapperConf, boolean shared) {
+        HttpClient http = shared ? HttpClientFactory.getInstance(wrapperConf)
+                : HttpClientFactory.getUnsharedInstance(wrapperConf);
+        if (wrapperConf.isHttpHedgingEnabled()) {
+            http = new HedgingHttpClient(http, wrapperConf);
+        }
+        if (wrapperConf.isHttpResponseCacheEnabled()) {
+            // cache hits shouldn't be hedged
+            http = new CachingHttpClient(http, wrapperConf);
+        }
+        return http;
+    }
+
+    private static HttpResponseEventBus getEventBus(HttpClientWrapperConfiguration wrapperConf) {
+        return wrapperConf.isHttpAsyncResponseListenerEnabled() ? HttpResponseEventBus.getInstance(wrapperConf) : null;
     }
 
     public void shutdown() {
         http.shutdown();
     }
 
+    /**
+     * Resolves the host of the url and opens http.defaultMaxPerRoute connections to it with HEAD requests so that
+     * subsequent requests don't pay the name lookup and the connection setup.<br>
+     * Waits no longer than the deadline of the calling thread, or http.callTimeout, or else the connection and read
+     * timeouts of each attempt the retry policy allows.
+     *
+     * @param url url to warm up
+     * @return true if the server responded
+     * @since Twitter4J 2.2.2
+     */
+    public boolean warmUp(final String url) {
+        try {
+            HostResolver.resolve(url);
+        } catch (IOException ioe) {
+            logger.warn("Failed to resolve " + url + ": ", ioe.getMessage());
+            return false;
+        }
+        final long deadline = getWarmUpDeadline();
+        final AtomicBoolean responded = new AtomicBoolean(false);
+        final int connections = Math.max(1, wrapperConf.getHttpDefaultMaxPerRoute());
+        ExecutorService executor = Executors.newFixedThreadPool(connections, new ThreadFactory() {
+            private int count = 0;
+
+            public synchronized Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "Twitter4J Warm-up[" + url + "][" + (count++) + "]");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            // concurrent requests, so that each opens its own connection
+            for (int i = 0; i < connections; i++) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        // the requests don't go through request(). keep them within the deadline
+                        Deadline.setAt(deadline);
+                        try {
+                            http.request(new HttpRequest(HEAD, url, null, null, requestHeaders));
+                            responded.set(true);
+                        } catch (TwitterException te) {
+                            if (-1 != te.getStatusCode()) {
+                                // responded with an error status. the connection has been established anyway
+                                responded.set(true);
+                            } else {
+                                logger.warn("Failed to connect to " + url + ": ", te.getMessage());
+                            }
+                        } finally {
+                            Deadline.clear();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            long timeout = Deadline.NONE == deadline ? Long.MAX_VALUE : deadline - System.currentTimeMillis();
+            if (!executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                logger.warn("Gave up warming up " + url + " at the deadline");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return responded.get();
+    }
+
+    /**
+     * @return deadline of warming up, or Deadline.NONE if the timeouts are unbounded
+     */
+    private long getWarmUpDeadline() {
+        long deadline = Deadline.get();
+        if (Deadline.NONE != deadline) {
+            return deadline;
+        }
+        if (0 < wrapperConf.getHttpCallTimeout()) {
+            return System.currentTimeMillis() + wrapperConf.getHttpCallTimeout();
+        }
+        if (0 < wrapperConf.getHttpConnectionTimeout() && 0 < wrapperConf.getHttpReadTimeout()) {
+            int attempts = Math.max(0, wrapperConf.getHttpRetryCount()) + 1;
+            return System.currentTimeMillis()
+                    + (long) (wrapperConf.getHttpConnectionTimeout() + wrapperConf.getHttpReadTimeout()) * attempts
+                    + wrapperConf.getHttpRetryIntervalSeconds() * 1000L * (attempts - 1);
+        }
+        return Deadline.NONE;
+    }
+
     private HttpResponse request(HttpRequest req) throws TwitterException {
+        long deadline = Deadline.get();
+        boolean callTimeout = Deadline.NONE == deadline && 0 < wrapperConf.getHttpCallTimeout();
+        if (callTimeout) {
+            deadline = System.currentTimeMillis() + wrapperConf.getHttpCallTimeout();
+            Deadline.setAt(deadline);
+        }
         HttpResponse res;
         try {
+            // don't tie up a connection for a request which can't complete in time
+            Deadline.ensureRemaining(req.getMethod().name() + " " + req.getURL());
             res = http.request(req);
+            res.setDeadline(deadline);
             //fire HttpResponseEvent
             if (null != httpResponseListener) {
-                httpResponseListener.httpResponseReceived(new HttpResponseEvent(req, res, null));
+                fireHttpResponseEvent(new HttpResponseEvent(req, res, null));
             }
         } catch (TwitterException te) {
             if (null != httpResponseListener) {
-                httpResponseListener.httpResponseReceived(new HttpResponseEvent(req, null, te));
+                fireHttpResponseEvent(new HttpResponseEvent(req, null, te));
             }
             throw te;
+        } finally {
+            if (callTimeout) {
+                Deadline.clear();
+            }
         }
         return res;
     }
 
+    private void fireHttpResponseEvent(HttpResponseEvent event) {
+        if (null != eventBus) {
+            eventBus.publish(httpResponseListener, event);
+        } else {
+            httpResponseListener.httpResponseReceived(event);
+        }
+    }
+
     public void setHttpResponseListener(HttpResponseListener listener) {
         httpResponseListener = listener;
     }
@@ -23,4 +23,28 @@ public interface HttpClientWrapperConfiguration extends HttpClientConfiguration
      * @return request headers
      */
     Map<String, String> getRequestHeaders();
+
+    boolean isHttpHedgingEnabled();
+
+    int getHttpHedgingPercentile();
+
+    int getHttpHedgingMaxPercent();
+
+    boolean isHttpResponseCacheEnabled();
+
+    String getHttpResponseCacheImpl();
+
+    int getHttpResponseCacheSize();
+
+    String getHttpResponseCacheTTLs();
+
+    boolean isHttpResponseCacheParsedJSONEnabled();
+
+    boolean isHttpAsyncResponseListenerEnabled();
+
+    int getHttpResponseEventBufferSize();
+
+    String getHttpResponseEventDropPolicy();
+
+    int getHttpCallTimeout();
 }
@@ -54,7 +54,8 @@ public final class HttpRequest implements java.io.Serializable {
             , Authorization authorization, Map<String, String> requestHeaders) {
         this.method = method;
         if (method != RequestMethod.POST && null != parameters && parameters.length != 0) {
-            this.url = url + "?" + HttpParameter.encodeParameters(parameters);
+            // the url may already carry static query parameters
+            this.url = url + (-1 == url.indexOf('?') ? "?" : "&") + HttpParameter.encodeParameters(parameters);
             this.parameters = NULL_PARAMETERS;
         } else {
             this.url = url;
@@ -16,13 +16,14 @@
 
 package twitter4j.internal.http;
 
+import twitter4j.Deadline;
 import twitter4j.TwitterException;
 import twitter4j.conf.ConfigurationContext;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
-import twitter4j.internal.org.json.JSONTokener;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -57,6 +58,17 @@ public abstract class HttpResponse {
         return statusCode;
     }
 
+    /**
+     * Limits reading the response body to the deadline of the call.
+     *
+     * @param deadline absolute deadline in milliseconds since the epoch, or twitter4j.Deadline.NONE
+     */
+    /*package*/ void setDeadline(long deadline) {
+        if (null != is && Deadline.NONE != deadline && !streamConsumed) {
+            is = new DeadlineInputStream(is, deadline);
+        }
+    }
+
     public abstract String getResponseHeader(String name);
 
     public abstract Map<String, List<String>> getResponseHeaderFields();
@@ -126,7 +138,8 @@ public abstract class HttpResponse {
         return responseAsString;
     }
 
-    private JSONObject json = null;
+    protected JSONObject json = null;
+    protected JSONArray jsonArray = null;
 
     /**
      * Returns the response body as twitter4j.internal.org.json.JSONObject.<br>
@@ -137,19 +150,19 @@ public abstract class HttpResponse {
      */
     public final JSONObject asJSONObject() throws TwitterException {
         if (null == json) {
-            InputStreamReader reader = null;
             try {
-                if (logger.isDebugEnabled()) {
+                if (null != responseAsString) {
+                    // the body has already been read
+                    json = new JSONObject(responseAsString);
+                } else if (logger.isDebugEnabled()) {
                     if (CONF.isPrettyDebugEnabled()) {
-                        reader = asReader();
-                        json = new JSONObject(new JSONTokener(reader));
+                        json = new JSONObject(bodyTokener());
                         logger.debug(json.toString(1));
                     } else {
                         json = new JSONObject(asString());
                     }
                 } else {
-                    reader = asReader();
-                    json = new JSONObject(new JSONTokener(reader));
+                    json = new JSONObject(bodyTokener());
                 }
             } catch (JSONException jsone) {
                 if (logger.isDebugEnabled()) {
@@ -157,13 +170,9 @@ public abstract class HttpResponse {
                 } else {
                     throw new TwitterException(jsone.getMessage(), jsone);
                 }
+            } catch (IOException ioe) {
+                throw new TwitterException(ioe.getMessage(), ioe);
             } finally {
-                if (null != reader) {
-                    try {
-                        reader.close();
-                    } catch (IOException ignore) {
-                    }
-                }
                 disconnectForcibly();
             }
         }
@@ -178,37 +187,86 @@ public abstract class HttpResponse {
      * @throws TwitterException
      */
     public final JSONArray asJSONArray() throws TwitterException {
-        JSONArray json = null;
-        InputStreamReader reader = null;
-        try {
-            if (logger.isDebugEnabled()) {
-                if (CONF.isPrettyDebugEnabled()) {
-                    reader = asReader();
-                    json = new JSONArray(new JSONTokener(reader));
-                    logger.debug(json.toString(1));
+        if (null == jsonArray) {
+            try {
+                if (null != responseAsString) {
+                    // the body has already been read
+                    jsonArray = new JSONArray(responseAsString);
+                } else if (logger.isDebugEnabled()) {
+                    if (CONF.isPrettyDebugEnabled()) {
+                        jsonArray = new JSONArray(bodyTokener());
+                        logger.debug(jsonArray.toString(1));
+                    } else {
+                        jsonArray = new JSONArray(asString());
+                    }
                 } else {
-                    json = new JSONArray(asString());
+                    jsonArray = new JSONArray(bodyTokener());
+                }
+            } catch (JSONException jsone) {
+                if (logger.isDebugEnabled()) {
+                    throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
+                } else {
+                    throw new TwitterException(jsone.getMessage(), jsone);
                 }
-            } else {
-                reader = asReader();
-                json = new JSONArray(new JSONTokener(reader));
+            } catch (IOException ioe) {
+                throw new TwitterException(ioe.getMessage(), ioe);
+            } finally {
+                disconnectForcibly();
+            }
+        }
+        return jsonArray;
+    }
+
+    /**
+     * Returns a pull tokenizer over the response body so that data objects can be bound without building a
+     * JSONObject tree.<br>
+     * Disconnects the internal HttpURLConnection silently.
+     *
+     * @return tokenizer positioned at the beginning of the response body
+     * @throws TwitterException when the response body cannot be read
+     * @since Twitter4J 2.2.2
+     */
+    public final JSONByteTokener asJSONByteTokener() throws TwitterException {
+        try {
+            if (null == responseAsString && logger.isDebugEnabled()) {
+                // read through asString() so that the body gets logged
+                asString();
             }
-        } catch (JSONException jsone) {
-            if (logger.isDebugEnabled()) {
-                throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
-            } else {
-                throw new TwitterException(jsone.getMessage(), jsone);
+            if (null != responseAsString) {
+                return new JSONByteTokener(responseAsString.getBytes("UTF-8"));
             }
+            return bodyTokener();
+        } catch (IOException ioe) {
+            throw new TwitterException(ioe.getMessage(), ioe);
         } finally {
-            if (null != reader) {
-                try {
-                    reader.close();
-                } catch (IOException ignore) {
+            disconnectForcibly();
+        }
+    }
+
+    /**
+     * Reads the whole response body into a byte array and returns a tokenizer over it.
+     */
+    private JSONByteTokener bodyTokener() throws IOException {
+        InputStream stream = asStream();
+        if (null == stream) {
+            return new JSONByteTokener(new byte[0]);
+        }
+        try {
+            byte[] body = new byte[8192];
+            int length = 0;
+            int count;
+            while (-1 != (count = stream.read(body, length, body.length - length))) {
+                length += count;
+                if (length == body.length) {
+                    byte[] newBody = new byte[body.length * 2];
+                    System.arraycopy(body, 0, newBody, 0, length);
+                    body = newBody;
                 }
             }
-            disconnectForcibly();
+            return new JSONByteTokener(body, 0, length);
+        } finally {
+            stream.close();
         }
-        return json;
     }
 
     public final InputStreamReader asReader() {
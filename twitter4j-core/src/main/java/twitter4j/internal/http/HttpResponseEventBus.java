@@ -0,0 +1,188 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.internal.logging.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers HttpResponseEvents to HttpResponseListeners on a dedicated daemon thread so that slow listeners don't add
+ * to the latency of API calls.<br>
+ * Events are published to a bounded lock-free ring of http.responseEventBufferSize events. When the ring is full,
+ * http.responseEventDropPolicy decides what happens to the event being published: DISCARD drops it, CALLER_RUNS
+ * delivers it on the calling thread.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class HttpResponseEventBus {
+    private static final Logger logger = Logger.getLogger(HttpResponseEventBus.class);
+    private static final ConcurrentMap<String, HttpResponseEventBus> INSTANCES
+            = new ConcurrentHashMap<String, HttpResponseEventBus>();
+    // maximum time the dispatcher sleeps without being woken up by a publisher
+    private static final long PARK_NANOS = 100 * 1000 * 1000;
+
+    enum DropPolicy {
+        DISCARD, CALLER_RUNS
+    }
+
+    private final AtomicReferenceArray<Entry> ring;
+    private final int mask;
+    private final DropPolicy dropPolicy;
+    // next slot to be claimed by publishers
+    private final AtomicLong tail = new AtomicLong();
+    // next slot to be consumed. written by the dispatcher thread only
+    private volatile long head = 0;
+    private volatile boolean dispatcherWaiting = false;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread dispatcher;
+
+    HttpResponseEventBus(int bufferSize, DropPolicy dropPolicy) {
+        int capacity = 1;
+        while (capacity < bufferSize) {
+            capacity <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<Entry>(capacity);
+        this.mask = capacity - 1;
+        this.dropPolicy = dropPolicy;
+        dispatcher = new Thread(new Runnable() {
+            public void run() {
+                dispatch();
+            }
+        }, "Twitter4J HttpResponseEvent Dispatcher[" + capacity + "," + dropPolicy + "]");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * @param conf configuration
+     * @return the JVM wide event bus for the buffer size and the drop policy
+     */
+    static HttpResponseEventBus getInstance(HttpClientWrapperConfiguration conf) {
+        DropPolicy dropPolicy;
+        try {
+            dropPolicy = DropPolicy.valueOf(conf.getHttpResponseEventDropPolicy());
+        } catch (RuntimeException e) {
+            logger.warn("Unknown http.responseEventDropPolicy. Using DISCARD: ", conf.getHttpResponseEventDropPolicy());
+            dropPolicy = DropPolicy.DISCARD;
+        }
+        int bufferSize = Math.max(1, conf.getHttpResponseEventBufferSize());
+        String key = bufferSize + ":" + dropPolicy;
+        HttpResponseEventBus bus = INSTANCES.get(key);
+        if (null == bus) {
+            synchronized (INSTANCES) {
+                bus = INSTANCES.get(key);
+                if (null == bus) {
+                    bus = new HttpResponseEventBus(bufferSize, dropPolicy);
+                    INSTANCES.put(key, bus);
+                }
+            }
+        }
+        return bus;
+    }
+
+    /**
+     * Publishes the event without blocking.
+     *
+     * @param listener listener to be notified
+     * @param event    event
+     */
+    void publish(HttpResponseListener listener, HttpResponseEvent event) {
+        Entry entry = new Entry(listener, event);
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head > mask) {
+                // full
+                if (DropPolicy.CALLER_RUNS == dropPolicy) {
+                    deliver(entry);
+                    return;
+                }
+                long dropped = droppedCount.incrementAndGet();
+                if (1 == dropped || 0 == dropped % 10000) {
+                    logger.warn("HttpResponseListener is too slow. HttpResponseEvents dropped so far: " + dropped);
+                }
+                return;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                ring.set((int) (claimed & mask), entry);
+                break;
+            }
+        }
+        if (dispatcherWaiting) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+
+    private void dispatch() {
+        while (true) {
+            int index = (int) (head & mask);
+            Entry entry = ring.get(index);
+            if (null == entry) {
+                // empty, or the publisher which claimed the slot hasn't written yet
+                dispatcherWaiting = true;
+                if (null == ring.get(index)) {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                dispatcherWaiting = false;
+                continue;
+            }
+            ring.set(index, null);
+            head++;
+            deliver(entry);
+        }
+    }
+
+    private void deliver(Entry entry) {
+        try {
+            entry.listener.httpResponseReceived(entry.event);
+        } catch (Exception e) {
+            logger.warn("HttpResponseListener threw an exception: ", e.getMessage());
+        }
+    }
+
+    /*package*/ long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /*package*/ int getPendingCount() {
+        return (int) (tail.get() - head);
+    }
+
+    private static final class Entry {
+        private final HttpResponseListener listener;
+        private final HttpResponseEvent event;
+
+        Entry(HttpResponseListener listener, HttpResponseEvent event) {
+            this.listener = listener;
+            this.event = event;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HttpResponseEventBus{" +
+                "capacity=" + (mask + 1) +
+                ", dropPolicy=" + dropPolicy +
+                ", pending=" + getPendingCount() +
+                ", droppedCount=" + droppedCount +
+                '}';
+    }
+}
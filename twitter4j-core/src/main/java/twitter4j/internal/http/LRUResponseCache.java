@@ -0,0 +1,72 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory ResponseCache holding at most http.responseCacheSize responses, evicting the least recently used one.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class LRUResponseCache implements ResponseCache, java.io.Serializable {
+    private static final long serialVersionUID = 4386029736251790144L;
+    private final Map<HttpRequest, CachedResponse> cache;
+
+    public LRUResponseCache(HttpClientWrapperConfiguration conf) {
+        this(conf.getHttpResponseCacheSize());
+    }
+
+    LRUResponseCache(final int maxSize) {
+        cache = new LinkedHashMap<HttpRequest, CachedResponse>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2389532437104957185L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HttpRequest, CachedResponse> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized CachedResponse get(HttpRequest req) {
+        return cache.get(req);
+    }
+
+    public synchronized void put(HttpRequest req, CachedResponse res) {
+        cache.put(req, res);
+    }
+
+    public synchronized void remove(HttpRequest req) {
+        cache.remove(req);
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public String toString() {
+        return "LRUResponseCache{" +
+                "size=" + size() +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+/**
+ * Storage of the responses cached by HttpClientWrapper when http.responseCache is enabled.<br>
+ * Implementations must be thread safe and provide a public constructor taking HttpClientWrapperConfiguration.
+ * The implementation is specified by http.responseCacheImpl.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface ResponseCache {
+    /**
+     * @param req GET request
+     * @return the cached response, or null if the request hasn't been cached. The response may have expired
+     */
+    CachedResponse get(HttpRequest req);
+
+    void put(HttpRequest req, CachedResponse res);
+
+    void remove(HttpRequest req);
+
+    void clear();
+}
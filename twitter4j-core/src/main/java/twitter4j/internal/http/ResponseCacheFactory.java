@@ -0,0 +1,54 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Instantiates the ResponseCache implementation specified by http.responseCacheImpl.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class ResponseCacheFactory {
+
+    private ResponseCacheFactory() {
+        throw new AssertionError();
+    }
+
+    public static ResponseCache getInstance(HttpClientWrapperConfiguration conf) {
+        String responseCacheImpl = conf.getHttpResponseCacheImpl();
+        if (null == responseCacheImpl || LRUResponseCache.class.getName().equals(responseCacheImpl)) {
+            return new LRUResponseCache(conf);
+        }
+        try {
+            return (ResponseCache) Class.forName(responseCacheImpl)
+                    .getConstructor(HttpClientWrapperConfiguration.class).newInstance(conf);
+        } catch (InstantiationException e) {
+            throw new AssertionError(e);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError(e);
+        } catch (ClassCastException e) {
+            throw new AssertionError(e);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+/**
+ * Decides whether, and when, a failed HTTP request will be retried.<br>
+ * An instance is held by each HttpClient implementation, so that the retry budget is tracked per client.<br>
+ * Implementations must be thread safe and provide a public constructor taking an HttpClientConfiguration.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface RetryPolicy {
+    /**
+     * Returned by {@link #getRetryDelay(HttpRequest, int, HttpResponse, java.io.IOException)} to give up retrying.
+     */
+    long NO_RETRY = -1L;
+
+    /**
+     * Called once for each request before the first attempt.
+     *
+     * @param req the request
+     */
+    void requestStarted(HttpRequest req);
+
+    /**
+     * Returns the time to wait before the next attempt.
+     *
+     * @param req          the request
+     * @param retriedCount number of retries already made for the request
+     * @param res          the response, or null if the attempt failed with an IOException
+     * @param ioe          the IOException caused by the attempt, or null if a response was received
+     * @return milliseconds to wait before retrying, or {@link #NO_RETRY}
+     */
+    long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, java.io.IOException ioe);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Instantiates the RetryPolicy implementation specified by http.retryPolicyImpl.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class RetryPolicyFactory {
+
+    private RetryPolicyFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param conf configuration
+     * @return the configured RetryPolicy, which never waits beyond the deadline of the call
+     * @see twitter4j.Deadline
+     */
+    public static RetryPolicy getInstance(HttpClientConfiguration conf) {
+        return new DeadlineRetryPolicy(newInstance(conf));
+    }
+
+    private static RetryPolicy newInstance(HttpClientConfiguration conf) {
+        String retryPolicyImpl = conf.getHttpRetryPolicyImpl();
+        if (null == retryPolicyImpl || DefaultRetryPolicy.class.getName().equals(retryPolicyImpl)) {
+            return new DefaultRetryPolicy(conf);
+        }
+        try {
+            return (RetryPolicy) Class.forName(retryPolicyImpl)
+                    .getConstructor(HttpClientConfiguration.class).newInstance(conf);
+        } catch (InstantiationException e) {
+            throw new AssertionError(e);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError(e);
+        } catch (ClassCastException e) {
+            throw new AssertionError(e);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.TwitterException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reference to an HttpClient shared through HttpClientFactory.<br>
+ * shutdown() releases the reference. The shared HttpClient is shut down once every reference has been released.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class SharedHttpClient implements HttpClient, java.io.Serializable {
+    private static final long serialVersionUID = -4471382052950231370L;
+    private final HttpClientFactory.Entry entry;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    SharedHttpClient(HttpClientFactory.Entry entry) {
+        this.entry = entry;
+    }
+
+    /*package*/ HttpClient getDelegate() {
+        return entry.getClient();
+    }
+
+    public HttpResponse request(HttpRequest req) throws TwitterException {
+        return entry.getClient().request(req);
+    }
+
+    public void shutdown() {
+        if (released.compareAndSet(false, true)) {
+            entry.release();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SharedHttpClient that = (SharedHttpClient) o;
+
+        return entry.getClient().equals(that.entry.getClient());
+    }
+
+    @Override
+    public int hashCode() {
+        return entry.getClient().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SharedHttpClient{" +
+                "client=" + entry.getClient() +
+                ", released=" + released +
+                '}';
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import twitter4j.internal.logging.Logger;
+import twitter4j.management.TLSStatistics;
+import twitter4j.management.TLSStatisticsMBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.security.GeneralSecurityException;
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides the SSLContext shared by both HttpClient implementations so that TLS sessions negotiated by one client are
+ * resumed by the others instead of going through a full handshake.<br>
+ * The protocol, the size and the timeout of the session cache are specified by http.sslProtocol,
+ * http.sslSessionCacheSize and http.sslSessionTimeoutSecs. Negative size or timeout leaves the provider default.<br>
+ * Full handshakes and resumed sessions are counted by the twitter4j.mbean:type=TLSStatistics MBean. A session is
+ * counted as resumed when it has already been established by another socket.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class SharedSSLContext {
+    private static final Logger logger = Logger.getLogger(SharedSSLContext.class);
+    private static final TLSStatistics STATISTICS = new TLSStatistics();
+    private static final ConcurrentMap<String, SSLContext> CONTEXTS = new ConcurrentHashMap<String, SSLContext>();
+
+    static {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            mbs.registerMBean(STATISTICS, new ObjectName("twitter4j.mbean:type=TLSStatistics"));
+        } catch (Exception e) {
+            logger.warn("Failed to register TLSStatistics MBean: ", e.getMessage());
+        }
+    }
+
+    private SharedSSLContext() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param conf configuration
+     * @return the JVM wide SSLContext for the configuration, or null if the SSLContext cannot be initialized
+     */
+    public static SSLContext getInstance(HttpClientConfiguration conf) {
+        String key = conf.getHttpSSLProtocol() + ":" + conf.getHttpSSLSessionCacheSize()
+                + ":" + conf.getHttpSSLSessionTimeoutSeconds();
+        SSLContext context = CONTEXTS.get(key);
+        if (null == context) {
+            synchronized (CONTEXTS) {
+                context = CONTEXTS.get(key);
+                if (null == context) {
+                    try {
+                        context = createContext(conf);
+                    } catch (GeneralSecurityException gse) {
+                        logger.warn("Failed to initialize SSLContext. Falling back to the default one: ", gse.getMessage());
+                        return null;
+                    }
+                    CONTEXTS.put(key, context);
+                }
+            }
+        }
+        return context;
+    }
+
+    /**
+     * @param conf configuration
+     * @return socket factory of the shared SSLContext, or null if the SSLContext cannot be initialized
+     */
+    public static SSLSocketFactory getSocketFactory(HttpClientConfiguration conf) {
+        SSLContext context = getInstance(conf);
+        return null == context ? null : context.getSocketFactory();
+    }
+
+    static TLSStatisticsMBean getStatistics() {
+        return STATISTICS;
+    }
+
+    private static SSLContext createContext(HttpClientConfiguration conf) throws GeneralSecurityException {
+        SSLContext context = SSLContext.getInstance(null == conf.getHttpSSLProtocol() ? "TLS" : conf.getHttpSSLProtocol());
+        context.init(null, null, null);
+        SSLSessionContext sessionContext = context.getClientSessionContext();
+        if (null != sessionContext) {
+            if (conf.getHttpSSLSessionCacheSize() >= 0) {
+                sessionContext.setSessionCacheSize(conf.getHttpSSLSessionCacheSize());
+            }
+            if (conf.getHttpSSLSessionTimeoutSeconds() >= 0) {
+                sessionContext.setSessionTimeout(conf.getHttpSSLSessionTimeoutSeconds());
+            }
+        }
+        // SSLContext is not meant to be decorated. wrap its SPI to hand out sockets counting handshakes
+        return new SSLContext(new HandshakeCountingSSLContextSpi(context), context.getProvider(), context.getProtocol()) {
+        };
+    }
+
+    private static final class HandshakeCountingSSLContextSpi extends SSLContextSpi {
+        private final SSLContext context;
+        private final SSLSocketFactory socketFactory;
+
+        HandshakeCountingSSLContextSpi(SSLContext context) {
+            this.context = context;
+            this.socketFactory = new HandshakeCountingSSLSocketFactory(context.getSocketFactory());
+        }
+
+        protected void engineInit(KeyManager[] km, TrustManager[] tm, SecureRandom sr) throws KeyManagementException {
+            context.init(km, tm, sr);
+        }
+
+        protected SSLSocketFactory engineGetSocketFactory() {
+            return socketFactory;
+        }
+
+        protected SSLServerSocketFactory engineGetServerSocketFactory() {
+            return context.getServerSocketFactory();
+        }
+
+        protected SSLEngine engineCreateSSLEngine() {
+            return context.createSSLEngine();
+        }
+
+        protected SSLEngine engineCreateSSLEngine(String host, int port) {
+            return context.createSSLEngine(host, port);
+        }
+
+        protected SSLSessionContext engineGetServerSessionContext() {
+            return context.getServerSessionContext();
+        }
+
+        protected SSLSessionContext engineGetClientSessionContext() {
+            return context.getClientSessionContext();
+        }
+    }
+
+    /**
+     * Hands out sockets counting their handshake once it is known to be done, which is after startHandshake() or the
+     * first call to getSession(). HttpsURLConnection and Apache HttpClient call either of them to verify the host name.
+     */
+    static final class HandshakeCountingSSLSocketFactory extends SSLSocketFactory {
+        private final SSLSocketFactory factory;
+        private final TLSStatistics statistics;
+        // sessions established so far. a session seen again has been resumed instead of negotiated by a full handshake
+        private final Map<SSLSession, Boolean> sessions = new WeakHashMap<SSLSession, Boolean>();
+
+        HandshakeCountingSSLSocketFactory(SSLSocketFactory factory) {
+            this(factory, STATISTICS);
+        }
+
+        HandshakeCountingSSLSocketFactory(SSLSocketFactory factory, TLSStatistics statistics) {
+            this.factory = factory;
+            this.statistics = statistics;
+        }
+
+        Socket track(Socket socket) {
+            return socket instanceof SSLSocket ? new HandshakeCountingSSLSocket((SSLSocket) socket, this) : socket;
+        }
+
+        void handshakeCompleted(SSLSession session) {
+            if (null == session || !session.isValid()) {
+                // the handshake failed
+                return;
+            }
+            boolean resumed;
+            synchronized (sessions) {
+                resumed = null != sessions.put(session, Boolean.TRUE);
+            }
+            statistics.handshakeCompleted(resumed);
+        }
+
+        public String[] getDefaultCipherSuites() {
+            return factory.getDefaultCipherSuites();
+        }
+
+        public String[] getSupportedCipherSuites() {
+            return factory.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return track(factory.createSocket());
+        }
+
+        public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+            return track(factory.createSocket(socket, host, port, autoClose));
+        }
+
+        public Socket createSocket(String host, int port) throws IOException {
+            return track(factory.createSocket(host, port));
+        }
+
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            return track(factory.createSocket(host, port, localHost, localPort));
+        }
+
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return track(factory.createSocket(host, port));
+        }
+
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            return track(factory.createSocket(address, port, localAddress, localPort));
+        }
+    }
+
+    /**
+     * SSLSocket reporting its session to the factory the first time the handshake is known to be done.<br>
+     * Unlike a HandshakeCompletedListener, this costs no notifier thread per handshake.
+     */
+    private static final class HandshakeCountingSSLSocket extends SSLSocket {
+        private final SSLSocket socket;
+        private final HandshakeCountingSSLSocketFactory factory;
+        private boolean counted = false;
+
+        HandshakeCountingSSLSocket(SSLSocket socket, HandshakeCountingSSLSocketFactory factory) {
+            this.socket = socket;
+            this.factory = factory;
+        }
+
+        private void handshakeCompleted(SSLSession session) {
+            synchronized (this) {
+                if (counted) {
+                    return;
+                }
+                counted = true;
+            }
+            factory.handshakeCompleted(session);
+        }
+
+        public void startHandshake() throws IOException {
+            socket.startHandshake();
+            handshakeCompleted(socket.getSession());
+        }
+
+        public SSLSession getSession() {
+            SSLSession session = socket.getSession();
+            handshakeCompleted(session);
+            return session;
+        }
+
+        public String[] getSupportedCipherSuites() {
+            return socket.getSupportedCipherSuites();
+        }
+
+        public String[] getEnabledCipherSuites() {
+            return socket.getEnabledCipherSuites();
+        }
+
+        public void setEnabledCipherSuites(String[] suites) {
+            socket.setEnabledCipherSuites(suites);
+        }
+
+        public String[] getSupportedProtocols() {
+            return socket.getSupportedProtocols();
+        }
+
+        public String[] getEnabledProtocols() {
+            return socket.getEnabledProtocols();
+        }
+
+        public void setEnabledProtocols(String[] protocols) {
+            socket.setEnabledProtocols(protocols);
+        }
+
+        public void addHandshakeCompletedListener(HandshakeCompletedListener listener) {
+            socket.addHandshakeCompletedListener(listener);
+        }
+
+        public void removeHandshakeCompletedListener(HandshakeCompletedListener listener) {
+            socket.removeHandshakeCompletedListener(listener);
+        }
+
+        public void setUseClientMode(boolean mode) {
+            socket.setUseClientMode(mode);
+        }
+
+        public boolean getUseClientMode() {
+            return socket.getUseClientMode();
+        }
+
+        public void setNeedClientAuth(boolean need) {
+            socket.setNeedClientAuth(need);
+        }
+
+        public boolean getNeedClientAuth() {
+            return socket.getNeedClientAuth();
+        }
+
+        public void setWantClientAuth(boolean want) {
+            socket.setWantClientAuth(want);
+        }
+
+        public boolean getWantClientAuth() {
+            return socket.getWantClientAuth();
+        }
+
+        public void setEnableSessionCreation(boolean flag) {
+            socket.setEnableSessionCreation(flag);
+        }
+
+        public boolean getEnableSessionCreation() {
+            return socket.getEnableSessionCreation();
+        }
+
+        @Override
+        public void connect(SocketAddress endpoint) throws IOException {
+            socket.connect(endpoint);
+        }
+
+        @Override
+        public void connect(SocketAddress endpoint, int timeout) throws IOException {
+            socket.connect(endpoint, timeout);
+        }
+
+        @Override
+        public void bind(SocketAddress bindpoint) throws IOException {
+            socket.bind(bindpoint);
+        }
+
+        @Override
+        public InetAddress getInetAddress() {
+            return socket.getInetAddress();
+        }
+
+        @Override
+        public InetAddress getLocalAddress() {
+            return socket.getLocalAddress();
+        }
+
+        @Override
+        public int getPort() {
+            return socket.getPort();
+        }
+
+        @Override
+        public int getLocalPort() {
+            return socket.getLocalPort();
+        }
+
+        @Override
+        public SocketAddress getRemoteSocketAddress() {
+            return socket.getRemoteSocketAddress();
+        }
+
+        @Override
+        public SocketAddress getLocalSocketAddress() {
+            return socket.getLocalSocketAddress();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return socket.getInputStream();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            return socket.getOutputStream();
+        }
+
+        @Override
+        public void setTcpNoDelay(boolean on) throws SocketException {
+            socket.setTcpNoDelay(on);
+        }
+
+        @Override
+        public boolean getTcpNoDelay() throws SocketException {
+            return socket.getTcpNoDelay();
+        }
+
+        @Override
+        public void setSoLinger(boolean on, int linger) throws SocketException {
+            socket.setSoLinger(on, linger);
+        }
+
+        @Override
+        public int getSoLinger() throws SocketException {
+            return socket.getSoLinger();
+        }
+
+        @Override
+        public void sendUrgentData(int data) throws IOException {
+            socket.sendUrgentData(data);
+        }
+
+        @Override
+        public void setOOBInline(boolean on) throws SocketException {
+            socket.setOOBInline(on);
+        }
+
+        @Override
+        public boolean getOOBInline() throws SocketException {
+            return socket.getOOBInline();
+        }
+
+        @Override
+        public void setSoTimeout(int timeout) throws SocketException {
+            socket.setSoTimeout(timeout);
+        }
+
+        @Override
+        public int getSoTimeout() throws SocketException {
+            return socket.getSoTimeout();
+        }
+
+        @Override
+        public void setSendBufferSize(int size) throws SocketException {
+            socket.setSendBufferSize(size);
+        }
+
+        @Override
+        public int getSendBufferSize() throws SocketException {
+            return socket.getSendBufferSize();
+        }
+
+        @Override
+        public void setReceiveBufferSize(int size) throws SocketException {
+            socket.setReceiveBufferSize(size);
+        }
+
+        @Override
+        public int getReceiveBufferSize() throws SocketException {
+            return socket.getReceiveBufferSize();
+        }
+
+        @Override
+        public void setKeepAlive(boolean on) throws SocketException {
+            socket.setKeepAlive(on);
+        }
+
+        @Override
+        public boolean getKeepAlive() throws SocketException {
+            return socket.getKeepAlive();
+        }
+
+        @Override
+        public void setTrafficClass(int tc) throws SocketException {
+            socket.setTrafficClass(tc);
+        }
+
+        @Override
+        public int getTrafficClass() throws SocketException {
+            return socket.getTrafficClass();
+        }
+
+        @Override
+        public void setReuseAddress(boolean on) throws SocketException {
+            socket.setReuseAddress(on);
+        }
+
+        @Override
+        public boolean getReuseAddress() throws SocketException {
+            return socket.getReuseAddress();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+
+        @Override
+        public void shutdownInput() throws IOException {
+            socket.shutdownInput();
+        }
+
+        @Override
+        public void shutdownOutput() throws IOException {
+            socket.shutdownOutput();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return socket.isConnected();
+        }
+
+        @Override
+        public boolean isBound() {
+            return socket.isBound();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return socket.isClosed();
+        }
+
+        @Override
+        public boolean isInputShutdown() {
+            return socket.isInputShutdown();
+        }
+
+        @Override
+        public boolean isOutputShutdown() {
+            return socket.isOutputShutdown();
+        }
+
+        @Override
+        public void setPerformancePreferences(int connectionTime, int latency, int bandwidth) {
+            socket.setPerformancePreferences(connectionTime, latency, bandwidth);
+        }
+
+        @Override
+        public String toString() {
+            return socket.toString();
+        }
+    }
+}
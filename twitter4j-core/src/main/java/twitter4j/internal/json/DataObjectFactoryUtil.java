@@ -16,13 +16,12 @@
 
 package twitter4j.internal.json;
 
-import twitter4j.json.DataObjectFactory;
-
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * provides public access to package private methods of twitter4j.json.DataObjectFactory class.<br>
+ * Holds the raw JSON forms registered for twitter4j.json.DataObjectFactory#getRawJSON(Object), so that the
+ * *JSONImpl classes can register them without going through reflection.<br>
  * This class is not intended to be used by Twitter4J client.
  *
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -33,52 +32,32 @@ public class DataObjectFactoryUtil {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final Method CLEAR_THREAD_LOCAL_MAP;
-    private static final Method REGISTER_JSON_OBJECT;
-
-    static {
-        Method[] methods = DataObjectFactory.class.getDeclaredMethods();
-        Method clearThreadLocalMap = null;
-        Method registerJSONObject = null;
-        for (Method method : methods) {
-            if (method.getName().equals("clearThreadLocalMap")) {
-                clearThreadLocalMap = method;
-                clearThreadLocalMap.setAccessible(true);
-            } else if (method.getName().equals("registerJSONObject")) {
-                registerJSONObject = method;
-                registerJSONObject.setAccessible(true);
-            }
-        }
-        if (null == clearThreadLocalMap || null == registerJSONObject) {
-            throw new AssertionError();
+    private static final ThreadLocal<Map> rawJsonMap = new ThreadLocal<Map>() {
+        @Override
+        protected Map initialValue() {
+            return new HashMap();
         }
-        CLEAR_THREAD_LOCAL_MAP = clearThreadLocalMap;
-        REGISTER_JSON_OBJECT = registerJSONObject;
-    }
+    };
 
     /**
-     * provides a public access to {DAOFactory#clearThreadLocalMap}
+     * clear raw JSON forms associated with the current thread.
      */
     public static void clearThreadLocalMap() {
-        try {
-            CLEAR_THREAD_LOCAL_MAP.invoke(null);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+        rawJsonMap.get().clear();
     }
 
     /**
-     * provides a public access to {DAOFactory#registerJSONObject}
+     * associate a raw JSON form to the current thread
      */
     public static <T> T registerJSONObject(T key, Object json) {
-        try {
-            return (T) REGISTER_JSON_OBJECT.invoke(null, key, json);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+        rawJsonMap.get().put(key, json);
+        return key;
+    }
+
+    /**
+     * @return the raw JSON form associated to the current thread, as a JSONObject, a JSONArray or a String
+     */
+    public static Object getJSONObject(Object key) {
+        return rawJsonMap.get().get(key);
     }
 }
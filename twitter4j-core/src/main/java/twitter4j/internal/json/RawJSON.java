@@ -0,0 +1,91 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.json;
+
+import twitter4j.internal.org.json.JSONByteTokener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * The exact UTF-8 bytes an object has been parsed from.<br>
+ * A slice references the response body or the stream message it was cut from rather than copying it, so the objects
+ * parsed from one response share that response's bytes for as long as any of them is reachable.<br>
+ * This class is not intended to be used by Twitter4J client.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class RawJSON {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    public RawJSON(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @param x        tokener positioned right after the END_OBJECT or END_ARRAY token of a container
+     * @param position position returned by getPosition() right after the START_OBJECT or START_ARRAY token of the
+     *                 container
+     * @return the container, brackets included
+     */
+    public static RawJSON getInstance(JSONByteTokener x, int position) {
+        return new RawJSON(x.getBuffer(), position - 1, x.getPosition() - position + 1);
+    }
+
+    /**
+     * @return length of the JSON text in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Writes the JSON text as is.
+     *
+     * @param out stream to write to
+     * @throws IOException when the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, offset, length);
+    }
+
+    /**
+     * @return a copy of the JSON text
+     */
+    public byte[] toByteArray() {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, offset, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * @return the JSON text, decoded on every call
+     */
+    @Override
+    public String toString() {
+        try {
+            return new String(bytes, offset, length, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.org.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map backing JSONObject.<br>
+ * Keys and values are kept in two arrays in insertion order, so an object costs three arrays instead of a table plus
+ * one entry per key. Small objects are searched linearly, comparing references first since the keys are mostly
+ * shared instances from FieldNames. Larger objects, like users and statuses, get an open addressing index on top of
+ * the arrays.<br>
+ * An instance is not thread safe.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class CompactMap<K, V> extends AbstractMap<K, V> {
+    // objects up to this size are searched linearly
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size = 0;
+    // position + 1 of the key in keys, 0 for an empty slot. null while the map is small
+    private int[] index = null;
+    private int modCount = 0;
+
+    CompactMap() {
+        this(LINEAR_SCAN_LIMIT);
+    }
+
+    CompactMap(int initialCapacity) {
+        keys = new Object[Math.max(initialCapacity, 1)];
+        values = new Object[keys.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int i = indexOf(key);
+        if (i >= 0) {
+            V old = (V) values[i];
+            values[i] = value;
+            return old;
+        }
+        if (size == keys.length) {
+            Object[] newKeys = new Object[size * 2];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            keys = newKeys;
+            Object[] newValues = new Object[size * 2];
+            System.arraycopy(values, 0, newValues, 0, size);
+            values = newValues;
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        if (null != index) {
+            if (size * 2 > index.length) {
+                rebuildIndex();
+            } else {
+                insertIndex(size - 1);
+            }
+        } else if (size > LINEAR_SCAN_LIMIT) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = (V) values[i];
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    private void removeAt(int i) {
+        int moved = size - i - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, i + 1, keys, i, moved);
+            System.arraycopy(values, i + 1, values, i, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        // removal is rare with JSON objects. positions shifted, so simply rebuild the index
+        if (size > LINEAR_SCAN_LIMIT) {
+            rebuildIndex();
+        } else {
+            index = null;
+        }
+    }
+
+    private int indexOf(Object key) {
+        Object[] keys = this.keys;
+        if (null == index) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            if (null != key) {
+                for (int i = 0; i < size; i++) {
+                    if (key.equals(keys[i])) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+        int[] index = this.index;
+        int mask = index.length - 1;
+        int h = hash(key) & mask;
+        int position;
+        while (0 != (position = index[h])) {
+            Object k = keys[position - 1];
+            if (k == key || (null != key && key.equals(k))) {
+                return position - 1;
+            }
+            h = (h + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(Object key) {
+        if (null == key) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private void rebuildIndex() {
+        int capacity = 16;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        index = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insertIndex(i);
+        }
+    }
+
+    private void insertIndex(int position) {
+        int mask = index.length - 1;
+        int h = hash(keys[position]) & mask;
+        while (0 != index[h]) {
+            h = (h + 1) & mask;
+        }
+        index[h] = position + 1;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new PositionIterator<K>() {
+                    @SuppressWarnings("unchecked")
+                    K get(int position) {
+                        return (K) keys[position];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new PositionIterator<Map.Entry<K, V>>() {
+                    Map.Entry<K, V> get(int position) {
+                        return new Entry(position);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private abstract class PositionIterator<T> implements Iterator<T> {
+        private int next = 0;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        abstract T get(int position);
+
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return get(last);
+        }
+
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, V> {
+        private final int position;
+
+        Entry(int position) {
+            this.position = position;
+        }
+
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) keys[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[position];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            V old = (V) values[position];
+            values[position] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry e = (Map.Entry) o;
+            Object key = getKey();
+            Object value = getValue();
+            return (null == key ? null == e.getKey() : key.equals(e.getKey()))
+                    && (null == value ? null == e.getValue() : value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object key = getKey();
+            Object value = getValue();
+            return (null == key ? 0 : key.hashCode()) ^ (null == value ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.org.json;
+
+/**
+ * A dictionary of the field names appearing in the Twitter API responses.<br>
+ * Keys of parsed JSONObjects are resolved against this dictionary so that millions of objects share a handful of
+ * String instances, and JSONByteTokener can resolve a key straight from its scratch buffer without allocating.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class FieldNames {
+    private FieldNames() {
+        throw new AssertionError();
+    }
+
+    private static final String[] NAMES = {
+            // status
+            "id", "id_str", "text", "source", "truncated", "created_at", "favorited", "retweeted", "retweet_count",
+            "retweeted_status", "in_reply_to_status_id", "in_reply_to_status_id_str", "in_reply_to_user_id",
+            "in_reply_to_user_id_str", "in_reply_to_screen_name", "geo", "coordinates", "place", "contributors",
+            "annotations", "entities", "user_mentions", "urls", "hashtags", "indices", "url", "expanded_url",
+            "display_url", "user",
+            // user
+            "name", "screen_name", "location", "description", "protected", "verified", "followers_count",
+            "friends_count", "favourites_count", "statuses_count", "listed_count", "utc_offset", "time_zone", "lang",
+            "geo_enabled", "contributors_enabled", "is_translator", "notifications", "following",
+            "follow_request_sent", "show_all_inline_media", "profile_image_url", "profile_image_url_https",
+            "profile_background_color", "profile_background_image_url", "profile_background_image_url_https",
+            "profile_background_tile", "profile_text_color", "profile_link_color", "profile_sidebar_fill_color",
+            "profile_sidebar_border_color", "profile_use_background_image", "default_profile",
+            "default_profile_image", "status",
+            // direct message
+            "sender", "sender_id", "sender_screen_name", "recipient", "recipient_id", "recipient_screen_name",
+            // place
+            "type", "full_name", "country", "country_code", "place_type", "bounding_box", "geometry",
+            "contained_within", "attributes", "street_address", "woeid", "code", "slug", "polylines", "accuracy",
+            "granularity", "postal_code", "phone",
+            // streaming
+            "delete", "limit", "track", "scrub_geo", "user_id", "user_id_str", "up_to_status_id",
+            "up_to_status_id_str", "friends", "event", "target", "target_object", "direct_message", "for_user",
+            "message",
+            // misc
+            "users", "ids", "next_cursor", "next_cursor_str", "previous_cursor", "previous_cursor_str", "results",
+            "result", "query", "error", "request", "trends", "as_of", "remaining_hits", "hourly_limit",
+            "reset_time", "reset_time_in_seconds", "relationship", "connections", "member_count",
+            "subscriber_count", "mode", "uri", "size", "value", "max_id", "since_id", "page",
+            "from_user", "from_user_id", "to_user", "to_user_id", "iso_language_code", "refresh_url",
+            "results_per_page", "completed_in",
+    };
+
+    private static final int MASK = 511;
+    private static final String[] TABLE = new String[MASK + 1];
+
+    static {
+        for (String name : NAMES) {
+            int h = hash(name.hashCode()) & MASK;
+            while (null != TABLE[h] && !name.equals(TABLE[h])) {
+                h = (h + 1) & MASK;
+            }
+            TABLE[h] = name;
+        }
+    }
+
+    /**
+     * @return the known field names
+     */
+    static String[] getNames() {
+        return NAMES.clone();
+    }
+
+    private static int hash(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param chars  buffer holding the name
+     * @param length length of the name
+     * @return the shared instance of the name, or null if the name is not a known field name
+     */
+    static String lookup(char[] chars, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars[i];
+        }
+        h = hash(h) & MASK;
+        String name;
+        while (null != (name = TABLE[h])) {
+            if (name.length() == length && regionEquals(name, chars)) {
+                return name;
+            }
+            h = (h + 1) & MASK;
+        }
+        return null;
+    }
+
+    private static boolean regionEquals(String name, char[] chars) {
+        for (int i = name.length() - 1; i >= 0; i--) {
+            if (name.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param name field name
+     * @return the shared instance of the name if it is a known field name, otherwise name itself
+     */
+    static String intern(String name) {
+        int h = hash(name.hashCode()) & MASK;
+        String candidate;
+        while (null != (candidate = TABLE[h])) {
+            if (candidate.equals(name)) {
+                return candidate;
+            }
+            h = (h + 1) & MASK;
+        }
+        return name;
+    }
+}
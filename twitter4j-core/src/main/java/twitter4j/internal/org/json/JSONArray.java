@@ -134,6 +134,18 @@ public class JSONArray {
     }
 
 
+    /**
+     * Construct a JSONArray from a JSONByteTokener.
+     *
+     * @param x A JSONByteTokener positioned before a JSONArray text.
+     * @throws JSONException If there is a syntax error.
+     */
+    public JSONArray(JSONByteTokener x) throws JSONException {
+        this();
+        x.nextArray(this);
+    }
+
+
     /**
      * Construct a JSONArray from a source JSON text.
      *
@@ -0,0 +1,778 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.org.json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A pull tokenizer reading UTF-8 encoded JSON text straight from a byte array.<br>
+ * Unlike JSONTokener, which pulls one char at a time from a Reader and supports a single step of pushback, this
+ * tokenizer walks the array with an index, decodes UTF-8 inline (with a fast path for ASCII) and decodes strings and
+ * numbers into a scratch buffer which is reused across tokens and across calls to reset().<br>
+ * nextToken() reports the structure of the text one token at a time, and nextValue(), JSONObject(JSONByteTokener) and
+ * JSONArray(JSONByteTokener) build the same tree JSONTokener would build from valid JSON text.<br>
+ * An instance is not thread safe.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class JSONByteTokener {
+    public static final int END_OF_INPUT = 0;
+    public static final int START_OBJECT = 1;
+    public static final int END_OBJECT = 2;
+    public static final int START_ARRAY = 3;
+    public static final int END_ARRAY = 4;
+    public static final int FIELD_NAME = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int TRUE = 8;
+    public static final int FALSE = 9;
+    public static final int NULL = 10;
+
+    // what the tokenizer expects next
+    private static final int BEFORE_VALUE = 0;
+    private static final int FIRST_IN_OBJECT = 1;
+    private static final int FIRST_IN_ARRAY = 2;
+    private static final int AFTER_VALUE = 3;
+
+    private byte[] buf;
+    private int offset;
+    private int pos;
+    private int end;
+
+    private int state;
+    private int token;
+    // true for the objects, false for the arrays currently open
+    private boolean[] inObject = new boolean[16];
+    private int depth;
+
+    // text of the current FIELD_NAME, STRING or NUMBER token
+    private char[] scratch = new char[128];
+    private int scratchLength;
+    // value of the current NUMBER token when it is an integer fitting in a long
+    private long longValue;
+    private boolean integral;
+    // strings are not decoded while skipping
+    private boolean skipping = false;
+    private StringPool stringPool;
+    // true while reading the value of a field listed in the string pool
+    private boolean pooledField = false;
+    private boolean rawCaptureEnabled = false;
+
+    public JSONByteTokener(byte[] buf) {
+        this(buf, 0, buf.length);
+    }
+
+    public JSONByteTokener(byte[] buf, int offset, int length) {
+        reset(buf, offset, length);
+    }
+
+    public JSONByteTokener(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            reset(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            reset(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Starts tokenizing another text, keeping the scratch buffer.
+     *
+     * @param buf    UTF-8 encoded JSON text
+     * @param offset offset of the text in buf
+     * @param length length of the text
+     */
+    public void reset(byte[] buf, int offset, int length) {
+        this.buf = buf;
+        this.offset = offset;
+        this.pos = offset;
+        this.end = offset + length;
+        // skip the byte order mark
+        if (length >= 3 && (buf[offset] & 0xff) == 0xef && (buf[offset + 1] & 0xff) == 0xbb
+                && (buf[offset + 2] & 0xff) == 0xbf) {
+            this.pos += 3;
+        }
+        this.state = BEFORE_VALUE;
+        this.token = END_OF_INPUT;
+        this.depth = 0;
+        this.scratchLength = 0;
+        this.pooledField = false;
+    }
+
+    /**
+     * Shares the values of the fields listed in the pool, across texts and across tokenizers using the same pool.
+     * The pool is kept across calls to reset().
+     *
+     * @param stringPool string pool, or null not to pool any value
+     */
+    public void setStringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
+        this.pooledField = false;
+    }
+
+    /**
+     * Tells the objects bound from this tokenizer to keep a reference to the bytes they have been parsed from.
+     * The setting is kept across calls to reset().
+     *
+     * @param rawCaptureEnabled true to keep the raw JSON text
+     */
+    public void setRawCaptureEnabled(boolean rawCaptureEnabled) {
+        this.rawCaptureEnabled = rawCaptureEnabled;
+    }
+
+    public boolean isRawCaptureEnabled() {
+        return rawCaptureEnabled;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return one of the token constants. END_OF_INPUT once the top level value has been read
+     * @throws JSONException If there is a syntax error.
+     */
+    public int nextToken() throws JSONException {
+        int c = nextClean();
+        switch (state) {
+            case FIRST_IN_OBJECT:
+                if ('}' == c) {
+                    return endContainer(END_OBJECT);
+                }
+                return fieldName(c);
+            case FIRST_IN_ARRAY:
+                if (']' == c) {
+                    return endContainer(END_ARRAY);
+                }
+                return value(c);
+            case AFTER_VALUE:
+                if (0 == depth) {
+                    return token = END_OF_INPUT;
+                }
+                boolean object = inObject[depth - 1];
+                if (',' == c) {
+                    c = nextClean();
+                    // tolerate a trailing comma as JSONTokener does
+                    if (object) {
+                        return '}' == c ? endContainer(END_OBJECT) : fieldName(c);
+                    }
+                    return ']' == c ? endContainer(END_ARRAY) : value(c);
+                }
+                if (object && '}' == c) {
+                    return endContainer(END_OBJECT);
+                }
+                if (!object && ']' == c) {
+                    return endContainer(END_ARRAY);
+                }
+                throw syntaxError(object ? "Expected a ',' or '}'" : "Expected a ',' or ']'");
+            default:
+                if (-1 == c && 0 == depth) {
+                    return token = END_OF_INPUT;
+                }
+                return value(c);
+        }
+    }
+
+    /**
+     * @return the token returned by the last call to nextToken()
+     */
+    public int getToken() {
+        return token;
+    }
+
+    /**
+     * @return the text of the current FIELD_NAME, STRING or NUMBER token
+     */
+    public String getString() {
+        if (pooledField && STRING == token) {
+            return stringPool.get(scratch, scratchLength);
+        }
+        return new String(scratch, 0, scratchLength);
+    }
+
+    /**
+     * @return the text of the current token, shared with other objects when it is a known field name
+     */
+    /*package*/ String getFieldName() {
+        String name = FieldNames.lookup(scratch, scratchLength);
+        return null != name ? name : getString();
+    }
+
+    /**
+     * Compares the text of the current token without creating a String.
+     *
+     * @param str string to compare
+     * @return true if the text of the current token equals to str
+     */
+    public boolean textEquals(String str) {
+        int length = scratchLength;
+        if (str.length() != length) {
+            return false;
+        }
+        char[] chars = scratch;
+        for (int i = 0; i < length; i++) {
+            if (chars[i] != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the value of the current NUMBER token as Integer, Long or Double, following
+     *         JSONObject.stringToValue(String)
+     */
+    public Object getNumber() {
+        if (integral) {
+            if (longValue == (int) longValue) {
+                return Integer.valueOf((int) longValue);
+            }
+            return Long.valueOf(longValue);
+        }
+        return JSONObject.stringToValue(getString());
+    }
+
+    /**
+     * @return true if the current token is a NUMBER without fraction or exponent that fits in a long
+     */
+    public boolean isIntegral() {
+        return NUMBER == token && integral;
+    }
+
+    /**
+     * @return the value of the current NUMBER token as long
+     * @throws JSONException If the current token is not a number
+     */
+    public long getLong() throws JSONException {
+        if (integral) {
+            return longValue;
+        }
+        Object number = NUMBER == token ? getNumber() : null;
+        if (number instanceof Number) {
+            return ((Number) number).longValue();
+        }
+        throw syntaxError("Not a number");
+    }
+
+    /**
+     * Skips the next value including its children, if any.
+     *
+     * @throws JSONException If there is a syntax error.
+     */
+    public void skipValue() throws JSONException {
+        skipping = true;
+        try {
+            int token = nextToken();
+            if (END_OF_INPUT == token || END_OBJECT == token || END_ARRAY == token) {
+                throw syntaxError("Missing value");
+            }
+            skipChildren();
+        } finally {
+            skipping = false;
+        }
+    }
+
+    /**
+     * Skips the rest of the object or the array if the current token is START_OBJECT or START_ARRAY. Does nothing
+     * otherwise.<br>
+     * Strings are skipped without being decoded.
+     *
+     * @throws JSONException If there is a syntax error.
+     */
+    public void skipChildren() throws JSONException {
+        if (START_OBJECT != token && START_ARRAY != token) {
+            return;
+        }
+        boolean wasSkipping = skipping;
+        skipping = true;
+        try {
+            int target = depth - 1;
+            while (depth > target) {
+                if (END_OF_INPUT == nextToken()) {
+                    throw syntaxError("Unterminated value");
+                }
+            }
+        } finally {
+            skipping = wasSkipping;
+        }
+    }
+
+    /**
+     * Skips to the end of the innermost object or array being read, by looking for the closing bracket rather than
+     * tokenizing the rest of it. Unlike skipChildren(), the skipped text is not validated.
+     *
+     * @throws JSONException If the object or the array is not terminated.
+     */
+    public void skipToEndOfContainer() throws JSONException {
+        if (0 == depth) {
+            return;
+        }
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        int end = this.end;
+        int nesting = 0;
+        while (pos < end) {
+            byte c = buf[pos++];
+            if ('"' == c) {
+                while (pos < end && '"' != (c = buf[pos++])) {
+                    if ('\\' == c) {
+                        pos++;
+                    }
+                }
+            } else if ('{' == c || '[' == c) {
+                nesting++;
+            } else if (('}' == c || ']' == c) && 0 == nesting--) {
+                this.pos = pos;
+                endContainer(inObject[depth - 1] ? END_OBJECT : END_ARRAY);
+                return;
+            }
+        }
+        this.pos = end;
+        throw syntaxError("Unterminated value");
+    }
+
+    /**
+     * @return number of objects and arrays the current token is in. Right after a START_OBJECT or START_ARRAY token
+     *         it includes the container just started
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the value of the current token, reading the rest of the object or the array for START_OBJECT and
+     * START_ARRAY.
+     *
+     * @return A Boolean, Double, Integer, JSONArray, JSONObject, Long, or String, or the JSONObject.NULL object.
+     * @throws JSONException If there is a syntax error, or the current token doesn't start a value.
+     */
+    public Object getValue() throws JSONException {
+        return readValue(token);
+    }
+
+    /**
+     * @return position right after the current token. Right after a START_OBJECT or START_ARRAY token it marks the
+     *         container for hash(int) and rewind(int)
+     */
+    public int getPosition() {
+        return pos;
+    }
+
+    /**
+     * @return the array being tokenized, which positions are relative to
+     */
+    public byte[] getBuffer() {
+        return buf;
+    }
+
+    /**
+     * @param position position returned by getPosition() right after a START_OBJECT or START_ARRAY token
+     * @return 64-bit hash of the raw bytes from the container start up to the current position
+     */
+    public long hash(int position) {
+        byte[] buf = this.buf;
+        int from = position - 1;
+        int length = pos - from;
+        // four independent lanes keep the multiplications from waiting on each other
+        long h0 = 0xcbf29ce484222325L;
+        long h1 = length;
+        long h2 = 0x9e3779b97f4a7c15L;
+        long h3 = 0xc2b2ae3d27d4eb4fL;
+        int i = from;
+        for (int last = pos - 3; i < last; i += 4) {
+            h0 = (h0 ^ buf[i]) * 0x100000001b3L;
+            h1 = (h1 ^ buf[i + 1]) * 0x100000001b3L;
+            h2 = (h2 ^ buf[i + 2]) * 0x100000001b3L;
+            h3 = (h3 ^ buf[i + 3]) * 0x100000001b3L;
+        }
+        for (; i < pos; i++) {
+            h0 = (h0 ^ buf[i]) * 0x100000001b3L;
+        }
+        return ((h0 * 31 + h1) * 31 + h2) * 31 + h3;
+    }
+
+    /**
+     * Goes back into a container which has been read up to its end, so that it can be read again.
+     *
+     * @param position position returned by getPosition() right after the START_OBJECT or START_ARRAY token
+     */
+    public void rewind(int position) {
+        boolean object = '{' == buf[position - 1];
+        beginContainer(object);
+        this.pos = position;
+        this.state = object ? FIRST_IN_OBJECT : FIRST_IN_ARRAY;
+        this.token = object ? START_OBJECT : START_ARRAY;
+    }
+
+    /**
+     * Reads the next value. The value can be a Boolean, Double, Integer, JSONArray, JSONObject, Long, or String, or
+     * the JSONObject.NULL object.
+     *
+     * @return An object.
+     * @throws JSONException If there is a syntax error.
+     */
+    public Object nextValue() throws JSONException {
+        return readValue(nextToken());
+    }
+
+    /*package*/ void nextObject(JSONObject object) throws JSONException {
+        if (START_OBJECT != nextToken()) {
+            throw syntaxError("A JSONObject text must begin with '{'");
+        }
+        readObject(object);
+    }
+
+    /*package*/ void nextArray(JSONArray array) throws JSONException {
+        if (START_ARRAY != nextToken()) {
+            throw syntaxError("A JSONArray text must start with '['");
+        }
+        readArray(array);
+    }
+
+    private Object readValue(int token) throws JSONException {
+        switch (token) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                readObject(object);
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                readArray(array);
+                return array;
+            case STRING:
+                return getString();
+            case NUMBER:
+                return getNumber();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+                return JSONObject.NULL;
+            default:
+                throw syntaxError("Missing value");
+        }
+    }
+
+    private void readObject(JSONObject object) throws JSONException {
+        while (END_OBJECT != nextToken()) {
+            String key = getFieldName();
+            object.putOnce(key, readValue(nextToken()));
+        }
+    }
+
+    private void readArray(JSONArray array) throws JSONException {
+        for (int token = nextToken(); END_ARRAY != token; token = nextToken()) {
+            array.put(readValue(token));
+        }
+    }
+
+    private int nextClean() {
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        int end = this.end;
+        while (pos < end) {
+            int c = buf[pos++];
+            if (c < 0 || c > ' ') {
+                this.pos = pos;
+                return c;
+            }
+        }
+        this.pos = end;
+        return -1;
+    }
+
+    private int endContainer(int token) {
+        pooledField = false;
+        depth--;
+        state = AFTER_VALUE;
+        return this.token = token;
+    }
+
+    private void beginContainer(boolean object) {
+        if (depth == inObject.length) {
+            boolean[] newStack = new boolean[depth * 2];
+            System.arraycopy(inObject, 0, newStack, 0, depth);
+            inObject = newStack;
+        }
+        inObject[depth++] = object;
+    }
+
+    private int fieldName(int c) throws JSONException {
+        if ('"' != c) {
+            throw syntaxError(-1 == c ? "A JSONObject text must end with '}'" : "Expected a quoted key");
+        }
+        if (skipping) {
+            skipString();
+        } else {
+            readString();
+            pooledField = null != stringPool && stringPool.isPooledField(scratch, scratchLength);
+        }
+        if (':' != nextClean()) {
+            throw syntaxError("Expected a ':' after a key");
+        }
+        state = BEFORE_VALUE;
+        return token = FIELD_NAME;
+    }
+
+    private int value(int c) throws JSONException {
+        switch (c) {
+            case '{':
+                beginContainer(true);
+                state = FIRST_IN_OBJECT;
+                return token = START_OBJECT;
+            case '[':
+                beginContainer(false);
+                state = FIRST_IN_ARRAY;
+                return token = START_ARRAY;
+            case '"':
+                if (skipping) {
+                    skipString();
+                } else {
+                    readString();
+                }
+                state = AFTER_VALUE;
+                return token = STRING;
+            case 't':
+                readLiteral("rue");
+                state = AFTER_VALUE;
+                return token = TRUE;
+            case 'f':
+                readLiteral("alse");
+                state = AFTER_VALUE;
+                return token = FALSE;
+            case 'n':
+                readLiteral("ull");
+                state = AFTER_VALUE;
+                return token = NULL;
+            case -1:
+                throw syntaxError("Missing value");
+            default:
+                if ('-' == c || ('0' <= c && c <= '9')) {
+                    readNumber(c);
+                    state = AFTER_VALUE;
+                    return token = NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) (c & 0xff) + "'");
+        }
+    }
+
+    private void readLiteral(String rest) throws JSONException {
+        int length = rest.length();
+        if (pos + length > end) {
+            throw syntaxError("Missing value");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf[pos + i] != rest.charAt(i)) {
+                throw syntaxError("Unexpected value");
+            }
+        }
+        pos += length;
+    }
+
+    private void readNumber(int first) {
+        char[] chars = scratch;
+        int n = 0;
+        boolean negative = '-' == first;
+        boolean integral = true;
+        long value = negative ? 0 : first - '0';
+        chars[n++] = (char) first;
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        while (pos < end) {
+            int c = buf[pos];
+            if ('0' <= c && c <= '9') {
+                value = value * 10 + (c - '0');
+            } else if ('.' == c || 'e' == c || 'E' == c || '+' == c || '-' == c) {
+                integral = false;
+            } else {
+                break;
+            }
+            if (n == chars.length) {
+                chars = growScratch(n);
+            }
+            chars[n++] = (char) c;
+            pos++;
+        }
+        this.pos = pos;
+        this.scratchLength = n;
+        // up to 18 digits can't overflow. longer ones go through JSONObject.stringToValue()
+        int digits = negative ? n - 1 : n;
+        this.integral = integral && 0 < digits && digits <= 18;
+        this.longValue = negative ? -value : value;
+    }
+
+    private void readString() throws JSONException {
+        char[] chars = scratch;
+        int n = 0;
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        int end = this.end;
+        for (; ;) {
+            if (pos >= end) {
+                this.pos = pos;
+                throw syntaxError("Unterminated string");
+            }
+            // a multi-byte sequence or an escape yields up to two chars
+            if (n + 2 > chars.length) {
+                chars = growScratch(n);
+            }
+            int c = buf[pos++];
+            if (c >= ' ') {
+                if ('"' == c) {
+                    break;
+                }
+                if ('\\' != c) {
+                    chars[n++] = (char) c;
+                    continue;
+                }
+                if (pos >= end) {
+                    continue;
+                }
+                c = buf[pos++];
+                switch (c) {
+                    case 'b':
+                        chars[n++] = '\b';
+                        break;
+                    case 't':
+                        chars[n++] = '\t';
+                        break;
+                    case 'n':
+                        chars[n++] = '\n';
+                        break;
+                    case 'f':
+                        chars[n++] = '\f';
+                        break;
+                    case 'r':
+                        chars[n++] = '\r';
+                        break;
+                    case 'u':
+                        int ch = pos + 4 <= end ? hex(buf, pos) : -1;
+                        if (ch < 0) {
+                            this.pos = pos;
+                            throw syntaxError("Illegal escape.");
+                        }
+                        chars[n++] = (char) ch;
+                        pos += 4;
+                        break;
+                    case '"':
+                    case '\'':
+                    case '\\':
+                    case '/':
+                        chars[n++] = (char) c;
+                        break;
+                    default:
+                        this.pos = pos;
+                        throw syntaxError("Illegal escape.");
+                }
+            } else if (c < 0) {
+                // multi-byte UTF-8 sequence
+                int codePoint;
+                int continuation;
+                if ((c & 0xe0) == 0xc0) {
+                    codePoint = c & 0x1f;
+                    continuation = 1;
+                } else if ((c & 0xf0) == 0xe0) {
+                    codePoint = c & 0x0f;
+                    continuation = 2;
+                } else if ((c & 0xf8) == 0xf0) {
+                    codePoint = c & 0x07;
+                    continuation = 3;
+                } else {
+                    chars[n++] = '\uFFFD';
+                    continue;
+                }
+                int i = 0;
+                for (; i < continuation && pos < end && (buf[pos] & 0xc0) == 0x80; i++) {
+                    codePoint = (codePoint << 6) | (buf[pos++] & 0x3f);
+                }
+                if (i < continuation) {
+                    chars[n++] = '\uFFFD';
+                } else if (codePoint >= 0x10000) {
+                    codePoint -= 0x10000;
+                    chars[n++] = (char) (0xd800 | (codePoint >> 10));
+                    chars[n++] = (char) (0xdc00 | (codePoint & 0x3ff));
+                } else {
+                    chars[n++] = (char) codePoint;
+                }
+            } else if ('\n' == c || '\r' == c || 0 == c) {
+                this.pos = pos;
+                throw syntaxError("Unterminated string");
+            } else {
+                chars[n++] = (char) c;
+            }
+        }
+        this.pos = pos;
+        this.scratchLength = n;
+    }
+
+    private void skipString() throws JSONException {
+        byte[] buf = this.buf;
+        int pos = this.pos;
+        int end = this.end;
+        while (pos < end) {
+            byte c = buf[pos++];
+            if ('"' == c) {
+                this.pos = pos;
+                this.scratchLength = 0;
+                return;
+            }
+            if ('\\' == c) {
+                pos++;
+            }
+        }
+        this.pos = end;
+        throw syntaxError("Unterminated string");
+    }
+
+    private static int hex(byte[] buf, int pos) {
+        int value = 0;
+        for (int i = pos; i < pos + 4; i++) {
+            int digit = JSONTokener.dehexchar((char) buf[i]);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private char[] growScratch(int length) {
+        char[] newScratch = new char[scratch.length * 2];
+        System.arraycopy(scratch, 0, newScratch, 0, length);
+        scratch = newScratch;
+        return newScratch;
+    }
+
+    /**
+     * Make a JSONException to signal a syntax error.
+     *
+     * @param message The error message.
+     * @return A JSONException object, suitable for throwing
+     */
+    public JSONException syntaxError(String message) {
+        return new JSONException(message + toString());
+    }
+
+    /**
+     * @return " at {index}"
+     */
+    @Override
+    public String toString() {
+        return " at " + (pos - offset);
+    }
+}
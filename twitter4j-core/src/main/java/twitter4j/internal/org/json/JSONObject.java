@@ -31,7 +31,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
@@ -133,6 +132,7 @@ public class JSONObject {
 
     /**
      * The map where the JSONObject's properties are kept.
+     * A CompactMap keeps the properties in insertion order with far less allocation than a HashMap.
      */
     private Map map;
 
@@ -150,7 +150,7 @@ public class JSONObject {
      * Construct an empty JSONObject.
      */
     public JSONObject() {
-        this.map = new HashMap();
+        this.map = new CompactMap();
     }
 
 
@@ -199,7 +199,7 @@ public class JSONObject {
                     return;
                 default:
                     x.back();
-                    key = x.nextValue().toString();
+                    key = FieldNames.intern(x.nextValue().toString());
             }
 
 // The key is followed by ':'. We will also tolerate '=' or '=>'.
@@ -233,6 +233,19 @@ public class JSONObject {
     }
 
 
+    /**
+     * Construct a JSONObject from a JSONByteTokener.
+     *
+     * @param x A JSONByteTokener positioned before a JSONObject text.
+     * @throws JSONException If there is a syntax error in the source text
+     *                       or a duplicated key.
+     */
+    public JSONObject(JSONByteTokener x) throws JSONException {
+        this();
+        x.nextObject(this);
+    }
+
+
     /**
      * Construct a JSONObject from a Map.
      *
@@ -241,7 +254,7 @@ public class JSONObject {
      * @throws JSONException
      */
     public JSONObject(Map map) {
-        this.map = new HashMap();
+        this.map = new CompactMap();
         if (map != null) {
             Iterator i = map.entrySet().iterator();
             while (i.hasNext()) {
@@ -587,6 +600,112 @@ public class JSONObject {
     }
 
 
+    /**
+     * Get the boolean value associated with a key, or the defaultValue if
+     * there is no such key or if the value is not a Boolean or the String
+     * "true" or "false" (case insensitive).
+     * Unlike optBoolean, no exception is thrown and caught on the way.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The truth.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object object = opt(key);
+        if (object instanceof Boolean) {
+            return ((Boolean) object).booleanValue();
+        }
+        if (object instanceof String) {
+            String string = (String) object;
+            if (string.equalsIgnoreCase("true")) {
+                return true;
+            } else if (string.equalsIgnoreCase("false")) {
+                return false;
+            }
+        }
+        return defaultValue;
+    }
+
+
+    /**
+     * Get the double value associated with a key, or the defaultValue if
+     * there is no such key or if the value cannot be converted to a number.
+     * Numbers are read without a String round trip.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The numeric value.
+     */
+    public double getDouble(String key, double defaultValue) {
+        Object object = opt(key);
+        if (object instanceof Number) {
+            return ((Number) object).doubleValue();
+        }
+        if (object instanceof String) {
+            try {
+                return Double.parseDouble((String) object);
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+
+    /**
+     * Get the int value associated with a key, or the defaultValue if there
+     * is no such key or if the value is not an integer within the range of int.
+     * Numbers are read without a String round trip.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The integer value.
+     */
+    public int getInt(String key, int defaultValue) {
+        Object object = opt(key);
+        if (object instanceof Integer) {
+            return ((Integer) object).intValue();
+        }
+        if (object instanceof Long) {
+            long value = ((Long) object).longValue();
+            return value == (int) value ? (int) value : defaultValue;
+        }
+        if (object instanceof String) {
+            try {
+                return Integer.parseInt((String) object);
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+
+    /**
+     * Get the long value associated with a key, or the defaultValue if there
+     * is no such key or if the value is not an integer within the range of long.
+     * Numbers are read without a String round trip.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The long value.
+     */
+    public long getLong(String key, long defaultValue) {
+        Object object = opt(key);
+        if (object instanceof Long || object instanceof Integer) {
+            return ((Number) object).longValue();
+        }
+        if (object instanceof String) {
+            try {
+                return Long.parseLong((String) object);
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+        return defaultValue;
+    }
+
+
     /**
      * Get an array of field names from a JSONObject.
      *
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.org.json;
+
+import twitter4j.conf.Configuration;
+import twitter4j.internal.logging.Logger;
+import twitter4j.management.StringPoolStatistics;
+import twitter4j.management.StringPoolStatisticsMBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded pool letting repeated values of low-cardinality fields, such as screen_name, source or lang, share one
+ * String instance.<br>
+ * JSONByteTokener looks the decoded characters up before creating a String, so a hit allocates nothing. The pool is
+ * split into stripes, each guarded by its own lock, and each value hashes to a set of two slots within a stripe.
+ * A new value replaces the older of the two, so the pool never holds more than stringPool.size values, rounded up to
+ * a power of two.<br>
+ * Enabled with stringPool.size, for the fields listed in stringPool.fields. One pool per size and fields, shared
+ * JVM wide by all the configurations using them.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class StringPool {
+    private static final Logger logger = Logger.getLogger(StringPool.class);
+    private static final ConcurrentMap<String, StringPool> INSTANCES = new ConcurrentHashMap<String, StringPool>();
+    private static final StringPoolStatistics STATISTICS = new StringPoolStatistics();
+
+    static {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            mbs.registerMBean(STATISTICS, new ObjectName("twitter4j.mbean:type=StringPoolStatistics"));
+        } catch (Exception e) {
+            logger.warn("Failed to register StringPoolStatistics MBean: ", e.getMessage());
+        }
+    }
+
+    private static final int STRIPES = 16;
+    // longer values are unlikely to repeat
+    private static final int MAX_LENGTH = 256;
+
+    /**
+     * @param conf configuration
+     * @return the pool for the size and the fields of the configuration, or null if the pool is disabled
+     */
+    public static StringPool getInstance(Configuration conf) {
+        if (conf.getStringPoolSize() <= 0 || null == conf.getStringPoolFields()) {
+            return null;
+        }
+        String key = conf.getStringPoolSize() + ":" + conf.getStringPoolFields();
+        StringPool pool = INSTANCES.get(key);
+        if (null == pool) {
+            pool = new StringPool(conf.getStringPoolSize(), conf.getStringPoolFields());
+            StringPool existing = INSTANCES.putIfAbsent(key, pool);
+            if (null != existing) {
+                pool = existing;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * @return JVM wide statistics of the string pools
+     */
+    public static StringPoolStatisticsMBean getStatistics() {
+        return STATISTICS;
+    }
+
+    private final String[] fields;
+    private final String[][] stripes;
+    private final int slotMask;
+
+    /**
+     * @param size   maximum number of values to be pooled
+     * @param fields comma separated names of the fields whose values are pooled
+     */
+    public StringPool(int size, String fields) {
+        List<String> names = new ArrayList<String>();
+        for (String field : fields.split(",")) {
+            field = field.trim();
+            if (field.length() > 0) {
+                names.add(field);
+            }
+        }
+        this.fields = names.toArray(new String[names.size()]);
+        int slots = 2;
+        while (slots * STRIPES < size) {
+            slots <<= 1;
+        }
+        stripes = new String[STRIPES][slots];
+        slotMask = slots - 2;
+    }
+
+    /**
+     * @param chars  characters of a field name
+     * @param length length of the field name
+     * @return true if the values of the field are pooled
+     */
+    boolean isPooledField(char[] chars, int length) {
+        for (String field : fields) {
+            if (field.length() == length && regionMatches(field, chars, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param chars  characters of the value
+     * @param length length of the value
+     * @return pooled String equal to the characters
+     */
+    String get(char[] chars, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, 0, length);
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        hash ^= hash >>> 16;
+        String[] stripe = stripes[hash & (STRIPES - 1)];
+        int slot = (hash >>> 4) & slotMask;
+        synchronized (stripe) {
+            String value = stripe[slot];
+            if (null == value || value.length() != length || !regionMatches(value, chars, length)) {
+                value = stripe[slot + 1];
+                if (null == value || value.length() != length || !regionMatches(value, chars, length)) {
+                    value = null;
+                }
+            }
+            if (null != value) {
+                STATISTICS.hit(length);
+                return value;
+            }
+        }
+        STATISTICS.missed();
+        String value = new String(chars, 0, length);
+        synchronized (stripe) {
+            if (null != stripe[slot + 1]) {
+                STATISTICS.evicted();
+            }
+            // the most recent value goes first
+            stripe[slot + 1] = stripe[slot];
+            stripe[slot] = value;
+        }
+        return value;
+    }
+
+    private static boolean regionMatches(String str, char[] chars, int length) {
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return number of pooled values
+     */
+    int size() {
+        int size = 0;
+        for (String[] stripe : stripes) {
+            synchronized (stripe) {
+                for (String value : stripe) {
+                    if (null != value) {
+                        size++;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+}
@@ -18,6 +18,7 @@ package twitter4j.internal.util;
 
 import twitter4j.TwitterException;
 import twitter4j.internal.http.HTMLEntity;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
 
@@ -25,10 +26,13 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 
 /**
@@ -49,6 +53,12 @@ public final class ParseUtil {
         }
     };
 
+    // layouts TwitterDateParser understands. other layouts and malformed dates go through SimpleDateFormat
+    private static final Set<String> REST_DATE_FORMATS = new HashSet<String>(Arrays.asList(
+            "EEE MMM d HH:mm:ss z yyyy", "EEE MMM dd HH:mm:ss z yyyy", "EEE MMM d HH:mm:ss Z yyyy"));
+    private static final Set<String> RFC822_DATE_FORMATS = new HashSet<String>(Arrays.asList(
+            "EEE, d MMM yyyy HH:mm:ss z", "EEE, dd MMM yyyy HH:mm:ss z"));
+
     public static String getUnescapedString(String str, JSONObject json) {
         return HTMLEntity.unescape(getRawString(str, json));
     }
@@ -90,6 +100,15 @@ public final class ParseUtil {
     }
 
     public static Date getDate(String name, String format) throws TwitterException {
+        Date date = null;
+        if (REST_DATE_FORMATS.contains(format)) {
+            date = TwitterDateParser.parseRESTDate(name);
+        } else if (RFC822_DATE_FORMATS.contains(format)) {
+            date = TwitterDateParser.parseRFC822Date(name);
+        }
+        if (null != date) {
+            return date;
+        }
         SimpleDateFormat sdf = formatMap.get().get(format);
         if (null == sdf) {
             sdf = new SimpleDateFormat(format, Locale.ENGLISH);
@@ -104,7 +123,7 @@ public final class ParseUtil {
     }
 
     public static int getInt(String name, JSONObject json) {
-        return getInt(getRawString(name, json));
+        return json.getInt(name, -1);
     }
 
     public static int getInt(String str) {
@@ -121,36 +140,106 @@ public final class ParseUtil {
     }
 
     public static long getLong(String name, JSONObject json) {
-        return getLong(getRawString(name, json));
+        Object value = json.opt(name);
+        if (value instanceof String) {
+            // "100+" and the like
+            return getLong((String) value);
+        }
+        return json.getLong(name, -1);
     }
 
     public static long getLong(String str) {
         if (null == str || "".equals(str) || "null".equals(str)) {
             return -1;
         } else {
-            // some count over 100 will be expressed as "100+"
-            if (str.endsWith("+")) {
-                str = str.substring(0, str.length() - 1);
-                return Long.valueOf(str) + 1;
+            try {
+                // some count over 100 will be expressed as "100+"
+                if (str.endsWith("+")) {
+                    str = str.substring(0, str.length() - 1);
+                    return Long.valueOf(str) + 1;
+                }
+                return Long.valueOf(str);
+            } catch (NumberFormatException nfe) {
+                // non-numeric and fractional values read as -1, like getInt(String)
+                return -1;
             }
-            return Long.valueOf(str);
         }
     }
 
     public static double getDouble(String name, JSONObject json) {
-        String str2 = getRawString(name, json);
-        if (null == str2 || "".equals(str2) || "null".equals(str2)) {
-            return -1;
+        return json.getDouble(name, -1);
+    }
+
+    public static boolean getBoolean(String name, JSONObject json) {
+        return json.getBoolean(name, false);
+    }
+
+    /*
+     * The methods below read the value following a FIELD_NAME token with the same semantics as their JSONObject
+     * based counterparts.
+     */
+
+    public static String getUnescapedString(JSONByteTokener x) throws JSONException {
+        return HTMLEntity.unescape(getRawString(x));
+    }
+
+    public static String getRawString(JSONByteTokener x) throws JSONException {
+        x.nextToken();
+        return currentRawString(x);
+    }
+
+    private static String currentRawString(JSONByteTokener x) throws JSONException {
+        switch (x.getToken()) {
+            case JSONByteTokener.STRING:
+            case JSONByteTokener.NUMBER:
+                return x.getString();
+            case JSONByteTokener.TRUE:
+                return "true";
+            case JSONByteTokener.FALSE:
+                return "false";
+            case JSONByteTokener.NULL:
+                return null;
+            default:
+                return x.getValue().toString();
+        }
+    }
+
+    public static Date getDate(JSONByteTokener x, String format) throws TwitterException, JSONException {
+        String dateStr = getUnescapedString(x);
+        if ("null".equals(dateStr) || null == dateStr) {
+            return null;
         } else {
-            return Double.valueOf(str2);
+            return getDate(dateStr, format);
         }
     }
 
-    public static boolean getBoolean(String name, JSONObject json) {
-        String str = getRawString(name, json);
-        if (null == str || "null".equals(str)) {
-            return false;
+    public static int getInt(JSONByteTokener x) throws JSONException {
+        x.nextToken();
+        if (x.isIntegral()) {
+            long value = x.getLong();
+            return value == (int) value ? (int) value : -1;
+        }
+        return getInt(currentRawString(x));
+    }
+
+    public static long getLong(JSONByteTokener x) throws JSONException {
+        x.nextToken();
+        if (x.isIntegral()) {
+            return x.getLong();
+        }
+        return getLong(currentRawString(x));
+    }
+
+    public static boolean getBoolean(JSONByteTokener x) throws JSONException {
+        switch (x.nextToken()) {
+            case JSONByteTokener.TRUE:
+                return true;
+            case JSONByteTokener.FALSE:
+            case JSONByteTokener.NULL:
+                return false;
+            default:
+                String str = currentRawString(x);
+                return !"null".equals(str) && Boolean.valueOf(str);
         }
-        return Boolean.valueOf(str);
     }
-}
\ No newline at end of file
+}
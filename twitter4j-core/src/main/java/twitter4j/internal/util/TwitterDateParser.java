@@ -0,0 +1,216 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.util;
+
+import java.util.Date;
+
+/**
+ * Parses the fixed date layouts returned by Twitter straight from the characters, without SimpleDateFormat.<br>
+ * REST API: "EEE MMM d HH:mm:ss Z yyyy", i.e. "Sat Dec 19 16:01:35 +0000 2009"<br>
+ * Search API: "EEE, d MMM yyyy HH:mm:ss Z", i.e. "Thu, 02 Dec 2010 08:10:28 +0000"<br>
+ * Anything else, including out of range fields which SimpleDateFormat would leniently roll over like the day of
+ * month beyond the length of the month, is rejected so that the caller can fall back to SimpleDateFormat and get
+ * identical results.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class TwitterDateParser {
+    private TwitterDateParser() {
+        throw new AssertionError();
+    }
+
+    private static final String MONTHS = "JanFebMarAprMayJunJulAugSepOctNovDec";
+    private static final String DAYS_OF_WEEK = "SunMonTueWedThuFriSat";
+
+    // statuses arrive in bursts sharing the same second. One mutable holder per thread so that a miss allocates
+    // nothing but the returned Date
+    private static final ThreadLocal<LastSecond> LAST_SECOND = new ThreadLocal<LastSecond>() {
+        @Override
+        protected LastSecond initialValue() {
+            return new LastSecond();
+        }
+    };
+
+    private static final class LastSecond {
+        String text = "";
+        long time;
+    }
+
+    /**
+     * @param str date in the REST API layout
+     * @return parsed date, or null if str is not in the layout
+     */
+    static Date parseRESTDate(String str) {
+        LastSecond last = LAST_SECOND.get();
+        if (last.text.equals(str)) {
+            return new Date(last.time);
+        }
+        // Sat Dec 19 16:01:35 +0000 2009
+        int length = str.length();
+        if (length < 29 || !isDayOfWeek(str, 0) || ' ' != str.charAt(3)) {
+            return null;
+        }
+        int month = month(str, 4);
+        if (month < 0 || ' ' != str.charAt(7)) {
+            return null;
+        }
+        int pos = 8;
+        int day = digit(str, pos++);
+        if (' ' != str.charAt(pos)) {
+            day = day * 10 + digit(str, pos++);
+        }
+        // time, offset and year. 20 characters remaining
+        if (pos + 20 != length || ' ' != str.charAt(pos) || ' ' != str.charAt(pos + 9)
+                || ' ' != str.charAt(pos + 15)) {
+            return null;
+        }
+        long secondOfDay = secondOfDay(str, pos + 1);
+        long offset = offset(str, pos + 10);
+        int year = number(str, pos + 16, 4);
+        return toDate(last, str, year, month, day, secondOfDay, offset);
+    }
+
+    /**
+     * @param str date in the search API (RFC 822) layout
+     * @return parsed date, or null if str is not in the layout
+     */
+    static Date parseRFC822Date(String str) {
+        LastSecond last = LAST_SECOND.get();
+        if (last.text.equals(str)) {
+            return new Date(last.time);
+        }
+        // Thu, 02 Dec 2010 08:10:28 +0000
+        int length = str.length();
+        if (length < 30 || !isDayOfWeek(str, 0) || ',' != str.charAt(3) || ' ' != str.charAt(4)) {
+            return null;
+        }
+        int pos = 5;
+        int day = digit(str, pos++);
+        if (' ' != str.charAt(pos)) {
+            day = day * 10 + digit(str, pos++);
+        }
+        // month, year, time and offset. 24 characters remaining
+        if (pos + 24 != length || ' ' != str.charAt(pos) || ' ' != str.charAt(pos + 4)
+                || ' ' != str.charAt(pos + 9) || ' ' != str.charAt(pos + 18)) {
+            return null;
+        }
+        int month = month(str, pos + 1);
+        int year = number(str, pos + 5, 4);
+        long secondOfDay = secondOfDay(str, pos + 10);
+        long offset = offset(str, pos + 19);
+        return toDate(last, str, year, month, day, secondOfDay, offset);
+    }
+
+    private static Date toDate(LastSecond last, String str, int year, int month, int day, long secondOfDay, long offset) {
+        // stay clear of the Julian / Gregorian cutover and of lenient roll overs
+        if (month < 0 || year < 1600 || day < 1 || day > daysInMonth(year, month)
+                || secondOfDay < 0 || Long.MIN_VALUE == offset) {
+            return null;
+        }
+        long time = (daysFromEpoch(year, month + 1, day) * 86400 + secondOfDay - offset) * 1000;
+        last.text = str;
+        last.time = time;
+        return new Date(time);
+    }
+
+    /**
+     * @param month 0 based month
+     */
+    private static int daysInMonth(int year, int month) {
+        if (1 == month) {
+            return (0 == year % 4 && 0 != year % 100) || 0 == year % 400 ? 29 : 28;
+        }
+        // Apr, Jun, Sep and Nov
+        return 3 == month || 5 == month || 8 == month || 10 == month ? 30 : 31;
+    }
+
+    private static boolean isDayOfWeek(String str, int pos) {
+        for (int i = 0; i < DAYS_OF_WEEK.length(); i += 3) {
+            if (str.regionMatches(pos, DAYS_OF_WEEK, i, 3)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 0 based month, or -1
+     */
+    private static int month(String str, int pos) {
+        for (int i = 0; i < MONTHS.length(); i += 3) {
+            if (str.regionMatches(pos, MONTHS, i, 3)) {
+                return i / 3;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return seconds of the day of "HH:mm:ss", or -1
+     */
+    private static long secondOfDay(String str, int pos) {
+        int hour = number(str, pos, 2);
+        int minute = number(str, pos + 3, 2);
+        int second = number(str, pos + 6, 2);
+        if (':' != str.charAt(pos + 2) || ':' != str.charAt(pos + 5)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * @return offset of "+hhmm" in seconds, or Long.MIN_VALUE
+     */
+    private static long offset(String str, int pos) {
+        char sign = str.charAt(pos);
+        int hours = number(str, pos + 1, 2);
+        int minutes = number(str, pos + 3, 2);
+        if (('+' != sign && '-' != sign) || hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Long.MIN_VALUE;
+        }
+        long offset = hours * 3600 + minutes * 60;
+        return '-' == sign ? -offset : offset;
+    }
+
+    /**
+     * @return value of the digits, or a negative value if any of them is not a digit
+     */
+    private static int number(String str, int pos, int digits) {
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            value = value * 10 + digit(str, pos + i);
+        }
+        return value;
+    }
+
+    private static int digit(String str, int pos) {
+        char c = str.charAt(pos);
+        // a negative number large enough to keep the whole number negative
+        return '0' <= c && c <= '9' ? c - '0' : -100000;
+    }
+
+    // days since 1970-01-01 in the proleptic Gregorian calendar
+    private static long daysFromEpoch(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.json;
+
+import twitter4j.TwitterException;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads newline-delimited JSON, one object per line.<br>
+ * The input is read in blocks of whole lines. Each block is handed to the executor as is, and the lines are parsed
+ * straight from it by the executor threads, so the reading thread only looks for the last line break of each block.
+ * The number of blocks queued or being parsed is bounded, which keeps the memory used flat whatever the input size.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+abstract class BulkDataObjectReader<T> {
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    // tokenizers are reused by the executor threads to keep their scratch buffers
+    private static final ThreadLocal<JSONByteTokener> TOKENER = new ThreadLocal<JSONByteTokener>() {
+        @Override
+        protected JSONByteTokener initialValue() {
+            return new JSONByteTokener(new byte[0]);
+        }
+    };
+
+    /**
+     * @param x tokener positioned at the beginning of a line
+     * @return false to skip the line
+     * @throws JSONException when the line is malformed
+     */
+    abstract boolean accept(JSONByteTokener x) throws JSONException;
+
+    /**
+     * @param x tokener positioned right after the START_OBJECT token of an accepted line
+     * @return the object
+     * @throws TwitterException when the object is malformed
+     */
+    abstract T create(JSONByteTokener x) throws TwitterException;
+
+    /**
+     * Reads the input up to its end. The input is not closed.
+     *
+     * @param is       newline-delimited JSON
+     * @param executor executor to parse the lines on, or null to parse them on the calling thread
+     * @param listener listener
+     * @return number of objects passed to the listener
+     * @throws IOException when the input fails, or the calling thread is interrupted
+     */
+    long read(InputStream is, ExecutorService executor, final DataObjectListener<T> listener) throws IOException {
+        final int maxBlocks = null == executor ? 1 : Runtime.getRuntime().availableProcessors() * 2;
+        final Semaphore blocks = new Semaphore(maxBlocks);
+        final AtomicLong count = new AtomicLong();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        byte[] block = new byte[BLOCK_SIZE];
+        int length = 0;
+        long offset = 0;
+        try {
+            while (null == failure.get()) {
+                if (length == block.length) {
+                    // a line longer than a block
+                    byte[] larger = new byte[block.length * 2];
+                    System.arraycopy(block, 0, larger, 0, length);
+                    block = larger;
+                }
+                int read = is.read(block, length, block.length - length);
+                int end;
+                if (-1 == read) {
+                    if (0 == length) {
+                        break;
+                    }
+                    end = length;
+                } else {
+                    length += read;
+                    end = lastLineBreak(block, length) + 1;
+                    if (0 == end) {
+                        continue;
+                    }
+                }
+                blocks.acquire();
+                Runnable task = new Block(block, end, offset, listener, count, failure, blocks);
+                if (null == executor) {
+                    task.run();
+                } else {
+                    try {
+                        executor.execute(task);
+                    } catch (RuntimeException e) {
+                        blocks.release();
+                        throw e;
+                    }
+                }
+                if (-1 == read) {
+                    break;
+                }
+                byte[] next = new byte[Math.max(BLOCK_SIZE, length - end)];
+                System.arraycopy(block, end, next, 0, length - end);
+                block = next;
+                length -= end;
+                offset += end;
+            }
+            // wait for the blocks being parsed
+            blocks.acquire(maxBlocks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return count.get();
+    }
+
+    private static int lastLineBreak(byte[] buf, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if ('\n' == buf[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class Block implements Runnable {
+        private final byte[] buf;
+        private final int length;
+        private final long offset;
+        private final DataObjectListener<T> listener;
+        private final AtomicLong count;
+        private final AtomicReference<Throwable> failure;
+        private final Semaphore blocks;
+
+        Block(byte[] buf, int length, long offset, DataObjectListener<T> listener, AtomicLong count,
+              AtomicReference<Throwable> failure, Semaphore blocks) {
+            this.buf = buf;
+            this.length = length;
+            this.offset = offset;
+            this.listener = listener;
+            this.count = count;
+            this.failure = failure;
+            this.blocks = blocks;
+        }
+
+        public void run() {
+            try {
+                JSONByteTokener x = TOKENER.get();
+                int created = 0;
+                for (int start = 0; start < length && null == failure.get(); ) {
+                    int end = start;
+                    while (end < length && '\n' != buf[end]) {
+                        end++;
+                    }
+                    T dataObject = null;
+                    try {
+                        x.reset(buf, start, end - start);
+                        if (accept(x)) {
+                            x.reset(buf, start, end - start);
+                            x.nextToken();
+                            dataObject = create(x);
+                        }
+                    } catch (JSONException jsone) {
+                        listener.onException(new TwitterException(jsone.getMessage()
+                                + " at byte offset " + (offset + start), jsone));
+                    } catch (TwitterException te) {
+                        listener.onException(new TwitterException(te.getMessage()
+                                + " at byte offset " + (offset + start), te));
+                    }
+                    if (null != dataObject) {
+                        listener.onDataObject(dataObject);
+                        created++;
+                    }
+                    start = end + 1;
+                }
+                count.addAndGet(created);
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                blocks.release();
+            }
+        }
+    }
+}
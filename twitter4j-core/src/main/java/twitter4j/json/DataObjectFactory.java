@@ -17,14 +17,19 @@
 package twitter4j.json;
 
 import twitter4j.*;
+import twitter4j.internal.json.DataObjectFactoryUtil;
+import twitter4j.internal.json.RawJSON;
+import twitter4j.internal.json.RawJSONHolder;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -35,100 +40,24 @@ public final class DataObjectFactory {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final Constructor<Status> statusConstructor;
-    private static final Constructor<User> userConstructor;
-    private static final Constructor<Tweet> tweetConstructor;
-    private static final Constructor<Relationship> relationshipConstructor;
-    private static final Constructor<Place> placeConstructor;
-    private static final Constructor<SavedSearch> savedSearchConstructor;
-    private static final Constructor<Trend> trendConstructor;
-    private static final Constructor<Trends> trendsConstructor;
-    private static final Constructor<IDs> IDsConstructor;
-    private static final Constructor<RateLimitStatus> rateLimitStatusConstructor;
-    private static final Constructor<Category> categoryConstructor;
-    private static final Constructor<DirectMessage> directMessageConstructor;
-    private static final Constructor<Location> locationConstructor;
-    private static final Constructor<UserList> userListConstructor;
-    private static final Constructor<RelatedResults> relatedResultsConstructor;
-    private static final Constructor<StatusDeletionNotice> statusDeletionNoticeConstructor;
-    private static final Constructor<AccountTotals> accountTotalsConstructor;
-
-    static {
-        try {
-            statusConstructor = (Constructor<Status>) Class.forName("twitter4j.StatusJSONImpl").getDeclaredConstructor(JSONObject.class);
-            statusConstructor.setAccessible(true);
-
-            userConstructor = (Constructor<User>) Class.forName("twitter4j.UserJSONImpl").getDeclaredConstructor(JSONObject.class);
-            userConstructor.setAccessible(true);
-
-            tweetConstructor = (Constructor<Tweet>) Class.forName("twitter4j.TweetJSONImpl").getDeclaredConstructor(JSONObject.class);
-            tweetConstructor.setAccessible(true);
-
-            relationshipConstructor = (Constructor<Relationship>) Class.forName("twitter4j.RelationshipJSONImpl").getDeclaredConstructor(JSONObject.class);
-            relationshipConstructor.setAccessible(true);
-
-            placeConstructor = (Constructor<Place>) Class.forName("twitter4j.PlaceJSONImpl").getDeclaredConstructor(JSONObject.class);
-            placeConstructor.setAccessible(true);
-
-            savedSearchConstructor = (Constructor<SavedSearch>) Class.forName("twitter4j.SavedSearchJSONImpl").getDeclaredConstructor(JSONObject.class);
-            savedSearchConstructor.setAccessible(true);
-
-            trendConstructor = (Constructor<Trend>) Class.forName("twitter4j.TrendJSONImpl").getDeclaredConstructor(JSONObject.class);
-            trendConstructor.setAccessible(true);
-
-            trendsConstructor = (Constructor<Trends>) Class.forName("twitter4j.TrendsJSONImpl").getDeclaredConstructor(String.class);
-            trendsConstructor.setAccessible(true);
-
-            IDsConstructor = (Constructor<IDs>) Class.forName("twitter4j.IDsJSONImpl").getDeclaredConstructor(String.class);
-            IDsConstructor.setAccessible(true);
-
-            rateLimitStatusConstructor = (Constructor<RateLimitStatus>) Class.forName("twitter4j.RateLimitStatusJSONImpl").getDeclaredConstructor(JSONObject.class);
-            rateLimitStatusConstructor.setAccessible(true);
-
-            categoryConstructor = (Constructor<Category>) Class.forName("twitter4j.CategoryJSONImpl").getDeclaredConstructor(JSONObject.class);
-            categoryConstructor.setAccessible(true);
-
-            directMessageConstructor = (Constructor<DirectMessage>) Class.forName("twitter4j.DirectMessageJSONImpl").getDeclaredConstructor(JSONObject.class);
-            directMessageConstructor.setAccessible(true);
-
-            locationConstructor = (Constructor<Location>) Class.forName("twitter4j.LocationJSONImpl").getDeclaredConstructor(JSONObject.class);
-            locationConstructor.setAccessible(true);
-
-            userListConstructor = (Constructor<UserList>) Class.forName("twitter4j.UserListJSONImpl").getDeclaredConstructor(JSONObject.class);
-            userListConstructor.setAccessible(true);
-
-            relatedResultsConstructor = (Constructor<RelatedResults>) Class.forName("twitter4j.RelatedResultsJSONImpl").getDeclaredConstructor(JSONArray.class);
-            relatedResultsConstructor.setAccessible(true);
-
-            statusDeletionNoticeConstructor = (Constructor<StatusDeletionNotice>) Class.forName("twitter4j.StatusDeletionNoticeImpl").getDeclaredConstructor(JSONObject.class);
-            statusDeletionNoticeConstructor.setAccessible(true);
-
-            accountTotalsConstructor = (Constructor<AccountTotals>) Class.forName("twitter4j.AccountTotalsJSONImpl").getDeclaredConstructor(JSONObject.class);
-            accountTotalsConstructor.setAccessible(true);
-        } catch (NoSuchMethodException e) {
-            throw new ExceptionInInitializerError(e);
-        } catch (ClassNotFoundException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-    }
-
-    private static final ThreadLocal<Map> rawJsonMap = new ThreadLocal<Map>() {
-        @Override
-        protected Map initialValue() {
-            return new HashMap();
-        }
-    };
-
     /**
      * Returns a raw JSON form of the provided object.<br>
-     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
+     * When jsonStore.raw is enabled, statuses, users and direct messages, as well as the lists of them, return the
+     * exact text they have been parsed from, for as long as they are referenced.<br>
+     * Otherwise raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
      *
      * @param obj
      * @return raw JSON
      * @since Twitter4J 2.1.7
      */
     public static String getRawJSON(Object obj) {
-        Object json = rawJsonMap.get().get(obj);
+        if (obj instanceof RawJSONHolder) {
+            RawJSON rawJSON = ((RawJSONHolder) obj).getRawJSON();
+            if (null != rawJSON) {
+                return rawJSON.toString();
+            }
+        }
+        Object json = DataObjectFactoryUtil.getJSONObject(obj);
         if (json instanceof String) {
             return (String) json;
         } else if (json != null) {
@@ -139,6 +68,33 @@ public final class DataObjectFactory {
         }
     }
 
+    /**
+     * Writes the UTF-8 encoded raw JSON form of the provided object, without decoding it when the object has kept the
+     * text it has been parsed from.
+     *
+     * @param obj object
+     * @param out stream to write to
+     * @return false if no raw JSON form is available for the object
+     * @throws IOException when the stream fails
+     * @see #getRawJSON(Object)
+     * @since Twitter4J 2.2.2
+     */
+    public static boolean writeRawJSON(Object obj, OutputStream out) throws IOException {
+        if (obj instanceof RawJSONHolder) {
+            RawJSON rawJSON = ((RawJSONHolder) obj).getRawJSON();
+            if (null != rawJSON) {
+                rawJSON.writeTo(out);
+                return true;
+            }
+        }
+        String json = getRawJSON(obj);
+        if (null == json) {
+            return false;
+        }
+        out.write(json.getBytes("UTF-8"));
+        return true;
+    }
+
     /**
      * Constructs a Status object from rawJSON string.
      *
@@ -148,18 +104,7 @@ public final class DataObjectFactory {
      * @since Twitter4J 2.1.7
      */
     public static Status createStatus(String rawJSON) throws TwitterException {
-        try {
-            JSONObject json = new JSONObject(rawJSON);
-            return statusConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return z_T4JInternalJSONImplFactory.createStatus(objectTokener(rawJSON));
     }
 
     /**
@@ -171,18 +116,7 @@ public final class DataObjectFactory {
      * @since Twitter4J 2.1.7
      */
     public static User createUser(String rawJSON) throws TwitterException {
-        try {
-            JSONObject json = new JSONObject(rawJSON);
-            return userConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return z_T4JInternalJSONImplFactory.createUser(objectTokener(rawJSON));
     }
 
     /**
@@ -196,13 +130,7 @@ public final class DataObjectFactory {
     public static AccountTotals createAccountTotals(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return accountTotalsConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createAccountTotals(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -219,13 +147,7 @@ public final class DataObjectFactory {
     public static Tweet createTweet(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return tweetConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createTweet(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -242,13 +164,7 @@ public final class DataObjectFactory {
     public static Relationship createRelationship(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return relationshipConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createRelationship(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -265,13 +181,7 @@ public final class DataObjectFactory {
     public static Place createPlace(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return placeConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createPlace(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -288,13 +198,7 @@ public final class DataObjectFactory {
     public static SavedSearch createSavedSearch(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return savedSearchConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createSavedSearch(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -311,13 +215,7 @@ public final class DataObjectFactory {
     public static Trend createTrend(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return trendConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createTrend(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -332,15 +230,7 @@ public final class DataObjectFactory {
      * @since Twitter4J 2.1.7
      */
     public static Trends createTrends(String rawJSON) throws TwitterException {
-        try {
-            return trendsConstructor.newInstance(rawJSON);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new TwitterException(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+        return z_T4JInternalJSONImplFactory.createTrends(rawJSON);
     }
 
     /**
@@ -352,15 +242,7 @@ public final class DataObjectFactory {
      * @since Twitter4J 2.1.7
      */
     public static IDs createIDs(String rawJSON) throws TwitterException {
-        try {
-            return IDsConstructor.newInstance(rawJSON);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
-        }
+        return z_T4JInternalJSONImplFactory.createIDs(rawJSON);
     }
 
     /**
@@ -374,13 +256,7 @@ public final class DataObjectFactory {
     public static RateLimitStatus createRateLimitStatus(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return rateLimitStatusConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createRateLimitStatus(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -397,13 +273,7 @@ public final class DataObjectFactory {
     public static Category createCategory(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return categoryConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createCategory(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -418,18 +288,7 @@ public final class DataObjectFactory {
      * @since Twitter4J 2.1.7
      */
     public static DirectMessage createDirectMessage(String rawJSON) throws TwitterException {
-        try {
-            JSONObject json = new JSONObject(rawJSON);
-            return directMessageConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return z_T4JInternalJSONImplFactory.createDirectMessage(objectTokener(rawJSON));
     }
 
     /**
@@ -443,13 +302,7 @@ public final class DataObjectFactory {
     public static Location createLocation(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return locationConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createLocation(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -466,13 +319,7 @@ public final class DataObjectFactory {
     public static UserList createUserList(String rawJSON) throws TwitterException {
         try {
             JSONObject json = new JSONObject(rawJSON);
-            return userListConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createUserList(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -489,13 +336,7 @@ public final class DataObjectFactory {
     public static RelatedResults createRelatedResults(String rawJSON) throws TwitterException {
         try {
             JSONArray json = new JSONArray(rawJSON);
-            return relatedResultsConstructor.newInstance(json);
-        } catch (InstantiationException e) {
-            throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
+            return z_T4JInternalJSONImplFactory.createRelatedResults(json);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
@@ -525,13 +366,13 @@ public final class DataObjectFactory {
             JSONObject json = new JSONObject(rawJSON);
             JSONObjectType jsonObjectType = JSONObjectType.determine(json);
             if (JSONObjectType.SENDER == jsonObjectType) {
-                return registerJSONObject(directMessageConstructor.newInstance(json.getJSONObject("direct_message")), json);
+                return registerJSONObject(z_T4JInternalJSONImplFactory.createDirectMessage(json.getJSONObject("direct_message")), json);
             } else if (JSONObjectType.STATUS == jsonObjectType) {
-                return registerJSONObject(statusConstructor.newInstance(json), json);
+                return registerJSONObject(z_T4JInternalJSONImplFactory.createStatus(json), json);
             } else if (JSONObjectType.DIRECT_MESSAGE == jsonObjectType) {
-                return registerJSONObject(directMessageConstructor.newInstance(json.getJSONObject("direct_message")), json);
+                return registerJSONObject(z_T4JInternalJSONImplFactory.createDirectMessage(json.getJSONObject("direct_message")), json);
             } else if (JSONObjectType.DELETE == jsonObjectType) {
-                return registerJSONObject(statusDeletionNoticeConstructor.newInstance(json.getJSONObject("delete").getJSONObject("status")), json);
+                return registerJSONObject(z_T4JInternalJSONImplFactory.createStatusDeletionNotice(json.getJSONObject("delete").getJSONObject("status")), json);
             } else if (JSONObjectType.LIMIT == jsonObjectType) {
                 // TODO: Perhaps there should be a TrackLimitationNotice object?
                 // The onTrackLimitationNotice method could take that as an arg.
@@ -544,35 +385,104 @@ public final class DataObjectFactory {
                 // The object type is unrecognized...just return the json
                 return json;
             }
-        } catch (InstantiationException e) {
+        } catch (JSONException e) {
             throw new TwitterException(e);
-        } catch (IllegalAccessException e) {
+        }
+    }
+
+    private static final BulkDataObjectReader<Status> STATUS_READER = new BulkDataObjectReader<Status>() {
+        @Override
+        boolean accept(JSONByteTokener x) throws JSONException {
+            return z_T4JInternalJSONImplFactory.isStatus(x);
+        }
+
+        @Override
+        Status create(JSONByteTokener x) throws TwitterException {
+            return z_T4JInternalJSONImplFactory.createStatus(x);
+        }
+    };
+
+    private static final BulkDataObjectReader<User> USER_READER = new BulkDataObjectReader<User>() {
+        @Override
+        boolean accept(JSONByteTokener x) throws JSONException {
+            return JSONByteTokener.START_OBJECT == x.nextToken();
+        }
+
+        @Override
+        User create(JSONByteTokener x) throws TwitterException {
+            return z_T4JInternalJSONImplFactory.createUser(x);
+        }
+    };
+
+    /**
+     * Constructs Status objects from newline-delimited JSON, such as an archive of the raw statuses received from the
+     * streaming API.<br>
+     * The lines are parsed in parallel on the executor and passed to the listener as soon as they are parsed, in no
+     * particular order. Lines which are not statuses, like deletion notices, are skipped. To read a file, pass a
+     * FileInputStream; the input is read in large blocks and needs no buffering.
+     *
+     * @param is       newline-delimited JSON. The stream is read up to its end and is not closed
+     * @param executor executor to parse the lines on, or null to parse them on the calling thread
+     * @param listener listener receiving the statuses, and the exceptions for the lines which could not be parsed
+     * @return number of statuses passed to the listener
+     * @throws IOException when the input fails, or the calling thread is interrupted
+     * @since Twitter4J 2.2.2
+     */
+    public static long createStatuses(InputStream is, ExecutorService executor, DataObjectListener<Status> listener)
+            throws IOException {
+        return STATUS_READER.read(is, executor, listener);
+    }
+
+    /**
+     * Constructs User objects from newline-delimited JSON, one user per line.<br>
+     * The lines are parsed in parallel on the executor and passed to the listener as soon as they are parsed, in no
+     * particular order.
+     *
+     * @param is       newline-delimited JSON. The stream is read up to its end and is not closed
+     * @param executor executor to parse the lines on, or null to parse them on the calling thread
+     * @param listener listener receiving the users, and the exceptions for the lines which could not be parsed
+     * @return number of users passed to the listener
+     * @throws IOException when the input fails, or the calling thread is interrupted
+     * @see #createStatuses(java.io.InputStream, java.util.concurrent.ExecutorService, DataObjectListener)
+     * @since Twitter4J 2.2.2
+     */
+    public static long createUsers(InputStream is, ExecutorService executor, DataObjectListener<User> listener)
+            throws IOException {
+        return USER_READER.read(is, executor, listener);
+    }
+
+    /**
+     * @return tokener positioned right after the START_OBJECT token of the provided JSON text
+     */
+    private static JSONByteTokener objectTokener(String rawJSON) throws TwitterException {
+        try {
+            JSONByteTokener x = new JSONByteTokener(rawJSON.getBytes("UTF-8"));
+            if (JSONByteTokener.START_OBJECT != x.nextToken()) {
+                throw x.syntaxError("A JSONObject text must begin with '{'");
+            }
+            return x;
+        } catch (UnsupportedEncodingException e) {
             throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new TwitterException(e);
         } catch (JSONException e) {
             throw new TwitterException(e);
         }
     }
 
     /**
-     * clear raw JSON forms associated with the current thread.<br>
-     * Currently this method is called indirectly by twitter4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to twitter4j.json.* package.
+     * clear raw JSON forms associated with the current thread.
      *
      * @since Twitter4J 2.1.7
      */
     static void clearThreadLocalMap() {
-        rawJsonMap.get().clear();
+        DataObjectFactoryUtil.clearThreadLocalMap();
     }
 
     /**
-     * associate a raw JSON form to the current thread<br>
-     * Currently this method is called indirectly by twitter4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to twitter4j.json.* package.
+     * associate a raw JSON form to the current thread
      *
      * @since Twitter4J 2.1.7
      */
     static <T> T registerJSONObject(T key, Object json) {
-        rawJsonMap.get().put(key, json);
-        return key;
+        return DataObjectFactoryUtil.registerJSONObject(key, json);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.json;
+
+import twitter4j.TwitterException;
+
+/**
+ * Receives the objects read from a newline-delimited JSON input by DataObjectFactory.<br>
+ * When the input is read on an ExecutorService, the methods are called concurrently from its threads, in no
+ * particular order.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @see DataObjectFactory#createStatuses(java.io.InputStream, java.util.concurrent.ExecutorService, DataObjectListener)
+ * @see DataObjectFactory#createUsers(java.io.InputStream, java.util.concurrent.ExecutorService, DataObjectListener)
+ * @since Twitter4J 2.2.2
+ */
+public interface DataObjectListener<T> {
+    void onDataObject(T dataObject);
+
+    /**
+     * Called for each line which could not be parsed. Reading goes on with the next line.
+     *
+     * @param te the exception, whose message tells the byte offset of the line in the input
+     */
+    void onException(TwitterException te);
+}
@@ -15,18 +15,21 @@
  */
 package twitter4j.management;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Container for all InvocationStatisticsCalculators in a given API (like Twitter)
+ * Container for all InvocationStatisticsCalculators in a given API (like Twitter)<br>
+ * Thread safe and lock free: calls are recorded concurrently, and the per-method calculators are looked up in a
+ * concurrent map.
  *
  * @author Nick Dellamaggiore (nick.dellamaggiore <at> gmail.com)
  */
 public class APIStatistics implements APIStatisticsMBean {
     private final InvocationStatisticsCalculator API_STATS_CALCULATOR;
-    private final Map<String, InvocationStatisticsCalculator> METHOD_STATS_MAP;
+    private final ConcurrentMap<String, InvocationStatisticsCalculator> METHOD_STATS_MAP;
     private final int HISTORY_SIZE;
 
     /**
@@ -34,7 +37,7 @@ public class APIStatistics implements APIStatisticsMBean {
      */
     public APIStatistics(int historySize) {
         API_STATS_CALCULATOR = new InvocationStatisticsCalculator("API", historySize);
-        METHOD_STATS_MAP = new HashMap<String, InvocationStatisticsCalculator>(100);
+        METHOD_STATS_MAP = new ConcurrentHashMap<String, InvocationStatisticsCalculator>(100);
         HISTORY_SIZE = historySize;
     }
 
@@ -42,28 +45,32 @@ public class APIStatistics implements APIStatisticsMBean {
      * @param method the method invoked
      * @param time   the method execution time
      */
-    public synchronized void methodCalled(String method, long time, boolean success) {
-        getMethodStatistics(method).increment(time, success);
+    public void methodCalled(String method, long time, boolean success) {
+        long now = System.currentTimeMillis();
+        getMethodStatistics(method).increment(time, success, now);
 
         // increment for entire API
-        API_STATS_CALCULATOR.increment(time, success);
+        API_STATS_CALCULATOR.increment(time, success, now);
     }
 
-    private synchronized InvocationStatisticsCalculator getMethodStatistics(String method) {
+    private InvocationStatisticsCalculator getMethodStatistics(String method) {
         InvocationStatisticsCalculator methodStats = METHOD_STATS_MAP.get(method);
 
         if (methodStats == null) {
             methodStats = new InvocationStatisticsCalculator(method, HISTORY_SIZE);
-            METHOD_STATS_MAP.put(method, methodStats);
+            InvocationStatisticsCalculator existing = METHOD_STATS_MAP.putIfAbsent(method, methodStats);
+            if (null != existing) {
+                methodStats = existing;
+            }
         }
         return methodStats;
     }
 
-    public synchronized Iterable<? extends InvocationStatistics> getInvocationStatistics() {
+    public Iterable<? extends InvocationStatistics> getInvocationStatistics() {
         return METHOD_STATS_MAP.values();
     }
 
-    public synchronized void reset() {
+    public void reset() {
         API_STATS_CALCULATOR.reset();
         METHOD_STATS_MAP.clear();
     }
@@ -76,8 +83,6 @@ public class APIStatistics implements APIStatisticsMBean {
         return API_STATS_CALCULATOR.getName();
     }
 
-    ;
-
     public long getCallCount() {
         return API_STATS_CALCULATOR.getCallCount();
     }
@@ -94,19 +99,27 @@ public class APIStatistics implements APIStatisticsMBean {
         return API_STATS_CALCULATOR.getAverageTime();
     }
 
+    public LatencyPercentiles getLastMinutePercentiles() {
+        return API_STATS_CALCULATOR.getLastMinutePercentiles();
+    }
+
+    public LatencyPercentiles getLastTenMinutesPercentiles() {
+        return API_STATS_CALCULATOR.getLastTenMinutesPercentiles();
+    }
+
 
-    public synchronized Map<String, String> getMethodLevelSummariesAsString() {
+    public Map<String, String> getMethodLevelSummariesAsString() {
         Map<String, String> summariesMap = new HashMap<String, String>();
 
-        Collection<InvocationStatisticsCalculator> allMethodStats = METHOD_STATS_MAP.values();
-        for (InvocationStatisticsCalculator methodStats : allMethodStats) {
+        for (InvocationStatisticsCalculator methodStats : METHOD_STATS_MAP.values()) {
             summariesMap.put(methodStats.getName(), methodStats.toString());
         }
 
         return summariesMap;
     }
 
-    public synchronized String getMethodLevelSummary(String methodName) {
-        return METHOD_STATS_MAP.get(methodName).toString();
+    public String getMethodLevelSummary(String methodName) {
+        InvocationStatisticsCalculator methodStats = METHOD_STATS_MAP.get(methodName);
+        return null == methodStats ? null : methodStats.toString();
     }
-}
\ No newline at end of file
+}
@@ -28,15 +28,27 @@ import java.util.Iterator;
  */
 public class APIStatisticsOpenMBean implements DynamicMBean {
     // metadata
-    private static final String[] ITEM_NAMES = {"methodName", "callCount", "errorCount", "totalTime", "avgTime"};
-    private static final OpenType[] ITEM_TYPES =
-            {SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG};
+    private static final String[] PERCENTILES_ITEM_NAMES = {"count", "p50", "p90", "p99", "p999", "max"};
+    private static final OpenType[] PERCENTILES_ITEM_TYPES =
+            {SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG};
+    private static final String[] PERCENTILES_ITEM_DESCRIPTIONS =
+            {"The number of calls in the window",
+                    "The median invocation time in milliseconds",
+                    "The 90th percentile of the invocation time in milliseconds",
+                    "The 99th percentile of the invocation time in milliseconds",
+                    "The 99.9th percentile of the invocation time in milliseconds",
+                    "The longest invocation time in milliseconds"};
+    private static final String[] ITEM_NAMES = {"methodName", "callCount", "errorCount", "totalTime", "avgTime"
+            , "lastMinute", "lastTenMinutes"};
     private static final String[] ITEM_DESCRIPTIONS =
             {"The method name",
                     "The number of times this method has been called",
                     "The number of calls that failed",
                     "The total amount of time spent invoking this method in milliseconds",
-                    "The average amount of time spent invoking this method in milliseconds"};
+                    "The average amount of time spent invoking this method in milliseconds",
+                    "Percentiles of the invocation time over the last minute",
+                    "Percentiles of the invocation time over the last ten minutes"};
+    private final CompositeType PERCENTILES_TYPE;
     private final CompositeType METHOD_STATS_TYPE;
 
     private final APIStatisticsMBean API_STATISTICS;
@@ -46,9 +58,14 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
         API_STATISTICS = apiStatistics;
 
         try {
+            PERCENTILES_TYPE =
+                    new CompositeType("latency percentiles", "latency percentiles",
+                            PERCENTILES_ITEM_NAMES, PERCENTILES_ITEM_DESCRIPTIONS, PERCENTILES_ITEM_TYPES);
+            OpenType[] itemTypes = {SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG
+                    , SimpleType.LONG, PERCENTILES_TYPE, PERCENTILES_TYPE};
             METHOD_STATS_TYPE =
                     new CompositeType("method statistics", "method statistics",
-                            ITEM_NAMES, ITEM_DESCRIPTIONS, ITEM_TYPES);
+                            ITEM_NAMES, ITEM_DESCRIPTIONS, itemTypes);
 
             String[] index = {"methodName"};
             API_STATISTICS_TYPE = new TabularType("API statistics",
@@ -62,7 +79,7 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
 
     public MBeanInfo getMBeanInfo() {
         OpenMBeanInfoSupport info;
-        OpenMBeanAttributeInfoSupport[] attributes = new OpenMBeanAttributeInfoSupport[5];
+        OpenMBeanAttributeInfoSupport[] attributes = new OpenMBeanAttributeInfoSupport[7];
         OpenMBeanConstructorInfoSupport[] constructors = new OpenMBeanConstructorInfoSupport[1];
         OpenMBeanOperationInfoSupport[] operations = new OpenMBeanOperationInfoSupport[1];
         MBeanNotificationInfo[] notifications = new MBeanNotificationInfo[0];
@@ -88,6 +105,16 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
                         "Average time spent invoking any API method",
                         SimpleType.LONG, true, false, false);
 
+        attributes[attrIdx++] =
+                new OpenMBeanAttributeInfoSupport("lastMinutePercentiles",
+                        "Percentiles of the time spent invoking any API method over the last minute",
+                        PERCENTILES_TYPE, true, false, false);
+
+        attributes[attrIdx++] =
+                new OpenMBeanAttributeInfoSupport("lastTenMinutesPercentiles",
+                        "Percentiles of the time spent invoking any API method over the last ten minutes",
+                        PERCENTILES_TYPE, true, false, false);
+
         attributes[attrIdx++] =
                 new OpenMBeanAttributeInfoSupport("statisticsTable",
                         "Table of statisics for all API methods",
@@ -123,7 +150,9 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
                     methodStats.getCallCount(),
                     methodStats.getErrorCount(),
                     methodStats.getTotalTime(),
-                    methodStats.getAverageTime()};
+                    methodStats.getAverageTime(),
+                    toCompositeData(methodStats.getLastMinutePercentiles()),
+                    toCompositeData(methodStats.getLastTenMinutesPercentiles())};
 
             try {
                 CompositeData result = new CompositeDataSupport(METHOD_STATS_TYPE,
@@ -139,6 +168,20 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
         return apiStatisticsTable;
     }
 
+    private CompositeData toCompositeData(LatencyPercentiles percentiles) {
+        Object[] itemValues = {percentiles.getCount(),
+                percentiles.getP50(),
+                percentiles.getP90(),
+                percentiles.getP99(),
+                percentiles.getP999(),
+                percentiles.getMax()};
+        try {
+            return new CompositeDataSupport(PERCENTILES_TYPE, PERCENTILES_ITEM_NAMES, itemValues);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public void reset() {
         API_STATISTICS.reset();
     }
@@ -156,6 +199,10 @@ public class APIStatisticsOpenMBean implements DynamicMBean {
             return API_STATISTICS.getTotalTime();
         } else if (attribute.equals("averageTime")) {
             return API_STATISTICS.getAverageTime();
+        } else if (attribute.equals("lastMinutePercentiles")) {
+            return toCompositeData(API_STATISTICS.getLastMinutePercentiles());
+        } else if (attribute.equals("lastTenMinutesPercentiles")) {
+            return toCompositeData(API_STATISTICS.getLastTenMinutesPercentiles());
         }
         throw new AttributeNotFoundException("Cannot find " + attribute + " attribute ");
     }
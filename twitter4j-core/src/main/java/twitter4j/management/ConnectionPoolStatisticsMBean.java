@@ -0,0 +1,44 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+/**
+ * Snapshot of a connection pool shared by the requests of an HttpClient implementation.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface ConnectionPoolStatisticsMBean {
+    /**
+     * @return number of connections currently in use
+     */
+    int getLeasedConnections();
+
+    /**
+     * @return number of requests waiting for a connection
+     */
+    int getPendingRequests();
+
+    /**
+     * @return number of idle connections kept alive in the pool
+     */
+    int getAvailableConnections();
+
+    /**
+     * @return maximum number of connections in the pool
+     */
+    int getMaxConnections();
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters backing HedgingStatisticsMBean.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class HedgingStatistics implements HedgingStatisticsMBean {
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgedCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    public void requested() {
+        requestCount.incrementAndGet();
+    }
+
+    public void hedged() {
+        hedgedCount.incrementAndGet();
+    }
+
+    public void hedgeWon() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getHedgedCount() {
+        return hedgedCount.get();
+    }
+
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    public double getHedgeRate() {
+        long requests = requestCount.get();
+        return requests == 0 ? 0 : hedgedCount.get() * 100d / requests;
+    }
+
+    public double getHedgeWinRate() {
+        long hedged = hedgedCount.get();
+        return hedged == 0 ? 0 : hedgeWinCount.get() * 100d / hedged;
+    }
+
+    public void reset() {
+        requestCount.set(0);
+        hedgedCount.set(0);
+        hedgeWinCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingStatistics{" +
+                "requestCount=" + requestCount +
+                ", hedgedCount=" + hedgedCount +
+                ", hedgeWinCount=" + hedgeWinCount +
+                '}';
+    }
+}
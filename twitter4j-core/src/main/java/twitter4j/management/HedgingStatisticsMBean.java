@@ -0,0 +1,54 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Statistics of hedged GET requests.<br>
+ * A request is hedged when no response has arrived within the configured latency percentile. The hedge wins when the
+ * duplicated request responds before the original one.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface HedgingStatisticsMBean {
+    /**
+     * @return number of GET requests eligible for hedging
+     */
+    long getRequestCount();
+
+    /**
+     * @return number of requests for which a hedge request was sent
+     */
+    long getHedgedCount();
+
+    /**
+     * @return number of hedged requests won by the hedge request
+     */
+    long getHedgeWinCount();
+
+    /**
+     * @return hedged requests / requests, in percent
+     */
+    double getHedgeRate();
+
+    /**
+     * @return hedge wins / hedged requests, in percent
+     */
+    double getHedgeWinRate();
+
+    void reset();
+}
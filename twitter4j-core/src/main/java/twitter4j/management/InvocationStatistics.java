@@ -29,5 +29,15 @@ public interface InvocationStatistics {
 
     public long getAverageTime();
 
+    /**
+     * @return percentiles of the invocation time over the last minute
+     */
+    public LatencyPercentiles getLastMinutePercentiles();
+
+    /**
+     * @return percentiles of the invocation time over the last ten minutes
+     */
+    public LatencyPercentiles getLastTenMinutesPercentiles();
+
     public void reset();
 }
@@ -16,19 +16,31 @@
 
 package twitter4j.management;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * Object that collects/aggregates statistics for the invocation of a given method.
+ * Object that collects/aggregates statistics for the invocation of a given method.<br>
+ * Calls can be recorded from any number of threads without locking: the counts are striped, and the times of the
+ * last calls are kept in a ring per stripe, created on the first call recorded to the stripe. The average time is
+ * that of the last calls of each stripe, which is the last calls when recorded from a single thread.<br>
+ * Tail latency is tracked by histograms over the last minute, in 10 second slots, and over the last ten minutes, in
+ * one minute slots.
  *
  * @author Nick Dellamaggiore (nick.dellamaggiore <at> gmail.com)
  */
 public class InvocationStatisticsCalculator implements InvocationStatistics {
-    private String name;
-    private long[] times;
-    private int index;
-    private long callCount;
-    private long errorCount;
-    private long totalTime;
+    private static final int CALLS = 0;
+    private static final int ERRORS = 1;
+    private static final int TOTAL_TIME = 2;
+
+    private final String name;
+    private final StripedCounters counters = new StripedCounters(3);
+    private final int historySize;
+    private final AtomicReferenceArray<Ring> rings = new AtomicReferenceArray<Ring>(StripedCounters.getStripeCount());
+    private final LatencyHistogram lastMinute = new LatencyHistogram(6, 10 * 1000);
+    private final LatencyHistogram lastTenMinutes = new LatencyHistogram(10, 60 * 1000);
 
     /**
      * @param name        the name of this API method
@@ -36,18 +48,28 @@ public class InvocationStatisticsCalculator implements InvocationStatistics {
      */
     public InvocationStatisticsCalculator(String name, int historySize) {
         this.name = name;
-        times = new long[historySize];
+        this.historySize = historySize;
     }
 
     public void increment(long time, boolean success) {
-        callCount++;
-        errorCount += success ? 0 : 1;
-        totalTime += time;
+        increment(time, success, System.currentTimeMillis());
+    }
+
+    /**
+     * @param now the current time in milliseconds, read once for all the calculators a call is recorded to
+     */
+    void increment(long time, boolean success, long now) {
+        int stripe = counters.stripe();
+        counters.add(stripe, CALLS, 1);
+        if (!success) {
+            counters.add(stripe, ERRORS, 1);
+        }
+        counters.add(stripe, TOTAL_TIME, time);
 
-        times[index] = time;
+        getRing(counters.index(stripe)).add(time);
 
-        if (++index >= times.length)
-            index = 0;
+        lastMinute.record(time, now);
+        lastTenMinutes.record(time, now);
     }
 
     public String getName() {
@@ -55,37 +77,77 @@ public class InvocationStatisticsCalculator implements InvocationStatistics {
     }
 
     public long getCallCount() {
-        return callCount;
+        return counters.sum(CALLS);
     }
 
     public long getErrorCount() {
-        return errorCount;
+        return counters.sum(ERRORS);
     }
 
     public long getTotalTime() {
-        return totalTime;
+        return counters.sum(TOTAL_TIME);
     }
 
-    public synchronized long getAverageTime() {
-        int stopIndex = Math.min(Math.abs((int) callCount), times.length);
-        if (stopIndex == 0) {
-            return 0;
+    private Ring getRing(int index) {
+        Ring ring;
+        while (null == (ring = rings.get(index))) {
+            rings.compareAndSet(index, null, new Ring(historySize));
         }
+        return ring;
+    }
 
+    public long getAverageTime() {
         long totalTime = 0;
-        for (int i = 0; i < stopIndex; i++) {
-            totalTime += times[i];
+        int count = 0;
+        for (int i = 0; i < rings.length(); i++) {
+            Ring ring = rings.get(i);
+            if (null != ring) {
+                int index = ring.index.get();
+                // the index wraps around after Integer.MAX_VALUE calls
+                int stopIndex = 0 <= index && index < ring.times.length() ? index : ring.times.length();
+                for (int j = 0; j < stopIndex; j++) {
+                    totalTime += ring.times.get(j);
+                }
+                count += stopIndex;
+            }
+        }
+        return 0 == count ? 0 : totalTime / count;
+    }
 
+    public LatencyPercentiles getLastMinutePercentiles() {
+        return lastMinute.getPercentiles();
+    }
+
+    public LatencyPercentiles getLastTenMinutesPercentiles() {
+        return lastTenMinutes.getPercentiles();
+    }
+
+    public void reset() {
+        counters.reset();
+        for (int i = 0; i < rings.length(); i++) {
+            rings.set(i, null);
         }
-        return totalTime / stopIndex;
+        lastMinute.reset();
+        lastTenMinutes.reset();
     }
 
-    public synchronized void reset() {
-        callCount = 0;
-        errorCount = 0;
-        totalTime = 0;
-        times = new long[times.length];
-        index = 0;
+    /**
+     * Times of the last calls recorded to a stripe.
+     */
+    private static final class Ring {
+        private final AtomicLongArray times;
+        private final AtomicInteger index = new AtomicInteger();
+
+        Ring(int size) {
+            times = new AtomicLongArray(size);
+        }
+
+        void add(long time) {
+            int length = times.length();
+            int i = index.getAndIncrement() % length;
+            // readers only need to see the time eventually, which spares the store a fence
+            times.lazySet(i < 0 ? i + length : i, time);
+        }
     }
 
     @Override
@@ -95,8 +157,10 @@ public class InvocationStatisticsCalculator implements InvocationStatistics {
         sb.append("calls=").append(getCallCount()).append(",")
                 .append("errors=").append(getErrorCount()).append(",")
                 .append("totalTime=").append(getTotalTime()).append(",")
-                .append("avgTime=").append(getAverageTime());
+                .append("avgTime=").append(getAverageTime()).append(",")
+                .append("lastMinute=[").append(getLastMinutePercentiles()).append("],")
+                .append("lastTenMinutes=[").append(getLastTenMinutesPercentiles()).append("]");
 
         return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory histogram of times over a sliding time window.<br>
+ * Times are counted in logarithmic buckets: exact below 16, then 8 buckets per power of two, so a percentile is
+ * reported at most 12.5% above the actual time. The window is a ring of slots, each covering slotMillis; a slot is
+ * recycled when the clock moves past it, so the window spans between slots - 1 and slots times slotMillis.<br>
+ * Recording is lock-free. A few times recorded while a slot is being recycled may be lost.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // times above 2^24 (4.6 hours in milliseconds) are counted in the last bucket
+    private static final int MAX_EXPONENT = 23;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final int slots;
+    private final long slotMillis;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray maxes;
+    private final AtomicIntegerArray counts;
+
+    /**
+     * @param slots      number of slots in the window
+     * @param slotMillis time covered by a slot in milliseconds
+     */
+    LatencyHistogram(int slots, long slotMillis) {
+        this.slots = slots;
+        this.slotMillis = slotMillis;
+        epochs = new AtomicLongArray(slots);
+        maxes = new AtomicLongArray(slots);
+        counts = new AtomicIntegerArray(slots * BUCKETS);
+    }
+
+    static int bucket(long time) {
+        if (time < SUB_BUCKETS * 2) {
+            return time < 0 ? 0 : (int) time;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(time);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((time >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return the largest time counted in the bucket
+     */
+    static long highestTime(int bucket) {
+        if (bucket < SUB_BUCKETS * 2) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    void record(long time) {
+        record(time, System.currentTimeMillis());
+    }
+
+    void record(long time, long now) {
+        long epoch = now / slotMillis;
+        int slot = (int) (epoch % slots);
+        long slotEpoch = epochs.get(slot);
+        if (slotEpoch != epoch) {
+            if (slotEpoch > epoch) {
+                // recorded by a thread that read the clock before the slot got recycled
+                return;
+            }
+            if (epochs.compareAndSet(slot, slotEpoch, epoch)) {
+                clear(slot);
+            }
+        }
+        counts.getAndIncrement(slot * BUCKETS + bucket(time));
+        long max;
+        while (time > (max = maxes.get(slot))) {
+            if (maxes.compareAndSet(slot, max, time)) {
+                break;
+            }
+        }
+    }
+
+    private void clear(int slot) {
+        int offset = slot * BUCKETS;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(offset + i, 0);
+        }
+        maxes.set(slot, 0);
+    }
+
+    LatencyPercentiles getPercentiles() {
+        return getPercentiles(System.currentTimeMillis());
+    }
+
+    LatencyPercentiles getPercentiles(long now) {
+        long epoch = now / slotMillis;
+        long[] merged = new long[BUCKETS];
+        long count = 0;
+        long max = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            long slotEpoch = epochs.get(slot);
+            if (slotEpoch > epoch - slots && slotEpoch <= epoch) {
+                int offset = slot * BUCKETS;
+                for (int i = 0; i < BUCKETS; i++) {
+                    int c = counts.get(offset + i);
+                    merged[i] += c;
+                    count += c;
+                }
+                max = Math.max(max, maxes.get(slot));
+            }
+        }
+        return new LatencyPercentiles(count, percentile(merged, count, max, 500)
+                , percentile(merged, count, max, 900), percentile(merged, count, max, 990)
+                , percentile(merged, count, max, 999), max);
+    }
+
+    private static long percentile(long[] merged, long count, long max, int permille) {
+        if (0 == count) {
+            return 0;
+        }
+        // rank of the sample at the percentile, rounded up
+        long rank = (count * permille + 999) / 1000;
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return Math.min(highestTime(i), max);
+            }
+        }
+        return max;
+    }
+
+    void reset() {
+        for (int slot = 0; slot < slots; slot++) {
+            epochs.set(slot, 0);
+            clear(slot);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters over a sliding time window, made of a ring of slots each covering slotMillis.<br>
+ * Like LatencyHistogram, a slot is recycled lock-free when the clock moves past it.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class SlidingWindowCounters {
+    private final int counters;
+    private final int slots;
+    private final long slotMillis;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param counters   number of counters
+     * @param slots      number of slots in the window
+     * @param slotMillis time covered by a slot in milliseconds
+     */
+    SlidingWindowCounters(int counters, int slots, long slotMillis) {
+        this.counters = counters;
+        this.slots = slots;
+        this.slotMillis = slotMillis;
+        epochs = new AtomicLongArray(slots);
+        cells = new AtomicLongArray(slots * counters);
+    }
+
+    /**
+     * @return offset of the slot covering now, or -1 if that slot has been recycled already
+     */
+    int slot(long now) {
+        long epoch = now / slotMillis;
+        int slot = (int) (epoch % slots);
+        long slotEpoch = epochs.get(slot);
+        if (slotEpoch != epoch) {
+            if (slotEpoch > epoch) {
+                return -1;
+            }
+            if (epochs.compareAndSet(slot, slotEpoch, epoch)) {
+                for (int i = 0; i < counters; i++) {
+                    cells.set(slot * counters + i, 0);
+                }
+            }
+        }
+        return slot * counters;
+    }
+
+    /**
+     * @param slot    offset returned by slot()
+     * @param counter counter index
+     * @param delta   value to add
+     */
+    void add(int slot, int counter, long delta) {
+        if (-1 != slot) {
+            cells.getAndAdd(slot + counter, delta);
+        }
+    }
+
+    long sum(int counter, long now) {
+        long epoch = now / slotMillis;
+        long sum = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            long slotEpoch = epochs.get(slot);
+            if (slotEpoch > epoch - slots && slotEpoch <= epoch) {
+                sum += cells.get(slot * counters + counter);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return time covered by the window in milliseconds, including the elapsed part of the current slot
+     */
+    long getWindowMillis(long now) {
+        return (slots - 1) * slotMillis + now % slotMillis;
+    }
+
+    void reset() {
+        for (int slot = 0; slot < slots; slot++) {
+            epochs.set(slot, 0);
+        }
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0);
+        }
+    }
+}
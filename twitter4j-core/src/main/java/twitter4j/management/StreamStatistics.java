@@ -0,0 +1,196 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import twitter4j.json.JSONObjectType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters backing StreamStatisticsMBean. Recording is lock-free.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class StreamStatistics implements StreamStatisticsMBean {
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final int MESSAGES = 0;
+    private static final int BYTES = 1;
+
+    private final ConcurrentMap<String, MessageTypeStatistics> messageTypes
+            = new ConcurrentHashMap<String, MessageTypeStatistics>();
+    private final AtomicLong byteCount = new AtomicLong();
+    private final LatencyHistogram parseTime = new LatencyHistogram(6, 10 * 1000);
+    private final LatencyHistogram listenerTime = new LatencyHistogram(6, 10 * 1000);
+    private final LatencyHistogram deliveryLag = new LatencyHistogram(6, 10 * 1000);
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong reconnectCount = new AtomicLong();
+    private final AtomicLong backoff = new AtomicLong();
+    // rates are computed over the time since the last reset until the window is full
+    private volatile long since = System.currentTimeMillis();
+
+    private static final class MessageTypeStatistics {
+        final AtomicLong messageCount = new AtomicLong();
+        final SlidingWindowCounters window = new SlidingWindowCounters(2, 6, 10 * 1000);
+    }
+
+    public void queued() {
+        queueDepth.incrementAndGet();
+    }
+
+    public void dequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    /**
+     * @param type         type of the message, or null if unknown
+     * @param bytes        size of the message
+     * @param parseTime    time spent parsing the message in nanoseconds
+     * @param listenerTime time spent delivering the message to the listeners in nanoseconds
+     */
+    public void delivered(JSONObjectType type, int bytes, long parseTime, long listenerTime) {
+        long now = System.currentTimeMillis();
+        MessageTypeStatistics statistics = getMessageTypeStatistics(null == type ? UNKNOWN : type.getName());
+        statistics.messageCount.incrementAndGet();
+        byteCount.addAndGet(bytes);
+        int slot = statistics.window.slot(now);
+        statistics.window.add(slot, MESSAGES, 1);
+        statistics.window.add(slot, BYTES, bytes);
+        this.parseTime.record(parseTime / 1000, now);
+        this.listenerTime.record(listenerTime / 1000, now);
+    }
+
+    /**
+     * @param createdAt creation time of the status delivered, in milliseconds
+     */
+    public void statusDelivered(long createdAt) {
+        long now = System.currentTimeMillis();
+        deliveryLag.record(now - createdAt, now);
+    }
+
+    public void reconnected() {
+        reconnectCount.incrementAndGet();
+    }
+
+    /**
+     * @param backoff time to wait before the next connection attempt in milliseconds, or 0 once connected
+     */
+    public void setBackoff(long backoff) {
+        this.backoff.set(backoff);
+    }
+
+    private MessageTypeStatistics getMessageTypeStatistics(String type) {
+        MessageTypeStatistics statistics = messageTypes.get(type);
+        if (null == statistics) {
+            statistics = new MessageTypeStatistics();
+            MessageTypeStatistics existing = messageTypes.putIfAbsent(type, statistics);
+            if (null != existing) {
+                statistics = existing;
+            }
+        }
+        return statistics;
+    }
+
+    public long getMessageCount() {
+        long count = 0;
+        for (MessageTypeStatistics statistics : messageTypes.values()) {
+            count += statistics.messageCount.get();
+        }
+        return count;
+    }
+
+    public long getByteCount() {
+        return byteCount.get();
+    }
+
+    public Map<String, Long> getMessageCounts() {
+        Map<String, Long> counts = new HashMap<String, Long>();
+        for (Map.Entry<String, MessageTypeStatistics> entry : messageTypes.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().messageCount.get());
+        }
+        return counts;
+    }
+
+    public Map<String, Double> getMessagesPerSecond() {
+        return getRates(MESSAGES);
+    }
+
+    public Map<String, Double> getBytesPerSecond() {
+        return getRates(BYTES);
+    }
+
+    private Map<String, Double> getRates(int counter) {
+        long now = System.currentTimeMillis();
+        Map<String, Double> rates = new HashMap<String, Double>();
+        for (Map.Entry<String, MessageTypeStatistics> entry : messageTypes.entrySet()) {
+            SlidingWindowCounters window = entry.getValue().window;
+            long millis = Math.max(1, Math.min(window.getWindowMillis(now), now - since));
+            rates.put(entry.getKey(), window.sum(counter, now) * 1000d / millis);
+        }
+        return rates;
+    }
+
+    public LatencyPercentiles getParseTimePercentiles() {
+        return parseTime.getPercentiles();
+    }
+
+    public LatencyPercentiles getListenerTimePercentiles() {
+        return listenerTime.getPercentiles();
+    }
+
+    public LatencyPercentiles getDeliveryLagPercentiles() {
+        return deliveryLag.getPercentiles();
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getReconnectCount() {
+        return reconnectCount.get();
+    }
+
+    public long getBackoff() {
+        return backoff.get();
+    }
+
+    public void reset() {
+        // the queue depth and the backoff are current values, not statistics
+        messageTypes.clear();
+        byteCount.set(0);
+        parseTime.reset();
+        listenerTime.reset();
+        deliveryLag.reset();
+        reconnectCount.set(0);
+        since = System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamStatistics{" +
+                "messageCount=" + getMessageCount() +
+                ", byteCount=" + byteCount +
+                ", queueDepth=" + queueDepth +
+                ", reconnectCount=" + reconnectCount +
+                ", backoff=" + backoff +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.Map;
+
+/**
+ * Statistics of the messages received by a TwitterStream.<br>
+ * Rates and percentiles cover the last minute. Parse and listener times are in microseconds, other times in
+ * milliseconds.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface StreamStatisticsMBean {
+    /**
+     * @return number of messages received
+     */
+    long getMessageCount();
+
+    /**
+     * @return number of bytes received, excluding line breaks
+     */
+    long getByteCount();
+
+    /**
+     * @return number of messages received by message type
+     */
+    Map<String, Long> getMessageCounts();
+
+    /**
+     * @return messages per second by message type
+     */
+    Map<String, Double> getMessagesPerSecond();
+
+    /**
+     * @return bytes per second by message type
+     */
+    Map<String, Double> getBytesPerSecond();
+
+    /**
+     * @return time spent parsing a message and determining its type, in microseconds
+     */
+    LatencyPercentiles getParseTimePercentiles();
+
+    /**
+     * @return time spent delivering a message to the listeners, in microseconds. Except for statuses, this includes
+     *         binding the message to its data object
+     */
+    LatencyPercentiles getListenerTimePercentiles();
+
+    /**
+     * @return time from the creation of a status to its delivery to the listeners, in milliseconds
+     */
+    LatencyPercentiles getDeliveryLagPercentiles();
+
+    /**
+     * @return number of messages read from the stream and waiting for a dispatcher thread
+     */
+    int getQueueDepth();
+
+    /**
+     * @return number of times the stream has been reconnected
+     */
+    long getReconnectCount();
+
+    /**
+     * @return time to wait before the next connection attempt in milliseconds, or 0 while connected
+     */
+    long getBackoff();
+
+    void reset();
+}
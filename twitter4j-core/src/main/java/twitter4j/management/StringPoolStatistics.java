@@ -0,0 +1,87 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters backing StringPoolStatisticsMBean.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class StringPoolStatistics implements StringPoolStatisticsMBean {
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong savedBytes = new AtomicLong();
+
+    /**
+     * @param length length of the value served from the pool
+     */
+    public void hit(int length) {
+        hitCount.incrementAndGet();
+        // String header and fields, plus the char array rounded up to 8 bytes
+        savedBytes.addAndGet(24 + ((16 + 2 * length + 7) & ~7));
+    }
+
+    public void missed() {
+        missCount.incrementAndGet();
+    }
+
+    public void evicted() {
+        evictionCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getSavedBytes() {
+        return savedBytes.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : hits * 100d / lookups;
+    }
+
+    public void reset() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+        savedBytes.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "StringPoolStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", savedBytes=" + savedBytes +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+/**
+ * Statistics of the string pool, which lets repeated values of low-cardinality fields such as screen_name or source
+ * share one String instance while parsing.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface StringPoolStatisticsMBean {
+    /**
+     * @return number of values served from the pool
+     */
+    long getHitCount();
+
+    /**
+     * @return number of values not found in the pool
+     */
+    long getMissCount();
+
+    /**
+     * @return number of pooled values replaced to keep the pool within stringPool.size
+     */
+    long getEvictionCount();
+
+    /**
+     * @return estimated number of bytes of String instances which have not been allocated thanks to the pool
+     */
+    long getSavedBytes();
+
+    /**
+     * @return hits / lookups, in percent
+     */
+    double getHitRate();
+
+    void reset();
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A few counters updated by many threads at once.<br>
+ * Each counter is split into stripes, and a thread always adds to the stripe its id maps to, so concurrent updates
+ * rarely touch the same cache line. The counters of a stripe sit side by side: a thread updating several of them
+ * touches a single cache line. Reading a counter sums its stripes.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class StripedCounters {
+    // a power of two, so that a thread id maps to a stripe with a mask
+    private static final int STRIPES;
+
+    static {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() * 2 && stripes < 64) {
+            stripes <<= 1;
+        }
+        STRIPES = stripes;
+    }
+
+    private final int width;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param counters number of counters
+     */
+    StripedCounters(int counters) {
+        // round the stripe up to 8 longs (64 bytes) so that stripes don't share cache lines
+        width = (counters + 7) & ~7;
+        cells = new AtomicLongArray(STRIPES * width);
+    }
+
+    /**
+     * @return offset of the stripe of the current thread
+     */
+    int stripe() {
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32));
+        h ^= h >>> 16;
+        return (h & (STRIPES - 1)) * width;
+    }
+
+    /**
+     * @return number of stripes
+     */
+    static int getStripeCount() {
+        return STRIPES;
+    }
+
+    /**
+     * @param stripe offset returned by stripe()
+     * @return index of the stripe, from 0 to getStripeCount() - 1
+     */
+    int index(int stripe) {
+        return stripe / width;
+    }
+
+    /**
+     * @param stripe  offset returned by stripe()
+     * @param counter counter index
+     * @param delta   value to add
+     */
+    void add(int stripe, int counter, long delta) {
+        cells.getAndAdd(stripe + counter, delta);
+    }
+
+    long sum(int counter) {
+        long sum = 0;
+        for (int i = counter; i < cells.length(); i += width) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    void reset() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters backing TLSStatisticsMBean.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class TLSStatistics implements TLSStatisticsMBean {
+    private final AtomicLong fullHandshakeCount = new AtomicLong();
+    private final AtomicLong resumedSessionCount = new AtomicLong();
+
+    public void handshakeCompleted(boolean resumed) {
+        if (resumed) {
+            resumedSessionCount.incrementAndGet();
+        } else {
+            fullHandshakeCount.incrementAndGet();
+        }
+    }
+
+    public long getFullHandshakeCount() {
+        return fullHandshakeCount.get();
+    }
+
+    public long getResumedSessionCount() {
+        return resumedSessionCount.get();
+    }
+
+    public double getResumptionRate() {
+        long resumed = resumedSessionCount.get();
+        long handshakes = fullHandshakeCount.get() + resumed;
+        return handshakes == 0 ? 0 : resumed * 100d / handshakes;
+    }
+
+    public void reset() {
+        fullHandshakeCount.set(0);
+        resumedSessionCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "TLSStatistics{" +
+                "fullHandshakeCount=" + fullHandshakeCount +
+                ", resumedSessionCount=" + resumedSessionCount +
+                '}';
+    }
+}
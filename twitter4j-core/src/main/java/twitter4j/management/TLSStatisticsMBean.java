@@ -0,0 +1,42 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+/**
+ * Statistics of TLS handshakes performed through the shared SSLContext.<br>
+ * A resumed session skips the key exchange of a full handshake, saving CPU and a round trip.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface TLSStatisticsMBean {
+    /**
+     * @return number of handshakes which established a new session
+     */
+    long getFullHandshakeCount();
+
+    /**
+     * @return number of handshakes which resumed a cached session
+     */
+    long getResumedSessionCount();
+
+    /**
+     * @return resumed sessions / handshakes, in percent
+     */
+    double getResumptionRate();
+
+    void reset();
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters backing UserCacheStatisticsMBean.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class UserCacheStatistics implements UserCacheStatisticsMBean {
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong staleCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public void hit() {
+        hitCount.incrementAndGet();
+    }
+
+    public void missed() {
+        missCount.incrementAndGet();
+    }
+
+    public void stale() {
+        staleCount.incrementAndGet();
+    }
+
+    public void evicted() {
+        evictionCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get() + staleCount.get();
+        return lookups == 0 ? 0 : hits * 100d / lookups;
+    }
+
+    public void reset() {
+        hitCount.set(0);
+        missCount.set(0);
+        staleCount.set(0);
+        evictionCount.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "UserCacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", staleCount=" + staleCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+/**
+ * Statistics of the user cache, which lets repeated authors share one User instance while parsing.<br>
+ * A lookup is a hit when the cached user has been parsed from the very same payload, stale when the user has changed
+ * since, and a miss when the user is not cached.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public interface UserCacheStatisticsMBean {
+    /**
+     * @return number of users served from the cache
+     */
+    long getHitCount();
+
+    /**
+     * @return number of users not found in the cache
+     */
+    long getMissCount();
+
+    /**
+     * @return number of cached users replaced because the payload has changed
+     */
+    long getStaleCount();
+
+    /**
+     * @return number of users evicted to keep the cache within user.cacheSize
+     */
+    long getEvictionCount();
+
+    /**
+     * @return hits / lookups, in percent
+     */
+    double getHitRate();
+
+    void reset();
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONException;
+import twitter4j.internal.org.json.JSONObject;
+
+/**
+ * provides public access to the package private constructors of the *JSONImpl classes, so that
+ * twitter4j.json.DataObjectFactory can create them without going through reflection.<br>
+ * This class is not intended to be used by Twitter4J client.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public final class z_T4JInternalJSONImplFactory {
+    private z_T4JInternalJSONImplFactory() {
+        throw new AssertionError("not intended to be instantiated.");
+    }
+
+    public static Status createStatus(JSONObject json) throws TwitterException {
+        return new StatusJSONImpl(json);
+    }
+
+    /**
+     * @param x tokener positioned right after the START_OBJECT token of the status
+     */
+    public static Status createStatus(JSONByteTokener x) throws TwitterException {
+        return new StatusJSONImpl(x);
+    }
+
+    /**
+     * @param x tokener positioned at the beginning of a message
+     * @return true if the message is a status
+     */
+    public static boolean isStatus(JSONByteTokener x) throws JSONException {
+        return StatusJSONImpl.isStatus(x);
+    }
+
+    public static User createUser(JSONObject json) throws TwitterException {
+        return new UserJSONImpl(json);
+    }
+
+    /**
+     * @param x tokener positioned right after the START_OBJECT token of the user
+     */
+    public static User createUser(JSONByteTokener x) throws TwitterException {
+        return new UserJSONImpl(x);
+    }
+
+    public static Tweet createTweet(JSONObject json) throws TwitterException {
+        return new TweetJSONImpl(json);
+    }
+
+    public static Relationship createRelationship(JSONObject json) throws TwitterException {
+        return new RelationshipJSONImpl(json);
+    }
+
+    public static Place createPlace(JSONObject json) throws TwitterException {
+        return new PlaceJSONImpl(json);
+    }
+
+    public static SavedSearch createSavedSearch(JSONObject json) throws TwitterException {
+        return new SavedSearchJSONImpl(json);
+    }
+
+    public static Trend createTrend(JSONObject json) {
+        return new TrendJSONImpl(json);
+    }
+
+    public static Trends createTrends(String json) throws TwitterException {
+        return new TrendsJSONImpl(json);
+    }
+
+    public static IDs createIDs(String json) throws TwitterException {
+        return new IDsJSONImpl(json);
+    }
+
+    public static RateLimitStatus createRateLimitStatus(JSONObject json) throws TwitterException {
+        return new RateLimitStatusJSONImpl(json);
+    }
+
+    public static Category createCategory(JSONObject json) throws JSONException {
+        return new CategoryJSONImpl(json);
+    }
+
+    public static DirectMessage createDirectMessage(JSONObject json) throws TwitterException {
+        return new DirectMessageJSONImpl(json);
+    }
+
+    /**
+     * @param x tokener positioned right after the START_OBJECT token of the direct message
+     */
+    public static DirectMessage createDirectMessage(JSONByteTokener x) throws TwitterException {
+        return new DirectMessageJSONImpl(x, null);
+    }
+
+    public static Location createLocation(JSONObject json) throws TwitterException {
+        return new LocationJSONImpl(json);
+    }
+
+    public static UserList createUserList(JSONObject json) throws TwitterException {
+        return new UserListJSONImpl(json);
+    }
+
+    public static RelatedResults createRelatedResults(JSONArray json) throws TwitterException {
+        return new RelatedResultsJSONImpl(json);
+    }
+
+    public static StatusDeletionNotice createStatusDeletionNotice(JSONObject json) {
+        return new StatusDeletionNoticeImpl(json);
+    }
+
+    public static AccountTotals createAccountTotals(JSONObject json) throws TwitterException {
+        return new AccountTotalsJSONImpl(json);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.internal.org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class DataObjectCodecTest extends TestCase {
+    public DataObjectCodecTest(String name) {
+        super(name);
+    }
+
+    private static final String USER = "{'id':6358482,'name':'Twit4J','screen_name':'twit4j','location':'東京'," +
+            "'description':'a &amp; b','profile_image_url':'http://a1.twimg.com/t4j.png','url':'not a url'," +
+            "'protected':false,'followers_count':33,'friends_count':12,'created_at':'Tue Jun 16 07:42:06 +0000 2009'," +
+            "'utc_offset':-18000,'time_zone':'Tokyo','statuses_count':1234,'verified':true,'lang':'ja','listed_count':3," +
+            "'profile_background_color':'9ae4e8','follow_request_sent':true}";
+
+    private static final String STATUS = "{'created_at':'Sat Dec 19 16:01:35 +0000 2009','id':6831754706," +
+            "'text':'@t4j_news &lt;3 #twitter4j http://t.co/abc 😀','source':'web','truncated':false," +
+            "'in_reply_to_status_id':null,'in_reply_to_user_id':1234,'favorited':true,'in_reply_to_screen_name':'t4j_news'," +
+            "'retweet_count':5,'geo':{'type':'Point','coordinates':[35.6,139.7]},'contributors':['1','2']," +
+            "'place':{'id':'c3f37afa9efcf94b','name':'Austin','full_name':'Austin, TX','country_code':'US'," +
+            "'country':'United States','place_type':'city','url':'http://api.twitter.com/1/geo/id/c3f37afa9efcf94b.json'," +
+            "'bounding_box':{'type':'Polygon','coordinates':[[[-97.9,30.0],[-97.5,30.0],[-97.5,30.5],[-97.9,30.5]]]}}," +
+            "'annotations':[{'review':{'rating':'5','comment':'great'}}]," +
+            "'entities':{'hashtags':[{'text':'twitter4j','indices':[18,28]}]," +
+            "'user_mentions':[{'id':5678,'name':'T4J News','screen_name':'t4j_news','indices':[0,9]}]," +
+            "'urls':[{'url':'http://t.co/abc','expanded_url':'http://twitter4j.org/','display_url':'twitter4j.org','indices':[29,44]}]}," +
+            "'user':" + USER + ",'retweeted_status':{'id':1,'text':'original','user':" + USER + "}}";
+
+    private static final String DIRECT_MESSAGE = "{'id':1,'sender_id':6358482,'text':'a &gt; b','recipient_id':6358483," +
+            "'created_at':'Tue Jun 16 07:42:06 +0000 2009','sender_screen_name':'twit4j','recipient_screen_name':'twit4j2'," +
+            "'sender':" + USER + ",'recipient':" + USER + "}";
+
+    private static JSONObject json(String json) throws Exception {
+        return new JSONObject(json.replace('\'', '"'));
+    }
+
+    // PlaceJSONImpl.toString() shows the identities of the coordinate arrays
+    private static String toString(Object object) {
+        return object.toString().replaceAll("\\[Ltwitter4j.GeoLocation;@[0-9a-f]+", "GeoLocation[]");
+    }
+
+    public void testRoundTrip() throws Exception {
+        Status status = new StatusJSONImpl(json(STATUS));
+        User user = new UserJSONImpl(json(USER));
+        DirectMessage directMessage = new DirectMessageJSONImpl(json(DIRECT_MESSAGE));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeStatus(status);
+        encoder.writeUser(user);
+        encoder.writeStatus(null);
+        encoder.writeDirectMessage(directMessage);
+        encoder.close();
+
+        DataObjectDecoder decoder = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1, decoder.getVersion());
+        Status decodedStatus = decoder.readStatus();
+        assertEquals(toString(status), toString(decodedStatus));
+        assertEquals("Austin, TX", decodedStatus.getPlace().getFullName());
+        assertTrue(Arrays.deepEquals(status.getPlace().getBoundingBoxCoordinates(),
+                decodedStatus.getPlace().getBoundingBoxCoordinates()));
+        assertEquals("great", decodedStatus.getAnnotations().getAnnotations().get(0).getAttributes().get("comment"));
+        assertEquals(-1, decodedStatus.getInReplyToStatusId());
+        assertEquals(user.toString(), decoder.readUser().toString());
+        assertNull(decoder.readStatus());
+        assertEquals(directMessage.toString(), decoder.readDirectMessage().toString());
+        // end of the stream
+        assertNull(decoder.readObject());
+    }
+
+    public void testDictionary() throws Exception {
+        Status status = new StatusJSONImpl(json(STATUS));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeStatus(status);
+        encoder.flush();
+        int first = bytes.size();
+        encoder.writeStatus(status);
+        encoder.flush();
+        int second = bytes.size() - first;
+        // screen names, URLs and the likes are referenced the second time
+        assertTrue(first + " " + second, second < first * 2 / 3);
+        DataObjectDecoder decoder = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(toString(decoder.readStatus()), toString(decoder.readStatus()));
+    }
+
+    public void testLongText() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            text.append(i % 3 == 0 ? 'a' : i % 3 == 1 ? 'é' : 'あ');
+        }
+        Status status = new StatusJSONImpl(new JSONObject().put("id", 1).put("text", text.toString())
+                .put("source", text.substring(0, 200)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeStatus(status);
+        encoder.writeStatus(status);
+        encoder.flush();
+        DataObjectDecoder decoder = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(text.toString(), decoder.readStatus().getText());
+        assertEquals(text.substring(0, 200), decoder.readStatus().getSource());
+    }
+
+    public void testJavaSerialization() throws Exception {
+        Status status = new StatusJSONImpl(json(STATUS));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bytes);
+        oos.writeObject(status);
+        oos.writeObject(status.getUser());
+        oos.writeObject(new DirectMessageJSONImpl(json(DIRECT_MESSAGE)));
+        oos.close();
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Status deserialized = (Status) ois.readObject();
+        assertEquals(StatusJSONImpl.class, deserialized.getClass());
+        assertEquals(toString(status), toString(deserialized));
+        assertEquals(status.getUser().toString(), ois.readObject().toString());
+        assertEquals(DirectMessageJSONImpl.class, ois.readObject().getClass());
+    }
+
+    public void testMalformedStream() throws Exception {
+        try {
+            new DataObjectDecoder(new ByteArrayInputStream("{\"id\":1}".getBytes("UTF-8")));
+            fail("not a data object stream");
+        } catch (IOException expected) {
+        }
+        try {
+            new DataObjectDecoder(new ByteArrayInputStream(new byte[]{'T', '4', 'J', 2}));
+            fail("newer version");
+        } catch (IOException expected) {
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeStatus(new StatusJSONImpl(json(STATUS)));
+        encoder.flush();
+        try {
+            new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray())).readUser();
+            fail("not a user");
+        } catch (IOException expected) {
+        }
+        byte[] truncated = new byte[bytes.size() / 2];
+        System.arraycopy(bytes.toByteArray(), 0, truncated, 0, truncated.length);
+        try {
+            new DataObjectDecoder(new ByteArrayInputStream(truncated)).readStatus();
+            fail("truncated");
+        } catch (IOException expected) {
+        }
+    }
+
+    public void testMalformedLengths() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeUnsignedVarLong(1000);
+        encoder.writeUnsignedVarLong((Integer.MAX_VALUE + 1L) << 1);
+        encoder.flush();
+        DataObjectDecoder decoder = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()), bytes.size());
+        try {
+            decoder.readLength();
+            fail("longer than the stream");
+        } catch (StreamCorruptedException expected) {
+        }
+        try {
+            decoder.readText();
+            fail("longer than the stream");
+        } catch (StreamCorruptedException expected) {
+        }
+        // the length of the stream is unknown. the string is buffered as it is read
+        decoder = new DataObjectDecoder(new ByteArrayInputStream(bytes.toByteArray()));
+        decoder.readLength();
+        try {
+            decoder.readText();
+            fail("truncated");
+        } catch (EOFException expected) {
+        }
+    }
+
+    public void testMalformedSerializedForm() throws Exception {
+        try {
+            new ExternalizableDataObject().readExternal(serializedForm(-1, new byte[0]));
+            fail("negative length");
+        } catch (StreamCorruptedException expected) {
+        }
+        try {
+            new ExternalizableDataObject().readExternal(serializedForm(Integer.MAX_VALUE, new byte[]{'T', '4', 'J', 1}));
+            fail("longer than the stream");
+        } catch (EOFException expected) {
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+        encoder.writeStatus(new StatusJSONImpl(json(STATUS)));
+        encoder.flush();
+        try {
+            // declares fewer bytes than the object takes
+            new ExternalizableDataObject().readExternal(serializedForm(bytes.size() / 2, bytes.toByteArray()));
+            fail("truncated");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static ObjectInputStream serializedForm(int length, byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bytes);
+        oos.writeInt(length);
+        oos.write(payload);
+        oos.close();
+        return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+}
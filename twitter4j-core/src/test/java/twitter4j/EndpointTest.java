@@ -0,0 +1,64 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class EndpointTest extends TestCase {
+    public EndpointTest(String name) {
+        super(name);
+    }
+
+    public void testURL() throws Exception {
+        Endpoint endpoint = new Endpoint("http://api.twitter.com/1/", "statuses/public_timeline.json", null);
+        assertEquals("http://api.twitter.com/1/statuses/public_timeline.json", endpoint.url());
+        assertEquals("statuses/public_timeline", endpoint.getMetricKey());
+
+        endpoint = new Endpoint("http://api.twitter.com/1/", "statuses/show/:id.json", "include_entities=true");
+        assertEquals("http://api.twitter.com/1/statuses/show/1234.json?include_entities=true", endpoint.url(1234L));
+        assertEquals("statuses/show/:id", endpoint.getMetricKey());
+
+        endpoint = new Endpoint("http://api.twitter.com/1/", ":user/lists/:list_id/members/:id.json", null);
+        assertEquals("http://api.twitter.com/1/t4j/lists/12/members/34.json", endpoint.url("t4j", 12, 34L));
+        try {
+            endpoint.url("t4j");
+            fail("expecting IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testEndpointsAreSharedPerConfiguration() throws Exception {
+        Configuration conf = new ConfigurationBuilder().setIncludeEntitiesEnabled(true).setIncludeRTsEnabled(false).build();
+        Endpoints endpoints = Endpoints.getInstance(conf);
+        assertSame(endpoints, Endpoints.getInstance(conf));
+        // settings the table doesn't depend on don't add tables
+        assertSame(endpoints, Endpoints.getInstance(new ConfigurationBuilder().setIncludeEntitiesEnabled(true)
+                .setIncludeRTsEnabled(false).setOAuthConsumerKey("another tenant").build()));
+        assertNotSame(endpoints, Endpoints.getInstance(new ConfigurationBuilder().setIncludeEntitiesEnabled(true)
+                .setIncludeRTsEnabled(true).build()));
+        assertEquals(conf.getRestBaseURL() + "statuses/home_timeline.json?include_entities=true"
+                , endpoints.statusesHomeTimeline.url());
+        assertEquals(conf.getRestBaseURL() + "statuses/public_timeline.json?include_entities=true&include_rts=false"
+                , endpoints.statusesPublicTimeline.url());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONObject;
+
+/**
+ * Compares decoding a 5000 ids page through a JSONArray of boxed values (as IDsJSONImpl used to do) with streaming
+ * the ids into a long[].<br>
+ * usage: java twitter4j.IDsBenchmark [iterations]
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class IDsBenchmark {
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        StringBuilder buf = new StringBuilder("{\"previous_cursor\":0,\"previous_cursor_str\":\"0\",\"ids\":[");
+        for (int i = 0; i < 5000; i++) {
+            buf.append(i == 0 ? "" : ",").append(100000000L + i * 7919L);
+        }
+        buf.append("],\"next_cursor\":1300794057949944903,\"next_cursor_str\":\"1300794057949944903\"}");
+        String json = buf.toString();
+        for (int round = 0; round < 3; round++) {
+            // the first rounds warm up the JIT
+            long sum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                JSONArray idList = new JSONObject(json).getJSONArray("ids");
+                long[] ids = new long[idList.length()];
+                for (int j = 0; j < idList.length(); j++) {
+                    ids[j] = Long.parseLong(idList.getString(j));
+                }
+                sum += ids[ids.length - 1];
+            }
+            long treeElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                long[] ids = new IDsJSONImpl(json).getIDs();
+                sum -= ids[ids.length - 1];
+            }
+            long streamingElapsed = System.nanoTime() - start;
+            if (0 != sum) {
+                throw new AssertionError("results differ");
+            }
+            System.out.println("round " + round + ": JSONArray " + treeElapsed / iterations + "ns/page"
+                    + ", streaming " + streamingElapsed / iterations + "ns/page"
+                    + " (" + (treeElapsed * 100 / streamingElapsed) + "%)");
+        }
+    }
+}
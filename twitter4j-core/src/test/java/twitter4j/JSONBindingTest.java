@@ -0,0 +1,146 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONObject;
+
+/**
+ * Verifies that data objects bound straight from the token stream are identical to the ones built from JSONObject.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class JSONBindingTest extends TestCase {
+    public JSONBindingTest(String name) {
+        super(name);
+    }
+
+    private static final String USER = "{'id':6358482,'name':'Twit4J','screen_name':'twit4j','location':'Tokyo','description':'a &amp; b'," +
+            "'profile_image_url':'http://a1.twimg.com/t4j.png','url':null,'protected':false,'followers_count':33," +
+            "'friends_count':12,'created_at':'Tue Jun 16 07:42:06 +0000 2009','utc_offset':32400,'time_zone':'Tokyo'," +
+            "'notifications':null,'unknown':{'nested':[1,2,{'a':'b'}]},'statuses_count':1234,'verified':true," +
+            "'profile_background_tile':false,'lang':'ja','geo_enabled':true,'listed_count':3}";
+
+    private static final String STATUS = "{'created_at':'Sat Dec 19 16:01:35 +0000 2009','id':6831754706,'text':'@t4j_news &lt;3 #twitter4j http://t.co/abc'," +
+            "'source':'<a href=\\\"http://twitter4j.org/\\\" rel=\\\"nofollow\\\">Twitter4J</a>','truncated':false," +
+            "'in_reply_to_status_id':null,'in_reply_to_user_id':1234,'favorited':false,'in_reply_to_screen_name':'t4j_news'," +
+            "'retweet_count':'100+','retweeted':false,'geo':{'type':'Point','coordinates':[35.6,139.7]}," +
+            "'coordinates':{'type':'Point','coordinates':[139.7,35.6]},'contributors':[1,'2']," +
+            "'entities':{'hashtags':[{'text':'twitter4j','indices':[18,28]}]," +
+            "'user_mentions':[{'id':5678,'name':'T4J News','screen_name':'t4j_news','indices':[0,9]}]," +
+            "'urls':[{'url':'http://t.co/abc','expanded_url':'http://twitter4j.org/','display_url':'twitter4j.org','indices':[29,44]}]}," +
+            "'user':" + USER + ",'retweeted_status':{'id':1,'text':'\\u3042','user':" + USER + ",'entities':{'hashtags':[]}}}";
+
+    private static final String DIRECT_MESSAGE = "{'id':1,'sender_id':6358482,'text':'a &gt; b','recipient_id':6358483," +
+            "'created_at':'Tue Jun 16 07:42:06 +0000 2009','sender_screen_name':'twit4j','recipient_screen_name':'twit4j2'," +
+            "'sender':" + USER + ",'recipient':" + USER + "}";
+
+    private static JSONByteTokener tokener(String json) throws Exception {
+        JSONByteTokener x = new JSONByteTokener(json(json).getBytes("UTF-8"));
+        assertEquals(JSONByteTokener.START_OBJECT, x.nextToken());
+        return x;
+    }
+
+    private static String json(String json) {
+        return json.replace('\'', '"');
+    }
+
+    public void testStatus() throws Exception {
+        Status expected = new StatusJSONImpl(new JSONObject(json(STATUS)));
+        Status actual = new StatusJSONImpl(tokener(STATUS));
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(101, actual.getRetweetCount());
+        assertEquals(33, actual.getUser().getFollowersCount());
+        assertEquals(-1, actual.getInReplyToStatusId());
+        assertEquals("@t4j_news <3 #twitter4j http://t.co/abc", actual.getText());
+        assertEquals(new GeoLocation(35.6, 139.7), actual.getGeoLocation());
+        assertEquals("\u3042", actual.getRetweetedStatus().getText());
+        // each kind of entities is available on its own
+        assertEquals(0, actual.getRetweetedStatus().getHashtagEntities().length);
+        assertNull(actual.getRetweetedStatus().getURLEntities());
+    }
+
+    private static final String MALFORMED_PARTS = "{'id':2,'text':'partial','retweeted_status':{'id':1," +
+            "'created_at':'yesterday','user':" + USER + ",'entities':{'hashtags':[]}},'retweet_count':5," +
+            "'entities':{'user_mentions':[{'id':5678,'name':'T4J News','screen_name':'t4j_news','indices':[0,9]}]," +
+            "'hashtags':[{'text':'twitter4j','indices':[18,28]},{'text':'no indices','nested':{'a':[1]}}]}," +
+            "'user':" + USER + "}";
+
+    public void testMalformedPartsAreSkipped() throws Exception {
+        Status expected = new StatusJSONImpl(new JSONObject(json(MALFORMED_PARTS)));
+        Status actual = new StatusJSONImpl(tokener(MALFORMED_PARTS));
+        assertEquals(expected.toString(), actual.toString());
+        for (Status status : new Status[]{expected, actual}) {
+            assertEquals(2, status.getId());
+            // a malformed retweeted status doesn't fail the status
+            assertNull(status.getRetweetedStatus());
+            assertEquals(5, status.getRetweetCount());
+            // entities parsed are kept even if others are missing or malformed
+            assertEquals(1, status.getUserMentionEntities().length);
+            assertNull(status.getURLEntities());
+            assertNull(status.getHashtagEntities());
+            assertEquals(33, status.getUser().getFollowersCount());
+        }
+    }
+
+    public void testUser() throws Exception {
+        User expected = new UserJSONImpl(new JSONObject(json(USER)));
+        User actual = new UserJSONImpl(tokener(USER));
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(-1, actual.getFavouritesCount());
+    }
+
+    public void testDirectMessage() throws Exception {
+        DirectMessage expected = new DirectMessageJSONImpl(new JSONObject(json(DIRECT_MESSAGE)));
+        DirectMessage actual = new DirectMessageJSONImpl(tokener(DIRECT_MESSAGE), null);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals("a > b", actual.getText());
+    }
+
+    public void testIDs() throws Exception {
+        StringBuilder json = new StringBuilder("{\"previous_cursor\":0,\"ids\":[");
+        for (int i = 0; i < 5000; i++) {
+            json.append(i == 0 ? "" : ",").append(i == 1 ? "\"1\"" : String.valueOf(Long.MAX_VALUE - i));
+        }
+        json.append("],\"next_cursor\":1300794057949944903,\"next_cursor_str\":\"1300794057949944903\"}");
+        IDs ids = new IDsJSONImpl(json.toString());
+        assertEquals(5000, ids.getIDs().length);
+        assertEquals(Long.MAX_VALUE, ids.getIDs()[0]);
+        assertEquals(1, ids.getIDs()[1]);
+        assertEquals(Long.MAX_VALUE - 4999, ids.getIDs()[4999]);
+        assertEquals(0, ids.getPreviousCursor());
+        assertEquals(1300794057949944903L, ids.getNextCursor());
+
+        ids = new IDsJSONImpl("[1,2,3]");
+        assertEquals(3, ids.getIDs().length);
+        assertEquals(3, ids.getIDs()[2]);
+        assertEquals(-1, ids.getNextCursor());
+        try {
+            new IDsJSONImpl("[1,\"a\"]");
+            fail("expecting TwitterException");
+        } catch (TwitterException expected) {
+        }
+    }
+
+    public void testIsStatus() throws Exception {
+        assertTrue(StatusJSONImpl.isStatus(new JSONByteTokener(json(STATUS).getBytes("UTF-8"))));
+        assertFalse(StatusJSONImpl.isStatus(new JSONByteTokener(json(DIRECT_MESSAGE).getBytes("UTF-8"))));
+        assertFalse(StatusJSONImpl.isStatus(new JSONByteTokener(json("{'delete':{'status':{'id':1,'user_id':2}}}").getBytes("UTF-8"))));
+        assertFalse(StatusJSONImpl.isStatus(new JSONByteTokener(json("{'text':'hi','sender':{'id':1}}").getBytes("UTF-8"))));
+    }
+}
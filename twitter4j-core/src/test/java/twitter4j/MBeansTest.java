@@ -20,12 +20,16 @@ import twitter4j.management.APIStatistics;
 import twitter4j.management.APIStatisticsOpenMBean;
 import twitter4j.management.InvocationStatistics;
 import twitter4j.management.InvocationStatisticsCalculator;
+import twitter4j.management.LatencyPercentiles;
 
 import javax.management.AttributeList;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -77,6 +81,28 @@ public class MBeansTest extends TestCase {
         checkCalculator(calc, 1, 0, 100, 100);
     }
 
+    /**
+     * Tests calls recorded from many threads at once
+     */
+    public void testConcurrentInvocations() throws Exception {
+        final InvocationStatisticsCalculator calc = new InvocationStatisticsCalculator("foo", 5);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        calc.increment(10, 0 != j % 10);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        checkCalculator(calc, 8000, 800, 80000, 10);
+    }
+
     /**
      * Tests statistics calculation/aggregation for an entire API
      */
@@ -128,7 +154,7 @@ public class MBeansTest extends TestCase {
 
         // sanity check to ensure metadata accurately describes dynamic attributes
         MBeanInfo info = openMBean.getMBeanInfo();
-        assertEquals(5, info.getAttributes().length);
+        assertEquals(7, info.getAttributes().length);
         assertEquals(1, info.getOperations().length);
 
         List<String> attrNames = new ArrayList<String>();
@@ -138,7 +164,7 @@ public class MBeansTest extends TestCase {
         }
         AttributeList attrList = openMBean.getAttributes(attrNames.toArray(new String[attrNames.size()]));
         assertNotNull(attrList);
-        assertEquals(5, attrList.size());
+        assertEquals(7, attrList.size());
 
         // check stats (empty case)
         Long callCount = (Long) openMBean.getAttribute("callCount");
@@ -180,6 +206,10 @@ public class MBeansTest extends TestCase {
         assertEquals(1, ((Long) columnValues[1]).longValue());
         assertEquals(100, ((Long) columnValues[2]).longValue());
         assertEquals(100, ((Long) columnValues[3]).longValue());
+        CompositeData lastMinute = (CompositeData) data.get("lastMinute");
+        assertEquals(1L, lastMinute.get("count"));
+        assertEquals(100L, lastMinute.get("p99"));
+        assertEquals(100L, ((CompositeData) openMBean.getAttribute("lastTenMinutesPercentiles")).get("max"));
 
         // check reset
         openMBean.invoke("reset", new Object[0], new String[0]);
@@ -187,6 +217,73 @@ public class MBeansTest extends TestCase {
         assertFalse(stats.getInvocationStatistics().iterator().hasNext());
     }
 
+    /**
+     * Tests tail latency of a single method
+     */
+    public void testLatencyPercentiles() throws Exception {
+        InvocationStatisticsCalculator calc = new InvocationStatisticsCalculator("foo", 5);
+        assertEquals(0, calc.getLastMinutePercentiles().getCount());
+        assertEquals(0, calc.getLastMinutePercentiles().getP99());
+
+        for (int i = 1000; i > 0; i--) {
+            calc.increment(i, true);
+        }
+        LatencyPercentiles[] windows = {calc.getLastMinutePercentiles(), calc.getLastTenMinutesPercentiles()};
+        for (LatencyPercentiles percentiles : windows) {
+            assertEquals(1000, percentiles.getCount());
+            // reported as the highest time of the bucket, at most 12.5% above the actual time
+            assertEquals(511, percentiles.getP50());
+            assertEquals(959, percentiles.getP90());
+            assertEquals(1000, percentiles.getP99());
+            assertEquals(1000, percentiles.getP999());
+            assertEquals(1000, percentiles.getMax());
+        }
+        assertTrue(calc.toString().contains("lastMinute=[count=1000,p50=511,p90=959,p99=1000,p999=1000,max=1000]"));
+
+        calc.reset();
+        assertEquals(0, calc.getLastTenMinutesPercentiles().getCount());
+        assertEquals(0, calc.getLastTenMinutesPercentiles().getMax());
+    }
+
+    /**
+     * Tests that no call is lost when many threads record calls at once
+     */
+    public void testConcurrentCalls() throws Exception {
+        final APIStatistics stats = new APIStatistics(100);
+        final String[] methods = {"foo", "bar", "baz"};
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    for (int j = 0; j < 3000; j++) {
+                        stats.methodCalled(methods[j % methods.length], 10, 0 != j % 100);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        checkCalculator(stats, 48000, 480, 480000, 10);
+        for (String method : methods) {
+            checkMethodStats(stats, method, 16000, 160, 160000, 10);
+        }
+    }
+
+    /**
+     * Tests that the registered MBean exposes the calls recorded by the monitor
+     */
+    public void testMonitorRegistersItsStatistics() throws Exception {
+        TwitterAPIMonitor monitor = TwitterAPIMonitor.getInstance();
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("twitter4j.mbean:type=APIStatisticsOpenMBean");
+        long callCount = (Long) mbs.getAttribute(name, "callCount");
+        assertEquals(callCount, monitor.getStatistics().getCallCount());
+        monitor.methodCalled("http://api.twitter.com/1/statuses/public_timeline.json", 10, true);
+        assertEquals(callCount + 1, ((Long) mbs.getAttribute(name, "callCount")).longValue());
+    }
+
     // *****************
     // Helper methods
     // *****************
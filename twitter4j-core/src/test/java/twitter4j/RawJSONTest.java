@@ -0,0 +1,118 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.internal.http.HttpResponse;
+import twitter4j.internal.json.DataObjectFactoryUtil;
+import twitter4j.json.DataObjectFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class RawJSONTest extends TestCase {
+    public RawJSONTest(String name) {
+        super(name);
+    }
+
+    private static final String USER = "{\"id\":1, \"name\":\"Twit4J\",\"screen_name\":\"twit4j\","
+            + "\"created_at\":\"Tue Jun 16 07:42:06 +0000 2009\",\"followers_count\":10}";
+
+    private static String status(long id) {
+        return "{ \"id\" : " + id + ",\n \"text\":\"\\u3042\\u3044 う\\/\", \"user\":" + USER
+                + ", \"entities\":{\"hashtags\":[],\"urls\":[],\"user_mentions\":[]}}";
+    }
+
+    private static final Configuration RAW = new ConfigurationBuilder().setJSONStoreRawEnabled(true).build();
+
+    public void testStatus() throws Exception {
+        String json = status(2);
+        Status status = new StatusJSONImpl(new BodyResponse(json), RAW);
+        assertEquals("あい う/", status.getText());
+        assertEquals(json, DataObjectFactory.getRawJSON(status));
+        assertEquals(USER, DataObjectFactory.getRawJSON(status.getUser()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(DataObjectFactory.writeRawJSON(status, out));
+        assertEquals(json, out.toString("UTF-8"));
+    }
+
+    public void testStatusList() throws Exception {
+        String json = " [" + status(2) + ",\n" + status(3) + "] ";
+        ResponseList<Status> statuses = StatusJSONImpl.createStatusList(new BodyResponse(json), RAW);
+        assertEquals(2, statuses.size());
+        assertEquals(json.trim(), DataObjectFactory.getRawJSON(statuses));
+        assertEquals(status(2), DataObjectFactory.getRawJSON(statuses.get(0)));
+        assertEquals(status(3), DataObjectFactory.getRawJSON(statuses.get(1)));
+    }
+
+    public void testUserLists() throws Exception {
+        String json = "[" + USER + "]";
+        ResponseList<User> users = UserJSONImpl.createUserList(new BodyResponse(json), RAW);
+        assertEquals(json, DataObjectFactory.getRawJSON(users));
+        assertEquals(USER, DataObjectFactory.getRawJSON(users.get(0)));
+
+        json = "{\"users\":[" + USER + "],\"next_cursor\":5,\"previous_cursor\":0}";
+        PagableResponseList<User> pagable = UserJSONImpl.createPagableUserList(new BodyResponse(json), RAW);
+        assertEquals(5, pagable.getNextCursor());
+        assertEquals(json, DataObjectFactory.getRawJSON(pagable));
+        assertEquals(USER, DataObjectFactory.getRawJSON(pagable.get(0)));
+    }
+
+    public void testSharedUserKeepsItsText() throws Exception {
+        Configuration conf = new ConfigurationBuilder().setJSONStoreRawEnabled(true).setUserCacheSize(10).build();
+        ResponseList<Status> statuses = StatusJSONImpl.createStatusList(
+                new BodyResponse("[" + status(2) + "," + status(3) + "]"), conf);
+        assertSame(statuses.get(0).getUser(), statuses.get(1).getUser());
+        assertEquals(USER, DataObjectFactory.getRawJSON(statuses.get(1).getUser()));
+    }
+
+    public void testDisabledByDefault() throws Exception {
+        DataObjectFactoryUtil.clearThreadLocalMap();
+        Status status = new StatusJSONImpl(new BodyResponse(status(2)), new ConfigurationBuilder().build());
+        assertNull(DataObjectFactory.getRawJSON(status));
+        assertFalse(DataObjectFactory.writeRawJSON(status, new ByteArrayOutputStream()));
+    }
+
+    static class BodyResponse extends HttpResponse {
+        BodyResponse(String body) throws UnsupportedEncodingException {
+            super(new ConfigurationBuilder().build());
+            this.statusCode = 200;
+            this.is = new ByteArrayInputStream(body.getBytes("UTF-8"));
+        }
+
+        public String getResponseHeader(String name) {
+            return null;
+        }
+
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        public void disconnect() throws IOException {
+        }
+    }
+}
@@ -41,6 +41,23 @@ public class Twitter4JTestSuite extends TestCase {
         suite.addTestSuite(twitter4j.http.BASE64EncoderTest.class);
         suite.addTestSuite(twitter4j.http.HTMLEntityTest.class);
         suite.addTestSuite(twitter4j.http.HttpClientTest.class);
+        suite.addTestSuite(twitter4j.internal.http.DefaultRetryPolicyTest.class);
+        suite.addTestSuite(twitter4j.internal.http.HedgingHttpClientTest.class);
+        suite.addTestSuite(twitter4j.internal.http.CachingHttpClientTest.class);
+        suite.addTestSuite(twitter4j.internal.http.HttpClientFactoryTest.class);
+        suite.addTestSuite(twitter4j.internal.http.HttpResponseEventBusTest.class);
+        suite.addTestSuite(twitter4j.internal.http.DeadlineTest.class);
+        suite.addTestSuite(EndpointTest.class);
+        suite.addTestSuite(twitter4j.internal.org.json.JSONByteTokenerTest.class);
+        suite.addTestSuite(JSONBindingTest.class);
+        suite.addTestSuite(twitter4j.internal.org.json.CompactMapTest.class);
+        suite.addTestSuite(twitter4j.UserCacheTest.class);
+        suite.addTestSuite(twitter4j.internal.org.json.StringPoolTest.class);
+        suite.addTestSuite(twitter4j.DataObjectCodecTest.class);
+        suite.addTestSuite(twitter4j.RawJSONTest.class);
+        suite.addTestSuite(twitter4j.management.LatencyHistogramTest.class);
+        suite.addTestSuite(twitter4j.internal.http.WarmUpTest.class);
+        suite.addTestSuite(twitter4j.internal.http.SharedSSLContextTest.class);
         suite.addTestSuite(OAuthTest.class);
         suite.addTestSuite(twitter4j.http.PostParameterTest.class);
         suite.addTestSuite(twitter4j.util.CharacterUtilTest.class);
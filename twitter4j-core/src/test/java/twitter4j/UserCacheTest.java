@@ -0,0 +1,152 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.management.UserCacheStatisticsMBean;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class UserCacheTest extends TestCase {
+    public UserCacheTest(String name) {
+        super(name);
+    }
+
+    private static String user(long id, int followersCount) {
+        return "{'id':" + id + ",'name':'Twit4J','screen_name':'twit4j','status':{'id':1,'text':'hello'}," +
+                "'followers_count':" + followersCount + ",'created_at':'Tue Jun 16 07:42:06 +0000 2009'}";
+    }
+
+    private static JSONByteTokener tokener(String json) throws Exception {
+        JSONByteTokener x = new JSONByteTokener(json.replace('\'', '"').getBytes("UTF-8"));
+        assertEquals(JSONByteTokener.START_OBJECT, x.nextToken());
+        return x;
+    }
+
+    public void testDisabledByDefault() throws Exception {
+        assertNull(UserCache.getInstance(new ConfigurationBuilder().build()));
+        UserCache cache = UserCache.getInstance(new ConfigurationBuilder().setUserCacheSize(10).build());
+        assertNotNull(cache);
+        assertSame(cache, UserCache.getInstance(new ConfigurationBuilder().setUserCacheSize(10).build()));
+        // configurations don't add caches
+        assertSame(cache, UserCache.getInstance(new ConfigurationBuilder().setUserCacheSize(10)
+                .setOAuthConsumerKey("another tenant").build()));
+        assertNotSame(cache, UserCache.getInstance(new ConfigurationBuilder().setUserCacheSize(10)
+                .setJSONStoreEnabled(true).setJSONStoreRawEnabled(true).build()));
+    }
+
+    public void testRawJSONIsCopied() throws Exception {
+        byte[] json = user(1, 10).replace('\'', '"').getBytes("UTF-8");
+        JSONByteTokener x = new JSONByteTokener(json);
+        x.setRawCaptureEnabled(true);
+        assertEquals(JSONByteTokener.START_OBJECT, x.nextToken());
+        User user = new UserCache(10).getUser(x);
+        String expected = new String(json, "UTF-8");
+        assertEquals(expected, ((UserJSONImpl) user).getRawJSON().toString());
+        // the cached user doesn't reference the response
+        json[1] = 'X';
+        assertEquals(expected, ((UserJSONImpl) user).getRawJSON().toString());
+    }
+
+    public void testSameUserIsShared() throws Exception {
+        UserCacheStatisticsMBean statistics = UserCache.getStatistics();
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        String json = "{'id':2,'text':'rt','user':" + user(1, 10) + ",'retweeted_status':{'id':3,'text':'original'," +
+                "'user':" + user(1, 10) + "},'favorited':true}";
+        Status status = new StatusJSONImpl(tokener(json), new UserCache(10));
+        assertSame(status.getUser(), status.getRetweetedStatus().getUser());
+        assertEquals(new StatusJSONImpl(tokener(json)).toString(), status.toString());
+        // the fields following a cached user are read as usual
+        assertTrue(status.isFavorited());
+        assertEquals(misses + 1, statistics.getMissCount());
+        assertEquals(hits + 1, statistics.getHitCount());
+    }
+
+    public void testChangedUserIsParsedAgain() throws Exception {
+        UserCacheStatisticsMBean statistics = UserCache.getStatistics();
+        long stale = statistics.getStaleCount();
+        UserCache cache = new UserCache(10);
+        User first = cache.getUser(tokener(user(1, 10)));
+        User updated = cache.getUser(tokener(user(1, 11)));
+        assertNotSame(first, updated);
+        assertEquals(10, first.getFollowersCount());
+        assertEquals(11, updated.getFollowersCount());
+        assertEquals(stale + 1, statistics.getStaleCount());
+        assertSame(updated, cache.getUser(tokener(user(1, 11))));
+        assertEquals(1, cache.size());
+    }
+
+    public void testBounded() throws Exception {
+        UserCacheStatisticsMBean statistics = UserCache.getStatistics();
+        long evictions = statistics.getEvictionCount();
+        UserCache cache = new UserCache(2);
+        // 1, 17 and 33 hash to the same set of slots
+        User first = cache.getUser(tokener(user(1, 10)));
+        cache.getUser(tokener(user(17, 10)));
+        // touching the first user makes the second one the least recently used
+        assertSame(first, cache.getUser(tokener(user(1, 10))));
+        cache.getUser(tokener(user(33, 10)));
+        assertEquals(2, cache.size());
+        assertEquals(evictions + 1, statistics.getEvictionCount());
+        assertSame(first, cache.getUser(tokener(user(1, 10))));
+        // users hashing to other slots are kept
+        cache.getUser(tokener(user(2, 10)));
+        assertEquals(3, cache.size());
+        assertEquals(evictions + 1, statistics.getEvictionCount());
+    }
+
+    public void testConcurrentAccess() throws Exception {
+        final UserCache cache = new UserCache(64);
+        final Throwable[] failure = new Throwable[1];
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    try {
+                        for (int j = 0; j < 1000; j++) {
+                            long id = j % 100;
+                            assertEquals(id, cache.getUser(tokener(user(id, 10))).getId());
+                        }
+                    } catch (Throwable t) {
+                        synchronized (failure) {
+                            failure[0] = t;
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        synchronized (failure) {
+            assertNull(failure[0]);
+        }
+        assertTrue(cache.size() <= 64);
+    }
+
+    public void testUserWithoutId() throws Exception {
+        UserCache cache = new UserCache(2);
+        User user = cache.getUser(tokener("{'name':'Twit4J','screen_name':'twit4j'}"));
+        assertEquals("twit4j", user.getScreenName());
+        assertEquals(0, cache.size());
+    }
+}
@@ -68,6 +68,11 @@ public class HTMLEntityTest extends TestCase {
         HTMLEntity.unescape(buf);
         assertEquals(expected, buf.toString());
 
+        original = "no entities here";
+        assertSame(original, HTMLEntity.unescape(original));
 
+        original = "&amp;lt; &#8364;&euro;&#8365; &lt";
+        expected = "&lt; \u20AC\u20AC&#8365; &lt";
+        assertEquals(expected, HTMLEntity.unescape(original));
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.TwitterException;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class CachingHttpClientTest extends TestCase {
+    public CachingHttpClientTest(String name) {
+        super(name);
+    }
+
+    private int calls;
+    private HttpRequest lastRequest;
+    private final HttpClient server = new HttpClient() {
+        public HttpResponse request(HttpRequest req) throws TwitterException {
+            calls++;
+            lastRequest = req;
+            if (null != req.getRequestHeaders() && "\"v1\"".equals(req.getRequestHeaders().get("If-None-Match"))) {
+                throw new TwitterException("", new DefaultRetryPolicyTest.MockResponse(304, null));
+            }
+            return new BodyResponse("{\"calls\":" + calls + "}", "\"v1\"");
+        }
+
+        public void shutdown() {
+        }
+    };
+    private final Configuration conf = new ConfigurationBuilder().setHttpResponseCacheEnabled(true)
+            .setHttpResponseCacheParsedJSONEnabled(true).build();
+
+    protected void setUp() throws Exception {
+        super.setUp();
+        calls = 0;
+        lastRequest = null;
+    }
+
+    public void testTTL() {
+        CachingHttpClient client = new CachingHttpClient(server, new LRUResponseCache(10), conf);
+        assertEquals(300000, client.getTTL("http://api.twitter.com/1/trends.json"));
+        assertEquals(300000, client.getTTL("http://api.twitter.com/1/trends/1.json?exclude=hashtags"));
+        assertEquals(3600000, client.getTTL("http://api.twitter.com/1/trends/available.json?lat=1"));
+        assertEquals(60000, client.getTTL("http://api.twitter.com/1/users/show.json?screen_name=twit4j"));
+        assertEquals(0, client.getTTL("http://api.twitter.com/1/statuses/home_timeline.json"));
+        assertEquals(0, client.getTTL("http://api.twitter.com/1/users/show.json/trends.json/x"));
+    }
+
+    public void testCacheHit() throws Exception {
+        CachingHttpClient client = new CachingHttpClient(server, new LRUResponseCache(10), conf);
+        HttpRequest trends = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/trends/current.json", null, null, null);
+        HttpResponse first = client.request(trends);
+        assertEquals(1, first.asJSONObject().getInt("calls"));
+        HttpResponse second = client.request(trends);
+        assertEquals(1, calls);
+        // the parsed object is served without parsing
+        assertSame(first.asJSONObject(), second.asJSONObject());
+        assertEquals(first.asString(), second.asString());
+
+        client.request(new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/statuses/home_timeline.json", null, null, null));
+        client.request(new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/statuses/home_timeline.json", null, null, null));
+        assertEquals(3, calls);
+        client.request(new HttpRequest(RequestMethod.POST, "http://api.twitter.com/1/trends/current.json", null, null, null));
+        assertEquals(4, calls);
+    }
+
+    public void testRevalidation() throws Exception {
+        LRUResponseCache cache = new LRUResponseCache(10);
+        CachingHttpClient client = new CachingHttpClient(server, cache, conf);
+        HttpRequest user = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/users/show.json"
+                , new HttpParameter[]{new HttpParameter("screen_name", "twit4j")}, null, null);
+        client.request(user);
+        cache.get(user).setExpiresAt(0);
+        HttpResponse res = client.request(user);
+        assertEquals(2, calls);
+        assertEquals("\"v1\"", lastRequest.getRequestHeaders().get("If-None-Match"));
+        assertEquals(1, res.asJSONObject().getInt("calls"));
+        assertFalse(cache.get(user).isExpired(System.currentTimeMillis()));
+    }
+
+    public void testLRU() {
+        LRUResponseCache cache = new LRUResponseCache(2);
+        HttpRequest req1 = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/trends/1.json", null, null, null);
+        HttpRequest req2 = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/trends/2.json", null, null, null);
+        HttpRequest req3 = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/trends/3.json", null, null, null);
+        cache.put(req1, new CachedResponse("1", null, null, 0));
+        cache.put(req2, new CachedResponse("2", null, null, 0));
+        cache.get(req1);
+        cache.put(req3, new CachedResponse("3", null, null, 0));
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(req1));
+        assertNull(cache.get(req2));
+    }
+
+    static class BodyResponse extends HttpResponse {
+        private final String eTag;
+
+        BodyResponse(String body, String eTag) {
+            super();
+            this.statusCode = 200;
+            this.responseAsString = body;
+            this.eTag = eTag;
+        }
+
+        public String getResponseHeader(String name) {
+            return "ETag".equals(name) ? eTag : null;
+        }
+
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        public void disconnect() throws IOException {
+        }
+    }
+}
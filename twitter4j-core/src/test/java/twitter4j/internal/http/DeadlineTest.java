@@ -0,0 +1,99 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.Deadline;
+import twitter4j.TwitterException;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class DeadlineTest extends TestCase {
+    public DeadlineTest(String name) {
+        super(name);
+    }
+
+    protected void tearDown() throws Exception {
+        Deadline.clear();
+        super.tearDown();
+    }
+
+    public void testCap() {
+        assertEquals(Deadline.NONE, Deadline.remaining());
+        assertEquals(20000, Deadline.cap(20000));
+        assertEquals(0, Deadline.cap(0));
+        Deadline.set(1, TimeUnit.SECONDS);
+        assertTrue(Deadline.cap(20000) <= 1000);
+        assertTrue(Deadline.cap(0) <= 1000);
+        assertEquals(10, Deadline.cap(10));
+        Deadline.setAt(System.currentTimeMillis() - 1);
+        // never returns 0, which would mean infinite
+        assertEquals(1, Deadline.cap(20000));
+        Deadline.clear();
+        assertEquals(Deadline.NONE, Deadline.get());
+    }
+
+    public void testRetryWhichMissesTheDeadlineIsGivenUp() {
+        RetryPolicy policy = new DeadlineRetryPolicy(new RetryPolicy() {
+            public void requestStarted(HttpRequest req) {
+            }
+
+            public long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, IOException ioe) {
+                return 2000;
+            }
+        });
+        HttpRequest req = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/statuses/home_timeline.json", null, null, null);
+        assertEquals(2000, policy.getRetryDelay(req, 0, null, new IOException()));
+        Deadline.set(5, TimeUnit.SECONDS);
+        assertEquals(2000, policy.getRetryDelay(req, 0, null, new IOException()));
+        Deadline.set(1, TimeUnit.SECONDS);
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(req, 0, null, new IOException()));
+    }
+
+    public void testExpiredCallFailsFast() throws Exception {
+        HttpClientWrapper http = new HttpClientWrapper(new ConfigurationBuilder().build());
+        Deadline.setAt(System.currentTimeMillis() - 1);
+        long start = System.currentTimeMillis();
+        try {
+            // unroutable address. would block until the connection timeout without the deadline
+            http.get("http://10.255.255.1/1/statuses/home_timeline.json");
+            fail("expecting TwitterException");
+        } catch (TwitterException expected) {
+            assertTrue(expected.getCause() instanceof SocketTimeoutException);
+        }
+        assertTrue(System.currentTimeMillis() - start < 1000);
+    }
+
+    public void testReadStopsAtTheDeadline() throws Exception {
+        InputStream in = new DeadlineInputStream(new ByteArrayInputStream(new byte[10]), System.currentTimeMillis() + 60000);
+        assertEquals(0, in.read());
+        in = new DeadlineInputStream(new ByteArrayInputStream(new byte[10]), System.currentTimeMillis() - 1);
+        try {
+            in.read(new byte[10]);
+            fail("expecting SocketTimeoutException");
+        } catch (SocketTimeoutException expected) {
+        }
+    }
+}
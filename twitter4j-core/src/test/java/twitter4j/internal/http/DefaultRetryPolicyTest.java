@@ -0,0 +1,126 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class DefaultRetryPolicyTest extends TestCase {
+    public DefaultRetryPolicyTest(String name) {
+        super(name);
+    }
+
+    private Configuration conf;
+
+    protected void setUp() throws Exception {
+        super.setUp();
+        conf = new ConfigurationBuilder().setHttpRetryCount(3)
+                .setHttpRetryIntervalSeconds(1).setHttpRetryMaxIntervalSeconds(4)
+                .setHttpRetryBudgetPercent(0).build();
+    }
+
+    public void testBackoffIsBoundedAndJittered() {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(conf);
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.computeBackoff(0);
+            assertTrue(500 <= delay && delay <= 1000);
+            delay = policy.computeBackoff(1);
+            assertTrue(1000 <= delay && delay <= 2000);
+            delay = policy.computeBackoff(10);
+            assertTrue(2000 <= delay && delay <= 4000);
+        }
+    }
+
+    public void testRetryCount() {
+        RetryPolicy policy = new DefaultRetryPolicy(conf);
+        HttpRequest get = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/statuses/home_timeline.json", null, null, null);
+        policy.requestStarted(get);
+        IOException ioe = new IOException();
+        assertTrue(RetryPolicy.NO_RETRY != policy.getRetryDelay(get, 0, null, ioe));
+        assertTrue(RetryPolicy.NO_RETRY != policy.getRetryDelay(get, 2, null, ioe));
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(get, 3, null, ioe));
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(get, 0, new MockResponse(400, null), null));
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(get, 0, new MockResponse(420, null), null));
+        assertTrue(RetryPolicy.NO_RETRY != policy.getRetryDelay(get, 0, new MockResponse(502, null), null));
+    }
+
+    public void testPostIsNotRetried() {
+        RetryPolicy policy = new DefaultRetryPolicy(conf);
+        HttpRequest post = new HttpRequest(RequestMethod.POST, "http://api.twitter.com/1/statuses/update.json", null, null, null);
+        policy.requestStarted(post);
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(post, 0, null, new IOException()));
+        HttpRequest idempotentPost = new HttpRequest(RequestMethod.POST, "http://api.twitter.com/1/account/update_profile.json", null, null, null);
+        assertTrue(RetryPolicy.NO_RETRY != policy.getRetryDelay(idempotentPost, 0, null, new IOException()));
+    }
+
+    public void testRetryAfter() {
+        RetryPolicy policy = new DefaultRetryPolicy(conf);
+        HttpRequest get = new HttpRequest(RequestMethod.GET, "http://search.twitter.com/search.json", null, null, null);
+        policy.requestStarted(get);
+        assertEquals(3000, policy.getRetryDelay(get, 0, new MockResponse(503, "3"), null));
+        // exceeds http.retryMaxIntervalSecs
+        assertEquals(RetryPolicy.NO_RETRY, policy.getRetryDelay(get, 0, new MockResponse(503, "120"), null));
+        assertEquals(-1, DefaultRetryPolicy.parseRetryAfter("not a date"));
+        assertEquals(0, DefaultRetryPolicy.parseRetryAfter("Wed, 21 Oct 2009 07:28:00 GMT"));
+    }
+
+    public void testRetryBudget() {
+        RetryPolicy policy = new DefaultRetryPolicy(new ConfigurationBuilder().setHttpRetryCount(3)
+                .setHttpRetryIntervalSeconds(0).setHttpRetryBudgetPercent(10).build());
+        HttpRequest get = new HttpRequest(RequestMethod.GET, "http://api.twitter.com/1/help/test.json", null, null, null);
+        for (int i = 0; i < 200; i++) {
+            policy.requestStarted(get);
+        }
+        int retried = 0;
+        for (int i = 0; i < 100; i++) {
+            if (RetryPolicy.NO_RETRY != policy.getRetryDelay(get, 0, null, new IOException())) {
+                retried++;
+            }
+        }
+        assertEquals(20, retried);
+    }
+
+    static class MockResponse extends HttpResponse {
+        private final String retryAfter;
+
+        MockResponse(int statusCode, String retryAfter) {
+            super();
+            this.statusCode = statusCode;
+            this.retryAfter = retryAfter;
+        }
+
+        public String getResponseHeader(String name) {
+            return "Retry-After".equals(name) ? retryAfter : null;
+        }
+
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        public void disconnect() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.TwitterException;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class HedgingHttpClientTest extends TestCase {
+    public HedgingHttpClientTest(String name) {
+        super(name);
+    }
+
+    public void testSlowRequestIsHedged() throws Exception {
+        final Thread[] primaryThread = new Thread[1];
+        HttpClient slowOnce = new AbortableClient() {
+            long sleep(int call) {
+                if (1 == call) {
+                    primaryThread[0] = Thread.currentThread();
+                    return 2000;
+                }
+                return 10;
+            }
+        };
+        HedgingHttpClient client = new HedgingHttpClient(slowOnce, new ConfigurationBuilder()
+                .setHttpHedgingEnabled(true).setHttpHedgingPercentile(90).setHttpHedgingMaxPercent(100).build());
+        String url = "http://slow-once.example.com/1/statuses/show/1.json";
+        for (int i = 0; i < 100; i++) {
+            client.recordLatency(url, 10);
+        }
+        long hedged = HedgingHttpClient.getStatistics().getHedgedCount();
+        long won = HedgingHttpClient.getStatistics().getHedgeWinCount();
+        long start = System.currentTimeMillis();
+        HttpResponse res = client.request(new HttpRequest(RequestMethod.GET, url, null, null, null));
+        // the primary request has been aborted
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        assertSame(Thread.currentThread(), primaryThread[0]);
+        // the hedge request (the second call) responded first
+        assertEquals(2, ((CallResponse) res).call);
+        assertEquals(hedged + 1, HedgingHttpClient.getStatistics().getHedgedCount());
+        assertEquals(won + 1, HedgingHttpClient.getStatistics().getHedgeWinCount());
+    }
+
+    public void testPostIsNotHedged() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        HttpClient slow = new HttpClient() {
+            public HttpResponse request(HttpRequest req) throws TwitterException {
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ignore) {
+                }
+                return new CallResponse(calls.get());
+            }
+
+            public void shutdown() {
+            }
+        };
+        HedgingHttpClient client = new HedgingHttpClient(slow, new ConfigurationBuilder()
+                .setHttpHedgingEnabled(true).setHttpHedgingMaxPercent(100).build());
+        String url = "http://post.example.com/1/statuses/update.json";
+        for (int i = 0; i < 100; i++) {
+            client.recordLatency(url, 1);
+        }
+        client.request(new HttpRequest(RequestMethod.POST, url, null, null, null));
+        assertEquals(1, calls.get());
+    }
+
+    public void testHedgesStayWithinTheCap() throws Exception {
+        HttpClient slow = new HttpClient() {
+            public HttpResponse request(HttpRequest req) throws TwitterException {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ignore) {
+                }
+                return new CallResponse(0);
+            }
+
+            public void shutdown() {
+            }
+        };
+        final HedgingHttpClient client = new HedgingHttpClient(slow, new ConfigurationBuilder()
+                .setHttpHedgingEnabled(true).setHttpHedgingMaxPercent(10).build());
+        for (int i = 0; i < 100; i++) {
+            client.recordLatency("http://cap.example.com/", 1);
+        }
+        long hedged = HedgingHttpClient.getStatistics().getHedgedCount();
+        // every request is slow enough to be hedged. only 10% may be
+        Thread[] threads = new Thread[20];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                public void run() {
+                    for (int j = 0; j < 5; j++) {
+                        try {
+                            client.request(new HttpRequest(RequestMethod.GET
+                                    , "http://cap.example.com/1/statuses/show/1.json", null, null, null));
+                        } catch (TwitterException te) {
+                            throw new AssertionError(te);
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long hedgedNow = HedgingHttpClient.getStatistics().getHedgedCount() - hedged;
+        assertTrue(hedgedNow > 0);
+        assertTrue(hedgedNow <= 10);
+    }
+
+    public void testSamplesAreSharedByInstances() throws Exception {
+        HttpClient fastThenSlow = new AbortableClient() {
+            long sleep(int call) {
+                return call <= 20 ? 0 : 200;
+            }
+        };
+        HttpRequest req = new HttpRequest(RequestMethod.GET, "http://shared.example.com/1/statuses/show/1.json"
+                , null, null, null);
+        long hedged = HedgingHttpClient.getStatistics().getHedgedCount();
+        // an instance per request
+        for (int i = 0; i < 21; i++) {
+            new HedgingHttpClient(fastThenSlow, new ConfigurationBuilder().setHttpHedgingEnabled(true)
+                    .setHttpHedgingMaxPercent(100).build()).request(req);
+        }
+        assertEquals(hedged + 1, HedgingHttpClient.getStatistics().getHedgedCount());
+    }
+
+    public void testHttpClientImplIsAborted() throws Exception {
+        // accepts connections and never responds
+        final ServerSocket server = new ServerSocket(0);
+        final HttpClient http = new HttpClientImpl(new ConfigurationBuilder().setHttpReadTimeout(10000).build());
+        final AbortHook hook = new AbortHook();
+        final TwitterException[] thrown = new TwitterException[1];
+        Thread thread = new Thread() {
+            public void run() {
+                AbortHook.install(hook);
+                try {
+                    http.request(new HttpRequest(RequestMethod.GET, "http://127.0.0.1:" + server.getLocalPort() + "/"
+                            , null, null, null));
+                } catch (TwitterException te) {
+                    thrown[0] = te;
+                } finally {
+                    AbortHook.uninstall();
+                }
+            }
+        };
+        try {
+            long start = System.currentTimeMillis();
+            thread.start();
+            // abort once the request has been sent
+            BufferedReader reader = new BufferedReader(new InputStreamReader(server.accept().getInputStream()));
+            String line;
+            while (null != (line = reader.readLine()) && line.length() > 0) {
+            }
+            hook.abort();
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+            assertNotNull(thrown[0]);
+            assertTrue(System.currentTimeMillis() - start < 5000);
+        } finally {
+            server.close();
+        }
+    }
+
+    /**
+     * Sleeps as long as sleep(call) returns, unless aborted.
+     */
+    abstract static class AbortableClient implements HttpClient {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        abstract long sleep(int call);
+
+        public HttpResponse request(HttpRequest req) throws TwitterException {
+            int call = calls.incrementAndGet();
+            AbortHook hook = AbortHook.current();
+            final Thread thread = Thread.currentThread();
+            final boolean[] sleeping = {true};
+            try {
+                if (null != hook) {
+                    hook.setAborter(new Runnable() {
+                        public void run() {
+                            synchronized (sleeping) {
+                                if (sleeping[0]) {
+                                    thread.interrupt();
+                                }
+                            }
+                        }
+                    });
+                }
+                Thread.sleep(sleep(call));
+            } catch (InterruptedException ie) {
+                throw new TwitterException("aborted", ie);
+            } catch (IOException ioe) {
+                throw new TwitterException("aborted", ioe);
+            } finally {
+                synchronized (sleeping) {
+                    sleeping[0] = false;
+                }
+                // an abort arriving as the sleep ends
+                Thread.interrupted();
+            }
+            return new CallResponse(call);
+        }
+
+        public void shutdown() {
+        }
+    }
+
+    static class CallResponse extends HttpResponse {
+        final int call;
+
+        CallResponse(int call) {
+            super();
+            this.statusCode = 200;
+            this.call = call;
+        }
+
+        public String getResponseHeader(String name) {
+            return null;
+        }
+
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        public void disconnect() throws IOException {
+        }
+    }
+}
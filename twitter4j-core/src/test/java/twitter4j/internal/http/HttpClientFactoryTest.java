@@ -0,0 +1,122 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.TwitterException;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class HttpClientFactoryTest extends TestCase {
+    public HttpClientFactoryTest(String name) {
+        super(name);
+    }
+
+    public void testFingerprint() {
+        ConfigurationFingerprint fingerprint1 = new ConfigurationFingerprint(new ConfigurationBuilder()
+                .setOAuthConsumerKey("key1").setHttpReadTimeout(1234).build());
+        ConfigurationFingerprint fingerprint2 = new ConfigurationFingerprint(new ConfigurationBuilder()
+                .setOAuthConsumerKey("key2").setHttpReadTimeout(1234).build());
+        ConfigurationFingerprint fingerprint3 = new ConfigurationFingerprint(new ConfigurationBuilder()
+                .setOAuthConsumerKey("key1").setHttpReadTimeout(4321).build());
+        // settings irrelevant to HttpClient don't matter
+        assertEquals(fingerprint1, fingerprint2);
+        assertEquals(fingerprint1.hashCode(), fingerprint2.hashCode());
+        assertFalse(fingerprint1.equals(fingerprint3));
+    }
+
+    public void testSharedInstance() {
+        SharedHttpClient client1 = (SharedHttpClient) HttpClientFactory.getInstance(new ConfigurationBuilder()
+                .setUser("user1").setHttpConnectionTimeout(9876).build());
+        SharedHttpClient client2 = (SharedHttpClient) HttpClientFactory.getInstance(new ConfigurationBuilder()
+                .setUser("user2").setHttpConnectionTimeout(9876).build());
+        assertSame(client1.getDelegate(), client2.getDelegate());
+        client1.shutdown();
+        // shutting down twice doesn't release client2's reference
+        client1.shutdown();
+        SharedHttpClient client3 = (SharedHttpClient) HttpClientFactory.getInstance(new ConfigurationBuilder()
+                .setHttpConnectionTimeout(9876).build());
+        assertSame(client2.getDelegate(), client3.getDelegate());
+        client2.shutdown();
+        client3.shutdown();
+        SharedHttpClient client4 = (SharedHttpClient) HttpClientFactory.getInstance(new ConfigurationBuilder()
+                .setHttpConnectionTimeout(9876).build());
+        assertNotSame(client3.getDelegate(), client4.getDelegate());
+        client4.shutdown();
+    }
+
+    public void testFingerprintIsComputedOnce() {
+        Configuration conf = new ConfigurationBuilder().setHttpReadTimeout(1234).build();
+        ConfigurationFingerprint fingerprint = ((ConfigurationFingerprint.Holder) conf).getHttpClientFingerprint();
+        assertEquals(new ConfigurationFingerprint(conf), fingerprint);
+        assertSame(fingerprint, ((ConfigurationFingerprint.Holder) conf).getHttpClientFingerprint());
+    }
+
+    public void testUnsharedInstance() {
+        int clients = HttpClientFactory.getSharedClientCount();
+        HttpClient client = HttpClientFactory.getUnsharedInstance(new ConfigurationBuilder()
+                .setHttpConnectionTimeout(8765).build());
+        assertFalse(client instanceof SharedHttpClient);
+        assertEquals(clients, HttpClientFactory.getSharedClientCount());
+        client.shutdown();
+    }
+
+    public void testPoolKeepsConfiguredSize() {
+        Configuration conf = new ConfigurationBuilder().setHttpConnectionTimeout(7654)
+                .setHttpMaxTotalConnections(10).setHttpDefaultMaxPerRoute(3)
+                .setHttpClientImpl(PoolSizeRecorder.class.getName()).build();
+        int instances = PoolSizeRecorder.INSTANCES.get();
+        SharedHttpClient client1 = (SharedHttpClient) HttpClientFactory.getInstance(conf);
+        SharedHttpClient client2 = (SharedHttpClient) HttpClientFactory.getInstance(conf);
+        PoolSizeRecorder pool = (PoolSizeRecorder) client1.getDelegate();
+        assertSame(pool, client2.getDelegate());
+        // http.maxTotalConnections caps the connections of all the callers together
+        assertEquals(instances + 1, PoolSizeRecorder.INSTANCES.get());
+        assertEquals(10, pool.maxTotal);
+        assertEquals(3, pool.maxPerRoute);
+        client1.shutdown();
+        assertFalse(pool.shutdown);
+        client2.shutdown();
+        assertTrue(pool.shutdown);
+    }
+
+    public static class PoolSizeRecorder implements HttpClient {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+        final int maxTotal;
+        final int maxPerRoute;
+        volatile boolean shutdown = false;
+
+        public PoolSizeRecorder(HttpClientConfiguration conf) {
+            INSTANCES.incrementAndGet();
+            maxTotal = conf.getHttpMaxTotalConnections();
+            maxPerRoute = conf.getHttpDefaultMaxPerRoute();
+        }
+
+        public HttpResponse request(HttpRequest req) throws TwitterException {
+            throw new TwitterException("not connected");
+        }
+
+        public void shutdown() {
+            shutdown = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class HttpResponseEventBusTest extends TestCase {
+    public HttpResponseEventBusTest(String name) {
+        super(name);
+    }
+
+    private final HttpResponseEvent event = new HttpResponseEvent(null, null, null);
+
+    public void testDeliveredOffTheCallingThread() throws Exception {
+        HttpResponseEventBus bus = new HttpResponseEventBus(16, HttpResponseEventBus.DropPolicy.DISCARD);
+        final CountDownLatch latch = new CountDownLatch(100);
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger deliveredOnCaller = new AtomicInteger();
+        HttpResponseListener listener = new HttpResponseListener() {
+            public void httpResponseReceived(HttpResponseEvent event) {
+                if (Thread.currentThread() == caller) {
+                    deliveredOnCaller.incrementAndGet();
+                }
+                latch.countDown();
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            bus.publish(listener, event);
+            if (0 == i % 10) {
+                // let the dispatcher catch up so that nothing gets dropped
+                Thread.sleep(20);
+            }
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, deliveredOnCaller.get());
+        assertEquals(0, bus.getDroppedCount());
+    }
+
+    public void testDropPolicy() throws Exception {
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final AtomicInteger delivered = new AtomicInteger();
+        HttpResponseListener slowListener = new HttpResponseListener() {
+            public void httpResponseReceived(HttpResponseEvent event) {
+                delivered.incrementAndGet();
+                if (Thread.currentThread().getName().startsWith("Twitter4J HttpResponseEvent Dispatcher")) {
+                    try {
+                        blocker.await();
+                    } catch (InterruptedException ignore) {
+                    }
+                }
+            }
+        };
+        HttpResponseEventBus discard = new HttpResponseEventBus(4, HttpResponseEventBus.DropPolicy.DISCARD);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            discard.publish(slowListener, event);
+        }
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        // at most one being delivered and 4 buffered
+        assertTrue(discard.getDroppedCount() >= 15);
+
+        HttpResponseEventBus callerRuns = new HttpResponseEventBus(4, HttpResponseEventBus.DropPolicy.CALLER_RUNS);
+        delivered.set(0);
+        for (int i = 0; i < 20; i++) {
+            callerRuns.publish(slowListener, event);
+        }
+        assertEquals(0, callerRuns.getDroppedCount());
+        // the events that didn't fit have been delivered on this thread
+        assertTrue(delivered.get() >= 15);
+        blocker.countDown();
+    }
+}
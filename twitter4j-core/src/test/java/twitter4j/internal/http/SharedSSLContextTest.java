@@ -0,0 +1,158 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.management.TLSStatistics;
+
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class SharedSSLContextTest extends TestCase {
+    public SharedSSLContextTest(String name) {
+        super(name);
+    }
+
+    public void testHandshakeCount() throws Exception {
+        TLSStatistics statistics = new TLSStatistics();
+        SharedSSLContext.HandshakeCountingSSLSocketFactory factory
+                = new SharedSSLContext.HandshakeCountingSSLSocketFactory(null, statistics);
+        SSLSession session1 = session(true);
+        SSLSession session2 = session(true);
+
+        StubSSLSocket stub = new StubSSLSocket(session1);
+        SSLSocket socket = (SSLSocket) factory.track(stub);
+        socket.startHandshake();
+        assertSame(session1, socket.getSession());
+        // counted once per socket, without a listener
+        assertEquals(1, statistics.getFullHandshakeCount());
+        assertEquals(0, statistics.getResumedSessionCount());
+        assertEquals(0, stub.listeners);
+
+        // the same session established by another socket has been resumed
+        ((SSLSocket) factory.track(new StubSSLSocket(session1))).getSession();
+        assertEquals(1, statistics.getFullHandshakeCount());
+        assertEquals(1, statistics.getResumedSessionCount());
+
+        ((SSLSocket) factory.track(new StubSSLSocket(session2))).startHandshake();
+        assertEquals(2, statistics.getFullHandshakeCount());
+        assertEquals(1, statistics.getResumedSessionCount());
+
+        // failed handshakes are not counted
+        ((SSLSocket) factory.track(new StubSSLSocket(session(false)))).getSession();
+        assertEquals(2, statistics.getFullHandshakeCount());
+        assertEquals(1, statistics.getResumedSessionCount());
+        assertEquals(100d / 3, statistics.getResumptionRate(), 0.001);
+    }
+
+    private static SSLSession session(final boolean valid) {
+        return (SSLSession) Proxy.newProxyInstance(SSLSession.class.getClassLoader(), new Class[]{SSLSession.class}
+                , new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if ("isValid".equals(method.getName())) {
+                    return valid;
+                } else if ("hashCode".equals(method.getName())) {
+                    return System.identityHashCode(proxy);
+                } else if ("equals".equals(method.getName())) {
+                    return proxy == args[0];
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static final class StubSSLSocket extends SSLSocket {
+        private final SSLSession session;
+        int listeners = 0;
+
+        StubSSLSocket(SSLSession session) {
+            this.session = session;
+        }
+
+        public void startHandshake() {
+        }
+
+        public SSLSession getSession() {
+            return session;
+        }
+
+        public void addHandshakeCompletedListener(HandshakeCompletedListener listener) {
+            listeners++;
+        }
+
+        public void removeHandshakeCompletedListener(HandshakeCompletedListener listener) {
+            listeners--;
+        }
+
+        public String[] getSupportedCipherSuites() {
+            return new String[0];
+        }
+
+        public String[] getEnabledCipherSuites() {
+            return new String[0];
+        }
+
+        public void setEnabledCipherSuites(String[] suites) {
+        }
+
+        public String[] getSupportedProtocols() {
+            return new String[0];
+        }
+
+        public String[] getEnabledProtocols() {
+            return new String[0];
+        }
+
+        public void setEnabledProtocols(String[] protocols) {
+        }
+
+        public void setUseClientMode(boolean mode) {
+        }
+
+        public boolean getUseClientMode() {
+            return true;
+        }
+
+        public void setNeedClientAuth(boolean need) {
+        }
+
+        public boolean getNeedClientAuth() {
+            return false;
+        }
+
+        public void setWantClientAuth(boolean want) {
+        }
+
+        public boolean getWantClientAuth() {
+            return false;
+        }
+
+        public void setEnableSessionCreation(boolean flag) {
+        }
+
+        public boolean getEnableSessionCreation() {
+            return true;
+        }
+    }
+}
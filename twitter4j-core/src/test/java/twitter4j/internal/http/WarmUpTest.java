@@ -0,0 +1,144 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http;
+
+import junit.framework.TestCase;
+import twitter4j.Deadline;
+import twitter4j.TwitterFactory;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class WarmUpTest extends TestCase {
+    public WarmUpTest(String name) {
+        super(name);
+    }
+
+    private ServerSocket server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    protected void setUp() throws Exception {
+        super.setUp();
+        server = new ServerSocket(0);
+        Thread acceptor = new Thread("WarmUpTest acceptor") {
+            public void run() {
+                try {
+                    while (true) {
+                        final Socket socket = server.accept();
+                        new Thread("WarmUpTest connection") {
+                            public void run() {
+                                serve(socket);
+                            }
+                        }.start();
+                    }
+                } catch (IOException closed) {
+                }
+            }
+        };
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void serve(Socket socket) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), "ISO-8859-1"));
+            OutputStream out = socket.getOutputStream();
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (0 == line.length()) {
+                    requests.incrementAndGet();
+                    out.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes("ISO-8859-1"));
+                    out.flush();
+                }
+            }
+            socket.close();
+        } catch (IOException ignore) {
+        }
+    }
+
+    protected void tearDown() throws Exception {
+        server.close();
+        super.tearDown();
+    }
+
+    public void testWarmUp() throws Exception {
+        String url = "http://127.0.0.1:" + server.getLocalPort() + "/";
+        int clients = HttpClientFactory.getSharedClientCount();
+        TwitterFactory factory = new TwitterFactory(new ConfigurationBuilder()
+                .setRestBaseURL(url).setSearchBaseURL(url).build());
+        assertTrue(factory.warmUp());
+        assertEquals(2 * new ConfigurationBuilder().build().getHttpDefaultMaxPerRoute(), requests.get());
+        // the client used for warming up has been released
+        assertEquals(clients, HttpClientFactory.getSharedClientCount());
+
+        // nobody listening
+        ServerSocket closed = new ServerSocket(0);
+        closed.close();
+        url = "http://127.0.0.1:" + closed.getLocalPort() + "/";
+        factory = new TwitterFactory(new ConfigurationBuilder()
+                .setRestBaseURL(url).setSearchBaseURL(url).setHttpRetryCount(0).build());
+        assertFalse(factory.warmUp());
+        assertEquals(clients, HttpClientFactory.getSharedClientCount());
+    }
+
+    public void testWarmUpIsBoundedByTheDeadline() throws Exception {
+        // connections are queued and never answered
+        ServerSocket silent = new ServerSocket(0);
+        HttpClientWrapper http = new HttpClientWrapper(new ConfigurationBuilder().setHttpReadTimeout(60000)
+                .setHttpRetryCount(3).build());
+        try {
+            Deadline.set(500, TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            assertFalse(http.warmUp("http://127.0.0.1:" + silent.getLocalPort() + "/"));
+            assertTrue(System.currentTimeMillis() - start < 5000);
+        } finally {
+            Deadline.clear();
+            http.shutdown();
+            silent.close();
+        }
+    }
+
+    public void testDNSCacheTTLIsAppliedOnce() throws Exception {
+        String ttl = Security.getProperty("networkaddress.cache.ttl");
+        try {
+            HostResolver.configure(new ConfigurationBuilder().build());
+            int applied = HostResolver.getAppliedTTL();
+            int first = -1 == applied ? 42 : applied;
+            HostResolver.configure(new ConfigurationBuilder().setHttpDNSCacheTTLSeconds(first).build());
+            assertEquals(String.valueOf(first), Security.getProperty("networkaddress.cache.ttl"));
+            // a JVM wide setting. later configurations don't override it
+            HostResolver.configure(new ConfigurationBuilder().setHttpDNSCacheTTLSeconds(first + 1).build());
+            assertEquals(first, HostResolver.getAppliedTTL());
+            assertEquals(String.valueOf(first), Security.getProperty("networkaddress.cache.ttl"));
+        } finally {
+            if (null != ttl && -1 == HostResolver.getAppliedTTL()) {
+                Security.setProperty("networkaddress.cache.ttl", ttl);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.org.json;
+
+import junit.framework.TestCase;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class CompactMapTest extends TestCase {
+    public CompactMapTest(String name) {
+        super(name);
+    }
+
+    public void testBehavesLikeHashMap() throws Exception {
+        Random random = new Random(1);
+        // cross the linear scan limit in both directions
+        for (int round = 0; round < 50; round++) {
+            Map<String, Integer> expected = new HashMap<String, Integer>();
+            Map<String, Integer> actual = new CompactMap<String, Integer>();
+            for (int i = 0; i < 200; i++) {
+                String key = "key" + random.nextInt(round + 2);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(expected.remove(key), actual.remove(key));
+                } else {
+                    assertEquals(expected.put(key, i), actual.put(key, i));
+                }
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected.get(key), actual.get(key));
+                assertEquals(expected.containsKey(key), actual.containsKey(key));
+            }
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.keySet(), actual.keySet());
+        }
+    }
+
+    public void testInsertionOrderAndIteratorRemove() throws Exception {
+        Map<String, Integer> map = new CompactMap<String, Integer>();
+        for (int i = 0; i < 20; i++) {
+            map.put(String.valueOf(i), i);
+        }
+        Iterator<String> keys = map.keySet().iterator();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(String.valueOf(i), keys.next());
+            if (i % 2 == 0) {
+                keys.remove();
+            }
+        }
+        assertFalse(keys.hasNext());
+        assertEquals(10, map.size());
+        assertNull(map.get("4"));
+        assertEquals(Integer.valueOf(5), map.get("5"));
+        assertEquals(Integer.valueOf(19), map.get("19"));
+    }
+
+    public void testKnownFieldNamesAreShared() throws Exception {
+        String json = "{\"screen_name\":\"twit4j\",\"unknown_field\":1}";
+        JSONObject fromBytes = new JSONObject(new JSONByteTokener(json.getBytes("UTF-8")));
+        JSONObject fromString = new JSONObject(json);
+        assertSame(fromBytes.keys().next(), fromString.keys().next());
+        assertSame("screen_name", fromBytes.keys().next());
+        assertEquals(1, fromBytes.getInt("unknown_field"));
+    }
+
+    public void testFieldNamesAreUnique() throws Exception {
+        String[] names = FieldNames.getNames();
+        Set<String> unique = new HashSet<String>();
+        for (String name : names) {
+            assertTrue(name, unique.add(name));
+            assertSame(name, FieldNames.lookup(name.toCharArray(), name.length()));
+            assertSame(name, FieldNames.intern(new String(name)));
+        }
+        assertEquals(names.length, unique.size());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.internal.org.json;
+
+import junit.framework.TestCase;
+
+import java.util.Iterator;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class JSONByteTokenerTest extends TestCase {
+    public JSONByteTokenerTest(String name) {
+        super(name);
+    }
+
+    public void testSameResultAsJSONTokener() throws Exception {
+        String[] texts = {"{}", "[]", " {\"a\" : [1, -2, 2147483648, -9223372036854775808, 12345678901234567890, 1.5, -2e3],"
+                + " \"b\":{\"c\":null,\"d\":true,\"e\":false}, \"f\":\"\"}\r\n"
+                , "{\"text\":\"\\u3042\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\",\"user\":{\"name\":\"\u3042\u3044\u3046 caf\u00e9 \ud83d\ude00\"}}"
+                , "[{\"id\":1,},[],{},\"x\",]"};
+        for (String text : texts) {
+            JSONByteTokener tokener = new JSONByteTokener(text.getBytes("UTF-8"));
+            Object expected = new JSONTokener(text).nextValue();
+            assertJSONEquals(expected, tokener.nextValue());
+            assertEquals(JSONByteTokener.END_OF_INPUT, tokener.nextToken());
+        }
+    }
+
+    public void testTokens() throws Exception {
+        byte[] bytes = "{\"id\":12,\"skipped\":{\"a\":[1,{\"b\":2}]},\"text\":\"t\"}".getBytes("UTF-8");
+        JSONByteTokener tokener = new JSONByteTokener(bytes);
+        assertEquals(JSONByteTokener.START_OBJECT, tokener.nextToken());
+        assertEquals(JSONByteTokener.FIELD_NAME, tokener.nextToken());
+        assertTrue(tokener.textEquals("id"));
+        assertEquals(JSONByteTokener.NUMBER, tokener.nextToken());
+        assertEquals(12L, tokener.getLong());
+        assertEquals(JSONByteTokener.FIELD_NAME, tokener.nextToken());
+        tokener.skipValue();
+        assertEquals(JSONByteTokener.FIELD_NAME, tokener.nextToken());
+        assertEquals("text", tokener.getString());
+        assertEquals(JSONByteTokener.STRING, tokener.nextToken());
+        assertEquals("t", tokener.getString());
+        assertEquals(JSONByteTokener.END_OBJECT, tokener.nextToken());
+        assertEquals(JSONByteTokener.END_OF_INPUT, tokener.nextToken());
+
+        // the tokenizer can be reused
+        tokener.reset(bytes, 0, bytes.length);
+        assertEquals(12, new JSONObject(tokener).getInt("id"));
+    }
+
+    public void testSyntaxError() throws Exception {
+        String[] texts = {"", "{", "{\"a\"}", "{\"a\":1 \"b\":2}", "[1 2]", "{\"a\":\"b}", "{\"a\":\"\\x\"}", "{a:1}"
+                , "{\"a\":1,\"a\":2}"};
+        for (String text : texts) {
+            try {
+                new JSONObject(new JSONByteTokener(text.getBytes("UTF-8")));
+                fail("expecting JSONException: " + text);
+            } catch (JSONException expected) {
+            }
+        }
+    }
+
+    private static void assertJSONEquals(Object expected, Object actual) throws JSONException {
+        if (expected instanceof JSONObject) {
+            assertTrue(actual instanceof JSONObject);
+            JSONObject expectedObject = (JSONObject) expected;
+            JSONObject actualObject = (JSONObject) actual;
+            assertEquals(expectedObject.length(), actualObject.length());
+            Iterator keys = expectedObject.keys();
+            while (keys.hasNext()) {
+                String key = (String) keys.next();
+                assertJSONEquals(expectedObject.get(key), actualObject.get(key));
+            }
+        } else if (expected instanceof JSONArray) {
+            assertTrue(actual instanceof JSONArray);
+            JSONArray expectedArray = (JSONArray) expected;
+            JSONArray actualArray = (JSONArray) actual;
+            assertEquals(expectedArray.length(), actualArray.length());
+            for (int i = 0; i < expectedArray.length(); i++) {
+                assertJSONEquals(expectedArray.get(i), actualArray.get(i));
+            }
+        } else {
+            assertEquals(expected, actual);
+            assertEquals(expected.getClass(), actual.getClass());
+        }
+    }
+}
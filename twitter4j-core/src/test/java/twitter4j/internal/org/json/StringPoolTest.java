@@ -0,0 +1,88 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.org.json;
+
+import junit.framework.TestCase;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.management.StringPoolStatisticsMBean;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class StringPoolTest extends TestCase {
+    public StringPoolTest(String name) {
+        super(name);
+    }
+
+    private static JSONObject parse(String json, StringPool pool) throws Exception {
+        JSONByteTokener x = new JSONByteTokener(json.replace('\'', '"').getBytes("UTF-8"));
+        x.setStringPool(pool);
+        return new JSONObject(x);
+    }
+
+    public void testDisabledByDefault() throws Exception {
+        assertNull(StringPool.getInstance(new ConfigurationBuilder().build()));
+        StringPool pool = StringPool.getInstance(new ConfigurationBuilder().setStringPoolSize(100).build());
+        assertNotNull(pool);
+        assertSame(pool, StringPool.getInstance(new ConfigurationBuilder().setStringPoolSize(100).build()));
+        // configurations don't add pools
+        assertSame(pool, StringPool.getInstance(new ConfigurationBuilder().setStringPoolSize(100)
+                .setOAuthConsumerKey("another tenant").build()));
+        assertNotSame(pool, StringPool.getInstance(new ConfigurationBuilder().setStringPoolSize(200).build()));
+    }
+
+    public void testListedFieldsArePooled() throws Exception {
+        StringPool pool = new StringPool(100, "screen_name, lang");
+        String json = "{'screen_name':'twit4j','name':'Twit4J','lang':'ja','place':{'lang':'ja'},'tags':['ja']}";
+        JSONObject first = parse(json, pool);
+        JSONObject second = parse(json, pool);
+        assertEquals("twit4j", second.getString("screen_name"));
+        assertSame(first.getString("screen_name"), second.getString("screen_name"));
+        assertSame(first.getString("lang"), second.getString("lang"));
+        assertSame(first.getString("lang"), second.getJSONObject("place").getString("lang"));
+        assertNotSame(first.getString("name"), second.getString("name"));
+        // the value following a nested object isn't attributed to the last field of the object
+        assertNotSame(first.getJSONArray("tags").getString(0), second.getJSONArray("tags").getString(0));
+        assertEquals(2, pool.size());
+    }
+
+    public void testStatistics() throws Exception {
+        StringPoolStatisticsMBean statistics = StringPool.getStatistics();
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        long savedBytes = statistics.getSavedBytes();
+        StringPool pool = new StringPool(100, "screen_name");
+        char[] chars = "twit4j".toCharArray();
+        pool.get(chars, chars.length);
+        pool.get(chars, chars.length);
+        assertEquals(hits + 1, statistics.getHitCount());
+        assertEquals(misses + 1, statistics.getMissCount());
+        assertEquals(savedBytes + 24 + 32, statistics.getSavedBytes());
+    }
+
+    public void testBounded() throws Exception {
+        StringPool pool = new StringPool(64, "screen_name");
+        for (int i = 0; i < 10000; i++) {
+            char[] chars = ("user" + i).toCharArray();
+            assertEquals("user" + i, pool.get(chars, chars.length));
+        }
+        assertEquals(64, pool.size());
+        // recent values survive
+        char[] chars = "user9999".toCharArray();
+        assertSame(pool.get(chars, chars.length), pool.get(chars, chars.length));
+    }
+}
@@ -17,6 +17,14 @@
 package twitter4j.internal.util;
 
 import junit.framework.TestCase;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONObject;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -42,4 +50,117 @@ public class ParseUtilTest extends TestCase {
     public void testParseIntOverflow() {
         assertEquals(-1, ParseUtil.getInt("4294967295"));
     }
+
+    public void testTypedAccessors() throws Exception {
+        JSONObject json = new JSONObject("{\"int\":33,\"long\":4294967295,\"string\":\"12\",\"plus\":\"100+\"," +
+                "\"null\":null,\"double\":1.5,\"true\":true,\"trueString\":\"TRUE\",\"text\":\"abc\",\"fraction\":\"1.5\"}");
+        assertEquals(33, ParseUtil.getInt("int", json));
+        assertEquals(-1, ParseUtil.getInt("long", json));
+        assertEquals(12, ParseUtil.getInt("string", json));
+        assertEquals(-1, ParseUtil.getInt("plus", json));
+        assertEquals(-1, ParseUtil.getInt("null", json));
+        assertEquals(-1, ParseUtil.getInt("missing", json));
+        assertEquals(-1, ParseUtil.getInt("text", json));
+
+        assertEquals(4294967295L, ParseUtil.getLong("long", json));
+        assertEquals(101, ParseUtil.getLong("plus", json));
+        assertEquals(-1, ParseUtil.getLong("null", json));
+        assertEquals(-1, ParseUtil.getLong("missing", json));
+        assertEquals(-1, ParseUtil.getLong("text", json));
+        assertEquals(-1, ParseUtil.getLong("double", json));
+        assertEquals(-1, ParseUtil.getLong("fraction", json));
+        assertEquals(-1, ParseUtil.getInt("double", json));
+        assertEquals(-1, ParseUtil.getInt("fraction", json));
+
+        assertEquals(1.5, ParseUtil.getDouble("double", json));
+        assertEquals(33.0, ParseUtil.getDouble("int", json));
+        assertEquals(-1.0, ParseUtil.getDouble("null", json));
+
+        assertTrue(ParseUtil.getBoolean("true", json));
+        assertTrue(ParseUtil.getBoolean("trueString", json));
+        assertFalse(ParseUtil.getBoolean("text", json));
+        assertFalse(ParseUtil.getBoolean("null", json));
+        assertFalse(ParseUtil.getBoolean("missing", json));
+    }
+
+    public void testTypedTokenAccessors() throws Exception {
+        JSONByteTokener x = new JSONByteTokener(("{\"long\":4294967295,\"large\":9223372036854775807," +
+                "\"plus\":\"100+\",\"text\":\"abc\",\"double\":1.5,\"fraction\":\"1.5\",\"null\":null}")
+                .getBytes("UTF-8"));
+        assertEquals(JSONByteTokener.START_OBJECT, x.nextToken());
+        assertEquals(4294967295L, ParseUtil.getLong(nextField(x, "long")));
+        assertEquals(Long.MAX_VALUE, ParseUtil.getLong(nextField(x, "large")));
+        assertEquals(101, ParseUtil.getLong(nextField(x, "plus")));
+        assertEquals(-1, ParseUtil.getLong(nextField(x, "text")));
+        assertEquals(-1, ParseUtil.getLong(nextField(x, "double")));
+        assertEquals(-1, ParseUtil.getLong(nextField(x, "fraction")));
+        assertEquals(-1, ParseUtil.getLong(nextField(x, "null")));
+
+        x = new JSONByteTokener("{\"long\":4294967295,\"double\":1.5,\"fraction\":\"1.5\",\"int\":33}"
+                .getBytes("UTF-8"));
+        assertEquals(JSONByteTokener.START_OBJECT, x.nextToken());
+        assertEquals(-1, ParseUtil.getInt(nextField(x, "long")));
+        assertEquals(-1, ParseUtil.getInt(nextField(x, "double")));
+        assertEquals(-1, ParseUtil.getInt(nextField(x, "fraction")));
+        assertEquals(33, ParseUtil.getInt(nextField(x, "int")));
+    }
+
+    private static JSONByteTokener nextField(JSONByteTokener x, String name) throws Exception {
+        assertEquals(JSONByteTokener.FIELD_NAME, x.nextToken());
+        assertTrue(x.textEquals(name));
+        return x;
+    }
+
+    public void testDateParserMatchesSimpleDateFormat() throws Exception {
+        String[] formats = {"EEE MMM d HH:mm:ss z yyyy", "EEE MMM dd HH:mm:ss z yyyy", "EEE, dd MMM yyyy HH:mm:ss z"};
+        Random random = new Random(1);
+        for (String format : formats) {
+            SimpleDateFormat sdf = new SimpleDateFormat(format, Locale.ENGLISH);
+            for (int i = 0; i < 2000; i++) {
+                // 1970 - 2100, in various time zones
+                sdf.setTimeZone(TimeZone.getTimeZone(i % 2 == 0 ? "GMT" : "GMT-05:30"));
+                String str = sdf.format(new Date((long) (random.nextDouble() * 4102444800000L)));
+                assertDate(format, str.replaceAll("GMT-05:30", "-0530").replaceAll("GMT", "+0000"));
+            }
+        }
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Sat Dec 19 16:01:35 +0000 2009");
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Sat Dec 9 16:01:35 +0900 2009");
+        assertDate("EEE MMM d HH:mm:ss Z yyyy", "Sat Dec 19 16:01:35 +0000 2009");
+        assertDate("EEE, dd MMM yyyy HH:mm:ss z", "Thu, 02 Dec 2010 08:10:28 +0000");
+        assertDate("EEE, d MMM yyyy HH:mm:ss z", "Thu, 2 Dec 2010 08:10:28 -0100");
+        // out of range or unexpected values are handed over to SimpleDateFormat
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Mon Feb 30 16:01:35 +0000 2009");
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Mon Feb 10 24:01:35 +0000 2009");
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Mon Feb 10 16:01:35 GMT 2009");
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Mon Feb 10 16:01:35 +0000 2009 trailing");
+        try {
+            ParseUtil.getDate("Mon Foo 10 16:01:35 +0000 2009", "EEE MMM d HH:mm:ss z yyyy");
+            fail("expecting TwitterException");
+        } catch (twitter4j.TwitterException expected) {
+        }
+    }
+
+    public void testImpossibleDatesAreRejected() throws Exception {
+        assertNotNull(TwitterDateParser.parseRESTDate("Wed Feb 29 16:01:35 +0000 2012"));
+        assertNotNull(TwitterDateParser.parseRESTDate("Tue Feb 29 16:01:35 +0000 2000"));
+        assertNull(TwitterDateParser.parseRESTDate("Sun Feb 29 16:01:35 +0000 2009"));
+        assertNull(TwitterDateParser.parseRESTDate("Thu Feb 29 16:01:35 +0000 1900"));
+        assertNull(TwitterDateParser.parseRESTDate("Thu Feb 30 16:01:35 +0000 2012"));
+        assertNull(TwitterDateParser.parseRESTDate("Sat Apr 31 16:01:35 +0000 2012"));
+        assertNotNull(TwitterDateParser.parseRESTDate("Tue Jul 31 16:01:35 +0000 2012"));
+        assertNotNull(TwitterDateParser.parseRFC822Date("Wed, 29 Feb 2012 08:10:28 +0000"));
+        assertNull(TwitterDateParser.parseRFC822Date("Thu, 30 Feb 2012 08:10:28 +0000"));
+        // handed over to SimpleDateFormat, which rolls them over
+        assertDate("EEE MMM d HH:mm:ss z yyyy", "Sun Feb 29 16:01:35 +0000 2009");
+        assertDate("EEE, dd MMM yyyy HH:mm:ss z", "Thu, 30 Feb 2012 08:10:28 +0000");
+    }
+
+    private static void assertDate(String format, String str) throws Exception {
+        SimpleDateFormat sdf = new SimpleDateFormat(format, Locale.ENGLISH);
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        Date expected = sdf.parse(str);
+        assertEquals(str, expected, ParseUtil.getDate(str, format));
+        // the second time is served from the cache
+        assertEquals(str, expected, ParseUtil.getDate(str, format));
+    }
 }
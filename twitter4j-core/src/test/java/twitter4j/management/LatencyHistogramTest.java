@@ -0,0 +1,75 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.management;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class LatencyHistogramTest extends TestCase {
+    public LatencyHistogramTest(String name) {
+        super(name);
+    }
+
+    public void testBuckets() throws Exception {
+        for (long time = 0; time < 16; time++) {
+            assertEquals(time, LatencyHistogram.highestTime(LatencyHistogram.bucket(time)));
+        }
+        for (long time = 16; time < 1 << 24; time += 997) {
+            int bucket = LatencyHistogram.bucket(time);
+            long highest = LatencyHistogram.highestTime(bucket);
+            assertTrue(time <= highest);
+            assertTrue(highest - time <= time / 8);
+            if (bucket < LatencyHistogram.BUCKETS - 1) {
+                assertEquals(bucket + 1, LatencyHistogram.bucket(highest + 1));
+            }
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucket(-1));
+    }
+
+    public void testSlidingWindow() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(6, 10000);
+        long now = 1300000000000L;
+        histogram.record(5000, now);
+        histogram.record(10, now + 10000);
+        histogram.record(20, now + 20000);
+        assertEquals(3, histogram.getPercentiles(now + 20000).getCount());
+        assertEquals(5000, histogram.getPercentiles(now + 20000).getMax());
+
+        // the slot holding 5000 falls out of the window
+        LatencyPercentiles percentiles = histogram.getPercentiles(now + 60000);
+        assertEquals(2, percentiles.getCount());
+        assertEquals(10, percentiles.getP50());
+        assertEquals(20, percentiles.getMax());
+
+        // the slot gets recycled
+        histogram.record(30, now + 60000);
+        percentiles = histogram.getPercentiles(now + 60000);
+        assertEquals(3, percentiles.getCount());
+        assertEquals(30, percentiles.getMax());
+
+        // a clock that read the time before the slot got recycled doesn't count into the new slot
+        histogram.record(40, now);
+        assertEquals(3, histogram.getPercentiles(now + 60000).getCount());
+
+        assertEquals(0, histogram.getPercentiles(now + 200000).getCount());
+        histogram.reset();
+        assertEquals(0, histogram.getPercentiles(now + 60000).getCount());
+    }
+}
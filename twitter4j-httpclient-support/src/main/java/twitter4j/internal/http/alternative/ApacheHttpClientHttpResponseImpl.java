@@ -18,9 +18,12 @@ package twitter4j.internal.http.alternative;
 
 import org.apache.http.Header;
 import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.conn.EofSensorInputStream;
 import twitter4j.internal.http.HttpClientConfiguration;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,11 +37,25 @@ import java.util.zip.GZIPInputStream;
  */
 final class ApacheHttpClientHttpResponseImpl extends twitter4j.internal.http.HttpResponse {
     private HttpResponse res;
+    // content of a response without Content-Length, like streams. aborted rather than consumed
+    private EofSensorInputStream unbounded = null;
 
     ApacheHttpClientHttpResponseImpl(HttpResponse res, HttpClientConfiguration conf) throws IOException {
         super(conf);
         this.res = res;
-        is = res.getEntity().getContent();
+        HttpEntity entity = res.getEntity();
+        // responses to HEAD requests don't have entity
+        is = null != entity ? entity.getContent() : null;
+        if (is instanceof EofSensorInputStream && entity.getContentLength() < 0) {
+            // closing would read the rest of the response to reuse the connection, which never ends with streams
+            unbounded = (EofSensorInputStream) is;
+            is = new FilterInputStream(unbounded) {
+                @Override
+                public void close() throws IOException {
+                    unbounded.abortConnection();
+                }
+            };
+        }
         statusCode = res.getStatusLine().getStatusCode();
         if (null != is && "gzip".equals(getResponseHeader("Content-Encoding"))) {
             // the response is gzipped
@@ -80,7 +97,10 @@ final class ApacheHttpClientHttpResponseImpl extends twitter4j.internal.http.Htt
      * {@inheritDoc}
      */
     public void disconnect() throws IOException {
-        if (null != res) {
+        if (null != unbounded) {
+            // does nothing once the response has been read to the end
+            unbounded.abortConnection();
+        } else if (null != res && null != res.getEntity()) {
             res.getEntity().consumeContent();
         }
     }
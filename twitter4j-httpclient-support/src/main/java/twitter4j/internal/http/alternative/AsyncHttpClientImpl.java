@@ -0,0 +1,244 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j.internal.http.alternative;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.params.ConnRoutePNames;
+import org.apache.http.impl.nio.client.DefaultHttpAsyncClient;
+import org.apache.http.impl.nio.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.scheme.Scheme;
+import org.apache.http.nio.conn.scheme.SchemeRegistry;
+import org.apache.http.nio.conn.ssl.SSLLayeringStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import twitter4j.Deadline;
+import twitter4j.TwitterException;
+import twitter4j.internal.http.HttpClientConfiguration;
+import twitter4j.internal.http.HttpRequest;
+import twitter4j.internal.http.RetryPolicy;
+import twitter4j.internal.http.RetryPolicyFactory;
+import twitter4j.internal.http.SharedSSLContext;
+import twitter4j.internal.logging.Logger;
+import twitter4j.management.ConnectionPoolStatisticsMBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HttpClient implementation for Apache HttpAsyncClient 4.0.x<br>
+ * Connections are multiplexed on a small number of I/O reactor threads instead of blocking one thread per socket.
+ * The pool is sized with http.maxTotalConnections and http.defaultMaxPerRoute, and its statistics are exposed as
+ * twitter4j.mbean:type=ConnectionPool,name=AsyncHttpClientImpl-n.<br>
+ * Responses are buffered entirely before request() returns, so streams are read with HttpClientImpl instead.
+ * Proxy authentication is not supported.<br>
+ * Enable with http.clientImpl=twitter4j.internal.http.alternative.AsyncHttpClientImpl
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class AsyncHttpClientImpl implements twitter4j.internal.http.HttpClient {
+    private static final Logger logger = Logger.getLogger(AsyncHttpClientImpl.class);
+    private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    private final HttpClientConfiguration conf;
+    private final DefaultHttpAsyncClient client;
+    private final RetryPolicy retryPolicy;
+    private final int timeout;
+    private ObjectName objectName = null;
+
+    public AsyncHttpClientImpl(HttpClientConfiguration conf) {
+        if (conf.getHttpProxyHost() != null && !conf.getHttpProxyHost().equals("")
+                && conf.getHttpProxyUser() != null && !conf.getHttpProxyUser().equals("")) {
+            // requests would be rejected by the proxy. fail before starting any thread
+            throw new IllegalArgumentException("Proxy authentication is not supported by AsyncHttpClientImpl. "
+                    + "Use HttpClientImpl with http.proxyUser: " + conf.getHttpProxyUser());
+        }
+        this.conf = conf;
+        this.retryPolicy = RetryPolicyFactory.getInstance(conf);
+        // the reactor doesn't enforce the whole exchange. wait no longer than connecting and reading would block
+        this.timeout = conf.getHttpConnectionTimeout() > 0 && conf.getHttpReadTimeout() > 0
+                ? conf.getHttpConnectionTimeout() + conf.getHttpReadTimeout() : 0;
+
+        HttpParams params = new BasicHttpParams();
+        DefaultHttpAsyncClient.setDefaultHttpParams(params);
+        HttpConnectionParams.setConnectionTimeout(params, conf.getHttpConnectionTimeout());
+        HttpConnectionParams.setSoTimeout(params, conf.getHttpReadTimeout());
+
+        final int instance = INSTANCE_COUNT.getAndIncrement();
+        DefaultConnectingIOReactor reactor;
+        try {
+            reactor = new DefaultConnectingIOReactor(Math.max(1, Runtime.getRuntime().availableProcessors())
+                    , new ThreadFactory() {
+                private int count = 0;
+
+                public synchronized Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "Twitter4J Async I/O Reactor[" + instance + "-" + (count++) + "]");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, params);
+        } catch (IOReactorException ioe) {
+            throw new IllegalStateException("Failed to start I/O reactor: " + ioe.getMessage());
+        }
+
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, null));
+        SSLContext sslContext = SharedSSLContext.getInstance(conf);
+        schemeRegistry.register(new Scheme("https", 443
+                , null != sslContext ? new SSLLayeringStrategy(sslContext) : SSLLayeringStrategy.getDefaultStrategy()));
+        final PoolingClientConnectionManager cm = new PoolingClientConnectionManager(reactor, schemeRegistry);
+        cm.setTotalMax(conf.getHttpMaxTotalConnections());
+        cm.setDefaultMaxPerHost(conf.getHttpDefaultMaxPerRoute());
+
+        client = new DefaultHttpAsyncClient(reactor, cm, params);
+        if (conf.getHttpProxyHost() != null && !conf.getHttpProxyHost().equals("")) {
+            client.getParams().setParameter(ConnRoutePNames.DEFAULT_PROXY
+                    , new HttpHost(conf.getHttpProxyHost(), conf.getHttpProxyPort()));
+        }
+        // the dispatcher thread inherits the daemon flag of the thread calling start().
+        // start it from a daemon thread so that a forgotten shutdown() doesn't prevent the JVM from exiting
+        Thread starter = new Thread(new Runnable() {
+            public void run() {
+                client.start();
+            }
+        }, "Twitter4J Async Client Starter[" + instance + "]");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("twitter4j.mbean:type=ConnectionPool,name=AsyncHttpClientImpl-" + instance);
+            mbs.registerMBean(new StandardMBean(new PoolStatistics(cm), ConnectionPoolStatisticsMBean.class), name);
+            objectName = name;
+        } catch (Exception e) {
+            logger.warn("Failed to register ConnectionPool MBean: ", e.getMessage());
+        }
+    }
+
+    public twitter4j.internal.http.HttpResponse request(HttpRequest req) throws TwitterException {
+        retryPolicy.requestStarted(req);
+        for (int retriedCount = 0; ; retriedCount++) {
+            long retryDelay;
+            try {
+                ApacheHttpClientHttpResponseImpl res = new ApacheHttpClientHttpResponseImpl(execute(req), conf);
+                if (200 == res.getStatusCode()) {
+                    return res;
+                }
+                retryDelay = retryPolicy.getRetryDelay(req, retriedCount, res, null);
+                if (RetryPolicy.NO_RETRY == retryDelay) {
+                    throw new TwitterException(res.asString(), res);
+                }
+                res.disconnect();
+            } catch (IOException e) {
+                retryDelay = retryPolicy.getRetryDelay(req, retriedCount, null, e);
+                if (RetryPolicy.NO_RETRY == retryDelay) {
+                    throw new TwitterException(e);
+                }
+            }
+            logger.debug("Sleeping " + retryDelay + " milliseconds until the next retry.");
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException ignore) {
+                //nothing to do
+            }
+        }
+    }
+
+    /**
+     * Sends the request through the reactor and waits for the response.<br>
+     * The HttpClient contract is synchronous, so the calling thread waits while the I/O itself is multiplexed.
+     */
+    private HttpResponse execute(HttpRequest req) throws IOException, TwitterException {
+        HttpRequestBase request = HttpClientImpl.createRequest(req, conf);
+        Future<HttpResponse> future = client.execute(request, null);
+        int timeout = Deadline.cap(this.timeout);
+        try {
+            return 0 < timeout ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (TimeoutException te) {
+            future.cancel(true);
+            throw new SocketTimeoutException("No response within " + timeout + " milliseconds: " + req.getURL());
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new TwitterException(ee.getCause() != null ? ee.getCause().getMessage() : ee.getMessage(), ee);
+        } catch (InterruptedException ie) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TwitterException(ie);
+        }
+    }
+
+    public void shutdown() {
+        try {
+            client.shutdown();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        if (null != objectName) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Exception e) {
+                logger.debug("Failed to unregister ConnectionPool MBean: ", e.getMessage());
+            }
+        }
+    }
+
+    private static final class PoolStatistics implements ConnectionPoolStatisticsMBean {
+        private final PoolingClientConnectionManager cm;
+
+        PoolStatistics(PoolingClientConnectionManager cm) {
+            this.cm = cm;
+        }
+
+        public int getLeasedConnections() {
+            return cm.getTotalStats().getLeased();
+        }
+
+        public int getPendingRequests() {
+            return cm.getTotalStats().getPending();
+        }
+
+        public int getAvailableConnections() {
+            return cm.getTotalStats().getAvailable();
+        }
+
+        public int getMaxConnections() {
+            return cm.getTotalStats().getMax();
+        }
+    }
+}
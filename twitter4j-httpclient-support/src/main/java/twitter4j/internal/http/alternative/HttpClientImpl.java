@@ -43,14 +43,20 @@ import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.params.CoreProtocolPNames;
 import org.apache.http.params.HttpConnectionParams;
 import org.apache.http.params.HttpParams;
+import twitter4j.Deadline;
 import twitter4j.TwitterException;
+import twitter4j.internal.http.AbortHook;
 import twitter4j.internal.http.HttpClientConfiguration;
 import twitter4j.internal.http.HttpParameter;
 import twitter4j.internal.http.HttpRequest;
 import twitter4j.internal.http.RequestMethod;
+import twitter4j.internal.http.RetryPolicy;
+import twitter4j.internal.http.RetryPolicyFactory;
+import twitter4j.internal.http.SharedSSLContext;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.util.T4JInternalStringUtil;
 
+import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -66,15 +72,20 @@ public class HttpClientImpl implements twitter4j.internal.http.HttpClient {
     private static final Logger logger = Logger.getLogger(HttpClientImpl.class);
     private final HttpClientConfiguration conf;
     private final HttpClient client;
+    private final RetryPolicy retryPolicy;
 
     public HttpClientImpl(HttpClientConfiguration conf) {
         this.conf = conf;
+        this.retryPolicy = RetryPolicyFactory.getInstance(conf);
 
         SchemeRegistry schemeRegistry = new SchemeRegistry();
         schemeRegistry.register(
                 new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        SSLContext sslContext = SharedSSLContext.getInstance(conf);
         schemeRegistry.register(
-                new Scheme("https", 443, SSLSocketFactory.getSocketFactory()));
+                new Scheme("https", 443, null != sslContext ? new SSLSocketFactory(sslContext) : SSLSocketFactory.getSocketFactory()));
+        // shared by every caller with equivalent configuration. once exhausted, callers wait for a connection
+        // to be released as long as http.connectionTimeout
         ThreadSafeClientConnManager cm = new ThreadSafeClientConnManager(schemeRegistry);
         cm.setMaxTotal(conf.getHttpMaxTotalConnections());
         cm.setDefaultMaxPerRoute(conf.getHttpDefaultMaxPerRoute());
@@ -105,74 +116,112 @@ public class HttpClientImpl implements twitter4j.internal.http.HttpClient {
     }
 
     public twitter4j.internal.http.HttpResponse request(twitter4j.internal.http.HttpRequest req) throws TwitterException {
-        try {
-            HttpRequestBase commonsRequest;
-
-            if (req.getMethod() == RequestMethod.GET) {
-                commonsRequest = new HttpGet(composeURL(req));
+        AbortHook hook = AbortHook.current();
+        retryPolicy.requestStarted(req);
+        for (int retriedCount = 0; ; retriedCount++) {
+            long retryDelay;
+            try {
+                final HttpRequestBase request = createRequest(req, conf);
+                if (null != hook) {
+                    hook.setAborter(new Runnable() {
+                        public void run() {
+                            request.abort();
+                        }
+                    });
+                }
+                ApacheHttpClientHttpResponseImpl res = new ApacheHttpClientHttpResponseImpl(client.execute(request), conf);
+                if (200 == res.getStatusCode()) {
+                    return res;
+                }
+                retryDelay = retryPolicy.getRetryDelay(req, retriedCount, res, null);
+                if (RetryPolicy.NO_RETRY == retryDelay) {
+                    throw new TwitterException(res.asString(), res);
+                }
+                res.disconnect();
+            } catch (IOException e) {
+                if (null != hook && hook.isAborted()) {
+                    throw new TwitterException(e);
+                }
+                retryDelay = retryPolicy.getRetryDelay(req, retriedCount, null, e);
+                if (RetryPolicy.NO_RETRY == retryDelay) {
+                    throw new TwitterException(e);
+                }
+            }
+            logger.debug("Sleeping " + retryDelay + " milliseconds until the next retry.");
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException ignore) {
+                //nothing to do
+            }
+        }
+    }
 
-            } else if (req.getMethod() == RequestMethod.POST) {
-                HttpPost post = new HttpPost(req.getURL());
-                // parameter has a file?
-                boolean hasFile = false;
-                if (null != req.getParameters()) {
+    /*package*/ static HttpRequestBase createRequest(HttpRequest req, HttpClientConfiguration conf) throws IOException {
+        HttpRequestBase commonsRequest;
+
+        if (req.getMethod() == RequestMethod.GET) {
+            commonsRequest = new HttpGet(composeURL(req));
+
+        } else if (req.getMethod() == RequestMethod.POST) {
+            HttpPost post = new HttpPost(req.getURL());
+            // parameter has a file?
+            boolean hasFile = false;
+            if (null != req.getParameters()) {
+                for (HttpParameter parameter : req.getParameters()) {
+                    if (parameter.isFile()) {
+                        hasFile = true;
+                        break;
+                    }
+                }
+                if (!hasFile) {
+                    List<NameValuePair> nameValuePair = asNameValuePairList(req);
+                    if (null != nameValuePair) {
+                        UrlEncodedFormEntity entity = new UrlEncodedFormEntity(nameValuePair, "UTF-8");
+                        post.setEntity(entity);
+                    }
+                } else {
+                    MultipartEntity me = new MultipartEntity();
                     for (HttpParameter parameter : req.getParameters()) {
                         if (parameter.isFile()) {
-                            hasFile = true;
-                            break;
+                            me.addPart(parameter.getName(), new FileBody(parameter.getFile(), parameter.getContentType()));
+                        } else {
+                            me.addPart(parameter.getName(), new StringBody(parameter.getValue()));
                         }
                     }
-                    if (!hasFile) {
-                        List<NameValuePair> nameValuePair = asNameValuePairList(req);
-                        if (null != nameValuePair) {
-                            UrlEncodedFormEntity entity = new UrlEncodedFormEntity(nameValuePair, "UTF-8");
-                            post.setEntity(entity);
-                        }
-                    } else {
-                        MultipartEntity me = new MultipartEntity();
-                        for (HttpParameter parameter : req.getParameters()) {
-                            if (parameter.isFile()) {
-                                me.addPart(parameter.getName(), new FileBody(parameter.getFile(), parameter.getContentType()));
-                            } else {
-                                me.addPart(parameter.getName(), new StringBody(parameter.getValue()));
-                            }
-                        }
-                        post.setEntity(me);
+                    post.setEntity(me);
 
-                    }
                 }
-                post.getParams().setBooleanParameter(CoreProtocolPNames.USE_EXPECT_CONTINUE, false);
-                commonsRequest = post;
-            } else if (req.getMethod() == RequestMethod.DELETE) {
-                commonsRequest = new HttpDelete(composeURL(req));
-            } else if (req.getMethod() == RequestMethod.HEAD) {
-                commonsRequest = new HttpHead(composeURL(req));
-            } else if (req.getMethod() == RequestMethod.PUT) {
-                commonsRequest = new HttpPut(composeURL(req));
-            } else {
-                throw new AssertionError();
-            }
-            Map<String, String> headers = req.getRequestHeaders();
-            for (String headerName : headers.keySet()) {
-                commonsRequest.addHeader(headerName, headers.get(headerName));
-            }
-            String authorizationHeader;
-            if (null != req.getAuthorization()
-                    && null != (authorizationHeader = req.getAuthorization().getAuthorizationHeader(req))) {
-                commonsRequest.addHeader("Authorization", authorizationHeader);
             }
-
-            ApacheHttpClientHttpResponseImpl res = new ApacheHttpClientHttpResponseImpl(client.execute(commonsRequest), conf);
-            if (200 != res.getStatusCode()) {
-                throw new TwitterException(res.asString(), res);
-            }
-            return res;
-        } catch (IOException e) {
-            throw new TwitterException(e);
+            post.getParams().setBooleanParameter(CoreProtocolPNames.USE_EXPECT_CONTINUE, false);
+            commonsRequest = post;
+        } else if (req.getMethod() == RequestMethod.DELETE) {
+            commonsRequest = new HttpDelete(composeURL(req));
+        } else if (req.getMethod() == RequestMethod.HEAD) {
+            commonsRequest = new HttpHead(composeURL(req));
+        } else if (req.getMethod() == RequestMethod.PUT) {
+            commonsRequest = new HttpPut(composeURL(req));
+        } else {
+            throw new AssertionError();
+        }
+        Map<String, String> headers = req.getRequestHeaders();
+        for (String headerName : headers.keySet()) {
+            commonsRequest.addHeader(headerName, headers.get(headerName));
+        }
+        String authorizationHeader;
+        if (null != req.getAuthorization()
+                && null != (authorizationHeader = req.getAuthorization().getAuthorizationHeader(req))) {
+            commonsRequest.addHeader("Authorization", authorizationHeader);
+        }
+        if (Deadline.NONE != Deadline.get()) {
+            // request parameters take precedence over the client's. never wait beyond the deadline of the call
+            HttpParams params = commonsRequest.getParams();
+            HttpConnectionParams.setConnectionTimeout(params, Deadline.cap(conf.getHttpConnectionTimeout()));
+            HttpConnectionParams.setSoTimeout(params, Deadline.cap(conf.getHttpReadTimeout()));
         }
+        return commonsRequest;
     }
 
-    private String composeURL(HttpRequest req) {
+    private static String composeURL(HttpRequest req) {
         List<NameValuePair> params = asNameValuePairList(req);
         if (null != params) {
             return req.getURL() + "?" + URLEncodedUtils.format(params, "UTF-8");
@@ -181,7 +230,7 @@ public class HttpClientImpl implements twitter4j.internal.http.HttpClient {
         }
     }
 
-    private List<NameValuePair> asNameValuePairList(HttpRequest req) {
+    private static List<NameValuePair> asNameValuePairList(HttpRequest req) {
         if (null != req.getParameters() && req.getParameters().length > 0) {
             List<NameValuePair> params = new ArrayList<NameValuePair>();
             for (HttpParameter parameter : req.getParameters()) {
@@ -22,14 +22,15 @@ import twitter4j.internal.http.HttpResponse;
 import twitter4j.internal.json.DataObjectFactoryUtil;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONByteTokener;
 import twitter4j.internal.org.json.JSONException;
 import twitter4j.internal.org.json.JSONObject;
+import twitter4j.internal.org.json.StringPool;
 import twitter4j.json.JSONObjectType;
+import twitter4j.management.StreamStatistics;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -39,19 +40,24 @@ abstract class AbstractStreamImplementation {
     protected static final Logger logger = Logger.getLogger(StatusStreamImpl.class);
 
     private boolean streamAlive = true;
-    private BufferedReader br;
+    private ByteLineReader reader;
     private InputStream is;
     private HttpResponse response;
     protected final Dispatcher dispatcher;
     private final Configuration CONF;
+    private final UserCache userCache;
+    private final StringPool stringPool;
+    private StreamStatistics statistics = null;
 
     /*package*/
 
     AbstractStreamImplementation(Dispatcher dispatcher, InputStream stream, Configuration conf) throws IOException {
         this.is = stream;
-        this.br = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+        this.reader = new ByteLineReader(stream);
         this.dispatcher = dispatcher;
         this.CONF = conf;
+        this.userCache = UserCache.getInstance(conf);
+        this.stringPool = StringPool.getInstance(conf);
     }
     /*package*/
 
@@ -60,14 +66,29 @@ abstract class AbstractStreamImplementation {
         this.response = response;
     }
 
-    protected String parseLine(String line) {
+    /**
+     * @param statistics statistics the messages are recorded to, or null
+     */
+    void setStatistics(StreamStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    // tokenizers are reused by the dispatcher threads to keep their scratch buffers
+    private static final ThreadLocal<JSONByteTokener> TOKENER = new ThreadLocal<JSONByteTokener>() {
+        @Override
+        protected JSONByteTokener initialValue() {
+            return new JSONByteTokener(new byte[0]);
+        }
+    };
+
+    protected byte[] parseLine(byte[] line) {
         return line;
     }
 
     abstract class StreamEvent implements Runnable {
-        String line;
+        byte[] line;
 
-        StreamEvent(String line) {
+        StreamEvent(byte[] line) {
             this.line = line;
         }
     }
@@ -79,28 +100,59 @@ abstract class AbstractStreamImplementation {
             throw new IllegalStateException("Stream already closed.");
         }
         try {
-            String line = br.readLine();
+            byte[] line = reader.readLine();
             if (null == line) {
                 //invalidate this status stream
                 throw new IOException("the end of the stream has been reached");
             }
+            if (null != statistics) {
+                statistics.queued();
+            }
             dispatcher.invokeLater(new StreamEvent(line) {
                 public void run() {
+                    if (null != statistics) {
+                        statistics.dequeued();
+                    }
+                    int bytes = line.length;
                     line = parseLine(line);
-                    if (line.length() > 0) {
+                    if (line.length > 0) {
+                        long start = System.nanoTime();
+                        long parsed = 0;
+                        JSONObjectType jsonObjectType = null;
                         try {
                             if (CONF.isJSONStoreEnabled()) {
                                 DataObjectFactoryUtil.clearThreadLocalMap();
                             }
-                            JSONObject json = new JSONObject(line);
-                            JSONObjectType jsonObjectType = JSONObjectType.determine(json);
+                            JSONByteTokener tokener = TOKENER.get();
+                            tokener.setStringPool(stringPool);
+                            tokener.setRawCaptureEnabled(CONF.isJSONStoreRawEnabled());
+                            if (CONF.isJSONStoreRawEnabled() || !CONF.isJSONStoreEnabled() && !logger.isDebugEnabled()) {
+                                // statuses dominate the stream. bind them straight from the bytes
+                                tokener.reset(line, 0, line.length);
+                                if (StatusJSONImpl.isStatus(tokener)) {
+                                    if (logger.isDebugEnabled()) {
+                                        logger.debug("Received:", new String(line, "UTF-8"));
+                                    }
+                                    tokener.reset(line, 0, line.length);
+                                    tokener.nextToken();
+                                    Status status = new StatusJSONImpl(tokener, userCache);
+                                    parsed = System.nanoTime();
+                                    jsonObjectType = JSONObjectType.STATUS;
+                                    deliverStatus(status);
+                                    return;
+                                }
+                            }
+                            tokener.reset(line, 0, line.length);
+                            JSONObject json = new JSONObject(tokener);
+                            jsonObjectType = JSONObjectType.determine(json);
+                            parsed = System.nanoTime();
                             if (logger.isDebugEnabled()) {
                                 logger.debug("Received:", CONF.isPrettyDebugEnabled() ? json.toString(1) : json.toString());
                             }
                             if (JSONObjectType.SENDER == jsonObjectType) {
                                 onSender(json);
                             } else if (JSONObjectType.STATUS == jsonObjectType) {
-                                onStatus(json);
+                                deliverStatus(asStatus(json));
                             } else if (JSONObjectType.DIRECT_MESSAGE == jsonObjectType) {
                                 onDirectMessage(json);
                             } else if (JSONObjectType.DELETE == jsonObjectType) {
@@ -147,6 +199,9 @@ abstract class AbstractStreamImplementation {
                             }
                         } catch (Exception ex) {
                             onException(ex);
+                        } finally {
+                            // messages failing to parse or in the listeners count as well
+                            delivered(jsonObjectType, bytes, start, parsed);
                         }
                     }
                 }
@@ -165,11 +220,29 @@ abstract class AbstractStreamImplementation {
         }
     }
 
+    private void deliverStatus(Status status) throws TwitterException {
+        if (null != statistics && null != status.getCreatedAt()) {
+            statistics.statusDelivered(status.getCreatedAt().getTime());
+        }
+        onStatus(status);
+    }
+
+    private void delivered(JSONObjectType type, int bytes, long start, long parsed) {
+        if (null != statistics) {
+            long now = System.nanoTime();
+            if (0 == parsed) {
+                // failed to parse
+                parsed = now;
+            }
+            statistics.delivered(type, bytes, parsed - start, now - parsed);
+        }
+    }
+
     protected void onSender(JSONObject json) throws TwitterException {
         logger.warn("Unhandled event: onSender");
     }
 
-    protected void onStatus(JSONObject json) throws TwitterException {
+    protected void onStatus(Status status) throws TwitterException {
         logger.warn("Unhandled event: onStatus");
     }
 
@@ -260,7 +333,7 @@ abstract class AbstractStreamImplementation {
     public void close() throws IOException {
         streamAlive = false;
         is.close();
-        br.close();
+        reader.close();
         if (null != response) {
             response.disconnect();
         }
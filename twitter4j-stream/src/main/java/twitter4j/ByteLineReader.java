@@ -0,0 +1,91 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads newline delimited messages from the stream as raw bytes so that they can be tokenized without decoding them
+ * into Strings first.
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+final class ByteLineReader {
+    private final InputStream is;
+    private final byte[] buf = new byte[8192];
+    private int pos = 0;
+    private int limit = 0;
+    private byte[] line = new byte[8192];
+
+    ByteLineReader(InputStream is) {
+        this.is = is;
+    }
+
+    /**
+     * Reads a line terminated by '\n' or "\r\n".
+     *
+     * @return the line without the terminator, or null if the end of the stream has been reached
+     * @throws IOException when the stream failed
+     */
+    byte[] readLine() throws IOException {
+        int length = 0;
+        boolean read = false;
+        for (; ;) {
+            if (pos == limit) {
+                int count = is.read(buf, 0, buf.length);
+                if (-1 == count) {
+                    return read ? copyLine(length) : null;
+                }
+                pos = 0;
+                limit = count;
+            }
+            read = true;
+            int start = pos;
+            while (pos < limit && '\n' != buf[pos]) {
+                pos++;
+            }
+            int count = pos - start;
+            if (length + count > line.length) {
+                byte[] newLine = new byte[Math.max(line.length * 2, length + count)];
+                System.arraycopy(line, 0, newLine, 0, length);
+                line = newLine;
+            }
+            System.arraycopy(buf, start, line, length, count);
+            length += count;
+            if (pos < limit) {
+                // consume '\n'
+                pos++;
+                if (length > 0 && '\r' == line[length - 1]) {
+                    length--;
+                }
+                return copyLine(length);
+            }
+        }
+    }
+
+    private byte[] copyLine(int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(line, 0, copy, 0, length);
+        return copy;
+    }
+
+    void close() throws IOException {
+        is.close();
+    }
+}
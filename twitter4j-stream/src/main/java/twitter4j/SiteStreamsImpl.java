@@ -25,6 +25,7 @@ import twitter4j.internal.util.ParseUtil;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -47,32 +48,53 @@ class SiteStreamsImpl extends AbstractStreamImplementation implements StreamImpl
         handleNextElement();
     }
 
-    protected String parseLine(String line) {
-        if ("".equals(line) || null == line) {
+    protected byte[] parseLine(byte[] line) {
+        if (null == line || 0 == line.length) {
             return line;
         }
-        int userIdEnd = line.indexOf(',', 12);
+        // {"for_user":1234,"message":{...}}
+        int userIdStart = 12;
+        int userIdEnd = userIdStart;
+        while (userIdEnd < line.length && ',' != line[userIdEnd]) {
+            userIdEnd++;
+        }
+        int messageStart = userIdEnd + 11;
         // in the documentation for_user is not quoted, but actually it is quoted
-        // n
-        if (line.charAt(12) == '"') {
-            forUser.set(Integer.parseInt(line.substring(13, userIdEnd - 1)));
-            return line.substring(userIdEnd + 11, line.length() - 1);
-        } else {
-            forUser.set(Integer.parseInt(line.substring(12, userIdEnd)));
-            return line.substring(userIdEnd + 11, line.length() - 1);
+        if (userIdStart < userIdEnd && '"' == line[userIdStart] && '"' == line[userIdEnd - 1]) {
+            userIdStart++;
+            userIdEnd--;
+        }
+        boolean valid = userIdStart < userIdEnd && messageStart < line.length;
+        long userId = 0;
+        for (int i = userIdStart; valid && i < userIdEnd; i++) {
+            int digit = line[i] - '0';
+            valid = 0 <= digit && digit <= 9 && userId <= (Long.MAX_VALUE - digit) / 10;
+            userId = userId * 10 + digit;
+        }
+        if (!valid) {
+            try {
+                onException(new TwitterException("Malformed message: " + new String(line, "UTF-8")));
+            } catch (UnsupportedEncodingException ignore) {
+            }
+            // skipped
+            return new byte[0];
         }
+        forUser.set(userId);
+        byte[] message = new byte[line.length - 1 - messageStart];
+        System.arraycopy(line, messageStart, message, 0, message.length);
+        return message;
     }
 
-    private static ThreadLocal<Integer> forUser =
-            new ThreadLocal<Integer>() {
+    private static ThreadLocal<Long> forUser =
+            new ThreadLocal<Long>() {
                 @Override
-                protected Integer initialValue() {
-                    return 0;
+                protected Long initialValue() {
+                    return 0L;
                 }
             };
 
-    protected void onStatus(final JSONObject json) throws TwitterException {
-        listener.onStatus(forUser.get(), asStatus(json));
+    protected void onStatus(final Status status) throws TwitterException {
+        listener.onStatus(forUser.get(), status);
     }
 
     @Override
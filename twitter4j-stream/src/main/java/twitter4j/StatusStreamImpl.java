@@ -44,8 +44,6 @@ class StatusStreamImpl extends AbstractStreamImplementation implements StatusStr
         super(dispatcher, response, conf);
     }
 
-    protected String line;
-
     protected StreamListener[] listeners;
 
     /**
@@ -67,15 +65,10 @@ class StatusStreamImpl extends AbstractStreamImplementation implements StatusStr
         handleNextElement();
     }
 
-    protected String parseLine(String line) {
-        this.line = line;
-        return line;
-    }
-
     @Override
-    protected void onStatus(JSONObject json) throws TwitterException {
+    protected void onStatus(Status status) throws TwitterException {
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onStatus(asStatus(json));
+            ((StatusListener) listener).onStatus(status);
         }
     }
 
@@ -21,6 +21,7 @@ import twitter4j.auth.Authorization;
 import twitter4j.auth.OAuthAuthorization;
 import twitter4j.conf.Configuration;
 import twitter4j.conf.ConfigurationContext;
+import twitter4j.internal.http.HttpClientWrapper;
 
 /**
  * A factory class for TwitterFactory.<br>
@@ -102,4 +103,22 @@ public final class TwitterStreamFactory implements java.io.Serializable {
     private TwitterStream getInstance(Configuration conf, Authorization auth) {
         return new TwitterStreamImpl(conf, auth);
     }
+
+    /**
+     * Resolves the hosts of the Streaming API and opens connections to them ahead of the first request.<br>
+     * Intended to be called on startup, before the application starts serving.
+     *
+     * @return true if both the stream and the user stream hosts responded
+     * @since Twitter4J 2.2.2
+     */
+    public boolean warmUp() {
+        HttpClientWrapper http = new HttpClientWrapper(new StreamingReadTimeoutConfiguration(conf), false);
+        try {
+            boolean streamResponded = http.warmUp(conf.getStreamBaseURL());
+            boolean userStreamResponded = http.warmUp(conf.getUserStreamBaseURL());
+            return streamResponded && userStreamResponded;
+        } finally {
+            http.shutdown();
+        }
+    }
 }
@@ -24,13 +24,17 @@ import twitter4j.internal.http.HttpClientWrapperConfiguration;
 import twitter4j.internal.http.HttpParameter;
 import twitter4j.internal.logging.Logger;
 import twitter4j.internal.util.T4JInternalStringUtil;
+import twitter4j.management.StreamStatistics;
 
+import javax.management.ObjectName;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static twitter4j.internal.http.HttpResponseCode.FORBIDDEN;
 import static twitter4j.internal.http.HttpResponseCode.NOT_ACCEPTABLE;
@@ -54,13 +58,13 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     /*package*/
     TwitterStreamImpl(Configuration conf, Authorization auth) {
         super(conf, auth);
-        http = new HttpClientWrapper(new StreamingReadTimeoutConfiguration(conf));
+        http = new HttpClientWrapper(new StreamingReadTimeoutConfiguration(conf), false);
     }
 
     /*package*/
     TwitterStreamImpl(Configuration conf) {
         super(conf);
-        http = new HttpClientWrapper(new StreamingReadTimeoutConfiguration(conf));
+        http = new HttpClientWrapper(new StreamingReadTimeoutConfiguration(conf), false);
     }
 
     /* Streaming API */
@@ -112,8 +116,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     private StatusStream getCountStream(String relativeUrl, int count) throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + relativeUrl
-                    , new HttpParameter[]{new HttpParameter("count", String.valueOf(count))}, auth), conf);
+            return monitor(new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + relativeUrl
+                    , new HttpParameter[]{new HttpParameter("count", String.valueOf(count))}, auth), conf));
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -139,8 +143,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     public StatusStream getRetweetStream() throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + "statuses/retweet.json"
-                    , new HttpParameter[]{}, auth), conf);
+            return monitor(new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + "statuses/retweet.json"
+                    , new HttpParameter[]{}, auth), conf));
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -166,8 +170,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     public StatusStream getSampleStream() throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return new StatusStreamImpl(getDispatcher(), http.get(conf.getStreamBaseURL() + "statuses/sample.json"
-                    , auth), conf);
+            return monitor(new StatusStreamImpl(getDispatcher(), http.get(conf.getStreamBaseURL() + "statuses/sample.json"
+                    , auth), conf));
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -218,9 +222,9 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
             if (null != track) {
                 params.add(new HttpParameter("track", T4JInternalStringUtil.join(track)));
             }
-            return new UserStreamImpl(getDispatcher(), http.post(conf.getUserStreamBaseURL() + "user.json"
+            return monitor(new UserStreamImpl(getDispatcher(), http.post(conf.getUserStreamBaseURL() + "user.json"
                     , params.toArray(new HttpParameter[params.size()])
-                    , auth), conf);
+                    , auth), conf));
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -240,7 +244,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         startHandler(new TwitterStreamConsumer() {
             public StreamImplementation getStream() throws TwitterException {
                 try {
-                    return new SiteStreamsImpl(getDispatcher(), getSiteStream(withFollowings, follow), conf);
+                    return monitor(new SiteStreamsImpl(getDispatcher(), getSiteStream(withFollowings, follow), conf));
                 } catch (IOException e) {
                     throw new TwitterException(e);
                 }
@@ -264,6 +268,46 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
 
     private static transient Dispatcher dispatcher;
 
+    private static final AtomicInteger NUMBER_OF_STATISTICS = new AtomicInteger();
+    private transient StreamStatistics statistics = null;
+    private transient ObjectName statisticsName = null;
+    private transient boolean shutdown = false;
+
+    /**
+     * @return statistics of this stream, or null if mbeanEnabled is false or the stream has been shut down
+     */
+    /*package*/ synchronized StreamStatistics getStreamStatistics() {
+        if (null == statistics && conf.isMBeanEnabled() && !shutdown) {
+            statistics = new StreamStatistics();
+            try {
+                ObjectName name = new ObjectName("twitter4j.mbean:type=StreamStatistics,name=TwitterStream-"
+                        + NUMBER_OF_STATISTICS.incrementAndGet());
+                ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, name);
+                statisticsName = name;
+            } catch (Exception e) {
+                logger.warn("Failed to register StreamStatistics MBean: ", e.getMessage());
+            }
+        }
+        return statistics;
+    }
+
+    private synchronized void unregisterStreamStatistics() {
+        if (null != statisticsName) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(statisticsName);
+            } catch (Exception e) {
+                logger.debug("Failed to unregister StreamStatistics MBean: ", e.getMessage());
+            }
+            statisticsName = null;
+        }
+        statistics = null;
+    }
+
+    private <T extends AbstractStreamImplementation> T monitor(T stream) {
+        stream.setStatistics(getStreamStatistics());
+        return stream;
+    }
+
     InputStream getSiteStream(boolean withFollowings, long[] follow) throws TwitterException {
         ensureOAuthEnabled();
         return http.post(conf.getSiteStreamBaseURL() + "site.json",
@@ -293,9 +337,9 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     public StatusStream getFilterStream(FilterQuery query) throws TwitterException {
         ensureAuthorizationEnabled();
         try {
-            return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL()
+            return monitor(new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL()
                     + "statuses/filter.json"
-                    , query.asHttpParameterArray(), auth), conf);
+                    , query.asHttpParameterArray(), auth), conf));
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -325,7 +369,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     private static int numberOfHandlers = 0;
 
     private synchronized void startHandler(TwitterStreamConsumer handler) {
-        cleanUp();
+        closeHandler();
         if (streamListeners.length == 0) {
             throw new IllegalStateException("StatusListener is not set.");
         }
@@ -338,6 +382,11 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
      * {@inheritDoc}
      */
     public synchronized void cleanUp() {
+        closeHandler();
+        unregisterStreamStatistics();
+    }
+
+    private synchronized void closeHandler() {
         if (null != handler) {
             handler.close();
             numberOfHandlers--;
@@ -348,6 +397,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
      * {@inheritDoc}
      */
     public synchronized void shutdown() {
+        shutdown = true;
         super.shutdown();
         cleanUp();
         synchronized (TwitterStreamImpl.class) {
@@ -424,6 +474,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         public void run() {
             int timeToSleep = NO_WAIT;
             boolean connected = false;
+            boolean connectedBefore = false;
+            StreamStatistics statistics = getStreamStatistics();
             while (!closed) {
                 try {
                     if (!closed && null == stream) {
@@ -432,6 +484,13 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
                         setStatus("[Establishing connection]");
                         stream = getStream();
                         connected = true;
+                        if (null != statistics) {
+                            if (connectedBefore) {
+                                statistics.reconnected();
+                            }
+                            statistics.setBackoff(NO_WAIT);
+                        }
+                        connectedBefore = true;
                         logger.info("Connection established.");
                         for (ConnectionLifeCycleListener listener : lifeCycleListeners) {
                             try {
@@ -507,6 +566,9 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
                             // wait for a moment not to overload Twitter API
                             logger.info("Waiting for " + (timeToSleep) + " milliseconds");
                             setStatus("[Waiting for " + (timeToSleep) + " milliseconds]");
+                            if (null != statistics) {
+                                statistics.setBackoff(timeToSleep);
+                            }
                             try {
                                 Thread.sleep(timeToSleep);
                             } catch (InterruptedException ignore) {
@@ -606,7 +668,14 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     }
 }
 
+/**
+ * Configuration of the HttpClient streams are read through: the read timeout is http.streamingReadTimeout.<br>
+ * AsyncHttpClientImpl buffers whole responses and would never return an endless stream. Streams are read with the
+ * blocking HttpClientImpl from the same package instead.
+ */
 class StreamingReadTimeoutConfiguration implements HttpClientWrapperConfiguration {
+    private static final String ASYNC_HTTP_CLIENT_IMPL = "twitter4j.internal.http.alternative.AsyncHttpClientImpl";
+    private static final String BLOCKING_HTTP_CLIENT_IMPL = "twitter4j.internal.http.alternative.HttpClientImpl";
     Configuration nestedConf;
 
     StreamingReadTimeoutConfiguration(Configuration httpConf) {
@@ -654,6 +723,90 @@ class StreamingReadTimeoutConfiguration implements HttpClientWrapperConfiguratio
         return nestedConf.getHttpDefaultMaxPerRoute();
     }
 
+    public int getHttpRetryMaxIntervalSeconds() {
+        return nestedConf.getHttpRetryMaxIntervalSeconds();
+    }
+
+    public int getHttpRetryBudgetPercent() {
+        return nestedConf.getHttpRetryBudgetPercent();
+    }
+
+    public String getHttpRetryPolicyImpl() {
+        return nestedConf.getHttpRetryPolicyImpl();
+    }
+
+    public boolean isHttpHedgingEnabled() {
+        // streams are long-lived connections and must never be duplicated
+        return false;
+    }
+
+    public int getHttpHedgingPercentile() {
+        return nestedConf.getHttpHedgingPercentile();
+    }
+
+    public int getHttpHedgingMaxPercent() {
+        return nestedConf.getHttpHedgingMaxPercent();
+    }
+
+    public boolean isHttpResponseCacheEnabled() {
+        // streams are never cached
+        return false;
+    }
+
+    public String getHttpResponseCacheImpl() {
+        return nestedConf.getHttpResponseCacheImpl();
+    }
+
+    public int getHttpResponseCacheSize() {
+        return nestedConf.getHttpResponseCacheSize();
+    }
+
+    public String getHttpResponseCacheTTLs() {
+        return nestedConf.getHttpResponseCacheTTLs();
+    }
+
+    public boolean isHttpResponseCacheParsedJSONEnabled() {
+        return nestedConf.isHttpResponseCacheParsedJSONEnabled();
+    }
+
+    public int getHttpDNSCacheTTLSeconds() {
+        return nestedConf.getHttpDNSCacheTTLSeconds();
+    }
+
+    public boolean isHttpAsyncResponseListenerEnabled() {
+        return nestedConf.isHttpAsyncResponseListenerEnabled();
+    }
+
+    public int getHttpResponseEventBufferSize() {
+        return nestedConf.getHttpResponseEventBufferSize();
+    }
+
+    public String getHttpResponseEventDropPolicy() {
+        return nestedConf.getHttpResponseEventDropPolicy();
+    }
+
+    public String getHttpSSLProtocol() {
+        return nestedConf.getHttpSSLProtocol();
+    }
+
+    public int getHttpSSLSessionCacheSize() {
+        return nestedConf.getHttpSSLSessionCacheSize();
+    }
+
+    public int getHttpSSLSessionTimeoutSeconds() {
+        return nestedConf.getHttpSSLSessionTimeoutSeconds();
+    }
+
+    public String getHttpClientImpl() {
+        String httpClientImpl = nestedConf.getHttpClientImpl();
+        return ASYNC_HTTP_CLIENT_IMPL.equals(httpClientImpl) ? BLOCKING_HTTP_CLIENT_IMPL : httpClientImpl;
+    }
+
+    public int getHttpCallTimeout() {
+        // streams are long-lived by design
+        return -1;
+    }
+
     public Map<String, String> getRequestHeaders() {
         return nestedConf.getRequestHeaders();
     }
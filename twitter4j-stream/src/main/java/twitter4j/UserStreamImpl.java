@@ -53,11 +53,6 @@ class UserStreamImpl extends StatusStreamImpl implements UserStream {
         handleNextElement();
     }
 
-    protected String parseLine(String line) {
-        this.line = line;
-        return line;
-    }
-
     @Override
     protected void onSender(JSONObject json) throws TwitterException {
         for (StreamListener listener : listeners) {
@@ -76,7 +71,7 @@ class UserStreamImpl extends StatusStreamImpl implements UserStream {
     @Override
     protected void onScrubGeo(JSONObject json) throws TwitterException {
         // Not implemented yet
-        logger.info("Geo-tagging deletion notice (not implemented yet): " + line);
+        logger.info("Geo-tagging deletion notice (not implemented yet): " + json);
     }
 
     @Override
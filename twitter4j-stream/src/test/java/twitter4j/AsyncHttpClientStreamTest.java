@@ -0,0 +1,131 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import junit.framework.TestCase;
+import twitter4j.auth.BasicAuthorization;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncHttpClientStreamTest extends TestCase implements StatusListener {
+    private ServerSocket server;
+    private final CountDownLatch received = new CountDownLatch(2);
+
+    public AsyncHttpClientStreamTest(String name) {
+        super(name);
+    }
+
+    protected void setUp() throws Exception {
+        super.setUp();
+        server = new ServerSocket(0);
+        Thread responder = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    respond(server.accept());
+                } catch (IOException ignore) {
+                    // the server has been closed
+                }
+            }
+        });
+        responder.setDaemon(true);
+        responder.start();
+    }
+
+    protected void tearDown() throws Exception {
+        server.close();
+        super.tearDown();
+    }
+
+    // responds with a chunked stream which never ends
+    private void respond(Socket socket) throws IOException {
+        BufferedReader request = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
+        String line;
+        while (null != (line = request.readLine()) && line.length() > 0) {
+            // skip the request headers
+        }
+        OutputStream out = socket.getOutputStream();
+        out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nTransfer-Encoding: chunked\r\n\r\n")
+                .getBytes("UTF-8"));
+        BufferedReader statuses = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/streamingapi-testcase.json"), "UTF-8"));
+        int count = 0;
+        while (count < 2 && null != (line = statuses.readLine())) {
+            if (line.startsWith("{\"text\"")) {
+                byte[] chunk = (line + "\r\n").getBytes("UTF-8");
+                out.write((Integer.toHexString(chunk.length) + "\r\n").getBytes("UTF-8"));
+                out.write(chunk);
+                out.write("\r\n".getBytes("UTF-8"));
+                out.flush();
+                count++;
+            }
+        }
+        statuses.close();
+        // keep the connection open until the server is closed
+        while (!server.isClosed()) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ie) {
+                break;
+            }
+        }
+        socket.close();
+    }
+
+    public void testStreamIsDeliveredAsItArrives() throws Exception {
+        TwitterStream twitterStream = new TwitterStreamFactory(new ConfigurationBuilder()
+                .setStreamBaseURL("http://127.0.0.1:" + server.getLocalPort() + "/")
+                .setHttpClientImpl("twitter4j.internal.http.alternative.AsyncHttpClientImpl")
+                .setHttpConnectionTimeout(5000).setHttpStreamingReadTimeout(60000).build())
+                .getInstance(new BasicAuthorization("user", "password"));
+        long start = System.currentTimeMillis();
+        StatusStream stream = twitterStream.getSampleStream();
+        try {
+            stream.next(this);
+            stream.next(this);
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            // a buffering client would have waited for the timeout
+            assertTrue(System.currentTimeMillis() - start < 30000);
+        } finally {
+            stream.close();
+            twitterStream.shutdown();
+        }
+    }
+
+    public void onStatus(Status status) {
+        received.countDown();
+    }
+
+    public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+    }
+
+    public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+    }
+
+    public void onScrubGeo(long userId, long upToStatusId) {
+    }
+
+    public void onException(Exception ex) {
+        ex.printStackTrace();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.json.DataObjectFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the size and the speed of the recorded stream statuses written with DataObjectEncoder, with Java
+ * serialization and as raw JSON.<br>
+ * usage: java twitter4j.DataObjectCodecBenchmark [iterations]
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class DataObjectCodecBenchmark {
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        List<byte[]> json = statuses(load("/streamingapi-testcase.json"));
+        List<String> jsonStrings = new ArrayList<String>();
+        List<Status> statuses = new ArrayList<Status>();
+        long jsonSize = 0;
+        for (byte[] status : json) {
+            JSONByteTokener tokener = new JSONByteTokener(status);
+            tokener.nextToken();
+            statuses.add(new StatusJSONImpl(tokener));
+            jsonStrings.add(new String(status, "UTF-8"));
+            jsonSize += status.length;
+        }
+        int count = statuses.size();
+        for (int round = 0; round < 3; round++) {
+            // the first rounds warm up the JIT
+            byte[] encoded = null;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+                for (Status status : statuses) {
+                    encoder.writeStatus(status);
+                }
+                encoder.flush();
+                encoded = bytes.toByteArray();
+            }
+            long encodeElapsed = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                DataObjectDecoder decoder = new DataObjectDecoder(new ByteArrayInputStream(encoded));
+                while (null != decoder.readStatus()) {
+                }
+            }
+            long decodeElapsed = System.nanoTime() - start;
+            print(round, "DataObjectEncoder", encoded.length, count, encodeElapsed, decodeElapsed, iterations);
+
+            long size = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                size = 0;
+                for (Status status : statuses) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    DataObjectEncoder encoder = new DataObjectEncoder(bytes);
+                    encoder.writeStatus(status);
+                    encoder.flush();
+                    size += bytes.size();
+                }
+            }
+            encodeElapsed = System.nanoTime() - start;
+            print(round, "DataObjectEncoder, one stream per status", size, count, encodeElapsed, -1, iterations);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                ObjectOutputStream oos = new ObjectOutputStream(bytes);
+                for (Status status : statuses) {
+                    oos.writeObject(status);
+                }
+                oos.close();
+                encoded = bytes.toByteArray();
+            }
+            encodeElapsed = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(encoded));
+                for (int j = 0; j < count; j++) {
+                    ois.readObject();
+                }
+            }
+            decodeElapsed = System.nanoTime() - start;
+            print(round, "Java serialization", encoded.length, count, encodeElapsed, decodeElapsed, iterations);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (String status : jsonStrings) {
+                    DataObjectFactory.createStatus(status);
+                }
+            }
+            decodeElapsed = System.nanoTime() - start;
+            print(round, "JSON via DataObjectFactory", jsonSize, count, -1, decodeElapsed, iterations);
+        }
+    }
+
+    private static void print(int round, String label, long size, int count, long encodeElapsed, long decodeElapsed,
+                              int iterations) {
+        long operations = (long) count * iterations;
+        System.out.println("round " + round + ": " + label + " " + size / count + " bytes/status"
+                + (encodeElapsed < 0 ? "" : ", encode " + encodeElapsed / operations + "ns/status")
+                + (decodeElapsed < 0 ? "" : ", decode " + decodeElapsed / operations + "ns/status"));
+    }
+
+    private static List<byte[]> statuses(byte[] messages) throws Exception {
+        List<byte[]> statuses = new ArrayList<byte[]>();
+        ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(messages));
+        byte[] line;
+        while (null != (line = reader.readLine())) {
+            if (line.length > 0 && StatusJSONImpl.isStatus(new JSONByteTokener(line))) {
+                statuses.add(line);
+            }
+        }
+        return statuses;
+    }
+
+    private static byte[] load(String resource) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream is = DataObjectCodecBenchmark.class.getResourceAsStream(resource);
+        byte[] buf = new byte[8192];
+        int count;
+        while (-1 != (count = is.read(buf))) {
+            out.write(buf, 0, count);
+        }
+        is.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.internal.http.HTMLEntity;
+import twitter4j.internal.org.json.JSONArray;
+import twitter4j.internal.org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares HTMLEntity.unescape with the StringBuffer based implementation it replaced, on every string value of the
+ * recorded stream messages.<br>
+ * usage: java twitter4j.HTMLEntityBenchmark [iterations]
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class HTMLEntityBenchmark {
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        List<String> texts = new ArrayList<String>();
+        for (String resource : new String[]{"/streamingapi-testcase.json", "/streamingapi-event-testcase.json"}) {
+            BufferedReader br = new BufferedReader(new InputStreamReader(
+                    HTMLEntityBenchmark.class.getResourceAsStream(resource), "UTF-8"));
+            String line;
+            while (null != (line = br.readLine())) {
+                if (line.length() > 0) {
+                    collect(new JSONObject(line), texts);
+                }
+            }
+            br.close();
+        }
+        int withEntity = 0;
+        for (String text : texts) {
+            if (text.indexOf('&') >= 0) {
+                withEntity++;
+            }
+            if (!legacyUnescape(text).equals(HTMLEntity.unescape(text))) {
+                throw new AssertionError("results differ: " + text);
+            }
+        }
+        System.out.println(texts.size() + " strings, " + withEntity + " with '&'");
+        for (int round = 0; round < 3; round++) {
+            // the first rounds warm up the JIT
+            int count = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (String text : texts) {
+                    count += legacyUnescape(text).length();
+                }
+            }
+            long legacyElapsed = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (String text : texts) {
+                    count -= HTMLEntity.unescape(text).length();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (0 != count) {
+                throw new AssertionError("results differ");
+            }
+            System.out.println("round " + round + ": StringBuffer " + legacyElapsed / iterations + "ns/iteration"
+                    + ", single pass " + elapsed / iterations + "ns/iteration"
+                    + " (" + (legacyElapsed * 100 / elapsed) + "%)");
+        }
+    }
+
+    private static void collect(Object value, List<String> texts) throws Exception {
+        if (value instanceof String) {
+            texts.add((String) value);
+        } else if (value instanceof JSONObject) {
+            JSONObject json = (JSONObject) value;
+            Iterator keys = json.keys();
+            while (keys.hasNext()) {
+                collect(json.get((String) keys.next()), texts);
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            for (int i = 0; i < array.length(); i++) {
+                collect(array.get(i), texts);
+            }
+        }
+    }
+
+    private static final Map<String, String> ENTITIES = new HashMap<String, String>();
+
+    static {
+        // the entities appearing in tweets
+        String[][] entities = {{"&lt;", "&#60;", "<"}, {"&gt;", "&#62;", ">"}, {"&amp;", "&#38;", "&"},
+                {"&quot;", "&#34;", "\""}, {"&nbsp;", "&#160;", "\u00A0"}};
+        for (String[] entity : entities) {
+            ENTITIES.put(entity[0], entity[2]);
+            ENTITIES.put(entity[1], entity[2]);
+        }
+    }
+
+    // HTMLEntity.unescape(String) as it used to be
+    private static String legacyUnescape(String original) {
+        StringBuffer buf = new StringBuffer(original);
+        int index = 0;
+        while (index < buf.length()) {
+            index = buf.indexOf("&", index);
+            if (-1 == index) {
+                break;
+            }
+            int semicolonIndex = buf.indexOf(";", index);
+            if (-1 == semicolonIndex) {
+                break;
+            }
+            String entity = ENTITIES.get(buf.substring(index, semicolonIndex + 1));
+            if (null != entity) {
+                buf.replace(index, semicolonIndex + 1, entity);
+            }
+            index++;
+        }
+        return buf.toString();
+    }
+}
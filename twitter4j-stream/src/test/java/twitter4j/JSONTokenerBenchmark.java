@@ -0,0 +1,132 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares parsing the recorded stream messages with JSONTokener (decoding the line into a String first, as the stream
+ * used to do) and with JSONByteTokener (parsing the raw line), then compares building statuses from the JSONObject tree
+ * with binding them straight from the token stream.<br>
+ * usage: java twitter4j.JSONTokenerBenchmark [iterations]
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class JSONTokenerBenchmark {
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        byte[] messages = load("/streamingapi-testcase.json", "/streamingapi-event-testcase.json");
+        List<byte[]> statuses = statuses(messages);
+        for (int round = 0; round < 3; round++) {
+            // the first rounds warm up the JIT
+            long start = System.nanoTime();
+            int count = 0;
+            for (int i = 0; i < iterations; i++) {
+                BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(messages), "UTF-8"));
+                String line;
+                while (null != (line = br.readLine())) {
+                    if (line.length() > 0) {
+                        count += new JSONObject(line).length();
+                    }
+                }
+            }
+            long stringElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            JSONByteTokener tokener = new JSONByteTokener(new byte[0]);
+            for (int i = 0; i < iterations; i++) {
+                ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(messages));
+                byte[] line;
+                while (null != (line = reader.readLine())) {
+                    if (line.length > 0) {
+                        tokener.reset(line, 0, line.length);
+                        count -= new JSONObject(tokener).length();
+                    }
+                }
+            }
+            long bytesElapsed = System.nanoTime() - start;
+            if (0 != count) {
+                throw new AssertionError("results differ");
+            }
+            System.out.println("round " + round + ": JSONTokener " + stringElapsed / iterations + "ns/iteration"
+                    + ", JSONByteTokener " + bytesElapsed / iterations + "ns/iteration"
+                    + " (" + (stringElapsed * 100 / bytesElapsed) + "%)");
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (byte[] status : statuses) {
+                    tokener.reset(status, 0, status.length);
+                    count += new StatusJSONImpl(new JSONObject(tokener)).getText().length();
+                }
+            }
+            long treeElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                for (byte[] status : statuses) {
+                    tokener.reset(status, 0, status.length);
+                    tokener.nextToken();
+                    count -= new StatusJSONImpl(tokener).getText().length();
+                }
+            }
+            long bindingElapsed = System.nanoTime() - start;
+            if (0 != count) {
+                throw new AssertionError("results differ");
+            }
+            System.out.println("round " + round + ": status via JSONObject " + treeElapsed / iterations + "ns/iteration"
+                    + ", status via binding " + bindingElapsed / iterations + "ns/iteration"
+                    + " (" + (treeElapsed * 100 / bindingElapsed) + "%)");
+        }
+    }
+
+    private static List<byte[]> statuses(byte[] messages) throws Exception {
+        List<byte[]> statuses = new ArrayList<byte[]>();
+        ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(messages));
+        byte[] line;
+        while (null != (line = reader.readLine())) {
+            if (line.length > 0 && StatusJSONImpl.isStatus(new JSONByteTokener(line))) {
+                statuses.add(line);
+            }
+        }
+        return statuses;
+    }
+
+    private static byte[] load(String... resources) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String resource : resources) {
+            InputStream is = JSONTokenerBenchmark.class.getResourceAsStream(resource);
+            byte[] buf = new byte[8192];
+            int count;
+            while (-1 != (count = is.read(buf))) {
+                out.write(buf, 0, count);
+            }
+            is.close();
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+}
@@ -23,6 +23,7 @@ import twitter4j.conf.PropertyConfiguration;
 import twitter4j.internal.async.DispatcherFactory;
 import twitter4j.json.DataObjectFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
@@ -74,6 +75,32 @@ public class SiteStreamsTest extends TwitterTestBase implements SiteStreamsListe
         Assert.assertEquals(4933401l, received.get(0)[1]);
     }
 
+    public void testMalformedMessages() throws Exception {
+        String lines = "{\"for_user\"}\n"
+                + "{\"for_user\":99999999999999999999,\"message\":{\"friends\":[1]}}\n"
+                + "{\"for_user\":12a4,\"message\":{\"friends\":[1]}}\n"
+                + "{\"for_user\":9223372036854775807,\"message\":{\"friends\":[1]}}\n";
+        SiteStreamsImpl siteStreams = new SiteStreamsImpl(new DispatcherFactory(ConfigurationContext.getInstance()).getInstance()
+                , new ByteArrayInputStream(lines.getBytes("UTF-8")), conf1);
+        SiteStreamsListener[] listeners = new SiteStreamsListener[]{this};
+        for (int i = 0; i < 3; i++) {
+            received.clear();
+            siteStreams.next(listeners);
+            synchronized (this) {
+                this.wait(200);
+            }
+            Assert.assertEquals(1, received.size());
+            Assert.assertTrue(received.get(0)[0] instanceof TwitterException);
+        }
+        received.clear();
+        siteStreams.next(listeners);
+        synchronized (this) {
+            this.wait(200);
+        }
+        Assert.assertEquals("onfriendlist", received.get(0)[0]);
+        Assert.assertEquals(Long.MAX_VALUE, received.get(0)[1]);
+    }
+
     public void testSiteStream() throws Exception {
         InputStream is = SiteStreamsTest.class.getResourceAsStream("/sitestream-test.properties");
         if (null == is) {
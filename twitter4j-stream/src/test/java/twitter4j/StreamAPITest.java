@@ -20,11 +20,18 @@ import twitter4j.auth.AccessToken;
 import twitter4j.conf.ConfigurationBuilder;
 import twitter4j.internal.async.DispatcherFactory;
 import twitter4j.json.DataObjectFactory;
+import twitter4j.management.StreamStatistics;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public class StreamAPITest extends TwitterTestBase implements StatusListener, ConnectionLifeCycleListener {
     protected TwitterStream twitterStream = null;
@@ -102,6 +109,113 @@ public class StreamAPITest extends TwitterTestBase implements StatusListener, Co
         is.close();
     }
 
+    public void testStreamStatistics() throws Exception {
+        long bytes = 0;
+        ByteLineReader reader = new ByteLineReader(TwitterTestBase.class.getResourceAsStream("/streamingapi-testcase.json"));
+        byte[] line;
+        while (null != (line = reader.readLine())) {
+            bytes += line.length;
+        }
+        reader.close();
+
+        InputStream is = TwitterTestBase.class.getResourceAsStream("/streamingapi-testcase.json");
+        StatusStreamImpl stream = new StatusStreamImpl(new DispatcherFactory().getInstance(), is, conf1);
+        StreamStatistics statistics = new StreamStatistics();
+        stream.setStatistics(statistics);
+        for (int i = 0; i < 6; i++) {
+            stream.next(this);
+            waitForNotification();
+        }
+        // messages are recorded once the listeners return
+        for (int i = 0; i < 100 && statistics.getMessageCount() < 6; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(6, statistics.getMessageCount());
+        assertEquals(bytes, statistics.getByteCount());
+        Map<String, Long> counts = statistics.getMessageCounts();
+        assertEquals(3L, (long) counts.get("STATUS"));
+        assertEquals(1L, (long) counts.get("DELETE"));
+        assertEquals(1L, (long) counts.get("LIMIT"));
+        assertEquals(1L, (long) counts.get("SCRUB_GEO"));
+        assertTrue(statistics.getMessagesPerSecond().get("STATUS") > 0);
+        assertTrue(statistics.getBytesPerSecond().get("STATUS") > statistics.getMessagesPerSecond().get("STATUS"));
+        assertEquals(6, statistics.getParseTimePercentiles().getCount());
+        assertEquals(6, statistics.getListenerTimePercentiles().getCount());
+        // the recorded statuses date back to 2009
+        assertEquals(3, statistics.getDeliveryLagPercentiles().getCount());
+        assertTrue(statistics.getDeliveryLagPercentiles().getMax() > 1000L * 60 * 60 * 24 * 365);
+        assertEquals(0, statistics.getQueueDepth());
+        stream.close();
+
+        statistics.reset();
+        assertEquals(0, statistics.getMessageCount());
+        assertTrue(statistics.getMessageCounts().isEmpty());
+    }
+
+    public void testFailedMessagesAreRecorded() throws Exception {
+        InputStream is = new SequenceInputStream(new ByteArrayInputStream("{\"malformed\"\n".getBytes("UTF-8")),
+                TwitterTestBase.class.getResourceAsStream("/streamingapi-testcase.json"));
+        StatusStreamImpl stream = new StatusStreamImpl(new DispatcherFactory().getInstance(), is, conf1);
+        StreamStatistics statistics = new StreamStatistics();
+        stream.setStatistics(statistics);
+        final int[] exceptions = new int[1];
+        StatusListener listener = new StatusAdapter() {
+            public void onStatus(Status status) {
+                throw new IllegalStateException("listener failure");
+            }
+
+            public void onException(Exception ex) {
+                synchronized (exceptions) {
+                    exceptions[0]++;
+                }
+            }
+        };
+        for (int i = 0; i < 7; i++) {
+            stream.next(listener);
+        }
+        for (int i = 0; i < 100 && statistics.getMessageCount() < 7; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(7, statistics.getMessageCount());
+        Map<String, Long> counts = statistics.getMessageCounts();
+        assertEquals(3L, (long) counts.get("STATUS"));
+        assertEquals(1L, (long) counts.get("UNKNOWN"));
+        synchronized (exceptions) {
+            assertEquals(4, exceptions[0]);
+        }
+        stream.close();
+    }
+
+    public void testStreamStatisticsMBean() throws Exception {
+        TwitterStreamImpl twitterStream = (TwitterStreamImpl) new TwitterStreamFactory(
+                new ConfigurationBuilder().setMBeanEnabled(true).build()).getInstance();
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        ObjectName query = new ObjectName("twitter4j.mbean:type=StreamStatistics,*");
+        Set<ObjectName> registered = mbs.queryNames(query, null);
+        StreamStatistics statistics = twitterStream.getStreamStatistics();
+        assertSame(statistics, twitterStream.getStreamStatistics());
+        Set<ObjectName> names = mbs.queryNames(query, null);
+        names.removeAll(registered);
+        assertEquals(1, names.size());
+        statistics.reconnected();
+        assertEquals(1L, mbs.getAttribute(names.iterator().next(), "ReconnectCount"));
+        twitterStream.cleanUp();
+        assertEquals(registered, mbs.queryNames(query, null));
+        // the stream can be started again after cleanUp()
+        statistics = twitterStream.getStreamStatistics();
+        assertNotNull(statistics);
+        assertEquals(registered.size() + 1, mbs.queryNames(query, null).size());
+        twitterStream.shutdown();
+        assertEquals(registered, mbs.queryNames(query, null));
+        // but not after shutdown()
+        assertNull(twitterStream.getStreamStatistics());
+        assertEquals(registered, mbs.queryNames(query, null));
+
+        twitterStream = (TwitterStreamImpl) new TwitterStreamFactory(
+                new ConfigurationBuilder().setMBeanEnabled(false).build()).getInstance();
+        assertNull(twitterStream.getStreamStatistics());
+    }
+
     public void testSamplePull() throws Exception {
         StatusStream stream = twitterStream.getSampleStream();
         for (int i = 0; i < 10; i++) {
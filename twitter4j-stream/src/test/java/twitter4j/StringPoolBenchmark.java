@@ -0,0 +1,104 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package twitter4j;
+
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.internal.org.json.JSONByteTokener;
+import twitter4j.internal.org.json.StringPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the heap retained by statuses bound from the recorded stream messages, without and with the string pool
+ * for the default stringPool.fields, and the time it takes to bind them.<br>
+ * usage: java twitter4j.StringPoolBenchmark [statuses]
+ *
+ * @author Yusuke Yamamoto - yusuke at mac.com
+ * @since Twitter4J 2.2.2
+ */
+public class StringPoolBenchmark {
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        List<byte[]> statuses = statuses(load("/streamingapi-testcase.json"));
+        StringPool pool = StringPool.getInstance(new ConfigurationBuilder().setStringPoolSize(4096).build());
+        for (int round = 0; round < 3; round++) {
+            long withoutPool = retained(statuses, count, null);
+            long withPool = retained(statuses, count, pool);
+            System.out.println("round " + round + ": without pool " + withoutPool / count + " bytes/status"
+                    + ", with pool " + withPool / count + " bytes/status"
+                    + " (" + (withoutPool - withPool) * 100 / withoutPool + "% saved)");
+        }
+        System.out.println(StringPool.getStatistics());
+    }
+
+    private static long retained(List<byte[]> statuses, int count, StringPool pool) throws Exception {
+        List<Status> retained = new ArrayList<Status>(count);
+        long before = usedMemory();
+        long start = System.nanoTime();
+        JSONByteTokener tokener = new JSONByteTokener(new byte[0]);
+        tokener.setStringPool(pool);
+        for (int i = 0; i < count; i++) {
+            byte[] status = statuses.get(i % statuses.size());
+            tokener.reset(status, 0, status.length);
+            tokener.nextToken();
+            retained.add(new StatusJSONImpl(tokener));
+        }
+        long elapsed = System.nanoTime() - start;
+        long used = usedMemory() - before;
+        System.out.println((null == pool ? "without pool " : "with pool ") + elapsed / count + "ns/status");
+        if (retained.size() != count) {
+            throw new AssertionError();
+        }
+        return used;
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<byte[]> statuses(byte[] messages) throws Exception {
+        List<byte[]> statuses = new ArrayList<byte[]>();
+        ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(messages));
+        byte[] line;
+        while (null != (line = reader.readLine())) {
+            if (line.length > 0 && StatusJSONImpl.isStatus(new JSONByteTokener(line))) {
+                statuses.add(line);
+            }
+        }
+        return statuses;
+    }
+
+    private static byte[] load(String resource) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream is = StringPoolBenchmark.class.getResourceAsStream(resource);
+        byte[] buf = new byte[8192];
+        int count;
+        while (-1 != (count = is.read(buf))) {
+            out.write(buf, 0, count);
+        }
+        is.close();
+        return out.toByteArray();
+    }
+}
@@ -3,8 +3,17 @@ package twitter4j.json;
 import junit.framework.TestCase;
 import twitter4j.Status;
 import twitter4j.StatusDeletionNotice;
+import twitter4j.TwitterException;
+import twitter4j.User;
 import twitter4j.internal.org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Unit test for DataObjectFactory
  *
@@ -36,4 +45,91 @@ public class DataObjectFactoryTest extends TestCase {
             throw new Exception("DataObjectFactory.createObject failed for random");
         }
     }
+
+    private static byte[] ndjson(int count) throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            buf.append(statusJsonText).append("\r\n");
+            if (0 == i % 100) {
+                // skipped
+                buf.append(deleteJsonText).append("\n\n");
+            }
+        }
+        // no line break at the end
+        buf.append(statusJsonText);
+        return buf.toString().getBytes("UTF-8");
+    }
+
+    private static class Collector<T> implements DataObjectListener<T> {
+        final List<T> dataObjects = Collections.synchronizedList(new ArrayList<T>());
+        final List<TwitterException> exceptions = Collections.synchronizedList(new ArrayList<TwitterException>());
+
+        public void onDataObject(T dataObject) {
+            dataObjects.add(dataObject);
+        }
+
+        public void onException(TwitterException te) {
+            exceptions.add(te);
+        }
+    }
+
+    public void testCreateStatuses() throws Exception {
+        // spans several blocks
+        byte[] input = ndjson(3000);
+        Status expected = DataObjectFactory.createStatus(statusJsonText);
+
+        Collector<Status> collector = new Collector<Status>();
+        assertEquals(3001, DataObjectFactory.createStatuses(new ByteArrayInputStream(input), null, collector));
+        assertEquals(3001, collector.dataObjects.size());
+        assertEquals(0, collector.exceptions.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            collector = new Collector<Status>();
+            assertEquals(3001, DataObjectFactory.createStatuses(new ByteArrayInputStream(input), executor, collector));
+            assertEquals(3001, collector.dataObjects.size());
+            for (Status status : collector.dataObjects) {
+                assertEquals(expected.toString(), status.toString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testMalformedLinesAreReported() throws Exception {
+        String input = statusJsonText + "\n{\"text\":\n" + statusJsonText + "\n";
+        Collector<Status> collector = new Collector<Status>();
+        assertEquals(2, DataObjectFactory.createStatuses(new ByteArrayInputStream(input.getBytes("UTF-8")), null,
+                collector));
+        assertEquals(1, collector.exceptions.size());
+        assertTrue(collector.exceptions.get(0).getMessage(),
+                collector.exceptions.get(0).getMessage().endsWith("at byte offset " + (statusJsonText.length() + 1)));
+    }
+
+    public void testListenerFailureStopsReading() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DataObjectFactory.createStatuses(new ByteArrayInputStream(ndjson(3000)), executor,
+                    new Collector<Status>() {
+                        @Override
+                        public void onDataObject(Status dataObject) {
+                            throw new IllegalStateException("stop");
+                        }
+                    });
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+            assertEquals("stop", expected.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testCreateUsers() throws Exception {
+        String user = "{\"id\":6358482,\"name\":\"Twitter4J\",\"screen_name\":\"twit4j\",\"followers_count\":1}";
+        Collector<User> collector = new Collector<User>();
+        assertEquals(2, DataObjectFactory.createUsers(new ByteArrayInputStream((user + "\n" + user).getBytes("UTF-8")),
+                null, collector));
+        assertEquals("twit4j", collector.dataObjects.get(1).getScreenName());
+        assertEquals(DataObjectFactory.createUser(user), collector.dataObjects.get(0));
+    }
 }